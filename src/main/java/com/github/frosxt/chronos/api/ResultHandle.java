@@ -0,0 +1,30 @@
+package com.github.frosxt.chronos.api;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * A handle to a scheduled one-shot computation that produces a value.
+ *
+ * <p>
+ * The {@link #result()} future is completed after the task reaches a terminal
+ * state: with the computed value when the task completes, exceptionally with
+ * the last failure cause when it fails, and cancelled when the task is
+ * cancelled.
+ *
+ * @param <V> the type of the computed value
+ * @see Scheduler#scheduleOnce(java.time.Duration, java.util.concurrent.Callable)
+ */
+public interface ResultHandle<V> extends ScheduledHandle {
+
+    /**
+     * Returns the future holding the task's result.
+     *
+     * <p>
+     * Cancelling the returned future cancels the task as if by
+     * {@link #cancel()}. Completing it by other means has no effect on the
+     * task.
+     *
+     * @return the result future, never null
+     */
+    CompletableFuture<V> result();
+}
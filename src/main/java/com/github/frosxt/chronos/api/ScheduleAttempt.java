@@ -0,0 +1,31 @@
+package com.github.frosxt.chronos.api;
+
+/**
+ * The outcome of a non-blocking scheduling call made with
+ * {@link Scheduler#trySchedule(java.time.Duration, Runnable)}.
+ */
+public interface ScheduleAttempt {
+
+    /**
+     * Returns whether the task was scheduled.
+     *
+     * @return {@code true} if the scheduler had capacity for the task
+     */
+    boolean accepted();
+
+    /**
+     * Returns the handle of the scheduled task.
+     *
+     * @return the handle, or {@code null} if the task was not accepted
+     */
+    ScheduledHandle handle();
+
+    /**
+     * Returns how many more tasks the scheduler could accept right after
+     * this attempt.
+     *
+     * @return the remaining capacity, or {@link Integer#MAX_VALUE} if the
+     *         scheduler has no admission policy
+     */
+    int remainingCapacity();
+}
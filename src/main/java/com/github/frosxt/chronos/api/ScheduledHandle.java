@@ -1,6 +1,16 @@
 package com.github.frosxt.chronos.api;
 
+import com.github.frosxt.chronos.api.cron.CronExpression;
+import com.github.frosxt.chronos.api.metrics.TaskStats;
+
+import java.time.Duration;
 import java.time.Instant;
+import java.util.Collection;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 /**
  * A handle to a scheduled task that provides control and status information.
@@ -31,6 +41,75 @@ public interface ScheduledHandle {
      */
     boolean cancel();
 
+    /**
+     * Pauses this task.
+     *
+     * <p>
+     * A pending execution is removed from the scheduler's timer queue and the
+     * task moves to {@link TaskState#PAUSED} until {@link #resume()} is
+     * called. If the task is running, or its timer has already fired, the
+     * pause takes effect as soon as the current execution ends; running
+     * executions are never interrupted. A paused task keeps its id, run count
+     * and history, and can still be cancelled.
+     *
+     * @return {@code true} if the task is paused or will pause once its current
+     *         execution ends, {@code false} if the task has already terminated
+     */
+    boolean pause();
+
+    /**
+     * Resumes a paused task.
+     *
+     * <p>
+     * The next execution is armed according to the task's
+     * {@link com.github.frosxt.chronos.api.policy.ResumePolicy}. A task paused
+     * while waiting to retry keeps the remainder of its retry delay. Resuming
+     * a task whose pause has not taken effect yet withdraws the pause.
+     *
+     * @return {@code true} if the task was paused or pausing, {@code false}
+     *         otherwise
+     */
+    boolean resume();
+
+    /**
+     * Changes the period of a fixed-rate or fixed-delay task, or the delay of
+     * a one-shot task, without replacing the task.
+     *
+     * <p>
+     * The task keeps its id, run count, history and policies. A pending
+     * execution is moved to the new schedule at once: a fixed-rate task that
+     * has run fires one new period after its most recent start, a fixed-delay
+     * task one new delay after its most recent end, and a one-shot task after
+     * the given delay from now. A task that has not run yet keeps its first
+     * execution time. If the task is running, the running execution is not
+     * affected and the new schedule applies from the next one; a paused task
+     * uses it once resumed. Phase spreading is not reapplied.
+     *
+     * @param period the new period, or the new delay of a one-shot task
+     * @return {@code true} if the schedule was changed, {@code false} if the
+     *         task has already terminated
+     * @throws NullPointerException     if period is null
+     * @throws IllegalArgumentException if period is not positive, or the task
+     *                                  is a cron or adaptive task
+     */
+    boolean reschedule(Duration period);
+
+    /**
+     * Changes the cron expression of a cron task without replacing the task.
+     *
+     * <p>
+     * The task keeps its id, run count, history, zone and misfire grace. A
+     * pending execution is moved to the next fire time of the new expression
+     * at once; a running execution is not affected.
+     *
+     * @param cron the new cron expression
+     * @return {@code true} if the schedule was changed, {@code false} if the
+     *         task has already terminated
+     * @throws NullPointerException     if cron is null
+     * @throws IllegalArgumentException if the task is not a cron task
+     */
+    boolean reschedule(CronExpression cron);
+
     /**
      * Returns whether this task has been cancelled.
      *
@@ -91,6 +170,18 @@ public interface ScheduledHandle {
      */
     Instant nextScheduledTime();
 
+    /**
+     * Returns the period currently used between executions.
+     *
+     * <p>
+     * For fixed-rate tasks this is the period, for fixed-delay tasks the
+     * delay, and for adaptive tasks the period most recently chosen by the
+     * controller.
+     *
+     * @return the current period, or null if the task is not periodic
+     */
+    Duration currentPeriod();
+
     /**
      * Returns the number of times this task has been executed.
      *
@@ -98,10 +189,86 @@ public interface ScheduledHandle {
      */
     long runCount();
 
+    /**
+     * Returns the number of executions of this task skipped by load
+     * shedding.
+     *
+     * @return the shed execution count, always non-negative
+     * @see com.github.frosxt.chronos.api.spec.builder.TaskSpecBuilder#sheddable()
+     */
+    long shedCount();
+
+    /**
+     * Returns a snapshot of this task's execution statistics.
+     *
+     * @return the statistics, or null if the task was not scheduled with
+     *         {@link com.github.frosxt.chronos.api.spec.builder.TaskSpecBuilder#recordStats()}
+     */
+    TaskStats stats();
+
     /**
      * Returns the current state of this task.
      *
      * @return the task state, never null
      */
     TaskState state();
+
+    /**
+     * Returns a future that completes with the task's terminal state.
+     *
+     * <p>
+     * The future completes with {@link TaskState#COMPLETED},
+     * {@link TaskState#FAILED} or {@link TaskState#CANCELLED} when the task
+     * reaches that state. Each call returns a new dependent future, which the
+     * caller may complete, cancel or bound with
+     * {@link CompletableFuture#orTimeout} without affecting the task or other
+     * callers; cancel the task with {@link #cancel()} instead. The shared
+     * terminal future is created on the first call, so tasks nobody waits on
+     * do not pay for it.
+     *
+     * @return the completion future, never null
+     */
+    CompletableFuture<TaskState> completion();
+
+    /**
+     * Returns a future that completes when every given task has reached a
+     * terminal state.
+     *
+     * @param handles the handles to wait for
+     * @return a future completing once all tasks are done
+     * @throws NullPointerException if handles or any handle is null
+     */
+    static CompletableFuture<Void> awaitAll(final Collection<? extends ScheduledHandle> handles) {
+        Objects.requireNonNull(handles, "handles must not be null");
+        final CompletableFuture<?>[] futures = new CompletableFuture<?>[handles.size()];
+        int i = 0;
+        for (final ScheduledHandle handle : handles) {
+            futures[i++] = Objects.requireNonNull(handle, "handle must not be null").completion();
+        }
+        return CompletableFuture.allOf(futures);
+    }
+
+    /**
+     * Blocks until every given task has reached a terminal state or the
+     * timeout elapses.
+     *
+     * @param handles the handles to wait for
+     * @param timeout the maximum time to wait
+     * @return {@code true} if all tasks are done, {@code false} if the timeout
+     *         elapsed first
+     * @throws NullPointerException if any argument is null
+     * @throws InterruptedException if interrupted while waiting
+     */
+    static boolean awaitAll(final Collection<? extends ScheduledHandle> handles, final Duration timeout) throws InterruptedException {
+        Objects.requireNonNull(timeout, "timeout must not be null");
+        final CompletableFuture<Void> all = awaitAll(handles);
+        try {
+            all.get(timeout.toNanos(), TimeUnit.NANOSECONDS);
+            return true;
+        } catch (final TimeoutException e) {
+            return false;
+        } catch (final ExecutionException e) {
+            throw new IllegalStateException("Task completion futures do not complete exceptionally", e);
+        }
+    }
 }
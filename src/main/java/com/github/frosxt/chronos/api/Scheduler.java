@@ -1,9 +1,15 @@
 package com.github.frosxt.chronos.api;
 
 import com.github.frosxt.chronos.api.cron.CronExpression;
+import com.github.frosxt.chronos.api.listener.ResultSink;
+import com.github.frosxt.chronos.api.policy.AdaptiveRate;
+import com.github.frosxt.chronos.api.spec.TaskSpec;
 
 import java.time.Duration;
 import java.time.ZoneId;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Supplier;
 
 /**
  * A scheduler for executing tasks at specified times or intervals.
@@ -16,9 +22,20 @@ import java.time.ZoneId;
  * time</li>
  * <li>Fixed-delay scheduling: execute with fixed delay between executions</li>
  * <li>Cron scheduling: execute according to a cron expression</li>
+ * <li>Adaptive scheduling: execute at a period that adapts to load</li>
+ * <li>Asynchronous scheduling: start a task that returns a
+ * {@link CompletionStage} and treat the run as finished when the stage
+ * completes</li>
+ * <li>Computations: run a {@link Callable} once and obtain its value from a
+ * {@link ResultHandle}, or repeatedly and hand each value to a
+ * {@link ResultSink}</li>
  * </ul>
  *
  * <p>
+ * Every scheduling method has a variant accepting a {@link TaskSpec} that
+ * carries per-task options such as the task group and execution policy.
+ *
+ * <p>
  * Implementations must be thread-safe.
  *
  * @see ScheduledHandle
@@ -37,6 +54,89 @@ public interface Scheduler extends AutoCloseable {
      */
     ScheduledHandle scheduleOnce(Duration delay, Runnable task);
 
+    /**
+     * Schedules a one-shot task with per-task options.
+     *
+     * @param delay the delay before execution, must be positive
+     * @param task  the task to execute
+     * @param spec  the per-task options
+     * @return a handle to control and monitor the scheduled task
+     * @throws NullPointerException     if any argument is null
+     * @throws IllegalArgumentException if delay is not positive
+     * @throws IllegalStateException    if the scheduler has been shut down
+     * @see #scheduleOnce(Duration, Runnable)
+     */
+    ScheduledHandle scheduleOnce(Duration delay, Runnable task, TaskSpec spec);
+
+    /**
+     * Schedules a one-shot computation to execute after the specified delay.
+     *
+     * <p>
+     * The returned handle's {@link ResultHandle#result()} future completes
+     * with the computed value once the task completes. If the task fails
+     * after exhausting its execution policy, the future completes
+     * exceptionally with the cause of the last failed attempt; checked
+     * exceptions thrown by the computation are passed through unwrapped.
+     *
+     * @param delay the delay before execution, must be positive
+     * @param task  the computation to execute
+     * @param <V>   the type of the computed value
+     * @return a handle to control the task and obtain its result
+     * @throws NullPointerException     if delay or task is null
+     * @throws IllegalArgumentException if delay is not positive
+     * @throws IllegalStateException    if the scheduler has been shut down
+     */
+    <V> ResultHandle<V> scheduleOnce(Duration delay, Callable<V> task);
+
+    /**
+     * Schedules a one-shot computation with per-task options.
+     *
+     * @param delay the delay before execution, must be positive
+     * @param task  the computation to execute
+     * @param spec  the per-task options
+     * @param <V>   the type of the computed value
+     * @return a handle to control the task and obtain its result
+     * @throws NullPointerException     if any argument is null
+     * @throws IllegalArgumentException if delay is not positive
+     * @throws IllegalStateException    if the scheduler has been shut down
+     * @see #scheduleOnce(Duration, Callable)
+     */
+    <V> ResultHandle<V> scheduleOnce(Duration delay, Callable<V> task, TaskSpec spec);
+
+    /**
+     * Schedules a one-shot task if the scheduler has capacity for it.
+     *
+     * <p>
+     * Unlike {@link #scheduleOnce(Duration, Runnable)}, this method never
+     * waits for capacity, evicts another task or throws because the
+     * scheduler is full, whatever its
+     * {@link com.github.frosxt.chronos.api.policy.AdmissionPolicy}. Without
+     * an admission policy every attempt is accepted.
+     *
+     * @param delay the delay before execution, must be positive
+     * @param task  the task to execute
+     * @return the outcome of the attempt
+     * @throws NullPointerException     if delay or task is null
+     * @throws IllegalArgumentException if delay is not positive
+     * @throws IllegalStateException    if the scheduler has been shut down
+     */
+    ScheduleAttempt trySchedule(Duration delay, Runnable task);
+
+    /**
+     * Schedules a one-shot task with per-task options if the scheduler has
+     * capacity for it.
+     *
+     * @param delay the delay before execution, must be positive
+     * @param task  the task to execute
+     * @param spec  the per-task options
+     * @return the outcome of the attempt
+     * @throws NullPointerException     if any argument is null
+     * @throws IllegalArgumentException if delay is not positive
+     * @throws IllegalStateException    if the scheduler has been shut down
+     * @see #trySchedule(Duration, Runnable)
+     */
+    ScheduleAttempt trySchedule(Duration delay, Runnable task, TaskSpec spec);
+
     /**
      * Schedules a task to execute at a fixed rate.
      *
@@ -45,7 +145,9 @@ public interface Scheduler extends AutoCloseable {
      * {@code initialScheduleTime + n * period}.
      * If an execution runs longer than the period, subsequent executions are
      * scheduled
-     * to run immediately but will not overlap.
+     * to run immediately but will not overlap. Use
+     * {@link com.github.frosxt.chronos.api.spec.builder.TaskSpecBuilder#overrun}
+     * to skip missed slots, bound the catch-up burst or allow overlap.
      *
      * @param initialDelay the delay before the first execution, must be
      *                     non-negative
@@ -60,6 +162,65 @@ public interface Scheduler extends AutoCloseable {
      */
     ScheduledHandle scheduleAtFixedRate(Duration initialDelay, Duration period, Runnable task);
 
+    /**
+     * Schedules a fixed-rate task with per-task options.
+     *
+     * @param initialDelay the delay before the first execution, must be
+     *                     non-negative
+     * @param period       the period between successive executions, must be
+     *                     positive
+     * @param task         the task to execute
+     * @param spec         the per-task options
+     * @return a handle to control and monitor the scheduled task
+     * @throws NullPointerException     if any argument is null
+     * @throws IllegalArgumentException if initialDelay is negative or period is not
+     *                                  positive
+     * @throws IllegalStateException    if the scheduler has been shut down
+     * @see #scheduleAtFixedRate(Duration, Duration, Runnable)
+     */
+    ScheduledHandle scheduleAtFixedRate(Duration initialDelay, Duration period, Runnable task, TaskSpec spec);
+
+    /**
+     * Schedules a computation to execute at a fixed rate, handing each value
+     * to a sink.
+     *
+     * @param initialDelay the delay before the first execution, must be
+     *                     non-negative
+     * @param period       the period between successive executions, must be
+     *                     positive
+     * @param task         the computation to execute
+     * @param sink         the sink receiving each run's value
+     * @param <V>          the type of the computed value
+     * @return a handle to control and monitor the scheduled task
+     * @throws NullPointerException     if any argument is null
+     * @throws IllegalArgumentException if initialDelay is negative or period is not
+     *                                  positive
+     * @throws IllegalStateException    if the scheduler has been shut down
+     * @see ResultSink
+     */
+    <V> ScheduledHandle scheduleAtFixedRate(Duration initialDelay, Duration period, Callable<V> task, ResultSink<? super V> sink);
+
+    /**
+     * Schedules a fixed-rate computation with per-task options.
+     *
+     * @param initialDelay the delay before the first execution, must be
+     *                     non-negative
+     * @param period       the period between successive executions, must be
+     *                     positive
+     * @param task         the computation to execute
+     * @param sink         the sink receiving each run's value
+     * @param spec         the per-task options
+     * @param <V>          the type of the computed value
+     * @return a handle to control and monitor the scheduled task
+     * @throws NullPointerException     if any argument is null
+     * @throws IllegalArgumentException if initialDelay is negative or period is not
+     *                                  positive
+     * @throws IllegalStateException    if the scheduler has been shut down
+     * @see #scheduleAtFixedRate(Duration, Duration, Callable, ResultSink)
+     */
+    <V> ScheduledHandle scheduleAtFixedRate(Duration initialDelay, Duration period, Callable<V> task, ResultSink<? super V> sink,
+                                            TaskSpec spec);
+
     /**
      * Schedules a task to execute with a fixed delay between executions.
      *
@@ -80,6 +241,214 @@ public interface Scheduler extends AutoCloseable {
      */
     ScheduledHandle scheduleWithFixedDelay(Duration initialDelay, Duration delay, Runnable task);
 
+    /**
+     * Schedules a fixed-delay task with per-task options.
+     *
+     * @param initialDelay the delay before the first execution, must be
+     *                     non-negative
+     * @param delay        the delay between the end of one execution and the start
+     *                     of the next, must be positive
+     * @param task         the task to execute
+     * @param spec         the per-task options
+     * @return a handle to control and monitor the scheduled task
+     * @throws NullPointerException     if any argument is null
+     * @throws IllegalArgumentException if initialDelay is negative or delay is not
+     *                                  positive
+     * @throws IllegalStateException    if the scheduler has been shut down
+     * @see #scheduleWithFixedDelay(Duration, Duration, Runnable)
+     */
+    ScheduledHandle scheduleWithFixedDelay(Duration initialDelay, Duration delay, Runnable task, TaskSpec spec);
+
+    /**
+     * Schedules a computation with a fixed delay between executions, handing
+     * each value to a sink.
+     *
+     * @param initialDelay the delay before the first execution, must be
+     *                     non-negative
+     * @param delay        the delay between the end of one execution and the
+     *                     start of the next, must be positive
+     * @param task         the computation to execute
+     * @param sink         the sink receiving each run's value
+     * @param <V>          the type of the computed value
+     * @return a handle to control and monitor the scheduled task
+     * @throws NullPointerException     if any argument is null
+     * @throws IllegalArgumentException if initialDelay is negative or delay is not
+     *                                  positive
+     * @throws IllegalStateException    if the scheduler has been shut down
+     * @see ResultSink
+     */
+    <V> ScheduledHandle scheduleWithFixedDelay(Duration initialDelay, Duration delay, Callable<V> task, ResultSink<? super V> sink);
+
+    /**
+     * Schedules a fixed-delay computation with per-task options.
+     *
+     * @param initialDelay the delay before the first execution, must be
+     *                     non-negative
+     * @param delay        the delay between the end of one execution and the
+     *                     start of the next, must be positive
+     * @param task         the computation to execute
+     * @param sink         the sink receiving each run's value
+     * @param spec         the per-task options
+     * @param <V>          the type of the computed value
+     * @return a handle to control and monitor the scheduled task
+     * @throws NullPointerException     if any argument is null
+     * @throws IllegalArgumentException if initialDelay is negative or delay is not
+     *                                  positive
+     * @throws IllegalStateException    if the scheduler has been shut down
+     * @see #scheduleWithFixedDelay(Duration, Duration, Callable, ResultSink)
+     */
+    <V> ScheduledHandle scheduleWithFixedDelay(Duration initialDelay, Duration delay, Callable<V> task, ResultSink<? super V> sink,
+                                               TaskSpec spec);
+
+    /**
+     * Schedules a one-shot asynchronous task to start after the specified delay.
+     *
+     * <p>
+     * The task is started on a scheduler thread and must return a
+     * {@link CompletionStage}. The thread is released as soon as the task
+     * returns; the run is recorded as complete, and any retry is scheduled,
+     * when the stage completes. Listeners and the execution policy see the
+     * stage's failure cause, unwrapped from {@link java.util.concurrent.CompletionException}.
+     * A task that throws or returns null fails immediately.
+     *
+     * @param delay the delay before execution, must be positive
+     * @param task  the asynchronous task to start
+     * @return a handle to control and monitor the scheduled task
+     * @throws NullPointerException     if delay or task is null
+     * @throws IllegalArgumentException if delay is not positive
+     * @throws IllegalStateException    if the scheduler has been shut down
+     */
+    ScheduledHandle scheduleAsync(Duration delay, Supplier<? extends CompletionStage<?>> task);
+
+    /**
+     * Schedules a one-shot asynchronous task with per-task options.
+     *
+     * @param delay the delay before execution, must be positive
+     * @param task  the asynchronous task to start
+     * @param spec  the per-task options
+     * @return a handle to control and monitor the scheduled task
+     * @throws NullPointerException     if any argument is null
+     * @throws IllegalArgumentException if delay is not positive
+     * @throws IllegalStateException    if the scheduler has been shut down
+     * @see #scheduleAsync(Duration, Supplier)
+     */
+    ScheduledHandle scheduleAsync(Duration delay, Supplier<? extends CompletionStage<?>> task, TaskSpec spec);
+
+    /**
+     * Schedules an asynchronous task to start at a fixed rate.
+     *
+     * <p>
+     * Runs do not overlap unless an overlapping overrun policy is set; the
+     * next run is planned when the previous run's stage completes.
+     *
+     * @param initialDelay the delay before the first execution, must be
+     *                     non-negative
+     * @param period       the period between successive executions, must be
+     *                     positive
+     * @param task         the asynchronous task to start
+     * @return a handle to control and monitor the scheduled task
+     * @throws NullPointerException     if any argument is null
+     * @throws IllegalArgumentException if initialDelay is negative or period is not
+     *                                  positive
+     * @throws IllegalStateException    if the scheduler has been shut down
+     * @see #scheduleAsync(Duration, Supplier)
+     * @see #scheduleAtFixedRate(Duration, Duration, Runnable)
+     */
+    ScheduledHandle scheduleAsyncAtFixedRate(Duration initialDelay, Duration period, Supplier<? extends CompletionStage<?>> task);
+
+    /**
+     * Schedules an asynchronous fixed-rate task with per-task options.
+     *
+     * @param initialDelay the delay before the first execution, must be
+     *                     non-negative
+     * @param period       the period between successive executions, must be
+     *                     positive
+     * @param task         the asynchronous task to start
+     * @param spec         the per-task options
+     * @return a handle to control and monitor the scheduled task
+     * @throws NullPointerException     if any argument is null
+     * @throws IllegalArgumentException if initialDelay is negative or period is not
+     *                                  positive
+     * @throws IllegalStateException    if the scheduler has been shut down
+     * @see #scheduleAsyncAtFixedRate(Duration, Duration, Supplier)
+     */
+    ScheduledHandle scheduleAsyncAtFixedRate(Duration initialDelay, Duration period, Supplier<? extends CompletionStage<?>> task,
+                                             TaskSpec spec);
+
+    /**
+     * Schedules an asynchronous task with a fixed delay between the completion
+     * of one run's stage and the start of the next.
+     *
+     * @param initialDelay the delay before the first execution, must be
+     *                     non-negative
+     * @param delay        the delay between the completion of one run and the
+     *                     start of the next, must be positive
+     * @param task         the asynchronous task to start
+     * @return a handle to control and monitor the scheduled task
+     * @throws NullPointerException     if any argument is null
+     * @throws IllegalArgumentException if initialDelay is negative or delay is not
+     *                                  positive
+     * @throws IllegalStateException    if the scheduler has been shut down
+     * @see #scheduleAsync(Duration, Supplier)
+     */
+    ScheduledHandle scheduleAsyncWithFixedDelay(Duration initialDelay, Duration delay, Supplier<? extends CompletionStage<?>> task);
+
+    /**
+     * Schedules an asynchronous fixed-delay task with per-task options.
+     *
+     * @param initialDelay the delay before the first execution, must be
+     *                     non-negative
+     * @param delay        the delay between the completion of one run and the
+     *                     start of the next, must be positive
+     * @param task         the asynchronous task to start
+     * @param spec         the per-task options
+     * @return a handle to control and monitor the scheduled task
+     * @throws NullPointerException     if any argument is null
+     * @throws IllegalArgumentException if initialDelay is negative or delay is not
+     *                                  positive
+     * @throws IllegalStateException    if the scheduler has been shut down
+     * @see #scheduleAsyncWithFixedDelay(Duration, Duration, Supplier)
+     */
+    ScheduledHandle scheduleAsyncWithFixedDelay(Duration initialDelay, Duration delay, Supplier<? extends CompletionStage<?>> task,
+                                                TaskSpec spec);
+
+    /**
+     * Schedules a task to execute at a period that adapts to load.
+     *
+     * <p>
+     * The period starts at {@link AdaptiveRate#min()} and grows towards
+     * {@link AdaptiveRate#max()} while executions are slow or start late, then
+     * shrinks again once they are fast and on time. Executions never overlap
+     * and missed executions are not caught up. The current period is reported
+     * by {@link ScheduledHandle#currentPeriod()}.
+     *
+     * @param initialDelay the delay before the first execution, must be
+     *                     non-negative
+     * @param rate         the adaptive rate configuration
+     * @param task         the task to execute
+     * @return a handle to control and monitor the scheduled task
+     * @throws NullPointerException     if any argument is null
+     * @throws IllegalArgumentException if initialDelay is negative
+     * @throws IllegalStateException    if the scheduler has been shut down
+     */
+    ScheduledHandle scheduleAdaptive(Duration initialDelay, AdaptiveRate rate, Runnable task);
+
+    /**
+     * Schedules an adaptive task with per-task options.
+     *
+     * @param initialDelay the delay before the first execution, must be
+     *                     non-negative
+     * @param rate         the adaptive rate configuration
+     * @param task         the task to execute
+     * @param spec         the per-task options
+     * @return a handle to control and monitor the scheduled task
+     * @throws NullPointerException     if any argument is null
+     * @throws IllegalArgumentException if initialDelay is negative
+     * @throws IllegalStateException    if the scheduler has been shut down
+     * @see #scheduleAdaptive(Duration, AdaptiveRate, Runnable)
+     */
+    ScheduledHandle scheduleAdaptive(Duration initialDelay, AdaptiveRate rate, Runnable task, TaskSpec spec);
+
     /**
      * Schedules a task to execute according to a cron expression.
      *
@@ -118,6 +487,72 @@ public interface Scheduler extends AutoCloseable {
      */
     ScheduledHandle scheduleCron(CronExpression cron, ZoneId zone, Duration misfireGrace, Runnable task);
 
+    /**
+     * Schedules a cron task with a custom misfire grace period and per-task
+     * options.
+     *
+     * @param cron         the cron expression defining the schedule
+     * @param zone         the timezone for cron calculations
+     * @param misfireGrace the grace period for handling misfires
+     * @param task         the task to execute
+     * @param spec         the per-task options
+     * @return a handle to control and monitor the scheduled task
+     * @throws NullPointerException     if any argument is null
+     * @throws IllegalArgumentException if misfireGrace is negative
+     * @throws IllegalStateException    if the scheduler has been shut down
+     * @see #scheduleCron(CronExpression, ZoneId, Duration, Runnable)
+     */
+    ScheduledHandle scheduleCron(CronExpression cron, ZoneId zone, Duration misfireGrace, Runnable task, TaskSpec spec);
+
+    /**
+     * Creates a lightweight timeout that runs a task once after a delay.
+     *
+     * <p>
+     * Timeouts bypass the task machinery: they get no id, registry entry,
+     * listeners, policies or snapshot entry, and cost one small object and
+     * a queue insertion to create. Creating and cancelling a timeout are
+     * constant time. Timeouts are kept on a timing wheel with a resolution of
+     * 10 ms, so a task runs up to one tick after
+     * its delay; it runs on the scheduler's threads. Timeouts that have not
+     * fired when the scheduler shuts down are discarded.
+     *
+     * @param delay the delay before the task runs, must not be negative
+     * @param task  the task to run
+     * @return the timeout, which can be cancelled
+     * @throws NullPointerException     if delay or task is null
+     * @throws IllegalArgumentException if delay is negative
+     * @throws IllegalStateException    if the scheduler has been shut down
+     */
+    Timeout newTimeout(Duration delay, Runnable task);
+
+    /**
+     * Pauses every task in a group.
+     *
+     * <p>
+     * Each task is paused as by {@link ScheduledHandle#pause()}. Tasks
+     * scheduled into the group while it is paused start out paused. A group
+     * that is neither configured nor used by any task is left unknown and
+     * nothing is paused.
+     *
+     * @param group the group name
+     * @return the number of tasks paused or pausing
+     * @throws NullPointerException if group is null
+     */
+    int pauseGroup(String group);
+
+    /**
+     * Resumes every task in a group.
+     *
+     * <p>
+     * Each task is resumed as by {@link ScheduledHandle#resume()}, and tasks
+     * scheduled into the group afterwards are no longer paused.
+     *
+     * @param group the group name
+     * @return the number of tasks resumed
+     * @throws NullPointerException if group is null
+     */
+    int resumeGroup(String group);
+
     /**
      * Returns a snapshot of the scheduler's current metrics.
      *
@@ -125,6 +560,18 @@ public interface Scheduler extends AutoCloseable {
      */
     SchedulerSnapshot snapshot();
 
+    /**
+     * Starts a new latency measurement interval.
+     *
+     * <p>
+     * The start lag and run duration distributions in later snapshots only
+     * cover executions after this call. Until the first call, the interval
+     * starts when the scheduler was created.
+     *
+     * @see SchedulerSnapshot#latencyIntervalStart()
+     */
+    void resetLatencies();
+
     /**
      * Initiates an orderly shutdown.
      *
@@ -1,6 +1,14 @@
 package com.github.frosxt.chronos.api;
 
+import com.github.frosxt.chronos.api.dispatch.PrioritySnapshot;
+import com.github.frosxt.chronos.api.group.GroupSnapshot;
+import com.github.frosxt.chronos.api.lane.LaneSnapshot;
+import com.github.frosxt.chronos.api.metrics.LatencySnapshot;
+import com.github.frosxt.chronos.api.policy.TaskPriority;
+
+import java.time.Duration;
 import java.time.Instant;
+import java.util.Map;
 
 /**
  * A snapshot of scheduler metrics at a point in time.
@@ -45,6 +53,13 @@ public interface SchedulerSnapshot {
      */
     long retryWaitCount();
 
+    /**
+     * Returns the number of tasks currently paused.
+     *
+     * @return the paused count
+     */
+    long pausedCount();
+
     /**
      * Returns the number of completed tasks.
      *
@@ -72,4 +87,199 @@ public interface SchedulerSnapshot {
      * @return the total execution count
      */
     long totalExecutionCount();
+
+    /**
+     * Returns the number of fixed-rate executions skipped by an overrun policy,
+     * plus the number of cron misfires, each of which counts once.
+     *
+     * @return the skipped execution count
+     * @see com.github.frosxt.chronos.api.policy.OverrunPolicy
+     */
+    long skippedRunCount();
+
+    /**
+     * Returns the number of fixed-rate executions that started while another
+     * execution of the same task was still running.
+     *
+     * @return the overlapped execution count
+     * @see com.github.frosxt.chronos.api.policy.OverrunPolicy#overlap(int)
+     */
+    long overlappedRunCount();
+
+    /**
+     * Returns the number of executions that exceeded their timeout.
+     *
+     * @return the timed-out execution count
+     * @see com.github.frosxt.chronos.api.policy.TimeoutPolicy
+     */
+    long timeoutCount();
+
+    /**
+     * Returns the number of tasks turned away because the scheduler was at
+     * capacity.
+     *
+     * @return the rejected task count
+     * @see com.github.frosxt.chronos.api.policy.AdmissionPolicy
+     */
+    long rejectedTaskCount();
+
+    /**
+     * Returns the number of pending tasks cancelled to make room for new
+     * tasks.
+     *
+     * @return the evicted task count
+     * @see com.github.frosxt.chronos.api.policy.AdmissionPolicy#evictOldest(int)
+     */
+    long evictedTaskCount();
+
+    /**
+     * Returns the number of executions skipped by load shedding.
+     *
+     * @return the shed execution count
+     * @see com.github.frosxt.chronos.api.spec.builder.SchedulerSpecBuilder#loadShedding(Duration)
+     */
+    long shedExecutionCount();
+
+    /**
+     * Returns the rolling estimate of how late executions start.
+     *
+     * @return the scheduling lag estimate, or {@link Duration#ZERO} if load
+     *         shedding is disabled
+     */
+    Duration schedulingLag();
+
+    /**
+     * Returns whether sheddable executions are currently being skipped.
+     *
+     * @return true if the scheduler is shedding load
+     */
+    boolean shedding();
+
+    /**
+     * Returns the number of listener events waiting for the listener thread.
+     *
+     * @return the listener backlog, or 0 if listeners are called on the
+     *         worker threads
+     * @see com.github.frosxt.chronos.api.spec.builder.SchedulerSpecBuilder#asyncListeners
+     */
+    long listenerBacklog();
+
+    /**
+     * Returns how long the oldest listener event still waiting for the
+     * listener thread has been waiting.
+     *
+     * @return the listener lag, or {@link Duration#ZERO} if no event is
+     *         waiting or listeners are called on the worker threads
+     */
+    Duration listenerLag();
+
+    /**
+     * Returns the number of listener events dropped because the listener
+     * buffer was full, sampled out, or the scheduler was shut down.
+     *
+     * @return the dropped listener event count
+     */
+    long droppedListenerEventCount();
+
+    /**
+     * Returns when the current latency measurement interval started.
+     *
+     * @return the interval start, never null
+     * @see Scheduler#resetLatencies()
+     */
+    Instant latencyIntervalStart();
+
+    /**
+     * Returns the distribution of start lag, the time between when an
+     * execution was scheduled and when it started, over the current
+     * interval.
+     *
+     * @return the start lag distribution, never null
+     */
+    LatencySnapshot startLag();
+
+    /**
+     * Returns the distribution of execution run time over the current
+     * interval.
+     *
+     * <p>
+     * For asynchronous tasks this is the time until the task's stage
+     * completed.
+     *
+     * @return the run duration distribution, never null
+     */
+    LatencySnapshot runDuration();
+
+    /**
+     * Returns the start lag distribution for each task type.
+     *
+     * @return an unmodifiable map with an entry for every task type, never
+     *         null
+     * @see #startLag()
+     */
+    Map<TaskType, LatencySnapshot> startLagByType();
+
+    /**
+     * Returns the run duration distribution for each task type.
+     *
+     * @return an unmodifiable map with an entry for every task type, never
+     *         null
+     * @see #runDuration()
+     */
+    Map<TaskType, LatencySnapshot> runDurationByType();
+
+    /**
+     * Returns the number of live timers in the scheduler's timer queue.
+     *
+     * <p>
+     * Each scheduled, retrying or deferred task holds one timer until it
+     * fires.
+     *
+     * @return the live timer count
+     */
+    long liveTimerCount();
+
+    /**
+     * Returns the number of timers of cancelled tasks that are still in the
+     * scheduler's timer queue.
+     *
+     * <p>
+     * These entries hold memory until they are purged or would have fired.
+     *
+     * @return the cancelled timer count
+     * @see com.github.frosxt.chronos.api.policy.PurgePolicy
+     */
+    long cancelledTimerCount();
+
+    /**
+     * Returns the current period of every live adaptive task, keyed by task ID.
+     *
+     * @return an unmodifiable map of adaptive periods, never null
+     * @see Scheduler#scheduleAdaptive(Duration, com.github.frosxt.chronos.api.policy.AdaptiveRate, Runnable)
+     */
+    Map<String, Duration> adaptivePeriods();
+
+    /**
+     * Returns the state of every known task group, keyed by group name.
+     *
+     * @return an unmodifiable map of group snapshots, never null
+     */
+    Map<String, GroupSnapshot> groups();
+
+    /**
+     * Returns the state of every live serial lane, keyed by execution key.
+     *
+     * @return an unmodifiable map of lane snapshots, never null
+     * @see com.github.frosxt.chronos.api.spec.builder.TaskSpecBuilder#executionKey(String)
+     */
+    Map<String, LaneSnapshot> lanes();
+
+    /**
+     * Returns the dispatch queue state for every task priority.
+     *
+     * @return an unmodifiable map of priority snapshots, empty if priority
+     *         dispatch is disabled, never null
+     * @see com.github.frosxt.chronos.api.spec.builder.SchedulerSpecBuilder#priorityDispatch(Duration)
+     */
+    Map<TaskPriority, PrioritySnapshot> priorities();
 }
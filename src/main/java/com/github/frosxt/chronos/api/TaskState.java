@@ -24,6 +24,11 @@ public enum TaskState {
      */
     RETRY_WAIT,
 
+    /**
+     * The task is paused and has no pending execution until it is resumed.
+     */
+    PAUSED,
+
     /**
      * The task was cancelled before completion.
      */
@@ -25,5 +25,11 @@ public enum TaskType {
     /**
      * A recurring task that executes according to a cron expression.
      */
-    CRON
+    CRON,
+
+    /**
+     * A recurring task whose period adapts between configured bounds
+     * according to execution time and lag.
+     */
+    ADAPTIVE_RATE
 }
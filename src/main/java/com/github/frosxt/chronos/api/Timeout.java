@@ -0,0 +1,37 @@
+package com.github.frosxt.chronos.api;
+
+/**
+ * A lightweight one-shot timer created by
+ * {@link Scheduler#newTimeout(java.time.Duration, Runnable)}.
+ *
+ * <p>
+ * Unlike a {@link ScheduledHandle}, a timeout has no id, state machine,
+ * listeners, retries or snapshot entry; it can only be cancelled or queried.
+ * It is meant for deadlines that are almost always cancelled before they
+ * fire, such as request timeouts.
+ */
+public interface Timeout {
+
+    /**
+     * Cancels this timeout if it has not fired yet. Constant time.
+     *
+     * @return {@code true} if this call cancelled the timeout, {@code false}
+     *         if it had already fired or been cancelled
+     */
+    boolean cancel();
+
+    /**
+     * Returns whether this timeout was cancelled.
+     *
+     * @return {@code true} if cancelled
+     */
+    boolean isCancelled();
+
+    /**
+     * Returns whether this timeout has fired and its task was handed off to
+     * run.
+     *
+     * @return {@code true} if fired
+     */
+    boolean isExpired();
+}
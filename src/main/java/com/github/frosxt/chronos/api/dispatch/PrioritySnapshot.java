@@ -0,0 +1,52 @@
+package com.github.frosxt.chronos.api.dispatch;
+
+import com.github.frosxt.chronos.api.policy.TaskPriority;
+
+import java.time.Duration;
+
+/**
+ * A snapshot of the dispatch queue for one task priority at a point in time.
+ *
+ * <p>
+ * Queueing delay is measured from the time an execution was scheduled for
+ * to the time it started, so it includes any delay in firing its timer.
+ *
+ * @see com.github.frosxt.chronos.api.SchedulerSnapshot#priorities()
+ */
+public interface PrioritySnapshot {
+
+    /**
+     * Returns the priority this snapshot describes.
+     *
+     * @return the priority, never null
+     */
+    TaskPriority priority();
+
+    /**
+     * Returns the number of due executions waiting to start.
+     *
+     * @return the queue depth
+     */
+    int depth();
+
+    /**
+     * Returns the number of executions started through the dispatch queue.
+     *
+     * @return the dispatched execution count
+     */
+    long dispatchedCount();
+
+    /**
+     * Returns the mean queueing delay of started executions.
+     *
+     * @return the average delay, never null
+     */
+    Duration averageDelay();
+
+    /**
+     * Returns the longest queueing delay of any started execution.
+     *
+     * @return the maximum delay, never null
+     */
+    Duration maxDelay();
+}
@@ -0,0 +1,23 @@
+package com.github.frosxt.chronos.api.group;
+
+/**
+ * Signals that an execution was short-circuited by an open circuit breaker.
+ *
+ * <p>
+ * This exception is passed to the failure handling of tasks whose group
+ * breaker is configured with
+ * {@link com.github.frosxt.chronos.api.policy.CircuitBreakerPolicy.OpenAction#FAIL}.
+ * Instances do not capture a stack trace.
+ */
+public final class CircuitOpenException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Creates a new exception for the given group.
+     *
+     * @param group the name of the group whose breaker is open
+     */
+    public CircuitOpenException(final String group) {
+        super("Circuit breaker is open for group: " + group, null, false, false);
+    }
+}
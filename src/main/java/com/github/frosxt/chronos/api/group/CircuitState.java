@@ -0,0 +1,23 @@
+package com.github.frosxt.chronos.api.group;
+
+/**
+ * Represents the state of a task group's circuit breaker.
+ */
+public enum CircuitState {
+
+    /**
+     * Executions are admitted normally.
+     */
+    CLOSED,
+
+    /**
+     * Executions are short-circuited until the open window elapses.
+     */
+    OPEN,
+
+    /**
+     * A single probe execution has been admitted to test whether the
+     * downstream has recovered; other executions are short-circuited.
+     */
+    HALF_OPEN
+}
@@ -0,0 +1,78 @@
+package com.github.frosxt.chronos.api.group;
+
+/**
+ * A snapshot of a task group's resilience state at a point in time.
+ *
+ * @see com.github.frosxt.chronos.api.SchedulerSnapshot#groups()
+ */
+public interface GroupSnapshot {
+
+    /**
+     * Returns the name of the group.
+     *
+     * @return the group name, never null
+     */
+    String name();
+
+    /**
+     * Returns the current state of the group's circuit breaker.
+     *
+     * <p>
+     * Groups without a circuit breaker always report {@link CircuitState#CLOSED}.
+     *
+     * @return the circuit state, never null
+     */
+    CircuitState circuitState();
+
+    /**
+     * Returns the number of executions short-circuited by the circuit breaker.
+     *
+     * @return the rejected execution count
+     */
+    long rejectedExecutionCount();
+
+    /**
+     * Returns the number of retries denied by the retry budget or circuit breaker.
+     *
+     * @return the rejected retry count
+     */
+    long rejectedRetryCount();
+
+    /**
+     * Returns the number of retry tokens currently available.
+     *
+     * @return the available tokens, or -1 if the group has no retry budget
+     */
+    double retryTokens();
+
+    /**
+     * Returns whether the group has been paused as a whole.
+     *
+     * @return true if the group is paused
+     */
+    boolean paused();
+
+    /**
+     * Returns the number of executions of the group currently running within
+     * its bulkhead.
+     *
+     * @return the active execution count, or 0 if the group has no bulkhead
+     * @see com.github.frosxt.chronos.api.policy.BulkheadPolicy
+     */
+    int activeCount();
+
+    /**
+     * Returns the number of executions waiting in the group's ready queue.
+     *
+     * @return the queued execution count, or 0 if the group has no bulkhead
+     */
+    int queuedCount();
+
+    /**
+     * Returns the number of executions that found the group's bulkhead and
+     * ready queue full and were delayed, dropped or run on the firing thread.
+     *
+     * @return the overflowed execution count
+     */
+    long overflowCount();
+}
@@ -0,0 +1,54 @@
+package com.github.frosxt.chronos.api.lane;
+
+import java.time.Duration;
+
+/**
+ * A snapshot of a serial execution lane at a point in time.
+ *
+ * @see com.github.frosxt.chronos.api.SchedulerSnapshot#lanes()
+ * @see com.github.frosxt.chronos.api.spec.builder.TaskSpecBuilder#executionKey(String)
+ */
+public interface LaneSnapshot {
+
+    /**
+     * Returns the execution key of the lane.
+     *
+     * @return the lane key, never null
+     */
+    String key();
+
+    /**
+     * Returns the number of executions currently queued on the lane.
+     *
+     * @return the queue depth
+     */
+    int depth();
+
+    /**
+     * Returns the highest queue depth the lane has reached.
+     *
+     * @return the peak queue depth
+     */
+    int maxDepth();
+
+    /**
+     * Returns the number of executions the lane has dispatched.
+     *
+     * @return the dispatched execution count
+     */
+    long dispatchedCount();
+
+    /**
+     * Returns the mean time executions waited on the lane before running.
+     *
+     * @return the average wait, never null
+     */
+    Duration averageWait();
+
+    /**
+     * Returns the longest time an execution waited on the lane before running.
+     *
+     * @return the maximum wait, never null
+     */
+    Duration maxWait();
+}
@@ -0,0 +1,28 @@
+package com.github.frosxt.chronos.api.listener;
+
+/**
+ * Receives the value produced by each run of a recurring computation.
+ *
+ * <p>
+ * The sink is invoked on the thread that executed the run, directly after
+ * the computation returns and before the run is recorded as complete. No
+ * context object is created for the call. A sink that throws fails the run
+ * as if the computation itself had thrown.
+ *
+ * <p>
+ * Runs of a task do not overlap unless an overlapping overrun policy is set,
+ * so a sink attached to a non-overlapping task sees values one at a time and
+ * in run order.
+ *
+ * @param <V> the type of the computed value
+ */
+@FunctionalInterface
+public interface ResultSink<V> {
+
+    /**
+     * Accepts the value produced by a run.
+     *
+     * @param value the computed value, may be null
+     */
+    void accept(V value);
+}
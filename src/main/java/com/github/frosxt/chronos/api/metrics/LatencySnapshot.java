@@ -0,0 +1,55 @@
+package com.github.frosxt.chronos.api.metrics;
+
+import java.time.Duration;
+
+/**
+ * The distribution of a latency over the current measurement interval.
+ *
+ * <p>
+ * Percentiles are read from a log-linear histogram and are within about
+ * 6% of the exact value.
+ *
+ * @see com.github.frosxt.chronos.api.SchedulerSnapshot#startLag()
+ * @see com.github.frosxt.chronos.api.SchedulerSnapshot#runDuration()
+ * @see com.github.frosxt.chronos.api.Scheduler#resetLatencies()
+ */
+public interface LatencySnapshot {
+
+    /**
+     * Returns the number of values recorded in the interval.
+     *
+     * @return the sample count
+     */
+    long count();
+
+    /**
+     * Returns the median.
+     *
+     * @return the 50th percentile, or {@link Duration#ZERO} if nothing was
+     *         recorded
+     */
+    Duration p50();
+
+    /**
+     * Returns the 99th percentile.
+     *
+     * @return the 99th percentile, or {@link Duration#ZERO} if nothing was
+     *         recorded
+     */
+    Duration p99();
+
+    /**
+     * Returns the 99.9th percentile.
+     *
+     * @return the 99.9th percentile, or {@link Duration#ZERO} if nothing was
+     *         recorded
+     */
+    Duration p999();
+
+    /**
+     * Returns the largest value recorded in the interval.
+     *
+     * @return the maximum, or {@link Duration#ZERO} if nothing was recorded
+     */
+    Duration max();
+}
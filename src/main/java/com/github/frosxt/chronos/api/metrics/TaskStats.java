@@ -0,0 +1,69 @@
+package com.github.frosxt.chronos.api.metrics;
+
+import java.time.Duration;
+
+/**
+ * Streaming statistics of one task's executions at a point in time.
+ *
+ * <p>
+ * Statistics are only kept for tasks scheduled with
+ * {@link com.github.frosxt.chronos.api.spec.builder.TaskSpecBuilder#recordStats()}.
+ *
+ * @see com.github.frosxt.chronos.api.ScheduledHandle#stats()
+ */
+public interface TaskStats {
+
+    /**
+     * Returns the number of finished executions, including failed ones.
+     *
+     * @return the execution count
+     */
+    long executionCount();
+
+    /**
+     * Returns the exponentially weighted moving average of run duration,
+     * where each execution weighs 1/8.
+     *
+     * @return the average duration, or {@link Duration#ZERO} if no
+     *         execution has finished
+     */
+    Duration ewmaDuration();
+
+    /**
+     * Returns the longest run duration of any execution.
+     *
+     * @return the maximum duration, never null
+     */
+    Duration maxDuration();
+
+    /**
+     * Returns the total time the task has spent running.
+     *
+     * @return the cumulative busy time, never null
+     */
+    Duration busyTime();
+
+    /**
+     * Returns the mean time between when an execution was scheduled and when
+     * it started.
+     *
+     * @return the average start lag, or {@link Duration#ZERO} if the task
+     *         never started
+     */
+    Duration averageLag();
+
+    /**
+     * Returns the number of executions that failed, including attempts that
+     * were retried.
+     *
+     * @return the failure count
+     */
+    long failureCount();
+
+    /**
+     * Returns the number of retries scheduled after a failure.
+     *
+     * @return the retry count
+     */
+    long retryCount();
+}
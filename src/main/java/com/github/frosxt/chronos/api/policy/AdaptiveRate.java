@@ -0,0 +1,176 @@
+package com.github.frosxt.chronos.api.policy;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * Configures a recurring period that adapts to execution time and lag.
+ *
+ * <p>
+ * The period starts at {@code min} and is adjusted after every execution by
+ * an AIMD controller. Execution time is smoothed with an exponentially
+ * weighted moving average. When the smoothed execution time exceeds
+ * {@code targetUtilization} of the current period, or the execution started
+ * more than half a period late, the period is multiplied by
+ * {@code backoffMultiplier}. Otherwise it shrinks by {@code recoveryStep}.
+ * The period is always kept within {@code [min, max]}.
+ *
+ * <p>
+ * This class is immutable and thread-safe.
+ */
+public final class AdaptiveRate {
+    private static final double DEFAULT_TARGET_UTILIZATION = 0.5;
+    private static final double DEFAULT_BACKOFF_MULTIPLIER = 2.0;
+    private static final int DEFAULT_RECOVERY_STEPS = 10;
+    private static final double DEFAULT_SMOOTHING = 0.2;
+
+    private final Duration min;
+    private final Duration max;
+    private final double targetUtilization;
+    private final double backoffMultiplier;
+    private final Duration recoveryStep;
+    private final double smoothing;
+
+    private AdaptiveRate(final Duration min, final Duration max, final double targetUtilization,
+                         final double backoffMultiplier, final Duration recoveryStep, final double smoothing) {
+        this.min = min;
+        this.max = max;
+        this.targetUtilization = targetUtilization;
+        this.backoffMultiplier = backoffMultiplier;
+        this.recoveryStep = recoveryStep;
+        this.smoothing = smoothing;
+    }
+
+    /**
+     * Creates an adaptive rate with default controller settings.
+     *
+     * <p>
+     * The defaults are a target utilization of 0.5, a backoff multiplier of
+     * 2.0, a recovery step of one tenth of {@code max - min} and a smoothing
+     * factor of 0.2.
+     *
+     * @param min the shortest period
+     * @param max the longest period
+     * @return the adaptive rate
+     * @throws NullPointerException     if min or max is null
+     * @throws IllegalArgumentException if min is not positive or max is less
+     *                                  than min
+     */
+    public static AdaptiveRate between(final Duration min, final Duration max) {
+        validateBounds(min, max);
+        Duration step = max.minus(min).dividedBy(DEFAULT_RECOVERY_STEPS);
+        if (step.isZero()) {
+            step = Duration.ofNanos(1);
+        }
+        return new AdaptiveRate(min, max, DEFAULT_TARGET_UTILIZATION, DEFAULT_BACKOFF_MULTIPLIER, step, DEFAULT_SMOOTHING);
+    }
+
+    /**
+     * Creates an adaptive rate with explicit controller settings.
+     *
+     * @param min               the shortest period
+     * @param max               the longest period
+     * @param targetUtilization the fraction of the period that executions may
+     *                          take before the period backs off, in (0, 1]
+     * @param backoffMultiplier the factor the period grows by when overloaded
+     *                          (must be greater than 1.0)
+     * @param recoveryStep      the amount the period shrinks by when idle
+     * @param smoothing         the weight of the newest execution time in the
+     *                          moving average, in (0, 1]
+     * @return the adaptive rate
+     * @throws NullPointerException     if any duration is null
+     * @throws IllegalArgumentException if any argument is out of range
+     */
+    public static AdaptiveRate of(final Duration min, final Duration max, final double targetUtilization,
+                                  final double backoffMultiplier, final Duration recoveryStep, final double smoothing) {
+        validateBounds(min, max);
+        Objects.requireNonNull(recoveryStep, "recoveryStep must not be null");
+        if (!(targetUtilization > 0.0 && targetUtilization <= 1.0)) {
+            throw new IllegalArgumentException("targetUtilization must be in (0, 1]");
+        }
+        if (!(backoffMultiplier > 1.0) || Double.isInfinite(backoffMultiplier)) {
+            throw new IllegalArgumentException("backoffMultiplier must be greater than 1.0 and finite");
+        }
+        if (recoveryStep.isNegative() || recoveryStep.isZero()) {
+            throw new IllegalArgumentException("recoveryStep must be positive");
+        }
+        if (!(smoothing > 0.0 && smoothing <= 1.0)) {
+            throw new IllegalArgumentException("smoothing must be in (0, 1]");
+        }
+        return new AdaptiveRate(min, max, targetUtilization, backoffMultiplier, recoveryStep, smoothing);
+    }
+
+    private static void validateBounds(final Duration min, final Duration max) {
+        Objects.requireNonNull(min, "min must not be null");
+        Objects.requireNonNull(max, "max must not be null");
+        if (min.isNegative() || min.isZero()) {
+            throw new IllegalArgumentException("min must be positive");
+        }
+        if (max.compareTo(min) < 0) {
+            throw new IllegalArgumentException("max must not be less than min");
+        }
+    }
+
+    /**
+     * Returns the shortest period.
+     *
+     * @return the minimum period
+     */
+    public Duration min() {
+        return min;
+    }
+
+    /**
+     * Returns the longest period.
+     *
+     * @return the maximum period
+     */
+    public Duration max() {
+        return max;
+    }
+
+    /**
+     * Returns the fraction of the period executions may take before backing off.
+     *
+     * @return the target utilization
+     */
+    public double targetUtilization() {
+        return targetUtilization;
+    }
+
+    /**
+     * Returns the factor the period grows by when overloaded.
+     *
+     * @return the backoff multiplier
+     */
+    public double backoffMultiplier() {
+        return backoffMultiplier;
+    }
+
+    /**
+     * Returns the amount the period shrinks by when idle.
+     *
+     * @return the recovery step
+     */
+    public Duration recoveryStep() {
+        return recoveryStep;
+    }
+
+    /**
+     * Returns the weight of the newest execution time in the moving average.
+     *
+     * @return the smoothing factor
+     */
+    public double smoothing() {
+        return smoothing;
+    }
+
+    @Override
+    public String toString() {
+        return "AdaptiveRate[min=" + min + ", max=" + max +
+                ", targetUtilization=" + targetUtilization +
+                ", backoffMultiplier=" + backoffMultiplier +
+                ", recoveryStep=" + recoveryStep +
+                ", smoothing=" + smoothing + "]";
+    }
+}
@@ -0,0 +1,235 @@
+package com.github.frosxt.chronos.api.policy;
+
+import java.time.Duration;
+
+/**
+ * Bounds the number of pending tasks a scheduler accepts.
+ *
+ * <p>
+ * A task is pending from the moment it is scheduled until it completes,
+ * fails or is cancelled. Every pending task holds its task state, runner and
+ * a timer in the scheduler's queue, so an unbounded producer can exhaust
+ * the heap. The limit can be given as a task count, as an estimate of the
+ * memory held by pending tasks, or both; the lower bound applies.
+ *
+ * <p>
+ * When the scheduler is at capacity, the rejection mode decides what
+ * happens to a new task:
+ * <ul>
+ * <li>{@link Rejection#THROW}: scheduling throws a
+ * {@link java.util.concurrent.RejectedExecutionException}.</li>
+ * <li>{@link Rejection#BLOCK}: scheduling waits for capacity up to a
+ * timeout, then throws.</li>
+ * <li>{@link Rejection#REJECTED_HANDLE}: scheduling returns a handle of a
+ * task that is already cancelled.</li>
+ * <li>{@link Rejection#EVICT_OLDEST}: the oldest pending task with the
+ * lowest priority is cancelled to make room, provided its priority is not
+ * higher than the new task's; otherwise scheduling throws.</li>
+ * </ul>
+ *
+ * <p>
+ * {@link com.github.frosxt.chronos.api.Scheduler#trySchedule} never waits,
+ * evicts or throws for capacity, whatever the rejection mode.
+ *
+ * <p>
+ * This class is immutable and thread-safe.
+ *
+ * @see com.github.frosxt.chronos.api.spec.builder.SchedulerSpecBuilder#admission(AdmissionPolicy)
+ */
+public final class AdmissionPolicy {
+
+    /**
+     * The estimated heap footprint of one pending task, in bytes, used to
+     * convert a memory limit into a task limit. It covers the task's state,
+     * its runner and its timer queue entry, but not the task body itself.
+     */
+    public static final long ESTIMATED_TASK_BYTES = 1024;
+
+    /**
+     * What happens to a task scheduled while the scheduler is at capacity.
+     */
+    public enum Rejection {
+        /**
+         * Throw a {@link java.util.concurrent.RejectedExecutionException}.
+         */
+        THROW,
+
+        /**
+         * Wait for capacity up to a timeout, then throw.
+         */
+        BLOCK,
+
+        /**
+         * Return the handle of an already cancelled task.
+         */
+        REJECTED_HANDLE,
+
+        /**
+         * Cancel the oldest pending task of the lowest priority.
+         */
+        EVICT_OLDEST
+    }
+
+    private final int maxPendingTasks;
+    private final long maxTimerMemoryBytes;
+    private final Rejection rejection;
+    private final long blockTimeoutNanos;
+
+    private AdmissionPolicy(final int maxPendingTasks, final long maxTimerMemoryBytes, final Rejection rejection,
+                            final long blockTimeoutNanos) {
+        this.maxPendingTasks = maxPendingTasks;
+        this.maxTimerMemoryBytes = maxTimerMemoryBytes;
+        this.rejection = rejection;
+        this.blockTimeoutNanos = blockTimeoutNanos;
+    }
+
+    /**
+     * Returns a policy that throws when the scheduler is at capacity.
+     *
+     * @param maxPendingTasks the maximum number of pending tasks (must be at
+     *                        least 1)
+     * @return the admission policy
+     * @throws IllegalArgumentException if maxPendingTasks is less than 1
+     */
+    public static AdmissionPolicy throwing(final int maxPendingTasks) {
+        return new AdmissionPolicy(validate(maxPendingTasks), Long.MAX_VALUE, Rejection.THROW, 0);
+    }
+
+    /**
+     * Returns a policy that waits for capacity, then throws.
+     *
+     * @param maxPendingTasks the maximum number of pending tasks (must be at
+     *                        least 1)
+     * @param timeout         how long scheduling waits for capacity
+     * @return the admission policy
+     * @throws NullPointerException     if timeout is null
+     * @throws IllegalArgumentException if maxPendingTasks is less than 1 or
+     *                                  timeout is negative
+     */
+    public static AdmissionPolicy blocking(final int maxPendingTasks, final Duration timeout) {
+        if (timeout == null) {
+            throw new NullPointerException("timeout must not be null");
+        }
+        if (timeout.isNegative()) {
+            throw new IllegalArgumentException("timeout must not be negative");
+        }
+        return new AdmissionPolicy(validate(maxPendingTasks), Long.MAX_VALUE, Rejection.BLOCK, toNanosSafe(timeout));
+    }
+
+    /**
+     * Returns a policy that hands out cancelled handles when the scheduler is
+     * at capacity.
+     *
+     * @param maxPendingTasks the maximum number of pending tasks (must be at
+     *                        least 1)
+     * @return the admission policy
+     * @throws IllegalArgumentException if maxPendingTasks is less than 1
+     */
+    public static AdmissionPolicy rejectedHandle(final int maxPendingTasks) {
+        return new AdmissionPolicy(validate(maxPendingTasks), Long.MAX_VALUE, Rejection.REJECTED_HANDLE, 0);
+    }
+
+    /**
+     * Returns a policy that evicts the oldest pending task of the lowest
+     * priority when the scheduler is at capacity.
+     *
+     * <p>
+     * Finding the task to evict is linear in the number of pending tasks.
+     *
+     * @param maxPendingTasks the maximum number of pending tasks (must be at
+     *                        least 1)
+     * @return the admission policy
+     * @throws IllegalArgumentException if maxPendingTasks is less than 1
+     */
+    public static AdmissionPolicy evictOldest(final int maxPendingTasks) {
+        return new AdmissionPolicy(validate(maxPendingTasks), Long.MAX_VALUE, Rejection.EVICT_OLDEST, 0);
+    }
+
+    /**
+     * Returns a copy of this policy that also bounds the estimated memory
+     * held by pending tasks.
+     *
+     * @param bytes the maximum estimated memory, at least
+     *              {@link #ESTIMATED_TASK_BYTES}
+     * @return the admission policy
+     * @throws IllegalArgumentException if bytes is less than
+     *                                  {@link #ESTIMATED_TASK_BYTES}
+     */
+    public AdmissionPolicy withMaxTimerMemory(final long bytes) {
+        if (bytes < ESTIMATED_TASK_BYTES) {
+            throw new IllegalArgumentException("bytes must be at least " + ESTIMATED_TASK_BYTES);
+        }
+        return new AdmissionPolicy(maxPendingTasks, bytes, rejection, blockTimeoutNanos);
+    }
+
+    private static int validate(final int maxPendingTasks) {
+        if (maxPendingTasks < 1) {
+            throw new IllegalArgumentException("maxPendingTasks must be at least 1");
+        }
+        return maxPendingTasks;
+    }
+
+    private static long toNanosSafe(final Duration duration) {
+        try {
+            return duration.toNanos();
+        } catch (final ArithmeticException e) {
+            throw new IllegalArgumentException("Duration too large to convert to nanoseconds", e);
+        }
+    }
+
+    /**
+     * Returns the maximum number of pending tasks.
+     *
+     * @return the pending task limit
+     */
+    public int maxPendingTasks() {
+        return maxPendingTasks;
+    }
+
+    /**
+     * Returns the maximum estimated memory held by pending tasks.
+     *
+     * @return the memory limit in bytes, or {@link Long#MAX_VALUE} if only
+     *         the task count is bounded
+     */
+    public long maxTimerMemoryBytes() {
+        return maxTimerMemoryBytes;
+    }
+
+    /**
+     * Returns the number of pending tasks admitted under both limits.
+     *
+     * @return the effective pending task limit
+     */
+    public int effectiveLimit() {
+        return (int) Math.min(maxPendingTasks, maxTimerMemoryBytes / ESTIMATED_TASK_BYTES);
+    }
+
+    /**
+     * Returns what happens to a task scheduled at capacity.
+     *
+     * @return the rejection mode
+     */
+    public Rejection rejection() {
+        return rejection;
+    }
+
+    /**
+     * Returns how long a blocking policy waits for capacity.
+     *
+     * @return the timeout in nanoseconds, or 0 if the rejection mode is not
+     *         {@link Rejection#BLOCK}
+     */
+    public long blockTimeoutNanos() {
+        return blockTimeoutNanos;
+    }
+
+    @Override
+    public String toString() {
+        return "AdmissionPolicy[maxPendingTasks=" + maxPendingTasks
+                + (maxTimerMemoryBytes != Long.MAX_VALUE ? ", maxTimerMemoryBytes=" + maxTimerMemoryBytes : "")
+                + ", rejection=" + rejection
+                + (rejection == Rejection.BLOCK ? ", timeout=" + Duration.ofNanos(blockTimeoutNanos) : "")
+                + "]";
+    }
+}
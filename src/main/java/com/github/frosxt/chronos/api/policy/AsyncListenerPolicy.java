@@ -0,0 +1,157 @@
+package com.github.frosxt.chronos.api.policy;
+
+/**
+ * Moves task listener calls off the worker threads.
+ *
+ * <p>
+ * By default every listener is called on the worker thread that runs the
+ * task, before and after each execution, so a slow listener delays the task
+ * and everything queued behind it. With an asynchronous policy, workers
+ * publish listener events into a preallocated ring buffer and a dedicated
+ * thread delivers them to the listeners in publication order.
+ *
+ * <p>
+ * When the buffer is full, the overflow mode decides what happens to a new
+ * event:
+ * <ul>
+ * <li>{@link Overflow#DROP}: the event is dropped and counted.</li>
+ * <li>{@link Overflow#BLOCK}: the worker waits until the listener thread
+ * frees a slot, so no event is lost but slow listeners slow down
+ * tasks.</li>
+ * <li>{@link Overflow#SAMPLE}: once the buffer is more than half full, only
+ * one event in every {@link #sampleRate()} is published; the others, and
+ * any event that finds the buffer full, are dropped and counted.</li>
+ * </ul>
+ *
+ * <p>
+ * Listeners always run on the single listener thread, so they need not be
+ * thread-safe with respect to each other, but they no longer run on the
+ * thread that executed the task.
+ *
+ * <p>
+ * This class is immutable and thread-safe.
+ *
+ * @see com.github.frosxt.chronos.api.spec.builder.SchedulerSpecBuilder#asyncListeners(AsyncListenerPolicy)
+ */
+public final class AsyncListenerPolicy {
+
+    /**
+     * The largest supported buffer capacity.
+     */
+    public static final int MAX_CAPACITY = 1 << 30;
+
+    /**
+     * What happens to a listener event published while the buffer is full.
+     */
+    public enum Overflow {
+        /**
+         * Drop the event.
+         */
+        DROP,
+
+        /**
+         * Wait for a free slot.
+         */
+        BLOCK,
+
+        /**
+         * Thin out events once the buffer is half full, then drop.
+         */
+        SAMPLE
+    }
+
+    private final int capacity;
+    private final Overflow overflow;
+    private final int sampleRate;
+
+    private AsyncListenerPolicy(final int capacity, final Overflow overflow, final int sampleRate) {
+        this.capacity = capacity;
+        this.overflow = overflow;
+        this.sampleRate = sampleRate;
+    }
+
+    /**
+     * Returns a policy that drops events when the buffer is full.
+     *
+     * @param capacity the number of buffered events, rounded up to a power of
+     *                 two (must be between 1 and {@link #MAX_CAPACITY})
+     * @return the listener policy
+     * @throws IllegalArgumentException if capacity is out of range
+     */
+    public static AsyncListenerPolicy dropping(final int capacity) {
+        return new AsyncListenerPolicy(validate(capacity), Overflow.DROP, 1);
+    }
+
+    /**
+     * Returns a policy that makes workers wait when the buffer is full.
+     *
+     * @param capacity the number of buffered events, rounded up to a power of
+     *                 two (must be between 1 and {@link #MAX_CAPACITY})
+     * @return the listener policy
+     * @throws IllegalArgumentException if capacity is out of range
+     */
+    public static AsyncListenerPolicy blocking(final int capacity) {
+        return new AsyncListenerPolicy(validate(capacity), Overflow.BLOCK, 1);
+    }
+
+    /**
+     * Returns a policy that samples events once the buffer is half full.
+     *
+     * @param capacity   the number of buffered events, rounded up to a power
+     *                   of two (must be between 1 and {@link #MAX_CAPACITY})
+     * @param sampleRate publish one event in this many while the buffer is
+     *                   more than half full (must be at least 2)
+     * @return the listener policy
+     * @throws IllegalArgumentException if capacity is out of range or
+     *                                  sampleRate is less than 2
+     */
+    public static AsyncListenerPolicy sampling(final int capacity, final int sampleRate) {
+        if (sampleRate < 2) {
+            throw new IllegalArgumentException("sampleRate must be at least 2");
+        }
+        return new AsyncListenerPolicy(validate(capacity), Overflow.SAMPLE, sampleRate);
+    }
+
+    private static int validate(final int capacity) {
+        if (capacity < 1 || capacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("capacity must be between 1 and " + MAX_CAPACITY);
+        }
+        return capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+    }
+
+    /**
+     * Returns the number of events the buffer holds.
+     *
+     * @return the buffer capacity, a power of two
+     */
+    public int capacity() {
+        return capacity;
+    }
+
+    /**
+     * Returns what happens to an event published while the buffer is full.
+     *
+     * @return the overflow mode
+     */
+    public Overflow overflow() {
+        return overflow;
+    }
+
+    /**
+     * Returns how many events are published for one kept while sampling.
+     *
+     * @return the sample rate, or 1 if the overflow mode is not
+     *         {@link Overflow#SAMPLE}
+     */
+    public int sampleRate() {
+        return sampleRate;
+    }
+
+    @Override
+    public String toString() {
+        return "AsyncListenerPolicy[capacity=" + capacity
+                + ", overflow=" + overflow
+                + (overflow == Overflow.SAMPLE ? ", sampleRate=" + sampleRate : "")
+                + "]";
+    }
+}
@@ -0,0 +1,187 @@
+package com.github.frosxt.chronos.api.policy;
+
+import java.time.Duration;
+
+/**
+ * Limits how many executions of a task group run at once.
+ *
+ * <p>
+ * An execution that fires while the group is at its concurrency limit waits
+ * in the group's bounded ready queue and starts as soon as a running
+ * execution of the group finishes. When the queue is full as well, the
+ * overflow action decides what happens:
+ * <ul>
+ * <li>{@link Overflow#DELAY}: the execution fires again after a fixed
+ * delay.</li>
+ * <li>{@link Overflow#DROP}: the execution is dropped. A recurring task
+ * waits for its next execution time; a one-shot task is cancelled.</li>
+ * <li>{@link Overflow#CALLER_RUNS}: the execution runs at once on the thread
+ * that fired it, beyond the group's limit.</li>
+ * </ul>
+ *
+ * <p>
+ * The bulkhead bounds the threads a group occupies, so for asynchronous
+ * tasks it limits how many are being started, not how many are in flight.
+ * Tasks with an overlapping overrun policy cannot be scheduled in a group
+ * with a bulkhead.
+ *
+ * <p>
+ * This class is immutable and thread-safe.
+ */
+public final class BulkheadPolicy {
+
+    /**
+     * The action taken when both the concurrency limit and the ready queue
+     * are exhausted.
+     */
+    public enum Overflow {
+        /**
+         * Fire the execution again after the overflow delay.
+         */
+        DELAY,
+
+        /**
+         * Drop the execution.
+         */
+        DROP,
+
+        /**
+         * Run the execution on the firing thread.
+         */
+        CALLER_RUNS
+    }
+
+    private final int maxConcurrent;
+    private final int queueCapacity;
+    private final Overflow overflow;
+    private final long overflowDelayNanos;
+
+    private BulkheadPolicy(final int maxConcurrent, final int queueCapacity, final Overflow overflow,
+                           final long overflowDelayNanos) {
+        this.maxConcurrent = maxConcurrent;
+        this.queueCapacity = queueCapacity;
+        this.overflow = overflow;
+        this.overflowDelayNanos = overflowDelayNanos;
+    }
+
+    /**
+     * Returns a policy that fires overflowing executions again after a delay.
+     *
+     * @param maxConcurrent the maximum number of running executions (must be
+     *                      at least 1)
+     * @param queueCapacity the maximum number of waiting executions (must not
+     *                      be negative)
+     * @param delay         how long an overflowing execution is put back
+     * @return the bulkhead policy
+     * @throws NullPointerException     if delay is null
+     * @throws IllegalArgumentException if maxConcurrent is less than 1,
+     *                                  queueCapacity is negative, or delay is
+     *                                  not positive
+     */
+    public static BulkheadPolicy delaying(final int maxConcurrent, final int queueCapacity, final Duration delay) {
+        if (delay == null) {
+            throw new NullPointerException("delay must not be null");
+        }
+        validate(maxConcurrent, queueCapacity);
+        if (delay.isNegative() || delay.isZero()) {
+            throw new IllegalArgumentException("delay must be positive");
+        }
+        return new BulkheadPolicy(maxConcurrent, queueCapacity, Overflow.DELAY, toNanosSafe(delay));
+    }
+
+    /**
+     * Returns a policy that drops overflowing executions.
+     *
+     * @param maxConcurrent the maximum number of running executions (must be
+     *                      at least 1)
+     * @param queueCapacity the maximum number of waiting executions (must not
+     *                      be negative)
+     * @return the bulkhead policy
+     * @throws IllegalArgumentException if maxConcurrent is less than 1 or
+     *                                  queueCapacity is negative
+     */
+    public static BulkheadPolicy dropping(final int maxConcurrent, final int queueCapacity) {
+        validate(maxConcurrent, queueCapacity);
+        return new BulkheadPolicy(maxConcurrent, queueCapacity, Overflow.DROP, 0);
+    }
+
+    /**
+     * Returns a policy that runs overflowing executions on the firing thread.
+     *
+     * @param maxConcurrent the maximum number of running executions (must be
+     *                      at least 1)
+     * @param queueCapacity the maximum number of waiting executions (must not
+     *                      be negative)
+     * @return the bulkhead policy
+     * @throws IllegalArgumentException if maxConcurrent is less than 1 or
+     *                                  queueCapacity is negative
+     */
+    public static BulkheadPolicy callerRuns(final int maxConcurrent, final int queueCapacity) {
+        validate(maxConcurrent, queueCapacity);
+        return new BulkheadPolicy(maxConcurrent, queueCapacity, Overflow.CALLER_RUNS, 0);
+    }
+
+    private static void validate(final int maxConcurrent, final int queueCapacity) {
+        if (maxConcurrent < 1) {
+            throw new IllegalArgumentException("maxConcurrent must be at least 1");
+        }
+        if (queueCapacity < 0) {
+            throw new IllegalArgumentException("queueCapacity must not be negative");
+        }
+    }
+
+    private static long toNanosSafe(final Duration duration) {
+        try {
+            return duration.toNanos();
+        } catch (final ArithmeticException e) {
+            throw new IllegalArgumentException("Duration too large to convert to nanoseconds", e);
+        }
+    }
+
+    /**
+     * Returns the maximum number of executions of the group that run at once.
+     *
+     * @return the concurrency limit
+     */
+    public int maxConcurrent() {
+        return maxConcurrent;
+    }
+
+    /**
+     * Returns the maximum number of executions waiting for a free slot.
+     *
+     * @return the ready queue capacity
+     */
+    public int queueCapacity() {
+        return queueCapacity;
+    }
+
+    /**
+     * Returns the action taken when the queue is full.
+     *
+     * @return the overflow action
+     */
+    public Overflow overflow() {
+        return overflow;
+    }
+
+    /**
+     * Returns how long a delayed overflowing execution is put back.
+     *
+     * @return the overflow delay in nanoseconds, or 0 if the overflow action
+     *         is not {@link Overflow#DELAY}
+     */
+    public long overflowDelayNanos() {
+        return overflowDelayNanos;
+    }
+
+    @Override
+    public String toString() {
+        return switch (overflow) {
+            case DELAY -> "BulkheadPolicy[maxConcurrent=" + maxConcurrent + ", queueCapacity=" + queueCapacity
+                    + ", overflow=DELAY, delay=" + Duration.ofNanos(overflowDelayNanos) + "]";
+            case DROP, CALLER_RUNS -> "BulkheadPolicy[maxConcurrent=" + maxConcurrent + ", queueCapacity=" + queueCapacity
+                    + ", overflow=" + overflow + "]";
+        };
+    }
+}
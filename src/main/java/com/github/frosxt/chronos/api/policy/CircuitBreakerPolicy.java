@@ -0,0 +1,120 @@
+package com.github.frosxt.chronos.api.policy;
+
+import java.time.Duration;
+
+/**
+ * Defines when a task group's circuit breaker opens and what happens to
+ * executions while it is open.
+ *
+ * <p>
+ * The breaker opens after {@code failureThreshold} consecutive failures across
+ * the group. While open, executions are short-circuited before the task is
+ * invoked and no retries are scheduled. Once {@code openDuration} has elapsed,
+ * a single probe execution is admitted: success closes the breaker, failure
+ * opens it again.
+ *
+ * <p>
+ * This class is immutable and thread-safe.
+ */
+public final class CircuitBreakerPolicy {
+
+    /**
+     * The behavior applied to executions rejected by an open breaker.
+     */
+    public enum OpenAction {
+        /**
+         * Skip the execution. The task is re-armed for the later of its next
+         * trigger time and the breaker's next probe window.
+         */
+        SKIP,
+
+        /**
+         * Fail the execution with a
+         * {@link com.github.frosxt.chronos.api.group.CircuitOpenException}, which is
+         * handled by the task's execution policy. Retries are never granted while
+         * the breaker is open.
+         */
+        FAIL
+    }
+
+    private final int failureThreshold;
+    private final long openDurationNanos;
+    private final OpenAction openAction;
+
+    private CircuitBreakerPolicy(final int failureThreshold, final long openDurationNanos, final OpenAction openAction) {
+        this.failureThreshold = failureThreshold;
+        this.openDurationNanos = openDurationNanos;
+        this.openAction = openAction;
+    }
+
+    /**
+     * Creates a circuit breaker policy.
+     *
+     * @param failureThreshold the number of consecutive failures that opens the
+     *                         breaker (must be at least 1)
+     * @param openDuration     how long the breaker stays open before admitting a
+     *                         probe
+     * @param openAction       the behavior for rejected executions
+     * @return the circuit breaker policy
+     * @throws NullPointerException     if openDuration or openAction is null
+     * @throws IllegalArgumentException if failureThreshold is less than 1 or
+     *                                  openDuration is not positive
+     */
+    public static CircuitBreakerPolicy of(final int failureThreshold, final Duration openDuration, final OpenAction openAction) {
+        if (openDuration == null) {
+            throw new NullPointerException("openDuration must not be null");
+        }
+        if (openAction == null) {
+            throw new NullPointerException("openAction must not be null");
+        }
+        if (failureThreshold < 1) {
+            throw new IllegalArgumentException("failureThreshold must be at least 1");
+        }
+        if (openDuration.isNegative() || openDuration.isZero()) {
+            throw new IllegalArgumentException("openDuration must be positive");
+        }
+        return new CircuitBreakerPolicy(failureThreshold, toNanosSafe(openDuration), openAction);
+    }
+
+    private static long toNanosSafe(final Duration duration) {
+        try {
+            return duration.toNanos();
+        } catch (final ArithmeticException e) {
+            throw new IllegalArgumentException("Duration too large to convert to nanoseconds", e);
+        }
+    }
+
+    /**
+     * Returns the number of consecutive failures that opens the breaker.
+     *
+     * @return the failure threshold
+     */
+    public int failureThreshold() {
+        return failureThreshold;
+    }
+
+    /**
+     * Returns how long the breaker stays open, in nanoseconds.
+     *
+     * @return the open duration
+     */
+    public long openDurationNanos() {
+        return openDurationNanos;
+    }
+
+    /**
+     * Returns the behavior for rejected executions.
+     *
+     * @return the open action
+     */
+    public OpenAction openAction() {
+        return openAction;
+    }
+
+    @Override
+    public String toString() {
+        return "CircuitBreakerPolicy[threshold=" + failureThreshold +
+                ", open=" + Duration.ofNanos(openDurationNanos) +
+                ", action=" + openAction + "]";
+    }
+}
@@ -1,5 +1,8 @@
 package com.github.frosxt.chronos.api.policy;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * Defines how task failures should be handled.
  *
@@ -8,6 +11,21 @@ package com.github.frosxt.chronos.api.policy;
  * or retry when an exception occurs during execution.
  *
  * <p>
+ * A policy may carry an ordered list of {@link FailureRule}s that override
+ * its behavior for specific exception types, for example to retry transient
+ * I/O errors while failing fast on programming errors:
+ *
+ * <pre>{@code
+ * ExecutionPolicy.continueOnFailure()
+ *         .retryOn(SocketTimeoutException.class, RetryPolicy.fixedDelay(Duration.ofSeconds(1), 3))
+ *         .failOn(NullPointerException.class);
+ * }</pre>
+ *
+ * <p>
+ * The first matching rule wins; exceptions matching no rule use the policy's
+ * own behavior. Matches are cached per exception class.
+ *
+ * <p>
  * This class is immutable and thread-safe.
  */
 public final class ExecutionPolicy {
@@ -33,15 +51,31 @@ public final class ExecutionPolicy {
         RETRY
     }
 
-    private static final ExecutionPolicy STOP_ON_FAILURE = new ExecutionPolicy(Type.STOP_ON_FAILURE, null);
-    private static final ExecutionPolicy CONTINUE_ON_FAILURE = new ExecutionPolicy(Type.CONTINUE_ON_FAILURE, null);
+    private static final ExecutionPolicy STOP_ON_FAILURE = new ExecutionPolicy(Type.STOP_ON_FAILURE, null, List.of());
+    private static final ExecutionPolicy CONTINUE_ON_FAILURE = new ExecutionPolicy(Type.CONTINUE_ON_FAILURE, null, List.of());
 
     private final Type type;
     private final RetryPolicy retryPolicy;
+    private final List<FailureRule> rules;
+    private final FailureRule defaultRule;
+    private final ClassValue<FailureRule> classification;
 
-    private ExecutionPolicy(final Type type, final RetryPolicy retryPolicy) {
+    private ExecutionPolicy(final Type type, final RetryPolicy retryPolicy, final List<FailureRule> rules) {
         this.type = type;
         this.retryPolicy = retryPolicy;
+        this.rules = rules;
+        this.defaultRule = new FailureRule(Throwable.class, type, retryPolicy);
+        this.classification = rules.isEmpty() ? null : new ClassValue<>() {
+            @Override
+            protected FailureRule computeValue(final Class<?> exceptionType) {
+                for (final FailureRule rule : ExecutionPolicy.this.rules) {
+                    if (rule.matches(exceptionType)) {
+                        return rule;
+                    }
+                }
+                return defaultRule;
+            }
+        };
     }
 
     /**
@@ -83,7 +117,61 @@ public final class ExecutionPolicy {
         if (retryPolicy == null) {
             throw new NullPointerException("retryPolicy must not be null");
         }
-        return new ExecutionPolicy(Type.RETRY, retryPolicy);
+        return new ExecutionPolicy(Type.RETRY, retryPolicy, List.of());
+    }
+
+    /**
+     * Returns a copy of this policy that retries exceptions of the given type
+     * with the given retry policy.
+     *
+     * <p>
+     * Retry attempts are counted per task across all rules, so the matched
+     * policy's {@link RetryPolicy#maxAttempts()} bounds the total number of
+     * consecutive retries.
+     *
+     * @param exceptionType the exception type to match, including subclasses
+     * @param retryPolicy   the retry policy to apply
+     * @return the new execution policy
+     * @throws NullPointerException if any argument is null
+     */
+    public ExecutionPolicy retryOn(final Class<? extends Throwable> exceptionType, final RetryPolicy retryPolicy) {
+        if (retryPolicy == null) {
+            throw new NullPointerException("retryPolicy must not be null");
+        }
+        return withRule(exceptionType, Type.RETRY, retryPolicy);
+    }
+
+    /**
+     * Returns a copy of this policy that continues to the next scheduled
+     * execution on exceptions of the given type.
+     *
+     * @param exceptionType the exception type to match, including subclasses
+     * @return the new execution policy
+     * @throws NullPointerException if exceptionType is null
+     */
+    public ExecutionPolicy continueOn(final Class<? extends Throwable> exceptionType) {
+        return withRule(exceptionType, Type.CONTINUE_ON_FAILURE, null);
+    }
+
+    /**
+     * Returns a copy of this policy that fails the task immediately on
+     * exceptions of the given type, without retrying.
+     *
+     * @param exceptionType the exception type to match, including subclasses
+     * @return the new execution policy
+     * @throws NullPointerException if exceptionType is null
+     */
+    public ExecutionPolicy failOn(final Class<? extends Throwable> exceptionType) {
+        return withRule(exceptionType, Type.STOP_ON_FAILURE, null);
+    }
+
+    private ExecutionPolicy withRule(final Class<? extends Throwable> exceptionType, final Type action, final RetryPolicy rulePolicy) {
+        if (exceptionType == null) {
+            throw new NullPointerException("exceptionType must not be null");
+        }
+        final List<FailureRule> newRules = new ArrayList<>(rules);
+        newRules.add(new FailureRule(exceptionType, action, rulePolicy));
+        return new ExecutionPolicy(type, retryPolicy, List.copyOf(newRules));
     }
 
     /**
@@ -104,11 +192,56 @@ public final class ExecutionPolicy {
         return retryPolicy;
     }
 
+    /**
+     * Returns the exception rules of this policy, in evaluation order.
+     *
+     * @return an unmodifiable list of rules
+     */
+    public List<FailureRule> rules() {
+        return rules;
+    }
+
+    /**
+     * Returns whether any failure can be retried under this policy, either
+     * by the policy itself or by one of its rules.
+     *
+     * @return true if this policy or one of its rules retries
+     */
+    public boolean retries() {
+        if (type == Type.RETRY) {
+            return true;
+        }
+        for (final FailureRule rule : rules) {
+            if (rule.action() == Type.RETRY) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the rule that applies to the given failure.
+     *
+     * <p>
+     * If no rule matches, a rule carrying this policy's own type and retry
+     * policy is returned.
+     *
+     * @param error the failure
+     * @return the applicable rule, never null
+     */
+    public FailureRule classify(final Throwable error) {
+        if (classification == null || error == null) {
+            return defaultRule;
+        }
+        return classification.get(error.getClass());
+    }
+
     @Override
     public String toString() {
-        if (type == Type.RETRY) {
-            return "ExecutionPolicy[RETRY, " + retryPolicy + "]";
+        final String base = type == Type.RETRY ? "RETRY, " + retryPolicy : type.toString();
+        if (rules.isEmpty()) {
+            return "ExecutionPolicy[" + base + "]";
         }
-        return "ExecutionPolicy[" + type + "]";
+        return "ExecutionPolicy[" + base + ", rules=" + rules + "]";
     }
 }
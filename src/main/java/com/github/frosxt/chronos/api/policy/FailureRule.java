@@ -0,0 +1,74 @@
+package com.github.frosxt.chronos.api.policy;
+
+/**
+ * Maps a class of exceptions to a failure handling behavior.
+ *
+ * <p>
+ * Rules are attached to an {@link ExecutionPolicy} and evaluated in order;
+ * the first rule whose exception type is assignable from the thrown exception
+ * decides how the failure is handled.
+ *
+ * <p>
+ * This class is immutable and thread-safe.
+ *
+ * @see ExecutionPolicy#retryOn(Class, RetryPolicy)
+ * @see ExecutionPolicy#continueOn(Class)
+ * @see ExecutionPolicy#failOn(Class)
+ */
+public final class FailureRule {
+    private final Class<? extends Throwable> exceptionType;
+    private final ExecutionPolicy.Type action;
+    private final RetryPolicy retryPolicy;
+
+    FailureRule(final Class<? extends Throwable> exceptionType, final ExecutionPolicy.Type action, final RetryPolicy retryPolicy) {
+        this.exceptionType = exceptionType;
+        this.action = action;
+        this.retryPolicy = retryPolicy;
+    }
+
+    /**
+     * Returns the exception type matched by this rule, including subclasses.
+     *
+     * @return the exception type
+     */
+    public Class<? extends Throwable> exceptionType() {
+        return exceptionType;
+    }
+
+    /**
+     * Returns the failure handling behavior applied on a match.
+     *
+     * @return the action
+     */
+    public ExecutionPolicy.Type action() {
+        return action;
+    }
+
+    /**
+     * Returns the retry policy applied on a match.
+     *
+     * @return the retry policy, or null if the action is not
+     *         {@link ExecutionPolicy.Type#RETRY}
+     */
+    public RetryPolicy retryPolicy() {
+        return retryPolicy;
+    }
+
+    /**
+     * Returns whether this rule matches the given exception type.
+     *
+     * @param type the exception type
+     * @return true if the type is the rule's type or a subclass of it
+     */
+    public boolean matches(final Class<?> type) {
+        return exceptionType.isAssignableFrom(type);
+    }
+
+    @Override
+    public String toString() {
+        if (action == ExecutionPolicy.Type.RETRY) {
+            return exceptionType.getName() + " -> RETRY(" + retryPolicy + ")";
+        }
+        return exceptionType.getName() + " -> " + action;
+    }
+}
@@ -1,22 +1,81 @@
 package com.github.frosxt.chronos.api.policy;
 
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
 
 /**
  * Applies randomized jitter to retry delays.
  *
  * <p>
  * Jitter helps prevent thundering herd problems when multiple tasks
- * retry simultaneously.
+ * retry simultaneously. The following strategies are available:
+ * <ul>
+ * <li>{@link #uniform(double)} - symmetric noise of {@code +/- factor*delay}</li>
+ * <li>{@link #full()} - a random delay in {@code [0, delay]}</li>
+ * <li>{@link #equal()} - half the delay plus a random delay in
+ * {@code [0, delay/2]}</li>
+ * <li>{@link #decorrelated()} - a random delay in
+ * {@code [initialDelay, previousDelay*3]}, capped at the maximum delay</li>
+ * <li>{@link #gaussian(double)} - normally distributed noise with a standard
+ * deviation of {@code factor*delay}</li>
+ * </ul>
+ *
+ * <p>
+ * The scheduler draws from a per-task random generator, which can be seeded
+ * through the scheduler specification for reproducible simulations.
  *
  * <p>
  * This class is immutable and thread-safe.
  */
 public final class Jitter {
-    private static final Jitter NONE = new Jitter(0.0);
+
+    /**
+     * The jitter strategy.
+     */
+    public enum Type {
+        /**
+         * No randomization.
+         */
+        NONE,
+
+        /**
+         * Symmetric uniform noise around the delay.
+         */
+        UNIFORM,
+
+        /**
+         * A uniformly random delay between zero and the delay.
+         */
+        FULL,
+
+        /**
+         * Half the delay plus a uniformly random delay up to the other half.
+         */
+        EQUAL,
+
+        /**
+         * A random delay grown from the previous delay rather than the attempt
+         * number.
+         */
+        DECORRELATED,
+
+        /**
+         * Normally distributed noise around the delay.
+         */
+        GAUSSIAN
+    }
+
+    private static final Jitter NONE = new Jitter(Type.NONE, 0.0);
+    private static final Jitter FULL = new Jitter(Type.FULL, 0.0);
+    private static final Jitter EQUAL = new Jitter(Type.EQUAL, 0.0);
+    private static final Jitter DECORRELATED = new Jitter(Type.DECORRELATED, 0.0);
+    private static final long DECORRELATED_GROWTH = 3;
+
+    private final Type type;
     private final double factor;
 
-    private Jitter(final double factor) {
+    private Jitter(final Type type, final double factor) {
+        this.type = type;
         this.factor = factor;
     }
 
@@ -47,13 +106,78 @@ public final class Jitter {
         if (factor == 0.0) {
             return NONE;
         }
-        return new Jitter(factor);
+        return new Jitter(Type.UNIFORM, factor);
+    }
+
+    /**
+     * Returns a jitter that replaces the delay with a random value in
+     * {@code [0, delay]}.
+     *
+     * @return the full-jitter instance
+     */
+    public static Jitter full() {
+        return FULL;
+    }
+
+    /**
+     * Returns a jitter that keeps half the delay and randomizes the other half.
+     *
+     * @return the equal-jitter instance
+     */
+    public static Jitter equal() {
+        return EQUAL;
+    }
+
+    /**
+     * Returns a jitter that derives each delay from the previous one.
+     *
+     * <p>
+     * Each retry waits a random delay in
+     * {@code [initialDelay, previousDelay*3]}, capped at the retry policy's
+     * maximum delay. The attempt number and multiplier of the retry policy are
+     * not used.
+     *
+     * @return the decorrelated-jitter instance
+     */
+    public static Jitter decorrelated() {
+        return DECORRELATED;
+    }
+
+    /**
+     * Returns a jitter that applies normally distributed noise.
+     *
+     * <p>
+     * The delay is adjusted by a random value with a mean of zero and a
+     * standard deviation of {@code factor*delay}.
+     *
+     * @param factor the relative standard deviation in the range [0.0, 1.0]
+     * @return the jitter instance
+     * @throws IllegalArgumentException if factor is not in [0.0, 1.0]
+     */
+    public static Jitter gaussian(final double factor) {
+        if (factor < 0.0 || factor > 1.0) {
+            throw new IllegalArgumentException("factor must be in range [0.0, 1.0]");
+        }
+        if (factor == 0.0) {
+            return NONE;
+        }
+        return new Jitter(Type.GAUSSIAN, factor);
+    }
+
+    /**
+     * Returns the jitter strategy.
+     *
+     * @return the type
+     */
+    public Type type() {
+        return type;
     }
 
     /**
      * Returns the jitter factor.
      *
-     * @return the factor in range [0.0, 1.0]
+     * @return the factor in range [0.0, 1.0], or 0.0 for strategies without a
+     *         factor
      */
     public double factor() {
         return factor;
@@ -62,26 +186,82 @@ public final class Jitter {
     /**
      * Applies jitter to a delay value.
      *
+     * <p>
+     * Decorrelated jitter treats the delay as both the initial and the previous
+     * delay. Use {@link #apply(RetryPolicy, int, long, RandomGenerator)} to grow
+     * delays across attempts.
+     *
      * @param delayNanos the original delay in nanoseconds
      * @return the jittered delay in nanoseconds (always positive)
      */
     public long apply(final long delayNanos) {
-        if (factor == 0.0 || delayNanos <= 0) {
+        return apply(delayNanos, delayNanos, delayNanos, delayNanos, ThreadLocalRandom.current());
+    }
+
+    /**
+     * Computes the jittered delay for a retry attempt.
+     *
+     * @param policy             the retry policy providing the base delay and
+     *                           bounds
+     * @param attemptNumber      the attempt number (1-based, first retry is 1)
+     * @param previousDelayNanos the previous jittered delay, or a non-positive
+     *                           value if this is the first retry
+     * @param random             the random generator to draw from
+     * @return the jittered delay in nanoseconds
+     */
+    public long apply(final RetryPolicy policy, final int attemptNumber, final long previousDelayNanos, final RandomGenerator random) {
+        return apply(policy.delayNanosForAttempt(attemptNumber),
+                policy.initialDelayNanos(),
+                policy.maxDelayNanos(),
+                previousDelayNanos,
+                random);
+    }
+
+    private long apply(final long delayNanos, final long minNanos, final long maxNanos, final long previousDelayNanos, final RandomGenerator random) {
+        if (type == Type.NONE || delayNanos <= 0) {
             return delayNanos;
         }
 
-        final double jitterRange = factor * delayNanos;
-        final double jitter = ThreadLocalRandom.current().nextDouble(-jitterRange, jitterRange);
-        final long jitteredDelay = (long) (delayNanos + jitter);
+        switch (type) {
+            case UNIFORM: {
+                final double jitterRange = factor * delayNanos;
+                final double jitter = random.nextDouble(-jitterRange, jitterRange);
+                return Math.max(1, (long) (delayNanos + jitter));
+            }
+            case FULL:
+                return Math.max(1, random.nextLong(delayNanos + 1));
 
-        return Math.max(1, jitteredDelay);
+            case EQUAL: {
+                final long half = delayNanos / 2;
+                return Math.max(1, delayNanos - half + random.nextLong(half + 1));
+            }
+            case DECORRELATED: {
+                final long previous = previousDelayNanos > 0 ? previousDelayNanos : minNanos;
+                final long upper = previous > maxNanos / DECORRELATED_GROWTH ? maxNanos : Math.min(maxNanos, previous * DECORRELATED_GROWTH);
+                if (upper <= minNanos) {
+                    return minNanos;
+                }
+                return random.nextLong(minNanos, upper + 1);
+            }
+            case GAUSSIAN:
+                return Math.max(1, (long) (delayNanos + random.nextGaussian() * factor * delayNanos));
+
+            default:
+                return delayNanos;
+        }
     }
 
     @Override
     public String toString() {
-        if (factor == 0.0) {
-            return "Jitter[NONE]";
+        switch (type) {
+            case NONE:
+                return "Jitter[NONE]";
+            case UNIFORM:
+                return "Jitter[uniform=" + factor + "]";
+            case GAUSSIAN:
+                return "Jitter[gaussian=" + factor + "]";
+            default:
+                return "Jitter[" + type + "]";
         }
-        return "Jitter[uniform=" + factor + "]";
     }
 }
@@ -0,0 +1,156 @@
+package com.github.frosxt.chronos.api.policy;
+
+/**
+ * Controls what a fixed-rate task does when an execution overruns its period.
+ *
+ * <p>
+ * Fixed-rate executions are planned on aligned slots
+ * {@code initialScheduleTime + n * period}. When an execution ends after the
+ * next slot has passed, the policy decides how the missed slots are handled:
+ * <ul>
+ * <li>{@link Mode#CATCH_UP}: missed slots run back to back until the task is
+ * on schedule again, optionally bounded to a maximum burst. This is the
+ * default.</li>
+ * <li>{@link Mode#SKIP}: missed slots are skipped and the task resumes at the
+ * next aligned slot.</li>
+ * <li>{@link Mode#OVERLAP}: every slot starts on time, even while earlier
+ * executions are still running, up to a maximum number in flight. Slots that
+ * would exceed the limit are skipped.</li>
+ * </ul>
+ *
+ * <p>
+ * Skipped and overlapped executions are counted in the scheduler snapshot.
+ *
+ * <p>
+ * This class is immutable and thread-safe.
+ */
+public final class OverrunPolicy {
+    private static final OverrunPolicy CATCH_UP = new OverrunPolicy(Mode.CATCH_UP, Integer.MAX_VALUE, 1);
+    private static final OverrunPolicy SKIP = new OverrunPolicy(Mode.SKIP, 0, 1);
+
+    /**
+     * The overrun mode.
+     */
+    public enum Mode {
+        /**
+         * Run missed slots back to back.
+         */
+        CATCH_UP,
+
+        /**
+         * Skip missed slots and resume at the next aligned slot.
+         */
+        SKIP,
+
+        /**
+         * Start every slot on time, overlapping running executions.
+         */
+        OVERLAP
+    }
+
+    private final Mode mode;
+    private final int maxBurst;
+    private final int maxConcurrent;
+
+    private OverrunPolicy(final Mode mode, final int maxBurst, final int maxConcurrent) {
+        this.mode = mode;
+        this.maxBurst = maxBurst;
+        this.maxConcurrent = maxConcurrent;
+    }
+
+    /**
+     * Returns a policy that runs every missed slot back to back.
+     *
+     * @return the catch-up policy
+     */
+    public static OverrunPolicy catchUp() {
+        return CATCH_UP;
+    }
+
+    /**
+     * Returns a policy that runs at most {@code maxBurst} missed slots back to
+     * back and skips the rest.
+     *
+     * @param maxBurst the maximum number of late executions after an overrun
+     *                 (must be at least 1)
+     * @return the bounded catch-up policy
+     * @throws IllegalArgumentException if maxBurst is less than 1
+     */
+    public static OverrunPolicy catchUp(final int maxBurst) {
+        if (maxBurst < 1) {
+            throw new IllegalArgumentException("maxBurst must be at least 1");
+        }
+        return new OverrunPolicy(Mode.CATCH_UP, maxBurst, 1);
+    }
+
+    /**
+     * Returns a policy that skips missed slots.
+     *
+     * @return the skip policy
+     */
+    public static OverrunPolicy skip() {
+        return SKIP;
+    }
+
+    /**
+     * Returns a policy that starts every slot on time with up to
+     * {@code maxConcurrent} executions in flight.
+     *
+     * <p>
+     * Concurrency is also bounded by the scheduler's thread count.
+     * Overlapping executions are not retried, timed out, prioritized, shed
+     * or bounded by a group bulkhead, so a task spec that combines this
+     * policy with a retrying execution policy, a timeout, a priority, load
+     * shedding or an execution key is rejected when it is built, and such a
+     * task cannot be scheduled in a group with a bulkhead.
+     *
+     * @param maxConcurrent the maximum number of executions in flight (must
+     *                      be at least 1)
+     * @return the overlap policy
+     * @throws IllegalArgumentException if maxConcurrent is less than 1
+     */
+    public static OverrunPolicy overlap(final int maxConcurrent) {
+        if (maxConcurrent < 1) {
+            throw new IllegalArgumentException("maxConcurrent must be at least 1");
+        }
+        return new OverrunPolicy(Mode.OVERLAP, 0, maxConcurrent);
+    }
+
+    /**
+     * Returns the overrun mode.
+     *
+     * @return the mode
+     */
+    public Mode mode() {
+        return mode;
+    }
+
+    /**
+     * Returns the maximum number of late executions after an overrun.
+     *
+     * @return the maximum burst for {@link Mode#CATCH_UP}, otherwise 0
+     */
+    public int maxBurst() {
+        return maxBurst;
+    }
+
+    /**
+     * Returns the maximum number of executions in flight.
+     *
+     * @return the maximum concurrency for {@link Mode#OVERLAP}, otherwise 1
+     */
+    public int maxConcurrent() {
+        return maxConcurrent;
+    }
+
+    @Override
+    public String toString() {
+        return switch (mode) {
+            case CATCH_UP -> maxBurst == Integer.MAX_VALUE
+                    ? "OverrunPolicy[CATCH_UP]"
+                    : "OverrunPolicy[CATCH_UP, maxBurst=" + maxBurst + "]";
+            case SKIP -> "OverrunPolicy[SKIP]";
+            case OVERLAP -> "OverrunPolicy[OVERLAP, maxConcurrent=" + maxConcurrent + "]";
+        };
+    }
+}
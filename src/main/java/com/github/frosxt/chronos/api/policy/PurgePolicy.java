@@ -0,0 +1,39 @@
+package com.github.frosxt.chronos.api.policy;
+
+/**
+ * Controls when the timers of cancelled tasks leave the scheduler's timer
+ * queue.
+ *
+ * <p>
+ * A cancelled timer that stays queued holds its task until the time it would
+ * have fired. Workloads that cancel most tasks before they fire, such as
+ * request timeouts, can accumulate millions of these dead entries; the
+ * scheduler snapshot reports them as
+ * {@link com.github.frosxt.chronos.api.SchedulerSnapshot#cancelledTimerCount()}.
+ *
+ * @see com.github.frosxt.chronos.api.spec.builder.SchedulerSpecBuilder#purgePolicy(PurgePolicy)
+ */
+public enum PurgePolicy {
+
+    /**
+     * Leave cancelled timers in the queue until they would have fired. Cancel
+     * does no queue work. This is the default.
+     */
+    LAZY,
+
+    /**
+     * Remove a cancelled timer from the queue as part of the cancel, at
+     * logarithmic cost in the queue size.
+     */
+    IMMEDIATE,
+
+    /**
+     * Count cancelled timers and purge the whole queue once they reach half
+     * of the queue's live entries. Purging is linear in the queue size but
+     * runs only after a proportional number of cancels, so its amortized cost
+     * per cancel is constant, and dead entries never outnumber half of the
+     * live ones by more than a small fixed batch. The purge runs on a
+     * scheduler thread, not on the thread whose cancel completed the batch.
+     */
+    BATCHED
+}
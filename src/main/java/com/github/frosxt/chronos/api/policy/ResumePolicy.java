@@ -0,0 +1,35 @@
+package com.github.frosxt.chronos.api.policy;
+
+/**
+ * Controls how a paused task catches up on executions that fell due while it
+ * was paused.
+ *
+ * <p>
+ * For fixed-rate tasks, missed executions are the aligned slots that passed
+ * during the pause. Other recurring tasks have at most one missed execution:
+ * the one that became due while paused.
+ *
+ * @see com.github.frosxt.chronos.api.ScheduledHandle#pause()
+ */
+public enum ResumePolicy {
+
+    /**
+     * Drop missed executions and resume at the first planned time after the
+     * task is resumed. Tasks without aligned slots wait one period, or one
+     * delay, from the resume.
+     */
+    SKIP_MISSED,
+
+    /**
+     * If any execution was missed, run once immediately, then continue on
+     * the regular schedule. This is the default.
+     */
+    RUN_ONCE,
+
+    /**
+     * Run missed executions as if the task had fallen behind. Fixed-rate
+     * tasks replay missed slots as allowed by their overrun policy; other
+     * tasks behave as with {@link #RUN_ONCE}.
+     */
+    CATCH_UP
+}
@@ -0,0 +1,70 @@
+package com.github.frosxt.chronos.api.policy;
+
+/**
+ * Limits retries across a task group to a ratio of first attempts.
+ *
+ * <p>
+ * The budget is a token bucket shared by every task in a group. Each first
+ * attempt deposits {@code ratio} tokens, each retry withdraws one token, and
+ * the bucket holds at most {@code maxTokens} tokens. The bucket starts full so
+ * that a quiet group can still retry a burst of failures.
+ *
+ * <p>
+ * When the budget is exhausted, a failure is handled as if the retry policy
+ * had run out of attempts.
+ *
+ * <p>
+ * This class is immutable and thread-safe.
+ */
+public final class RetryBudget {
+    private final double ratio;
+    private final int maxTokens;
+
+    private RetryBudget(final double ratio, final int maxTokens) {
+        this.ratio = ratio;
+        this.maxTokens = maxTokens;
+    }
+
+    /**
+     * Creates a retry budget.
+     *
+     * @param ratio     the number of retries allowed per first attempt, e.g.
+     *                  {@code 0.1} for one retry per ten first attempts
+     * @param maxTokens the capacity of the bucket (must be at least 1)
+     * @return the retry budget
+     * @throws IllegalArgumentException if ratio is not positive and finite or
+     *                                  maxTokens is less than 1
+     */
+    public static RetryBudget of(final double ratio, final int maxTokens) {
+        if (!(ratio > 0.0) || Double.isInfinite(ratio)) {
+            throw new IllegalArgumentException("ratio must be positive and finite");
+        }
+        if (maxTokens < 1) {
+            throw new IllegalArgumentException("maxTokens must be at least 1");
+        }
+        return new RetryBudget(ratio, maxTokens);
+    }
+
+    /**
+     * Returns the number of retries allowed per first attempt.
+     *
+     * @return the ratio
+     */
+    public double ratio() {
+        return ratio;
+    }
+
+    /**
+     * Returns the capacity of the bucket.
+     *
+     * @return the maximum number of tokens
+     */
+    public int maxTokens() {
+        return maxTokens;
+    }
+
+    @Override
+    public String toString() {
+        return "RetryBudget[ratio=" + ratio + ", maxTokens=" + maxTokens + "]";
+    }
+}
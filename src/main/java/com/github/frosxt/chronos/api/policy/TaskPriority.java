@@ -0,0 +1,37 @@
+package com.github.frosxt.chronos.api.policy;
+
+/**
+ * The dispatch priority of a task.
+ *
+ * <p>
+ * When priority dispatch is enabled and the scheduler's workers are
+ * saturated, due executions wait in a dispatch queue and are started in
+ * priority order, then in order of their scheduled time. Aging raises the
+ * effective priority of a waiting execution by one level per aging step, so
+ * lower priorities are delayed but never starved.
+ *
+ * @see com.github.frosxt.chronos.api.spec.builder.SchedulerSpecBuilder#priorityDispatch(java.time.Duration)
+ * @see com.github.frosxt.chronos.api.spec.builder.TaskSpecBuilder#priority(TaskPriority)
+ */
+public enum TaskPriority {
+
+    /**
+     * Latency-critical work such as heartbeats and lease renewals.
+     */
+    CRITICAL,
+
+    /**
+     * Work that should run ahead of ordinary tasks.
+     */
+    HIGH,
+
+    /**
+     * Ordinary work. This is the default.
+     */
+    NORMAL,
+
+    /**
+     * Deferrable work such as reports and cleanup.
+     */
+    LOW
+}
@@ -0,0 +1,35 @@
+package com.github.frosxt.chronos.api.policy;
+
+import java.time.Duration;
+
+/**
+ * Signals that an execution exceeded its {@link TimeoutPolicy}.
+ *
+ * <p>
+ * This exception is passed to listeners and to the execution policy in place
+ * of the execution's own outcome. Instances do not capture a stack trace.
+ */
+public final class TaskTimeoutException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    private final Duration timeout;
+
+    /**
+     * Creates a new exception for the given timeout.
+     *
+     * @param timeout the timeout that was exceeded
+     */
+    public TaskTimeoutException(final Duration timeout) {
+        super("Execution exceeded timeout of " + timeout, null, false, false);
+        this.timeout = timeout;
+    }
+
+    /**
+     * Returns the timeout that was exceeded.
+     *
+     * @return the timeout
+     */
+    public Duration timeout() {
+        return timeout;
+    }
+}
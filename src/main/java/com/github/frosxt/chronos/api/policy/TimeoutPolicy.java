@@ -0,0 +1,130 @@
+package com.github.frosxt.chronos.api.policy;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * Limits how long a single execution of a task may run.
+ *
+ * <p>
+ * When an execution exceeds its timeout it is handled as a failure with a
+ * {@link TaskTimeoutException}, so the execution policy decides whether the
+ * task is retried, continues or fails. The scheduler does not wait for the
+ * overrunning execution to return; if it eventually does, its outcome is
+ * ignored. The action decides what happens to the overrunning execution:
+ * <ul>
+ * <li>{@link Action#INTERRUPT}: the thread running the task is interrupted,
+ * or the stage of an asynchronous task is cancelled.</li>
+ * <li>{@link Action#ABANDON}: the execution is left to run to completion.</li>
+ * </ul>
+ *
+ * <p>
+ * Timeouts are enforced by a shared watchdog with a resolution of a few
+ * milliseconds. They are not enforced for overlapping fixed-rate executions.
+ *
+ * <p>
+ * This class is immutable and thread-safe.
+ */
+public final class TimeoutPolicy {
+
+    /**
+     * What to do with an execution that exceeded its timeout.
+     */
+    public enum Action {
+        /**
+         * Interrupt the executing thread, or cancel the asynchronous stage.
+         */
+        INTERRUPT,
+
+        /**
+         * Leave the execution running and ignore its outcome.
+         */
+        ABANDON
+    }
+
+    private final Duration timeout;
+    private final Action action;
+
+    private TimeoutPolicy(final Duration timeout, final Action action) {
+        this.timeout = timeout;
+        this.action = action;
+    }
+
+    /**
+     * Creates a timeout that interrupts overrunning executions.
+     *
+     * @param timeout the maximum run time (must be positive)
+     * @return the timeout policy
+     * @throws NullPointerException     if timeout is null
+     * @throws IllegalArgumentException if timeout is not positive
+     */
+    public static TimeoutPolicy interrupt(final Duration timeout) {
+        return of(timeout, Action.INTERRUPT);
+    }
+
+    /**
+     * Creates a timeout that abandons overrunning executions.
+     *
+     * @param timeout the maximum run time (must be positive)
+     * @return the timeout policy
+     * @throws NullPointerException     if timeout is null
+     * @throws IllegalArgumentException if timeout is not positive
+     */
+    public static TimeoutPolicy abandon(final Duration timeout) {
+        return of(timeout, Action.ABANDON);
+    }
+
+    /**
+     * Creates a timeout policy.
+     *
+     * @param timeout the maximum run time (must be positive)
+     * @param action  what to do with an overrunning execution
+     * @return the timeout policy
+     * @throws NullPointerException     if timeout or action is null
+     * @throws IllegalArgumentException if timeout is not positive
+     */
+    public static TimeoutPolicy of(final Duration timeout, final Action action) {
+        Objects.requireNonNull(timeout, "timeout must not be null");
+        Objects.requireNonNull(action, "action must not be null");
+        if (timeout.isNegative() || timeout.isZero()) {
+            throw new IllegalArgumentException("timeout must be positive");
+        }
+        return new TimeoutPolicy(timeout, action);
+    }
+
+    /**
+     * Returns the maximum run time.
+     *
+     * @return the timeout
+     */
+    public Duration timeout() {
+        return timeout;
+    }
+
+    /**
+     * Returns what happens to an overrunning execution.
+     *
+     * @return the action
+     */
+    public Action action() {
+        return action;
+    }
+
+    /**
+     * Returns the timeout in nanoseconds, saturating on overflow.
+     *
+     * @return the timeout in nanoseconds
+     */
+    public long timeoutNanos() {
+        try {
+            return timeout.toNanos();
+        } catch (final ArithmeticException e) {
+            return Long.MAX_VALUE;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "TimeoutPolicy[timeout=" + timeout + ", action=" + action + "]";
+    }
+}
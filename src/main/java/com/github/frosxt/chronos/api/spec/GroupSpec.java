@@ -0,0 +1,82 @@
+package com.github.frosxt.chronos.api.spec;
+
+import com.github.frosxt.chronos.api.policy.BulkheadPolicy;
+import com.github.frosxt.chronos.api.policy.CircuitBreakerPolicy;
+import com.github.frosxt.chronos.api.policy.RetryBudget;
+import com.github.frosxt.chronos.api.spec.builder.GroupSpecBuilder;
+
+/**
+ * Immutable specification for a named task group.
+ *
+ * <p>
+ * Tasks attach to a group through {@link TaskSpec#group()}. Groups share
+ * resilience state such as a retry budget and a circuit breaker. Tasks may
+ * name a group that has no specification; such groups use default settings.
+ *
+ * <p>
+ * Use {@link #builder(String)} to construct a specification.
+ *
+ * <p>
+ * This class is immutable and thread-safe.
+ */
+public final class GroupSpec {
+    private final String name;
+    private final RetryBudget retryBudget;
+    private final CircuitBreakerPolicy circuitBreaker;
+    private final BulkheadPolicy bulkhead;
+
+    public GroupSpec(final GroupSpecBuilder builder) {
+        this.name = builder.getName();
+        this.retryBudget = builder.getRetryBudget();
+        this.circuitBreaker = builder.getCircuitBreaker();
+        this.bulkhead = builder.getBulkhead();
+    }
+
+    /**
+     * Creates a new builder for a group specification.
+     *
+     * @param name the group name
+     * @return a new builder
+     * @throws NullPointerException     if name is null
+     * @throws IllegalArgumentException if name is empty
+     */
+    public static GroupSpecBuilder builder(final String name) {
+        return new GroupSpecBuilder(name);
+    }
+
+    /**
+     * Returns the group name.
+     *
+     * @return the name, never null
+     */
+    public String name() {
+        return name;
+    }
+
+    /**
+     * Returns the retry budget shared by the group.
+     *
+     * @return the retry budget, or null if retries are not budgeted
+     */
+    public RetryBudget retryBudget() {
+        return retryBudget;
+    }
+
+    /**
+     * Returns the circuit breaker policy for the group.
+     *
+     * @return the circuit breaker policy, or null if the group has no breaker
+     */
+    public CircuitBreakerPolicy circuitBreaker() {
+        return circuitBreaker;
+    }
+
+    /**
+     * Returns the bulkhead limiting the group's concurrent executions.
+     *
+     * @return the bulkhead policy, or null if the group is unbounded
+     */
+    public BulkheadPolicy bulkhead() {
+        return bulkhead;
+    }
+}
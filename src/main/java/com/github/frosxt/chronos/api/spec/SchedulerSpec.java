@@ -1,8 +1,12 @@
 package com.github.frosxt.chronos.api.spec;
 
 import com.github.frosxt.chronos.api.listener.TaskListener;
+import com.github.frosxt.chronos.api.policy.AdmissionPolicy;
+import com.github.frosxt.chronos.api.policy.AsyncListenerPolicy;
 import com.github.frosxt.chronos.api.policy.ExecutionPolicy;
 import com.github.frosxt.chronos.api.policy.Jitter;
+import com.github.frosxt.chronos.api.policy.PurgePolicy;
+import com.github.frosxt.chronos.api.policy.TimeoutPolicy;
 import com.github.frosxt.chronos.api.spec.builder.SchedulerSpecBuilder;
 import com.github.frosxt.chronos.api.time.TimeSource;
 
@@ -10,6 +14,7 @@ import java.time.Clock;
 import java.time.Duration;
 import java.time.ZoneId;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Immutable specification for creating a scheduler.
@@ -30,6 +35,15 @@ public final class SchedulerSpec {
     private final TimeSource timeSource;
     private final Clock clock;
     private final List<TaskListener> listeners;
+    private final Map<String, GroupSpec> groups;
+    private final Long randomSeed;
+    private final TimeoutPolicy defaultTimeout;
+    private final PurgePolicy purgePolicy;
+    private final Duration priorityAging;
+    private final AdmissionPolicy admission;
+    private final Duration sheddingThreshold;
+    private final String jmxName;
+    private final AsyncListenerPolicy asyncListeners;
 
     public SchedulerSpec(final SchedulerSpecBuilder builder) {
         this.threadCount = builder.getThreadCount();
@@ -41,6 +55,15 @@ public final class SchedulerSpec {
         this.timeSource = builder.getTimeSource();
         this.clock = builder.getClock();
         this.listeners = List.copyOf(builder.getListeners());
+        this.groups = Map.copyOf(builder.getGroups());
+        this.randomSeed = builder.getRandomSeed();
+        this.defaultTimeout = builder.getDefaultTimeout();
+        this.purgePolicy = builder.getPurgePolicy();
+        this.priorityAging = builder.getPriorityAging();
+        this.admission = builder.getAdmission();
+        this.sheddingThreshold = builder.getSheddingThreshold();
+        this.jmxName = builder.getJmxName();
+        this.asyncListeners = builder.getAsyncListeners();
     }
 
     /**
@@ -132,4 +155,88 @@ public final class SchedulerSpec {
     public List<TaskListener> listeners() {
         return listeners;
     }
+
+    /**
+     * Returns the configured task groups, keyed by name.
+     *
+     * @return an unmodifiable map of group specifications
+     */
+    public Map<String, GroupSpec> groups() {
+        return groups;
+    }
+
+    /**
+     * Returns the seed for per-task jitter random generators.
+     *
+     * @return the seed, or null for a non-reproducible seed
+     */
+    public Long randomSeed() {
+        return randomSeed;
+    }
+
+    /**
+     * Returns the execution timeout for tasks that do not set their own.
+     *
+     * @return the default timeout policy, or null for no timeout
+     */
+    public TimeoutPolicy defaultTimeout() {
+        return defaultTimeout;
+    }
+
+    /**
+     * Returns when the timers of cancelled tasks leave the timer queue.
+     *
+     * @return the purge policy
+     */
+    public PurgePolicy purgePolicy() {
+        return purgePolicy;
+    }
+
+    /**
+     * Returns the aging step of priority dispatch.
+     *
+     * @return the aging step, or null if priority dispatch is disabled
+     */
+    public Duration priorityAging() {
+        return priorityAging;
+    }
+
+    /**
+     * Returns the admission policy bounding pending tasks.
+     *
+     * @return the admission policy, or null if the scheduler is unbounded
+     */
+    public AdmissionPolicy admission() {
+        return admission;
+    }
+
+    /**
+     * Returns the scheduling lag above which sheddable executions are
+     * skipped.
+     *
+     * @return the lag threshold, or null if load shedding is disabled
+     */
+    public Duration sheddingThreshold() {
+        return sheddingThreshold;
+    }
+
+    /**
+     * Returns the name the scheduler's MXBeans are registered under.
+     *
+     * @return the JMX name, or null if the scheduler is not registered
+     */
+    public String jmxName() {
+        return jmxName;
+    }
+
+    /**
+     * Returns the policy for delivering listener events off the worker
+     * threads.
+     *
+     * @return the asynchronous listener policy, or null if listeners are
+     *         called on the worker threads
+     */
+    public AsyncListenerPolicy asyncListeners() {
+        return asyncListeners;
+    }
 }
@@ -0,0 +1,182 @@
+package com.github.frosxt.chronos.api.spec;
+
+import com.github.frosxt.chronos.api.policy.ExecutionPolicy;
+import com.github.frosxt.chronos.api.policy.Jitter;
+import com.github.frosxt.chronos.api.policy.OverrunPolicy;
+import com.github.frosxt.chronos.api.policy.ResumePolicy;
+import com.github.frosxt.chronos.api.policy.TaskPriority;
+import com.github.frosxt.chronos.api.policy.TimeoutPolicy;
+import com.github.frosxt.chronos.api.spec.builder.TaskSpecBuilder;
+
+/**
+ * Immutable per-task options applied when scheduling a task.
+ *
+ * <p>
+ * Options that are not set fall back to the scheduler's defaults from
+ * {@link SchedulerSpec}.
+ *
+ * <p>
+ * Use {@link #builder()} to construct a specification, or {@link #defaults()}
+ * for a task with no overrides.
+ *
+ * <p>
+ * This class is immutable and thread-safe.
+ */
+public final class TaskSpec {
+    private static final TaskSpec DEFAULTS = new TaskSpecBuilder().build();
+
+    private final String group;
+    private final ExecutionPolicy executionPolicy;
+    private final Jitter jitter;
+    private final boolean spreadPhase;
+    private final String spreadKey;
+    private final OverrunPolicy overrunPolicy;
+    private final TimeoutPolicy timeoutPolicy;
+    private final ResumePolicy resumePolicy;
+    private final String executionKey;
+    private final TaskPriority priority;
+    private final boolean sheddable;
+    private final boolean recordStats;
+
+    public TaskSpec(final TaskSpecBuilder builder) {
+        this.group = builder.getGroup();
+        this.executionPolicy = builder.getExecutionPolicy();
+        this.jitter = builder.getJitter();
+        this.spreadPhase = builder.isSpreadPhase();
+        this.spreadKey = builder.getSpreadKey();
+        this.overrunPolicy = builder.getOverrunPolicy();
+        this.timeoutPolicy = builder.getTimeoutPolicy();
+        this.resumePolicy = builder.getResumePolicy();
+        this.executionKey = builder.getExecutionKey();
+        this.priority = builder.getPriority();
+        this.sheddable = builder.isSheddable();
+        this.recordStats = builder.isRecordStats();
+    }
+
+    /**
+     * Creates a new builder for a task specification.
+     *
+     * @return a new builder
+     */
+    public static TaskSpecBuilder builder() {
+        return new TaskSpecBuilder();
+    }
+
+    /**
+     * Returns a specification with no overrides.
+     *
+     * @return the default task specification
+     */
+    public static TaskSpec defaults() {
+        return DEFAULTS;
+    }
+
+    /**
+     * Returns the name of the group the task belongs to.
+     *
+     * @return the group name, or null if the task is not grouped
+     */
+    public String group() {
+        return group;
+    }
+
+    /**
+     * Returns the execution policy for the task.
+     *
+     * @return the execution policy, or null to use the scheduler default
+     */
+    public ExecutionPolicy executionPolicy() {
+        return executionPolicy;
+    }
+
+    /**
+     * Returns the jitter configuration for the task.
+     *
+     * @return the jitter, or null to use the scheduler default
+     */
+    public Jitter jitter() {
+        return jitter;
+    }
+
+    /**
+     * Returns whether fixed-rate executions are spread by a phase offset.
+     *
+     * @return true if phase spreading is enabled
+     */
+    public boolean spreadPhase() {
+        return spreadPhase;
+    }
+
+    /**
+     * Returns the key hashed to derive the phase offset.
+     *
+     * @return the spread key, or null to hash the task ID
+     */
+    public String spreadKey() {
+        return spreadKey;
+    }
+
+    /**
+     * Returns the overrun policy for fixed-rate executions.
+     *
+     * @return the overrun policy, or null to catch up on missed slots
+     */
+    public OverrunPolicy overrunPolicy() {
+        return overrunPolicy;
+    }
+
+    /**
+     * Returns the execution timeout.
+     *
+     * @return the timeout policy, or null to use the scheduler default
+     */
+    public TimeoutPolicy timeoutPolicy() {
+        return timeoutPolicy;
+    }
+
+    /**
+     * Returns how the task catches up on missed executions after a pause.
+     *
+     * @return the resume policy, or null to run once if anything was missed
+     */
+    public ResumePolicy resumePolicy() {
+        return resumePolicy;
+    }
+
+    /**
+     * Returns the key of the serial lane the task executes on.
+     *
+     * @return the execution key, or null if the task does not use a lane
+     */
+    public String executionKey() {
+        return executionKey;
+    }
+
+    /**
+     * Returns the dispatch priority of the task.
+     *
+     * @return the priority, or null for {@link TaskPriority#NORMAL}
+     */
+    public TaskPriority priority() {
+        return priority;
+    }
+
+    /**
+     * Returns whether the task's executions are skipped while the scheduler
+     * sheds load.
+     *
+     * @return true if the task is sheddable
+     */
+    public boolean sheddable() {
+        return sheddable;
+    }
+
+    /**
+     * Returns whether streaming statistics are kept for the task.
+     *
+     * @return true if the task keeps statistics
+     */
+    public boolean recordStats() {
+        return recordStats;
+    }
+}
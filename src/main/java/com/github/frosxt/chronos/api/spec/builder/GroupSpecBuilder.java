@@ -0,0 +1,85 @@
+package com.github.frosxt.chronos.api.spec.builder;
+
+import com.github.frosxt.chronos.api.policy.BulkheadPolicy;
+import com.github.frosxt.chronos.api.policy.CircuitBreakerPolicy;
+import com.github.frosxt.chronos.api.policy.RetryBudget;
+import com.github.frosxt.chronos.api.spec.GroupSpec;
+
+import java.util.Objects;
+
+/**
+ * Builder for {@link GroupSpec}.
+ */
+public final class GroupSpecBuilder {
+    private final String name;
+    private RetryBudget retryBudget;
+    private CircuitBreakerPolicy circuitBreaker;
+    private BulkheadPolicy bulkhead;
+
+    public GroupSpecBuilder(final String name) {
+        Objects.requireNonNull(name, "name must not be null");
+        if (name.isEmpty()) {
+            throw new IllegalArgumentException("name must not be empty");
+        }
+        this.name = name;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public RetryBudget getRetryBudget() {
+        return retryBudget;
+    }
+
+    public CircuitBreakerPolicy getCircuitBreaker() {
+        return circuitBreaker;
+    }
+
+    public BulkheadPolicy getBulkhead() {
+        return bulkhead;
+    }
+
+    /**
+     * Sets the retry budget shared by the group.
+     *
+     * @param retryBudget the retry budget, or null for unbudgeted retries
+     * @return this builder
+     */
+    public GroupSpecBuilder retryBudget(final RetryBudget retryBudget) {
+        this.retryBudget = retryBudget;
+        return this;
+    }
+
+    /**
+     * Sets the circuit breaker policy for the group.
+     *
+     * @param circuitBreaker the circuit breaker policy, or null for no breaker
+     * @return this builder
+     */
+    public GroupSpecBuilder circuitBreaker(final CircuitBreakerPolicy circuitBreaker) {
+        this.circuitBreaker = circuitBreaker;
+        return this;
+    }
+
+    /**
+     * Sets the bulkhead limiting how many executions of the group run at
+     * once.
+     *
+     * @param bulkhead the bulkhead policy, or null for no limit
+     * @return this builder
+     */
+    public GroupSpecBuilder bulkhead(final BulkheadPolicy bulkhead) {
+        this.bulkhead = bulkhead;
+        return this;
+    }
+
+    /**
+     * Builds the group specification.
+     *
+     * @return the group specification
+     */
+    public GroupSpec build() {
+        return new GroupSpec(this);
+    }
+}
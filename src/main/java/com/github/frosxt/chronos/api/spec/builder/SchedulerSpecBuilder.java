@@ -1,8 +1,13 @@
 package com.github.frosxt.chronos.api.spec.builder;
 
 import com.github.frosxt.chronos.api.listener.TaskListener;
+import com.github.frosxt.chronos.api.policy.AdmissionPolicy;
+import com.github.frosxt.chronos.api.policy.AsyncListenerPolicy;
 import com.github.frosxt.chronos.api.policy.ExecutionPolicy;
 import com.github.frosxt.chronos.api.policy.Jitter;
+import com.github.frosxt.chronos.api.policy.PurgePolicy;
+import com.github.frosxt.chronos.api.policy.TimeoutPolicy;
+import com.github.frosxt.chronos.api.spec.GroupSpec;
 import com.github.frosxt.chronos.api.spec.SchedulerSpec;
 import com.github.frosxt.chronos.api.time.TimeSource;
 
@@ -10,7 +15,9 @@ import java.time.Clock;
 import java.time.Duration;
 import java.time.ZoneId;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
 /**
@@ -26,6 +33,15 @@ public final class SchedulerSpecBuilder {
     private TimeSource timeSource;
     private Clock clock;
     private final List<TaskListener> listeners = new ArrayList<>();
+    private final Map<String, GroupSpec> groups = new LinkedHashMap<>();
+    private Long randomSeed;
+    private TimeoutPolicy defaultTimeout;
+    private PurgePolicy purgePolicy = PurgePolicy.LAZY;
+    private Duration priorityAging;
+    private AdmissionPolicy admission;
+    private Duration sheddingThreshold;
+    private String jmxName;
+    private AsyncListenerPolicy asyncListeners;
 
     public int getThreadCount() {
         return threadCount;
@@ -63,6 +79,42 @@ public final class SchedulerSpecBuilder {
         return listeners;
     }
 
+    public Map<String, GroupSpec> getGroups() {
+        return groups;
+    }
+
+    public Long getRandomSeed() {
+        return randomSeed;
+    }
+
+    public TimeoutPolicy getDefaultTimeout() {
+        return defaultTimeout;
+    }
+
+    public PurgePolicy getPurgePolicy() {
+        return purgePolicy;
+    }
+
+    public Duration getPriorityAging() {
+        return priorityAging;
+    }
+
+    public AdmissionPolicy getAdmission() {
+        return admission;
+    }
+
+    public Duration getSheddingThreshold() {
+        return sheddingThreshold;
+    }
+
+    public String getJmxName() {
+        return jmxName;
+    }
+
+    public AsyncListenerPolicy getAsyncListeners() {
+        return asyncListeners;
+    }
+
     /**
      * Sets the number of threads in the scheduler's thread pool.
      *
@@ -183,6 +235,190 @@ public final class SchedulerSpecBuilder {
         return this;
     }
 
+    /**
+     * Adds a task group specification, replacing any group with the same name.
+     *
+     * @param group the group specification
+     * @return this builder
+     * @throws NullPointerException if group is null
+     */
+    public SchedulerSpecBuilder group(final GroupSpec group) {
+        Objects.requireNonNull(group, "group must not be null");
+        this.groups.put(group.name(), group);
+        return this;
+    }
+
+    /**
+     * Sets the seed for per-task jitter random generators.
+     *
+     * <p>
+     * Each task draws jitter from its own generator split from a root seeded
+     * with this value, so runs that schedule tasks in the same order produce
+     * the same delays. If not set, a non-reproducible seed is used.
+     *
+     * @param seed the seed
+     * @return this builder
+     */
+    public SchedulerSpecBuilder randomSeed(final long seed) {
+        this.randomSeed = seed;
+        return this;
+    }
+
+    /**
+     * Sets the execution timeout for tasks that do not set their own.
+     *
+     * <p>
+     * By default executions have no timeout.
+     *
+     * @param timeoutPolicy the default timeout policy
+     * @return this builder
+     * @throws NullPointerException if timeoutPolicy is null
+     */
+    public SchedulerSpecBuilder defaultTimeout(final TimeoutPolicy timeoutPolicy) {
+        this.defaultTimeout = Objects.requireNonNull(timeoutPolicy, "timeoutPolicy must not be null");
+        return this;
+    }
+
+    /**
+     * Sets when the timers of cancelled tasks leave the timer queue.
+     *
+     * <p>
+     * Defaults to {@link PurgePolicy#LAZY}.
+     *
+     * @param purgePolicy the purge policy
+     * @return this builder
+     * @throws NullPointerException if purgePolicy is null
+     */
+    public SchedulerSpecBuilder purgePolicy(final PurgePolicy purgePolicy) {
+        this.purgePolicy = Objects.requireNonNull(purgePolicy, "purgePolicy must not be null");
+        return this;
+    }
+
+    /**
+     * Enables priority dispatch of due executions.
+     *
+     * <p>
+     * Due executions are started in order of their task's
+     * {@link com.github.frosxt.chronos.api.policy.TaskPriority priority},
+     * then of their scheduled time, instead of purely by time. One worker
+     * is held back from running tasks so due timers keep being collected
+     * while the others are busy; with a single thread, ordering applies only
+     * among executions that are already due. An execution gains one
+     * priority level for every aging step it waits.
+     *
+     * @param agingStep how long an execution waits before its priority is
+     *                  raised by one level
+     * @return this builder
+     * @throws NullPointerException     if agingStep is null
+     * @throws IllegalArgumentException if agingStep is not positive or too
+     *                                  large to convert to nanoseconds
+     */
+    public SchedulerSpecBuilder priorityDispatch(final Duration agingStep) {
+        Objects.requireNonNull(agingStep, "agingStep must not be null");
+        if (agingStep.isNegative() || agingStep.isZero()) {
+            throw new IllegalArgumentException("agingStep must be positive");
+        }
+        try {
+            agingStep.toNanos();
+        } catch (final ArithmeticException e) {
+            throw new IllegalArgumentException("Duration too large to convert to nanoseconds", e);
+        }
+        this.priorityAging = agingStep;
+        return this;
+    }
+
+    /**
+     * Bounds the number of pending tasks the scheduler accepts.
+     *
+     * <p>
+     * By default the scheduler accepts any number of tasks. Timeouts created
+     * with {@link com.github.frosxt.chronos.api.Scheduler#newTimeout} are not
+     * counted.
+     *
+     * @param admission the admission policy
+     * @return this builder
+     * @throws NullPointerException if admission is null
+     */
+    public SchedulerSpecBuilder admission(final AdmissionPolicy admission) {
+        this.admission = Objects.requireNonNull(admission, "admission must not be null");
+        return this;
+    }
+
+    /**
+     * Enables lag-based load shedding.
+     *
+     * <p>
+     * The scheduler keeps a rolling estimate of scheduling lag, the time
+     * between when an execution is due and when it starts. Once the estimate
+     * exceeds the threshold, due executions of
+     * {@link com.github.frosxt.chronos.api.spec.builder.TaskSpecBuilder#sheddable() sheddable}
+     * tasks are skipped until it falls below half the threshold.
+     *
+     * @param lagThreshold the lag estimate above which load is shed
+     * @return this builder
+     * @throws NullPointerException     if lagThreshold is null
+     * @throws IllegalArgumentException if lagThreshold is not positive or
+     *                                  too large to convert to nanoseconds
+     */
+    public SchedulerSpecBuilder loadShedding(final Duration lagThreshold) {
+        Objects.requireNonNull(lagThreshold, "lagThreshold must not be null");
+        if (lagThreshold.isNegative() || lagThreshold.isZero()) {
+            throw new IllegalArgumentException("lagThreshold must be positive");
+        }
+        try {
+            lagThreshold.toNanos();
+        } catch (final ArithmeticException e) {
+            throw new IllegalArgumentException("Duration too large to convert to nanoseconds", e);
+        }
+        this.sheddingThreshold = lagThreshold;
+        return this;
+    }
+
+    /**
+     * Registers MXBeans for the scheduler and each of its groups with the
+     * platform MBean server.
+     *
+     * <p>
+     * The scheduler is registered as
+     * {@code com.github.frosxt.chronos:type=Scheduler,name=<name>} and each
+     * named group as
+     * {@code com.github.frosxt.chronos:type=Group,scheduler=<name>,name=<group>}.
+     * The MXBeans are unregistered when the scheduler is shut down.
+     *
+     * @param name the name the scheduler is registered under; must be unique
+     *             among the schedulers of the JVM
+     * @return this builder
+     * @throws NullPointerException     if name is null
+     * @throws IllegalArgumentException if name is blank
+     */
+    public SchedulerSpecBuilder jmx(final String name) {
+        Objects.requireNonNull(name, "name must not be null");
+        if (name.isBlank()) {
+            throw new IllegalArgumentException("name must not be blank");
+        }
+        this.jmxName = name;
+        return this;
+    }
+
+    /**
+     * Delivers listener events on a dedicated thread instead of the worker
+     * threads.
+     *
+     * <p>
+     * By default listeners are called on the worker thread that runs the
+     * task. With this option, workers publish events into a bounded buffer
+     * and return to the task immediately; the policy decides what happens
+     * when listeners fall so far behind that the buffer fills up.
+     *
+     * @param policy the asynchronous listener policy
+     * @return this builder
+     * @throws NullPointerException if policy is null
+     */
+    public SchedulerSpecBuilder asyncListeners(final AsyncListenerPolicy policy) {
+        this.asyncListeners = Objects.requireNonNull(policy, "policy must not be null");
+        return this;
+    }
+
     /**
      * Builds the scheduler specification.
      *
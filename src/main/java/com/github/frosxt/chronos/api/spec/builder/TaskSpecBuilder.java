@@ -0,0 +1,306 @@
+package com.github.frosxt.chronos.api.spec.builder;
+
+import com.github.frosxt.chronos.api.policy.ExecutionPolicy;
+import com.github.frosxt.chronos.api.policy.Jitter;
+import com.github.frosxt.chronos.api.policy.OverrunPolicy;
+import com.github.frosxt.chronos.api.policy.ResumePolicy;
+import com.github.frosxt.chronos.api.policy.TaskPriority;
+import com.github.frosxt.chronos.api.policy.TimeoutPolicy;
+import com.github.frosxt.chronos.api.spec.TaskSpec;
+
+import java.util.Objects;
+
+/**
+ * Builder for {@link TaskSpec}.
+ */
+public final class TaskSpecBuilder {
+    private String group;
+    private ExecutionPolicy executionPolicy;
+    private Jitter jitter;
+    private boolean spreadPhase;
+    private String spreadKey;
+    private OverrunPolicy overrunPolicy;
+    private TimeoutPolicy timeoutPolicy;
+    private ResumePolicy resumePolicy;
+    private String executionKey;
+    private TaskPriority priority;
+    private boolean sheddable;
+    private boolean recordStats;
+
+    public String getGroup() {
+        return group;
+    }
+
+    public ExecutionPolicy getExecutionPolicy() {
+        return executionPolicy;
+    }
+
+    public Jitter getJitter() {
+        return jitter;
+    }
+
+    public boolean isSpreadPhase() {
+        return spreadPhase;
+    }
+
+    public String getSpreadKey() {
+        return spreadKey;
+    }
+
+    public OverrunPolicy getOverrunPolicy() {
+        return overrunPolicy;
+    }
+
+    public TimeoutPolicy getTimeoutPolicy() {
+        return timeoutPolicy;
+    }
+
+    public ResumePolicy getResumePolicy() {
+        return resumePolicy;
+    }
+
+    public String getExecutionKey() {
+        return executionKey;
+    }
+
+    public TaskPriority getPriority() {
+        return priority;
+    }
+
+    public boolean isSheddable() {
+        return sheddable;
+    }
+
+    public boolean isRecordStats() {
+        return recordStats;
+    }
+
+    /**
+     * Sets the group the task belongs to.
+     *
+     * @param group the group name
+     * @return this builder
+     * @throws NullPointerException     if group is null
+     * @throws IllegalArgumentException if group is empty
+     */
+    public TaskSpecBuilder group(final String group) {
+        Objects.requireNonNull(group, "group must not be null");
+        if (group.isEmpty()) {
+            throw new IllegalArgumentException("group must not be empty");
+        }
+        this.group = group;
+        return this;
+    }
+
+    /**
+     * Sets the execution policy for the task, overriding the scheduler default.
+     *
+     * @param policy the execution policy
+     * @return this builder
+     * @throws NullPointerException if policy is null
+     */
+    public TaskSpecBuilder executionPolicy(final ExecutionPolicy policy) {
+        this.executionPolicy = Objects.requireNonNull(policy, "policy must not be null");
+        return this;
+    }
+
+    /**
+     * Sets the jitter configuration for the task, overriding the scheduler
+     * default.
+     *
+     * @param jitter the jitter
+     * @return this builder
+     * @throws NullPointerException if jitter is null
+     */
+    public TaskSpecBuilder jitter(final Jitter jitter) {
+        this.jitter = Objects.requireNonNull(jitter, "jitter must not be null");
+        return this;
+    }
+
+    /**
+     * Spreads fixed-rate executions by a phase offset derived from the task ID.
+     *
+     * <p>
+     * The first execution is delayed to the next wall-clock instant whose
+     * offset within the period matches the phase, so tasks scheduled together
+     * with the same period no longer fire on the same instant. Task IDs are
+     * random, so use {@link #spreadPhase(String)} for a phase that is stable
+     * across restarts. Ignored for tasks that are not fixed-rate.
+     *
+     * @return this builder
+     */
+    public TaskSpecBuilder spreadPhase() {
+        this.spreadPhase = true;
+        this.spreadKey = null;
+        return this;
+    }
+
+    /**
+     * Spreads fixed-rate executions by a phase offset derived from a stable key.
+     *
+     * <p>
+     * Tasks with the same key and period always fire on the same wall-clock
+     * slot, including after a restart.
+     *
+     * @param key the key to hash
+     * @return this builder
+     * @throws NullPointerException if key is null
+     * @see #spreadPhase()
+     */
+    public TaskSpecBuilder spreadPhase(final String key) {
+        this.spreadKey = Objects.requireNonNull(key, "key must not be null");
+        this.spreadPhase = true;
+        return this;
+    }
+
+    /**
+     * Sets what a fixed-rate task does when an execution overruns its period.
+     *
+     * <p>
+     * Ignored for tasks that are not fixed-rate. An overlapping policy cannot
+     * be combined with a retrying execution policy, a timeout, an execution
+     * key, a priority or load shedding.
+     *
+     * @param overrunPolicy the overrun policy
+     * @return this builder
+     * @throws NullPointerException if overrunPolicy is null
+     */
+    public TaskSpecBuilder overrun(final OverrunPolicy overrunPolicy) {
+        this.overrunPolicy = Objects.requireNonNull(overrunPolicy, "overrunPolicy must not be null");
+        return this;
+    }
+
+    /**
+     * Sets the maximum run time of each execution, overriding the scheduler
+     * default.
+     *
+     * @param timeoutPolicy the timeout policy
+     * @return this builder
+     * @throws NullPointerException if timeoutPolicy is null
+     */
+    public TaskSpecBuilder timeout(final TimeoutPolicy timeoutPolicy) {
+        this.timeoutPolicy = Objects.requireNonNull(timeoutPolicy, "timeoutPolicy must not be null");
+        return this;
+    }
+
+    /**
+     * Sets how the task catches up on executions missed while it was paused.
+     *
+     * @param resumePolicy the resume policy
+     * @return this builder
+     * @throws NullPointerException if resumePolicy is null
+     */
+    public TaskSpecBuilder resumePolicy(final ResumePolicy resumePolicy) {
+        this.resumePolicy = Objects.requireNonNull(resumePolicy, "resumePolicy must not be null");
+        return this;
+    }
+
+    /**
+     * Runs the task on the serial lane for a key.
+     *
+     * <p>
+     * Executions of tasks that share a key never run concurrently: when one
+     * fires while another execution on the lane is queued or running, it is
+     * queued behind it and run by the worker already draining the lane,
+     * instead of occupying a second worker that would only contend for the
+     * same resource. For async tasks the lane orders only the starts.
+     * Cannot be combined with {@link OverrunPolicy#overlap(int)}.
+     *
+     * @param key the lane key
+     * @return this builder
+     * @throws NullPointerException     if key is null
+     * @throws IllegalArgumentException if key is empty
+     */
+    public TaskSpecBuilder executionKey(final String key) {
+        Objects.requireNonNull(key, "key must not be null");
+        if (key.isEmpty()) {
+            throw new IllegalArgumentException("key must not be empty");
+        }
+        this.executionKey = key;
+        return this;
+    }
+
+    /**
+     * Sets the dispatch priority of the task.
+     *
+     * <p>
+     * Only takes effect on a scheduler with priority dispatch enabled. Cannot
+     * be combined with {@link OverrunPolicy#overlap(int)}.
+     *
+     * @param priority the priority
+     * @return this builder
+     * @throws NullPointerException if priority is null
+     * @see com.github.frosxt.chronos.api.spec.builder.SchedulerSpecBuilder#priorityDispatch(java.time.Duration)
+     */
+    public TaskSpecBuilder priority(final TaskPriority priority) {
+        this.priority = Objects.requireNonNull(priority, "priority must not be null");
+        return this;
+    }
+
+    /**
+     * Marks the task's executions as sheddable.
+     *
+     * <p>
+     * While the scheduler is shedding load, due executions of sheddable tasks
+     * are skipped instead of run. A skipped recurring task waits for its
+     * next execution time; a skipped one-shot task is deferred and stays
+     * scheduled until the lag recovers. Only takes
+     * effect on a scheduler with load shedding enabled. Cannot be combined
+     * with {@link OverrunPolicy#overlap(int)}.
+     *
+     * @return this builder
+     * @see com.github.frosxt.chronos.api.spec.builder.SchedulerSpecBuilder#loadShedding(java.time.Duration)
+     */
+    public TaskSpecBuilder sheddable() {
+        this.sheddable = true;
+        return this;
+    }
+
+    /**
+     * Keeps streaming statistics of the task's executions, available from
+     * {@link com.github.frosxt.chronos.api.ScheduledHandle#stats()}.
+     *
+     * <p>
+     * Off by default, so tasks that do not ask for statistics hold no memory
+     * for them and pay nothing to record them.
+     *
+     * @return this builder
+     */
+    public TaskSpecBuilder recordStats() {
+        this.recordStats = true;
+        return this;
+    }
+
+    /**
+     * Builds the task specification.
+     *
+     * @return the task specification
+     * @throws IllegalArgumentException if an overlapping overrun policy is
+     *                                  combined with a setting that
+     *                                  overlapping executions do not honor
+     */
+    public TaskSpec build() {
+        if (overrunPolicy != null && overrunPolicy.mode() == OverrunPolicy.Mode.OVERLAP) {
+            checkOverlapCompatible();
+        }
+        return new TaskSpec(this);
+    }
+
+    private void checkOverlapCompatible() {
+        if (executionPolicy != null && executionPolicy.retries()) {
+            throw new IllegalArgumentException("A retrying execution policy cannot be combined with an overlapping overrun policy");
+        }
+        if (timeoutPolicy != null) {
+            throw new IllegalArgumentException("A timeout cannot be combined with an overlapping overrun policy");
+        }
+        if (executionKey != null) {
+            throw new IllegalArgumentException("An execution key cannot be combined with an overlapping overrun policy");
+        }
+        if (priority != null) {
+            throw new IllegalArgumentException("A priority cannot be combined with an overlapping overrun policy");
+        }
+        if (sheddable) {
+            throw new IllegalArgumentException("Load shedding cannot be combined with an overlapping overrun policy");
+        }
+    }
+}
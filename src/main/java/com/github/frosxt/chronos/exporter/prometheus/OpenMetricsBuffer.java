@@ -0,0 +1,164 @@
+package com.github.frosxt.chronos.exporter.prometheus;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+
+/**
+ * Growable UTF-8 text buffer for OpenMetrics exposition.
+ *
+ * <p>
+ * Numbers and strings are encoded straight into the byte array, so once the
+ * buffer has grown to the size of a full exposition, rendering into it again
+ * allocates nothing.
+ *
+ * <p>
+ * This class is not thread-safe.
+ */
+final class OpenMetricsBuffer {
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+    private static final long FRACTION_SCALE = 1_000L;
+
+    private final byte[] digits = new byte[20];
+    private byte[] bytes;
+    private int size;
+
+    OpenMetricsBuffer(final int initialCapacity) {
+        this.bytes = new byte[initialCapacity];
+    }
+
+    void reset() {
+        size = 0;
+    }
+
+    int size() {
+        return size;
+    }
+
+    void writeTo(final OutputStream out) throws IOException {
+        out.write(bytes, 0, size);
+    }
+
+    /**
+     * Appends ASCII text, such as a metric name or a fixed label value.
+     */
+    OpenMetricsBuffer ascii(final String text) {
+        ensure(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            bytes[size++] = (byte) text.charAt(i);
+        }
+        return this;
+    }
+
+    OpenMetricsBuffer ascii(final char c) {
+        ensure(1);
+        bytes[size++] = (byte) c;
+        return this;
+    }
+
+    /**
+     * Appends a label value, escaping backslashes, quotes and line feeds and
+     * encoding everything else as UTF-8.
+     */
+    OpenMetricsBuffer labelValue(final String text) {
+        for (int i = 0; i < text.length(); i++) {
+            final char c = text.charAt(i);
+            switch (c) {
+                case '\\' -> ascii('\\').ascii('\\');
+                case '"' -> ascii('\\').ascii('"');
+                case '\n' -> ascii('\\').ascii('n');
+                default -> {
+                    if (Character.isHighSurrogate(c) && i + 1 < text.length() && Character.isLowSurrogate(text.charAt(i + 1))) {
+                        codePoint(Character.toCodePoint(c, text.charAt(++i)));
+                    } else {
+                        codePoint(c);
+                    }
+                }
+            }
+        }
+        return this;
+    }
+
+    OpenMetricsBuffer number(final long value) {
+        if (value == Long.MIN_VALUE) {
+            return ascii(Long.toString(value));
+        }
+        long remaining = Math.abs(value);
+        int count = 0;
+        do {
+            digits[count++] = (byte) ('0' + remaining % 10);
+            remaining /= 10;
+        } while (remaining > 0);
+
+        ensure(count + 1);
+        if (value < 0) {
+            bytes[size++] = '-';
+        }
+        while (count > 0) {
+            bytes[size++] = digits[--count];
+        }
+        return this;
+    }
+
+    /**
+     * Appends a duration in nanoseconds as seconds with nine fractional
+     * digits.
+     */
+    OpenMetricsBuffer seconds(final long nanos) {
+        if (nanos < 0) {
+            ascii('-');
+        }
+        final long abs = Math.abs(nanos);
+        number(abs / NANOS_PER_SECOND).ascii('.');
+        return padded(abs % NANOS_PER_SECOND, NANOS_PER_SECOND / 10);
+    }
+
+    /**
+     * Appends a decimal rounded to three fractional digits.
+     */
+    OpenMetricsBuffer decimal(final double value) {
+        final long scaled = Math.round(value * FRACTION_SCALE);
+        if (scaled < 0) {
+            ascii('-');
+        }
+        final long abs = Math.abs(scaled);
+        number(abs / FRACTION_SCALE).ascii('.');
+        return padded(abs % FRACTION_SCALE, FRACTION_SCALE / 10);
+    }
+
+    private OpenMetricsBuffer padded(final long value, final long leading) {
+        for (long place = leading; place > 1 && value < place; place /= 10) {
+            ascii('0');
+        }
+        return number(value);
+    }
+
+    private void codePoint(final int cp) {
+        ensure(4);
+        if (cp < 0x80) {
+            bytes[size++] = (byte) cp;
+        } else if (cp < 0x800) {
+            bytes[size++] = (byte) (0xC0 | cp >> 6);
+            bytes[size++] = (byte) (0x80 | cp & 0x3F);
+        } else if (cp < 0x10000) {
+            if (Character.isSurrogate((char) cp)) {
+                bytes[size++] = '?';
+                return;
+            }
+            bytes[size++] = (byte) (0xE0 | cp >> 12);
+            bytes[size++] = (byte) (0x80 | cp >> 6 & 0x3F);
+            bytes[size++] = (byte) (0x80 | cp & 0x3F);
+        } else {
+            bytes[size++] = (byte) (0xF0 | cp >> 18);
+            bytes[size++] = (byte) (0x80 | cp >> 12 & 0x3F);
+            bytes[size++] = (byte) (0x80 | cp >> 6 & 0x3F);
+            bytes[size++] = (byte) (0x80 | cp & 0x3F);
+        }
+    }
+
+    private void ensure(final int extra) {
+        if (size + extra > bytes.length) {
+            bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, size + extra));
+        }
+    }
+}
@@ -0,0 +1,218 @@
+package com.github.frosxt.chronos.exporter.prometheus;
+
+import com.github.frosxt.chronos.api.TaskState;
+import com.github.frosxt.chronos.api.TaskType;
+import com.github.frosxt.chronos.api.group.CircuitState;
+import com.github.frosxt.chronos.runtime.execution.listener.AsyncListenerBus;
+import com.github.frosxt.chronos.runtime.group.TaskGroup;
+import com.github.frosxt.chronos.runtime.metrics.MetricsCollector;
+import com.github.frosxt.chronos.runtime.metrics.SchedulerMetrics;
+import com.github.frosxt.chronos.runtime.metrics.histogram.LogLinearHistogram;
+import com.github.frosxt.chronos.runtime.shedding.LoadShedder;
+import com.github.frosxt.chronos.runtime.task.state.TaskStateCounts;
+import com.github.frosxt.chronos.runtime.timer.TimerPurger;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Consumer;
+import java.util.function.ToLongFunction;
+
+/**
+ * Renders the metrics of one scheduler in the OpenMetrics text format.
+ *
+ * <p>
+ * Every read goes to the incrementally maintained counters, gauges and
+ * histograms, never to the tasks, and the output is written into a buffer
+ * and histogram intervals owned by the renderer. After the first render has
+ * sized the buffer, a render allocates nothing but the iterator over the
+ * scheduler's groups.
+ *
+ * <p>
+ * This class is not thread-safe.
+ */
+final class OpenMetricsRenderer {
+    private static final int INITIAL_CAPACITY = 16 * 1024;
+    private static final TaskState[] ACTIVE_STATES = {
+            TaskState.SCHEDULED, TaskState.RUNNING, TaskState.RETRY_WAIT, TaskState.PAUSED
+    };
+    private static final TaskType[] TYPES = TaskType.values();
+    private static final CircuitState[] CIRCUIT_STATES = CircuitState.values();
+    private static final String[] STATE_LABELS = labels(TaskState.values());
+    private static final String[] TYPE_LABELS = labels(TYPES);
+    private static final String[] CIRCUIT_LABELS = labels(CIRCUIT_STATES);
+
+    private final SchedulerMetrics metrics;
+    private final OpenMetricsBuffer buffer = new OpenMetricsBuffer(INITIAL_CAPACITY);
+    private final LogLinearHistogram.Interval interval = new LogLinearHistogram.Interval();
+    private final List<TaskGroup> groups = new ArrayList<>();
+    private final Consumer<TaskGroup> groupCollector = groups::add;
+
+    OpenMetricsRenderer(final SchedulerMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    /**
+     * Renders a full exposition, ending with the EOF marker.
+     *
+     * @return the buffer holding the exposition, valid until the next render
+     */
+    OpenMetricsBuffer render() {
+        buffer.reset();
+        final MetricsCollector collector = metrics.collector();
+
+        counter("chronos_executions", "Executions started.", collector.totalExecutions());
+        counter("chronos_tasks_completed", "Tasks that completed.", collector.completedTasks());
+        counter("chronos_tasks_failed", "Tasks that failed.", collector.failedTasks());
+        counter("chronos_tasks_cancelled", "Tasks that were cancelled.", collector.cancelledTasks());
+        counter("chronos_tasks_rejected", "Tasks turned away by the admission policy.", collector.rejectedTasks());
+        counter("chronos_tasks_evicted", "Tasks evicted by the admission policy.", collector.evictedTasks());
+        counter("chronos_runs_skipped", "Planned executions skipped by overrun policies.", collector.skippedRuns());
+        counter("chronos_runs_overlapped", "Executions that overlapped a running execution.", collector.overlappedRuns());
+        counter("chronos_timeouts", "Executions that exceeded their timeout.", collector.timeouts());
+
+        renderStates(collector.stateCounts());
+        renderTimers(metrics.purger());
+        renderShedding(metrics.shedder());
+        renderListeners(metrics.listenerBus());
+        renderLatencies(collector, true);
+        renderLatencies(collector, false);
+        renderGroups();
+
+        buffer.ascii("# EOF\n");
+        return buffer;
+    }
+
+    private void renderStates(final TaskStateCounts counts) {
+        header("chronos_tasks", "gauge", "Tasks in each non-terminal state.");
+        for (final TaskState state : ACTIVE_STATES) {
+            buffer.ascii("chronos_tasks{state=\"").ascii(STATE_LABELS[state.ordinal()]).ascii("\"} ")
+                    .number(counts.count(state)).ascii('\n');
+        }
+    }
+
+    private void renderTimers(final TimerPurger purger) {
+        final long cancelled = purger.cancelledTimerCount();
+        header("chronos_timers", "gauge", "Task timers queued on the executor.");
+        buffer.ascii("chronos_timers{state=\"live\"} ").number(Math.max(0, purger.queuedCount() - cancelled)).ascii('\n');
+        buffer.ascii("chronos_timers{state=\"cancelled\"} ").number(cancelled).ascii('\n');
+    }
+
+    private void renderShedding(final LoadShedder shedder) {
+        counter("chronos_executions_shed", "Executions skipped while shedding load.", shedder != null ? shedder.shedCount() : 0);
+
+        header("chronos_shedding", "gauge", "Whether the scheduler is shedding load.");
+        buffer.ascii("chronos_shedding ").number(shedder != null && shedder.isShedding() ? 1 : 0).ascii('\n');
+
+        header("chronos_scheduling_lag_seconds", "gauge", "Rolling estimate of scheduling lag.");
+        buffer.ascii("# UNIT chronos_scheduling_lag_seconds seconds\n");
+        buffer.ascii("chronos_scheduling_lag_seconds ").seconds(shedder != null ? shedder.lagEstimateNanos() : 0).ascii('\n');
+    }
+
+    private void renderListeners(final AsyncListenerBus bus) {
+        counter("chronos_listener_events_dropped", "Listener events dropped instead of delivered.",
+                bus != null ? bus.droppedCount() : 0);
+
+        header("chronos_listener_backlog", "gauge", "Listener events waiting for the listener thread.");
+        buffer.ascii("chronos_listener_backlog ").number(bus != null ? bus.backlog() : 0).ascii('\n');
+
+        header("chronos_listener_lag_seconds", "gauge", "Age of the oldest undelivered listener event.");
+        buffer.ascii("# UNIT chronos_listener_lag_seconds seconds\n");
+        buffer.ascii("chronos_listener_lag_seconds ").seconds(bus != null ? bus.lagNanos() : 0).ascii('\n');
+    }
+
+    private void renderLatencies(final MetricsCollector collector, final boolean startLag) {
+        final String name = startLag ? "chronos_start_lag_seconds" : "chronos_run_duration_seconds";
+        header(name, "summary", startLag
+                ? "Delay between an execution's scheduled time and its start, since the last latency reset."
+                : "Run time of executions, since the last latency reset.");
+        buffer.ascii("# UNIT ").ascii(name).ascii(" seconds\n");
+        for (final TaskType type : TYPES) {
+            if (startLag) {
+                collector.startLag(type, interval);
+            } else {
+                collector.runDuration(type, interval);
+            }
+            final String label = TYPE_LABELS[type.ordinal()];
+            quantile(name, label, "0.5", interval.valueAtPercentile(50));
+            quantile(name, label, "0.99", interval.valueAtPercentile(99));
+            quantile(name, label, "0.999", interval.valueAtPercentile(99.9));
+            buffer.ascii(name).ascii("_count{type=\"").ascii(label).ascii("\"} ").number(interval.count()).ascii('\n');
+        }
+    }
+
+    private void quantile(final String name, final String type, final String quantile, final long nanos) {
+        buffer.ascii(name).ascii("{type=\"").ascii(type).ascii("\",quantile=\"").ascii(quantile).ascii("\"} ")
+                .seconds(nanos).ascii('\n');
+    }
+
+    private void renderGroups() {
+        groups.clear();
+        metrics.groups().forEach(groupCollector);
+        try {
+            groupGauge("chronos_group_paused", "Whether the group is paused.", group -> group.isPaused() ? 1 : 0);
+            groupGauge("chronos_group_active_executions", "Executions of the group running now.", TaskGroup::activeExecutions);
+            groupGauge("chronos_group_queued_executions", "Executions waiting in the group's ready queue.", TaskGroup::queuedExecutions);
+            groupCounter("chronos_group_overflowed_executions", "Executions that overflowed the group's ready queue.",
+                    TaskGroup::overflowedExecutions);
+            groupCounter("chronos_group_rejected_executions", "Executions rejected by the group's circuit breaker.",
+                    TaskGroup::rejectedExecutions);
+            groupCounter("chronos_group_rejected_retries", "Retries rejected by the group's retry budget.",
+                    TaskGroup::rejectedRetries);
+
+            header("chronos_group_retry_tokens", "gauge", "Tokens left in the group's retry budget.");
+            for (int i = 0; i < groups.size(); i++) {
+                groupSample("chronos_group_retry_tokens", "", groups.get(i)).decimal(groups.get(i).retryTokens()).ascii('\n');
+            }
+
+            header("chronos_group_circuit", "stateset", "State of the group's circuit breaker.");
+            for (int i = 0; i < groups.size(); i++) {
+                final TaskGroup group = groups.get(i);
+                final CircuitState current = group.circuitState();
+                for (final CircuitState state : CIRCUIT_STATES) {
+                    buffer.ascii("chronos_group_circuit{group=\"").labelValue(group.name())
+                            .ascii("\",chronos_group_circuit=\"").ascii(CIRCUIT_LABELS[state.ordinal()]).ascii("\"} ")
+                            .number(state == current ? 1 : 0).ascii('\n');
+                }
+            }
+        } finally {
+            groups.clear();
+        }
+    }
+
+    private void groupGauge(final String name, final String help, final ToLongFunction<TaskGroup> value) {
+        header(name, "gauge", help);
+        for (int i = 0; i < groups.size(); i++) {
+            groupSample(name, "", groups.get(i)).number(value.applyAsLong(groups.get(i))).ascii('\n');
+        }
+    }
+
+    private void groupCounter(final String name, final String help, final ToLongFunction<TaskGroup> value) {
+        header(name, "counter", help);
+        for (int i = 0; i < groups.size(); i++) {
+            groupSample(name, "_total", groups.get(i)).number(value.applyAsLong(groups.get(i))).ascii('\n');
+        }
+    }
+
+    private OpenMetricsBuffer groupSample(final String name, final String suffix, final TaskGroup group) {
+        return buffer.ascii(name).ascii(suffix).ascii("{group=\"").labelValue(group.name()).ascii("\"} ");
+    }
+
+    private void counter(final String name, final String help, final long value) {
+        header(name, "counter", help);
+        buffer.ascii(name).ascii("_total ").number(value).ascii('\n');
+    }
+
+    private void header(final String name, final String type, final String help) {
+        buffer.ascii("# TYPE ").ascii(name).ascii(' ').ascii(type).ascii('\n');
+        buffer.ascii("# HELP ").ascii(name).ascii(' ').ascii(help).ascii('\n');
+    }
+
+    private static String[] labels(final Enum<?>[] values) {
+        final String[] labels = new String[values.length];
+        for (final Enum<?> value : values) {
+            labels[value.ordinal()] = value.name().toLowerCase(Locale.ROOT);
+        }
+        return labels;
+    }
+}
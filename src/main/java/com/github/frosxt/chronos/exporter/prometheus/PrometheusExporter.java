@@ -0,0 +1,133 @@
+package com.github.frosxt.chronos.exporter.prometheus;
+
+import com.github.frosxt.chronos.api.Scheduler;
+import com.github.frosxt.chronos.runtime.scheduler.SchedulerImpl;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Serves the metrics of a scheduler in the OpenMetrics text format over the
+ * JDK's built-in HTTP server.
+ *
+ * <p>
+ * Scrapes are answered on a single daemon thread owned by the exporter.
+ * They read the scheduler's incrementally maintained counters, state
+ * gauges, latency histograms and group statistics and render them into a
+ * buffer that is reused from one scrape to the next. Apart from the atomic
+ * reads, a scrape only reads the size of the executor's timer queue, which
+ * holds the queue's lock for a single field read; it never walks or copies
+ * the queue or the scheduler's tasks.
+ *
+ * <pre>{@code
+ * try (PrometheusExporter exporter = PrometheusExporter.start(scheduler, new InetSocketAddress(9400))) {
+ *     ...
+ * }
+ * }</pre>
+ */
+public final class PrometheusExporter implements AutoCloseable {
+    /**
+     * The path metrics are served on.
+     */
+    public static final String PATH = "/metrics";
+
+    /**
+     * The content type of the exposition.
+     */
+    public static final String CONTENT_TYPE = "application/openmetrics-text; version=1.0.0; charset=utf-8";
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final OpenMetricsRenderer renderer;
+
+    private PrometheusExporter(final HttpServer server, final ExecutorService executor, final OpenMetricsRenderer renderer) {
+        this.server = server;
+        this.executor = executor;
+        this.renderer = renderer;
+    }
+
+    /**
+     * Starts serving the metrics of a scheduler.
+     *
+     * @param scheduler the scheduler, as created by
+     *                  {@link com.github.frosxt.chronos.api.factory.Chronos}
+     * @param address   the address to listen on; port 0 picks a free port
+     * @return the running exporter
+     * @throws IOException              if the server cannot be bound
+     * @throws IllegalArgumentException if the scheduler was not created by
+     *                                  Chronos
+     */
+    public static PrometheusExporter start(final Scheduler scheduler, final InetSocketAddress address) throws IOException {
+        Objects.requireNonNull(scheduler, "scheduler must not be null");
+        Objects.requireNonNull(address, "address must not be null");
+        if (!(scheduler instanceof final SchedulerImpl impl)) {
+            throw new IllegalArgumentException("scheduler must be created by Chronos");
+        }
+
+        final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, "chronos-prometheus");
+            thread.setDaemon(true);
+            return thread;
+        });
+        final HttpServer server;
+        try {
+            server = HttpServer.create(address, 0);
+        } catch (final IOException e) {
+            executor.shutdown();
+            throw e;
+        }
+
+        final PrometheusExporter exporter = new PrometheusExporter(server, executor, new OpenMetricsRenderer(impl.metrics()));
+        server.createContext(PATH, exporter::handle);
+        server.setExecutor(executor);
+        server.start();
+        return exporter;
+    }
+
+    /**
+     * Returns the address the exporter is listening on.
+     *
+     * @return the bound address
+     */
+    public InetSocketAddress address() {
+        return server.getAddress();
+    }
+
+    /**
+     * Stops serving and releases the exporter's thread. The scheduler is not
+     * affected.
+     */
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handle(final HttpExchange exchange) throws IOException {
+        try (exchange) {
+            final String method = exchange.getRequestMethod();
+            if (!"GET".equals(method) && !"HEAD".equals(method)) {
+                exchange.getResponseHeaders().set("Allow", "GET, HEAD");
+                exchange.sendResponseHeaders(405, -1);
+                return;
+            }
+
+            final OpenMetricsBuffer buffer = renderer.render();
+            exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE);
+            if ("HEAD".equals(method)) {
+                exchange.sendResponseHeaders(200, -1);
+                return;
+            }
+            exchange.sendResponseHeaders(200, buffer.size());
+            try (OutputStream body = exchange.getResponseBody()) {
+                buffer.writeTo(body);
+            }
+        }
+    }
+}
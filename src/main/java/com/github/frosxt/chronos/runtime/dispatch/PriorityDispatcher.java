@@ -0,0 +1,192 @@
+package com.github.frosxt.chronos.runtime.dispatch;
+
+import com.github.frosxt.chronos.api.policy.TaskPriority;
+import com.github.frosxt.chronos.runtime.time.mapper.InstantMapper;
+
+import java.util.Comparator;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Starts due executions in priority order when workers are saturated.
+ *
+ * <p>
+ * A firing timer only queues its execution; it is started by a worker
+ * holding one of a fixed number of dispatch permits, which keeps taking the
+ * best queued execution until none remain. Executions are ranked by
+ * priority, raised by one level for every aging step they have been due,
+ * and then by scheduled time. With fewer permits than workers, a worker
+ * stays free to fire timers while the others run tasks, so executions that
+ * become due under saturation still reach the queue and compete by priority
+ * rather than waiting in the timer queue in time order.
+ *
+ * <p>
+ * This class is thread-safe.
+ */
+public final class PriorityDispatcher {
+    private static final TaskPriority[] PRIORITIES = TaskPriority.values();
+    private static final Comparator<Entry> BY_DUE_TIME =
+            Comparator.comparingLong(Entry::dueNanos).thenComparingLong(Entry::sequence);
+
+    private final Level[] levels = new Level[PRIORITIES.length];
+    private final AtomicInteger permits;
+    private final AtomicLong sequence = new AtomicLong();
+    private final long agingNanos;
+    private final InstantMapper instantMapper;
+
+    /**
+     * Creates a new dispatcher.
+     *
+     * @param permits       the number of executions started concurrently
+     *                      through the dispatcher
+     * @param agingNanos    how long an execution waits before its priority
+     *                      is raised by one level
+     * @param instantMapper the instant mapper for time measurements
+     */
+    public PriorityDispatcher(final int permits, final long agingNanos, final InstantMapper instantMapper) {
+        this.permits = new AtomicInteger(permits);
+        this.agingNanos = agingNanos;
+        this.instantMapper = instantMapper;
+        for (int i = 0; i < levels.length; i++) {
+            levels[i] = new Level();
+        }
+    }
+
+    /**
+     * Queues a due execution and, if a permit is free, starts queued
+     * executions on the calling thread until none remain.
+     *
+     * @param priority  the priority of the execution's task
+     * @param dueNanos  the time the execution was scheduled for
+     * @param execution the execution to start
+     */
+    public void submit(final TaskPriority priority, final long dueNanos, final Runnable execution) {
+        final Level level = levels[priority.ordinal()];
+        level.depth.incrementAndGet();
+        level.queue.offer(new Entry(execution, dueNanos, sequence.getAndIncrement()));
+        drain();
+    }
+
+    private void drain() {
+        while (tryAcquirePermit()) {
+            try {
+                Entry entry;
+                while ((entry = next()) != null) {
+                    try {
+                        entry.execution.run();
+                    } catch (final Throwable ignored) {
+                        // The runner records its own failures; one execution must not stop the drain.
+                    }
+                }
+            } finally {
+                permits.incrementAndGet();
+            }
+            if (isEmpty()) {
+                return;
+            }
+        }
+    }
+
+    private boolean tryAcquirePermit() {
+        int available;
+        do {
+            available = permits.get();
+            if (available == 0) {
+                return false;
+            }
+        } while (!permits.compareAndSet(available, available - 1));
+        return true;
+    }
+
+    /**
+     * Removes the best queued execution and records its queueing delay.
+     */
+    private Entry next() {
+        while (true) {
+            final long currentNanos = instantMapper.nanoTime();
+            Level best = null;
+            long bestRank = Long.MAX_VALUE;
+            long bestDue = Long.MAX_VALUE;
+            for (int i = 0; i < levels.length; i++) {
+                final Entry head = levels[i].queue.peek();
+                if (head == null) {
+                    continue;
+                }
+                final long rank = i - Math.max(0, currentNanos - head.dueNanos) / agingNanos;
+                if (rank < bestRank || (rank == bestRank && head.dueNanos < bestDue)) {
+                    best = levels[i];
+                    bestRank = rank;
+                    bestDue = head.dueNanos;
+                }
+            }
+            if (best == null) {
+                return null;
+            }
+
+            final Entry entry = best.queue.poll();
+            if (entry != null) {
+                best.depth.decrementAndGet();
+                best.record(Math.max(0, currentNanos - entry.dueNanos));
+                return entry;
+            }
+        }
+    }
+
+    private boolean isEmpty() {
+        for (final Level level : levels) {
+            if (!level.queue.isEmpty()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the number of executions of a priority waiting to start.
+     */
+    public int depth(final TaskPriority priority) {
+        return Math.max(0, levels[priority.ordinal()].depth.get());
+    }
+
+    /**
+     * Returns the number of executions of a priority that have started.
+     */
+    public long dispatched(final TaskPriority priority) {
+        return levels[priority.ordinal()].dispatched.sum();
+    }
+
+    /**
+     * Returns the total time executions of a priority waited past their
+     * scheduled time before starting.
+     */
+    public long totalDelayNanos(final TaskPriority priority) {
+        return levels[priority.ordinal()].totalDelayNanos.sum();
+    }
+
+    /**
+     * Returns the longest time an execution of a priority waited past its
+     * scheduled time before starting.
+     */
+    public long maxDelayNanos(final TaskPriority priority) {
+        return levels[priority.ordinal()].maxDelayNanos.get();
+    }
+
+    private static final class Level {
+        private final PriorityBlockingQueue<Entry> queue = new PriorityBlockingQueue<>(16, BY_DUE_TIME);
+        private final AtomicInteger depth = new AtomicInteger();
+        private final LongAdder dispatched = new LongAdder();
+        private final LongAdder totalDelayNanos = new LongAdder();
+        private final AtomicLong maxDelayNanos = new AtomicLong();
+
+        private void record(final long delayNanos) {
+            dispatched.increment();
+            totalDelayNanos.add(delayNanos);
+            maxDelayNanos.accumulateAndGet(delayNanos, Math::max);
+        }
+    }
+
+    private record Entry(Runnable execution, long dueNanos, long sequence) {
+    }
+}
@@ -1,20 +1,37 @@
 package com.github.frosxt.chronos.runtime.execution;
 
-import com.github.frosxt.chronos.api.listener.TaskListener;
+import com.github.frosxt.chronos.api.TaskState;
+import com.github.frosxt.chronos.api.policy.BulkheadPolicy;
+import com.github.frosxt.chronos.api.policy.CircuitBreakerPolicy;
+import com.github.frosxt.chronos.api.policy.TaskTimeoutException;
+import com.github.frosxt.chronos.api.policy.TimeoutPolicy;
+import com.github.frosxt.chronos.runtime.dispatch.PriorityDispatcher;
 import com.github.frosxt.chronos.runtime.execution.failure.FailureHandler;
 import com.github.frosxt.chronos.runtime.execution.invoke.Invocation;
 import com.github.frosxt.chronos.runtime.execution.listener.ListenerDispatcher;
 import com.github.frosxt.chronos.runtime.execution.listener.TaskContextImpl;
+import com.github.frosxt.chronos.runtime.execution.pause.PauseGate;
+import com.github.frosxt.chronos.runtime.execution.reschedule.Rescheduler;
 import com.github.frosxt.chronos.runtime.execution.plan.NextRunPlanner;
 import com.github.frosxt.chronos.runtime.execution.retry.RetryScheduler;
+import com.github.frosxt.chronos.runtime.execution.timeout.ExecutionWatchdog;
+import com.github.frosxt.chronos.runtime.execution.timeout.RunDeadline;
+import com.github.frosxt.chronos.runtime.group.TaskGroup;
+import com.github.frosxt.chronos.runtime.group.breaker.CircuitBreaker;
+import com.github.frosxt.chronos.runtime.group.bulkhead.Bulkhead;
+import com.github.frosxt.chronos.runtime.jfr.TaskExecutionEvent;
+import com.github.frosxt.chronos.runtime.lane.SerialLane;
 import com.github.frosxt.chronos.runtime.metrics.MetricsCollector;
 import com.github.frosxt.chronos.runtime.scheduler.registry.TaskRegistry;
+import com.github.frosxt.chronos.runtime.shedding.LoadShedder;
 import com.github.frosxt.chronos.runtime.task.TaskControl;
+import com.github.frosxt.chronos.runtime.task.stats.TaskStatsRecorder;
 import com.github.frosxt.chronos.runtime.time.mapper.InstantMapper;
 
 import java.time.Duration;
 import java.time.Instant;
-import java.util.List;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
 
 /**
@@ -22,6 +39,7 @@ import java.util.concurrent.ScheduledExecutorService;
  */
 public final class TaskRunner implements Runnable {
     private final TaskControl control;
+    private final ScheduledExecutorService executor;
     private final InstantMapper instantMapper;
     private final TaskRegistry registry;
     private final MetricsCollector metricsCollector;
@@ -30,30 +48,101 @@ public final class TaskRunner implements Runnable {
     private final ListenerDispatcher listeners;
     private final NextRunPlanner nextRunPlanner;
     private final RetryScheduler retryScheduler;
+    private final ExecutionWatchdog watchdog;
+    private final PauseGate pauseGate;
+    private final SerialLane lane;
+    private final PriorityDispatcher dispatcher;
+    private final LoadShedder shedder;
+    private final Runnable admission = this::admit;
+    private final Runnable laneEntry = this::enterLane;
+    private final Runnable execution = this::execute;
 
     public TaskRunner(final TaskControl control, final ScheduledExecutorService executor,
-                      final InstantMapper instantMapper, final List<TaskListener> listeners,
-                      final MetricsCollector metricsCollector, final TaskRegistry registry) {
+                      final InstantMapper instantMapper, final ListenerDispatcher listeners,
+                      final MetricsCollector metricsCollector, final TaskRegistry registry,
+                      final ExecutionWatchdog watchdog, final SerialLane lane,
+                      final PriorityDispatcher dispatcher, final LoadShedder shedder) {
         this.control = control;
+        this.lane = lane;
+        this.dispatcher = dispatcher;
+        this.shedder = shedder;
+        this.executor = executor;
+        this.watchdog = watchdog;
         this.instantMapper = instantMapper;
         this.registry = registry;
         this.metricsCollector = metricsCollector;
 
         this.invocation = new Invocation();
-        this.listeners = new ListenerDispatcher(listeners);
+        this.listeners = listeners;
         this.nextRunPlanner = new NextRunPlanner(control, executor, instantMapper, registry, metricsCollector);
         this.retryScheduler = new RetryScheduler(control, executor, instantMapper);
+        this.pauseGate = new PauseGate(control, executor, () -> nextRunPlanner.resume(this, control.runCount()));
+        control.setPauseGate(pauseGate);
+        control.setRescheduler(new Rescheduler(control, executor, instantMapper, control::runCount,
+                () -> nextRunPlanner.replan(this, control.runCount())));
     }
 
     @Override
     public void run() {
-        if (!tryStartExecution()) {
+        control.markTimerFired();
+        if (dispatcher != null) {
+            dispatcher.submit(control.priority(), control.nextScheduledNanos(), admission);
+        } else {
+            admit();
+        }
+    }
+
+    /**
+     * Admits the execution through the group's bulkhead, if it has one.
+     */
+    private void admit() {
+        final Bulkhead bulkhead = control.group().bulkhead();
+        if (bulkhead == null) {
+            enterLane();
+        } else if (!bulkhead.submit(laneEntry)) {
+            handleOverflow(bulkhead.policy());
+        }
+    }
+
+    /**
+     * Starts the execution, or queues it behind earlier executions on the
+     * task's serial lane.
+     */
+    private void enterLane() {
+        if (lane != null) {
+            lane.submit(execution);
+        } else {
+            execute();
+        }
+    }
+
+    /**
+     * Runs one execution. For tasks on a serial lane this is called by the
+     * lane's drainer once earlier executions on the lane have finished.
+     */
+    private void execute() {
+        if (pauseGate.onFire() || (shedder != null && shed()) || !tryStartExecution()) {
             return;
         }
 
         final long startNanos = instantMapper.nanoTime();
+        final TaskGroup group = control.group();
+        if (!group.tryAcquire(startNanos)) {
+            handleRejected(startNanos);
+            return;
+        }
+        if (control.retryAttempt() == 0) {
+            group.recordFirstAttempt();
+        }
+
         final Instant startInstant = instantMapper.now();
         control.setLastStartNanos(startNanos);
+        final long lagNanos = startNanos - control.nextScheduledNanos();
+        metricsCollector.recordStartLag(control.type(), lagNanos);
+        final TaskStatsRecorder stats = control.stats();
+        if (stats != null) {
+            stats.recordStart(lagNanos);
+        }
 
         final long runNumber = control.incrementRunCount();
         metricsCollector.recordExecution();
@@ -66,18 +155,81 @@ public final class TaskRunner implements Runnable {
 
         listeners.notifyStart(context);
 
+        final TaskContextImpl started = context;
+        final RunDeadline deadline = watch(started, startNanos, lagNanos);
+
+        if (control.isAsync()) {
+            final CompletionStage<?> stage = invocation.executeAsync(control.asyncTask(), error -> {
+                if (deadline == null || deadline.finish()) {
+                    complete(started, startNanos, lagNanos, error);
+                }
+            });
+            if (deadline != null) {
+                deadline.attach(stage);
+            }
+            return;
+        }
+
         final Throwable error = invocation.execute(control.task());
+        if (deadline == null || deadline.finish()) {
+            complete(started, startNanos, lagNanos, error);
+        }
+    }
 
+    /**
+     * Registers the execution with the watchdog if the task has a timeout.
+     *
+     * <p>
+     * If the deadline passes first, the execution's own outcome is ignored
+     * and the run completes on a scheduler thread as a
+     * {@link TaskTimeoutException}.
+     */
+    private RunDeadline watch(final TaskContextImpl context, final long startNanos, final long lagNanos) {
+        final TimeoutPolicy timeout = control.timeoutPolicy();
+        if (timeout == null) {
+            return null;
+        }
+
+        return watchdog.watch(timeout, control.isAsync() ? null : Thread.currentThread(), () -> {
+            metricsCollector.recordTimeout();
+            final Runnable completion = () -> complete(context, startNanos, lagNanos, new TaskTimeoutException(timeout.timeout()));
+            try {
+                executor.execute(completion);
+            } catch (final RejectedExecutionException e) {
+                completion.run();
+            }
+        });
+    }
+
+    /**
+     * Records the end of an execution and plans what happens next.
+     *
+     * <p>
+     * For asynchronous tasks this runs on the thread that completed the
+     * task's stage, so the next run or retry is armed from the completion
+     * rather than from a worker waiting on it.
+     */
+    private void complete(TaskContextImpl context, final long startNanos, final long lagNanos, final Throwable error) {
+        final TaskGroup group = control.group();
         final long endNanos = instantMapper.nanoTime();
         final Instant endInstant = instantMapper.now();
         control.setLastEndNanos(endNanos);
+        metricsCollector.recordRunDuration(control.id(), control.type(), endNanos - startNanos);
+        final TaskStatsRecorder stats = control.stats();
+        if (stats != null) {
+            stats.recordEnd(endNanos - startNanos, error != null);
+        }
+        TaskExecutionEvent.commit(control.id(), control.type(), lagNanos, endNanos - startNanos, error != null);
 
         final Duration duration = Duration.ofNanos(endNanos - startNanos);
         context = context.withEnd(endInstant, duration);
 
         if (error != null) {
+            control.setLastError(error);
+            group.recordFailure(endNanos);
             handleFailure(context, error);
         } else {
+            group.recordSuccess();
             handleSuccess(context);
         }
     }
@@ -98,8 +250,8 @@ public final class TaskRunner implements Runnable {
         }
 
         if (!control.trigger().isRecurring()) {
-            control.stateMachine().completeOnce();
             metricsCollector.recordCompleted();
+            control.stateMachine().completeOnce();
             registry.unregister(control.id());
             context = context.withNext(null);
             listeners.notifySuccess(context);
@@ -120,10 +272,80 @@ public final class TaskRunner implements Runnable {
             return;
         }
 
-        final FailureHandler.Action action = FailureHandler.handleFailure(control, error);
+        applyFailureAction(FailureHandler.handleFailure(control, error));
+    }
+
+    /**
+     * Delays or drops an execution that found its group's bulkhead full.
+     */
+    private void handleOverflow(final BulkheadPolicy policy) {
+        if (control.stateMachine().isTerminal()) {
+            return;
+        }
+        if (control.isCancellationRequested()) {
+            transitionToTerminal(true);
+            return;
+        }
+
+        if (policy.overflow() == BulkheadPolicy.Overflow.DELAY) {
+            nextRunPlanner.scheduleDeferred(this, policy.overflowDelayNanos());
+        } else if (control.trigger().isRecurring()) {
+            nextRunPlanner.skip(this, control.runCount());
+        } else {
+            transitionToTerminal(true);
+        }
+    }
+
+    /**
+     * Reports the lag of a due execution to the load shedder, and skips the
+     * execution if the task is sheddable and the scheduler is shedding load.
+     * A recurring task waits for its next execution time; a one-shot task is
+     * deferred, staying scheduled until the lag recovers.
+     *
+     * @return true if the execution was shed
+     */
+    private boolean shed() {
+        final boolean shedding = shedder.observe(instantMapper.nanoTime() - control.nextScheduledNanos());
+        if (!shedding || !control.sheddable() || control.state() != TaskState.SCHEDULED) {
+            return false;
+        }
+
+        shedder.recordShed();
+        control.incrementShedCount();
+        if (control.trigger().isRecurring()) {
+            nextRunPlanner.skip(this, control.runCount());
+        } else {
+            nextRunPlanner.scheduleDeferred(this, shedder.thresholdNanos());
+        }
+        return true;
+    }
+
+    private void handleRejected(final long nowNanos) {
+        if (control.isCancellationRequested()) {
+            transitionToTerminal(true);
+            return;
+        }
+
+        final CircuitBreaker breaker = control.group().breaker();
+        if (breaker.policy().openAction() == CircuitBreakerPolicy.OpenAction.FAIL) {
+            final FailureHandler.Action action = FailureHandler.handleFailure(control, breaker.openException());
+            if (action != FailureHandler.Action.CONTINUE) {
+                applyFailureAction(action);
+                return;
+            }
+        }
+
+        control.resetRetryAttempt();
+        control.stateMachine().deferExecution();
+        nextRunPlanner.scheduleDeferred(this, breaker.retryAfterNanos(nowNanos));
+    }
 
+    private void applyFailureAction(final FailureHandler.Action action) {
         switch (action) {
             case RETRY:
+                if (control.stats() != null) {
+                    control.stats().recordRetry();
+                }
                 control.incrementRetryAttempt();
                 control.stateMachine().scheduleRetry();
                 retryScheduler.scheduleRetry(this);
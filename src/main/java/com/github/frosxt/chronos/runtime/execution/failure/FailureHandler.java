@@ -1,7 +1,7 @@
 package com.github.frosxt.chronos.runtime.execution.failure;
 
 import com.github.frosxt.chronos.api.TaskType;
-import com.github.frosxt.chronos.api.policy.ExecutionPolicy;
+import com.github.frosxt.chronos.api.policy.FailureRule;
 import com.github.frosxt.chronos.runtime.execution.plan.RetryPlanner;
 import com.github.frosxt.chronos.runtime.task.TaskControl;
 
@@ -37,14 +37,24 @@ public final class FailureHandler {
     /**
      * Determines the action to take for a failed task execution.
      *
+     * <p>
+     * The failure is classified by the task's execution policy, so the rule
+     * matching the exception type decides the action and retry policy. The
+     * retry policy of a granted retry is recorded on the task control.
+     *
+     * <p>
+     * Retries are only granted while the task's group admits them, so an
+     * exhausted retry budget or an open circuit breaker is handled as if the
+     * retry policy had run out of attempts.
+     *
      * @param control the task control
      * @param error   the exception that caused the failure
      * @return the action to take
      */
     public static Action handleFailure(final TaskControl control, final Throwable error) {
-        final ExecutionPolicy policy = control.executionPolicy();
+        final FailureRule rule = control.executionPolicy().classify(error);
 
-        switch (policy.type()) {
+        switch (rule.action()) {
             case STOP_ON_FAILURE:
                 return Action.FAIL;
 
@@ -55,7 +65,8 @@ public final class FailureHandler {
                 return Action.CONTINUE;
 
             case RETRY:
-                if (RetryPlanner.hasMoreRetries(control)) {
+                if (RetryPlanner.hasMoreRetries(control, rule.retryPolicy()) && control.group().tryAcquireRetry()) {
+                    control.setRetryPolicy(rule.retryPolicy());
                     return Action.RETRY;
                 }
                 if (control.type() == TaskType.ONCE) {
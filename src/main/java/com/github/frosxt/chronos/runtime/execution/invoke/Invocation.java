@@ -1,5 +1,10 @@
 package com.github.frosxt.chronos.runtime.execution.invoke;
 
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
 /**
  * Handles the actual execution of the user task.
  */
@@ -13,4 +18,42 @@ public final class Invocation {
             return t;
         }
     }
+
+    /**
+     * Starts an asynchronous task and reports its outcome once the returned
+     * stage completes.
+     *
+     * <p>
+     * The callback receives null on success or the failure cause otherwise,
+     * and runs on the thread that completes the stage. A task that throws or
+     * returns null is reported as failed immediately.
+     *
+     * @param task     the asynchronous task
+     * @param callback the completion callback
+     * @return the stage returned by the task, or null if the task did not
+     *         return one
+     */
+    public CompletionStage<?> executeAsync(final Supplier<? extends CompletionStage<?>> task, final Consumer<Throwable> callback) {
+        final CompletionStage<?> stage;
+        try {
+            stage = task.get();
+        } catch (final Throwable t) {
+            callback.accept(t);
+            return null;
+        }
+
+        if (stage == null) {
+            callback.accept(new NullPointerException("async task returned a null stage"));
+            return null;
+        }
+        stage.whenComplete((result, error) -> callback.accept(unwrap(error)));
+        return stage;
+    }
+
+    private static Throwable unwrap(final Throwable error) {
+        if (error instanceof CompletionException && error.getCause() != null) {
+            return error.getCause();
+        }
+        return error;
+    }
 }
@@ -0,0 +1,223 @@
+package com.github.frosxt.chronos.runtime.execution.listener;
+
+import com.github.frosxt.chronos.api.listener.TaskContext;
+import com.github.frosxt.chronos.api.listener.TaskListener;
+import com.github.frosxt.chronos.api.policy.AsyncListenerPolicy;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Delivers listener events on a dedicated thread through a bounded ring
+ * buffer.
+ *
+ * <p>
+ * The buffer is an array of event slots allocated once and reused for the
+ * life of the scheduler. A worker claims the next sequence number with one
+ * CAS, fills the slot at that position and publishes it by writing the
+ * sequence into the slot; the listener thread consumes slots strictly in
+ * sequence order and clears them for reuse. Publishing therefore allocates
+ * nothing and never takes a lock, and the listener thread only parks when
+ * the buffer is empty.
+ *
+ * <p>
+ * A slot is free once the listener thread has consumed the sequence one
+ * lap behind it. A worker that finds no free slot applies the overflow mode
+ * of the policy. Every event that is not delivered is counted, including
+ * one whose slot was claimed after the bus stopped; such a slot is still
+ * published, empty, so the listener thread does not wait on it.
+ *
+ * <p>
+ * This class is thread-safe.
+ */
+public final class AsyncListenerBus {
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+    private static final long BLOCK_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+
+    private final List<TaskListener> listeners;
+    private final AsyncListenerPolicy.Overflow overflow;
+    private final int sampleRate;
+    private final Slot[] slots;
+    private final int mask;
+    private final long sampleThreshold;
+    private final AtomicLong claimed = new AtomicLong();
+    private final AtomicLong consumed = new AtomicLong();
+    private final AtomicLong sampled = new AtomicLong();
+    private final LongAdder dropped = new LongAdder();
+    private final Thread consumer;
+    private volatile boolean waiting;
+    private volatile boolean stopped;
+
+    /**
+     * Creates a bus and starts its listener thread.
+     *
+     * @param listeners  the listeners events are delivered to
+     * @param policy     the buffer capacity and overflow mode
+     * @param threadName the name of the listener thread
+     */
+    public AsyncListenerBus(final List<TaskListener> listeners, final AsyncListenerPolicy policy,
+                            final String threadName) {
+        this.listeners = listeners;
+        this.overflow = policy.overflow();
+        this.sampleRate = policy.sampleRate();
+        this.slots = new Slot[policy.capacity()];
+        for (int i = 0; i < slots.length; i++) {
+            slots[i] = new Slot(i - slots.length);
+        }
+        this.mask = slots.length - 1;
+        this.sampleThreshold = slots.length / 2;
+
+        this.consumer = new Thread(this::runConsumer, threadName);
+        consumer.setDaemon(true);
+        consumer.start();
+    }
+
+    void publish(final ListenerEvent kind, final TaskContext context, final Throwable error) {
+        if (stopped) {
+            dropped.increment();
+            return;
+        }
+        if (overflow == AsyncListenerPolicy.Overflow.SAMPLE && backlog() > sampleThreshold
+                && sampled.getAndIncrement() % sampleRate != 0) {
+            dropped.increment();
+            return;
+        }
+
+        final long sequence = claim();
+        if (sequence < 0) {
+            dropped.increment();
+            return;
+        }
+
+        final Slot slot = slots[(int) sequence & mask];
+        if (stopped) {
+            // The listener thread may already have exited, so the event is not delivered
+            dropped.increment();
+        } else {
+            slot.kind = kind;
+            slot.context = context;
+            slot.error = error;
+        }
+        slot.publishedNanos = System.nanoTime();
+        slot.sequence = sequence;
+        if (waiting) {
+            LockSupport.unpark(consumer);
+        }
+    }
+
+    /**
+     * Claims the next free sequence, or returns -1 if the event is to be
+     * dropped.
+     */
+    private long claim() {
+        while (true) {
+            final long sequence = claimed.get();
+            if (sequence - consumed.get() >= slots.length) {
+                if (overflow != AsyncListenerPolicy.Overflow.BLOCK || stopped) {
+                    return -1;
+                }
+                LockSupport.unpark(consumer);
+                LockSupport.parkNanos(this, BLOCK_PARK_NANOS);
+                continue;
+            }
+            if (claimed.compareAndSet(sequence, sequence + 1)) {
+                return sequence;
+            }
+        }
+    }
+
+    private void runConsumer() {
+        long next = 0;
+        while (true) {
+            final Slot slot = slots[(int) next & mask];
+            if (slot.sequence != next) {
+                if (stopped) {
+                    if (claimed.get() == next) {
+                        return;
+                    }
+                    // A worker claimed this slot before the stop and is still filling it
+                    Thread.onSpinWait();
+                    continue;
+                }
+                waiting = true;
+                if (slot.sequence != next && !stopped) {
+                    LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+                }
+                waiting = false;
+                continue;
+            }
+
+            if (slot.kind != null) {
+                ListenerDispatcher.deliver(listeners, slot.kind, slot.context, slot.error);
+            }
+            slot.kind = null;
+            slot.context = null;
+            slot.error = null;
+            consumed.set(++next);
+        }
+    }
+
+    /**
+     * Stops accepting events. Events already published are still delivered,
+     * then the listener thread exits.
+     */
+    public void stop() {
+        stopped = true;
+        LockSupport.unpark(consumer);
+    }
+
+    /**
+     * Returns the number of events published but not yet delivered.
+     *
+     * @return the backlog
+     */
+    public long backlog() {
+        return Math.max(0, claimed.get() - consumed.get());
+    }
+
+    /**
+     * Returns how long the oldest undelivered event has been waiting.
+     *
+     * @return the listener lag in nanoseconds, or 0 if the buffer is empty
+     */
+    public long lagNanos() {
+        final long next = consumed.get();
+        final Slot slot = slots[(int) next & mask];
+        if (slot.sequence != next) {
+            return 0;
+        }
+        final long publishedNanos = slot.publishedNanos;
+        if (consumed.get() != next) {
+            return 0;
+        }
+        return Math.max(0, System.nanoTime() - publishedNanos);
+    }
+
+    /**
+     * Returns the number of events that were dropped rather than delivered.
+     *
+     * @return the dropped event count
+     */
+    public long droppedCount() {
+        return dropped.sum();
+    }
+
+    /**
+     * A reusable buffer entry. The fields are written by the claiming worker
+     * before the volatile sequence write that publishes them.
+     */
+    private static final class Slot {
+        private ListenerEvent kind;
+        private TaskContext context;
+        private Throwable error;
+        private long publishedNanos;
+        private volatile long sequence;
+
+        private Slot(final long sequence) {
+            this.sequence = sequence;
+        }
+    }
+}
@@ -7,36 +7,73 @@ import java.util.List;
 
 /**
  * Dispatches events to task listeners.
+ *
+ * <p>
+ * Without a bus, listeners are called on the calling thread. With a bus,
+ * events are handed to its listener thread and the caller returns
+ * immediately.
  */
 public final class ListenerDispatcher {
     private final List<TaskListener> listeners;
+    private final AsyncListenerBus bus;
 
     public ListenerDispatcher(final List<TaskListener> listeners) {
+        this(listeners, null);
+    }
+
+    /**
+     * Creates a dispatcher.
+     *
+     * @param listeners the listeners
+     * @param bus       the bus delivering events off the calling thread, or
+     *                  null to call listeners directly
+     */
+    public ListenerDispatcher(final List<TaskListener> listeners, final AsyncListenerBus bus) {
         this.listeners = listeners;
+        this.bus = bus;
     }
 
     public void notifyStart(final TaskContext context) {
-        for (final TaskListener listener : listeners) {
-            try {
-                listener.onStart(context);
-            } catch (final Throwable t) {
-            }
-        }
+        dispatch(ListenerEvent.START, context, null);
     }
 
     public void notifySuccess(final TaskContext context) {
-        for (final TaskListener listener : listeners) {
-            try {
-                listener.onSuccess(context);
-            } catch (final Throwable t) {
-            }
-        }
+        dispatch(ListenerEvent.SUCCESS, context, null);
     }
 
     public void notifyFailure(final TaskContext context, final Throwable error) {
+        dispatch(ListenerEvent.FAILURE, context, error);
+    }
+
+    /**
+     * Returns the bus events are delivered through.
+     *
+     * @return the bus, or null if listeners are called directly
+     */
+    public AsyncListenerBus bus() {
+        return bus;
+    }
+
+    private void dispatch(final ListenerEvent kind, final TaskContext context, final Throwable error) {
+        if (listeners.isEmpty()) {
+            return;
+        }
+        if (bus != null) {
+            bus.publish(kind, context, error);
+            return;
+        }
+        deliver(listeners, kind, context, error);
+    }
+
+    static void deliver(final List<TaskListener> listeners, final ListenerEvent kind, final TaskContext context,
+                        final Throwable error) {
         for (final TaskListener listener : listeners) {
             try {
-                listener.onFailure(context, error);
+                switch (kind) {
+                    case START -> listener.onStart(context);
+                    case SUCCESS -> listener.onSuccess(context);
+                    case FAILURE -> listener.onFailure(context, error);
+                }
             } catch (final Throwable t) {
             }
         }
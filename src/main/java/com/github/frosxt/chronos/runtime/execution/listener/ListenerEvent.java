@@ -0,0 +1,10 @@
+package com.github.frosxt.chronos.runtime.execution.listener;
+
+/**
+ * The kind of a listener event.
+ */
+enum ListenerEvent {
+    START,
+    SUCCESS,
+    FAILURE
+}
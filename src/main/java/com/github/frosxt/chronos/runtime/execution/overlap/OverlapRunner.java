@@ -0,0 +1,216 @@
+package com.github.frosxt.chronos.runtime.execution.overlap;
+
+import com.github.frosxt.chronos.api.TaskState;
+import com.github.frosxt.chronos.api.policy.CircuitBreakerPolicy;
+import com.github.frosxt.chronos.runtime.execution.failure.FailureHandler;
+import com.github.frosxt.chronos.runtime.execution.invoke.Invocation;
+import com.github.frosxt.chronos.runtime.execution.listener.ListenerDispatcher;
+import com.github.frosxt.chronos.runtime.execution.listener.TaskContextImpl;
+import com.github.frosxt.chronos.runtime.execution.pause.PauseGate;
+import com.github.frosxt.chronos.runtime.execution.reschedule.Rescheduler;
+import com.github.frosxt.chronos.runtime.execution.plan.NextRunPlanner;
+import com.github.frosxt.chronos.runtime.group.TaskGroup;
+import com.github.frosxt.chronos.runtime.group.breaker.CircuitBreaker;
+import com.github.frosxt.chronos.runtime.jfr.RunsSkippedEvent;
+import com.github.frosxt.chronos.runtime.jfr.TaskExecutionEvent;
+import com.github.frosxt.chronos.runtime.metrics.MetricsCollector;
+import com.github.frosxt.chronos.runtime.scheduler.registry.TaskRegistry;
+import com.github.frosxt.chronos.runtime.task.TaskControl;
+import com.github.frosxt.chronos.runtime.task.stats.TaskStatsRecorder;
+import com.github.frosxt.chronos.runtime.time.mapper.InstantMapper;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Executes fixed-rate tasks whose executions may overlap.
+ *
+ * <p>
+ * Each firing arms the next slot before running the task, so a slow
+ * execution does not delay the following one. Up to {@code maxConcurrent}
+ * executions may be in flight; a slot that would exceed the limit is
+ * skipped. The task stays in the SCHEDULED state while executions are in
+ * flight, so it can be cancelled at any time; running executions finish
+ * normally.
+ *
+ * <p>
+ * Failures are handled by the {@link FailureHandler}: a failing action
+ * fails the task, every other action continues with the next slot. Task
+ * specs that would need retries are rejected up front. A slot rejected by
+ * the group's circuit breaker is skipped, or, with the fail open action,
+ * reported to the listeners and handled as a failure with the breaker's
+ * exception.
+ */
+public final class OverlapRunner implements Runnable {
+    private final TaskControl control;
+    private final InstantMapper instantMapper;
+    private final TaskRegistry registry;
+    private final MetricsCollector metricsCollector;
+    private final int maxConcurrent;
+
+    private final Invocation invocation;
+    private final ListenerDispatcher listeners;
+    private final NextRunPlanner nextRunPlanner;
+    private final PauseGate pauseGate;
+    private final AtomicLong slots = new AtomicLong();
+
+    public OverlapRunner(final TaskControl control, final ScheduledExecutorService executor,
+                         final InstantMapper instantMapper, final ListenerDispatcher listeners,
+                         final MetricsCollector metricsCollector, final TaskRegistry registry,
+                         final int maxConcurrent) {
+        this.control = control;
+        this.instantMapper = instantMapper;
+        this.registry = registry;
+        this.metricsCollector = metricsCollector;
+        this.maxConcurrent = maxConcurrent;
+
+        this.invocation = new Invocation();
+        this.listeners = listeners;
+        this.nextRunPlanner = new NextRunPlanner(control, executor, instantMapper, registry, metricsCollector);
+        this.pauseGate = new PauseGate(control, executor, () -> nextRunPlanner.resume(this, slots.get()));
+        control.setPauseGate(pauseGate);
+        control.setRescheduler(new Rescheduler(control, executor, instantMapper, slots::get,
+                () -> nextRunPlanner.replan(this, slots.get())));
+    }
+
+    @Override
+    public void run() {
+        control.markTimerFired();
+        if (pauseGate.onFire() || control.state() != TaskState.SCHEDULED) {
+            return;
+        }
+
+        final long scheduledNanos = control.nextScheduledNanos();
+        final Instant nextInstant = nextRunPlanner.scheduleNext(this, slots.incrementAndGet());
+
+        final int inFlight = control.tryEnterFlight(maxConcurrent);
+        if (inFlight < 0) {
+            metricsCollector.recordSkipped(1);
+            RunsSkippedEvent.commit(control.id(), 1);
+            return;
+        }
+        if (inFlight > 0) {
+            metricsCollector.recordOverlapped();
+        }
+
+        boolean started = false;
+        try {
+            started = start(scheduledNanos, nextInstant);
+        } finally {
+            if (!started) {
+                control.exitFlight();
+            }
+        }
+    }
+
+    /**
+     * Starts an execution. Returns whether the execution was started, in which
+     * case the in-flight slot is released when it completes.
+     */
+    private boolean start(final long scheduledNanos, final Instant nextInstant) {
+        final long startNanos = instantMapper.nanoTime();
+        final TaskGroup group = control.group();
+        if (!group.tryAcquire(startNanos)) {
+            handleRejected(scheduledNanos);
+            return false;
+        }
+        group.recordFirstAttempt();
+
+        final Instant startInstant = instantMapper.now();
+        control.setLastStartNanos(startNanos);
+        metricsCollector.recordStartLag(control.type(), startNanos - scheduledNanos);
+        final TaskStatsRecorder stats = control.stats();
+        if (stats != null) {
+            stats.recordStart(startNanos - scheduledNanos);
+        }
+
+        final long runNumber = control.incrementRunCount();
+        metricsCollector.recordExecution();
+
+        TaskContextImpl context = new TaskContextImpl(control.id(),
+                control.type(),
+                runNumber,
+                instantMapper.toInstant(scheduledNanos),
+                startInstant);
+
+        listeners.notifyStart(context);
+
+        final TaskContextImpl startedContext = context;
+        if (control.isAsync()) {
+            invocation.executeAsync(control.asyncTask(), error -> complete(startedContext, scheduledNanos, startNanos, nextInstant, error));
+        } else {
+            complete(startedContext, scheduledNanos, startNanos, nextInstant, invocation.execute(control.task()));
+        }
+        return true;
+    }
+
+    private void handleRejected(final long scheduledNanos) {
+        final CircuitBreaker breaker = control.group().breaker();
+        if (breaker.policy().openAction() == CircuitBreakerPolicy.OpenAction.FAIL) {
+            final Throwable error = breaker.openException();
+            control.setLastError(error);
+            final Instant now = instantMapper.now();
+            listeners.notifyFailure(new TaskContextImpl(control.id(),
+                    control.type(),
+                    control.runCount(),
+                    instantMapper.toInstant(scheduledNanos),
+                    now).withEnd(now, Duration.ZERO), error);
+            if (handleFailure(error)) {
+                return;
+            }
+        }
+        metricsCollector.recordSkipped(1);
+        RunsSkippedEvent.commit(control.id(), 1);
+    }
+
+    /**
+     * Applies the execution policy to a failure. Returns whether the task
+     * failed.
+     */
+    private boolean handleFailure(final Throwable error) {
+        if (FailureHandler.handleFailure(control, error) != FailureHandler.Action.FAIL
+                || !control.stateMachine().failFromScheduled()) {
+            return false;
+        }
+        control.cancelScheduledFuture();
+        metricsCollector.recordFailed();
+        registry.unregister(control.id());
+        return true;
+    }
+
+    private void complete(final TaskContextImpl context, final long scheduledNanos, final long startNanos,
+                          final Instant nextInstant, final Throwable error) {
+        try {
+            finish(context, scheduledNanos, startNanos, nextInstant, error);
+        } finally {
+            control.exitFlight();
+        }
+    }
+
+    private void finish(TaskContextImpl context, final long scheduledNanos, final long startNanos, final Instant nextInstant,
+                        final Throwable error) {
+        final TaskGroup group = control.group();
+        final long endNanos = instantMapper.nanoTime();
+        control.setLastEndNanos(endNanos);
+        metricsCollector.recordRunDuration(control.id(), control.type(), endNanos - startNanos);
+        final TaskStatsRecorder stats = control.stats();
+        if (stats != null) {
+            stats.recordEnd(endNanos - startNanos, error != null);
+        }
+        TaskExecutionEvent.commit(control.id(), control.type(), startNanos - scheduledNanos, endNanos - startNanos, error != null);
+        context = context.withEnd(instantMapper.now(), Duration.ofNanos(endNanos - startNanos));
+
+        if (error == null) {
+            group.recordSuccess();
+            listeners.notifySuccess(context.withNext(nextInstant));
+            return;
+        }
+
+        control.setLastError(error);
+        group.recordFailure(endNanos);
+        listeners.notifyFailure(context, error);
+        handleFailure(error);
+    }
+}
@@ -0,0 +1,144 @@
+package com.github.frosxt.chronos.runtime.execution.pause;
+
+import com.github.frosxt.chronos.runtime.execution.plan.PendingTimer;
+import com.github.frosxt.chronos.runtime.task.TaskControl;
+
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Coordinates pausing and resuming a task with its runner.
+ *
+ * <p>
+ * A pause request is recorded first and applied at the earliest point where
+ * the task has no pending execution: immediately if its timer can be removed
+ * from the executor's queue before it fires, otherwise when the timer fires
+ * or when the runner arms the next execution. A task therefore never has a
+ * live timer while it is paused, and resuming it arms exactly one. A task
+ * resumed after the executor stopped accepting work is cancelled.
+ *
+ * <p>
+ * This class is thread-safe.
+ */
+public final class PauseGate {
+    private final TaskControl control;
+    private final ScheduledExecutorService executor;
+    private final Runnable rearm;
+    private final AtomicBoolean requested = new AtomicBoolean();
+
+    /**
+     * Creates a new pause gate.
+     *
+     * @param control  the task control
+     * @param executor the executor the task's timers are armed on
+     * @param rearm    arms the next execution of a resumed task
+     */
+    public PauseGate(final TaskControl control, final ScheduledExecutorService executor, final Runnable rearm) {
+        this.control = control;
+        this.executor = executor;
+        this.rearm = rearm;
+    }
+
+    /**
+     * Returns a gate for the same task that no longer references its
+     * runner. Installed once the task has terminated, so a retained handle
+     * does not keep the runner reachable.
+     *
+     * @return the detached gate
+     */
+    public PauseGate detached() {
+        return new PauseGate(control, executor, () -> { });
+    }
+
+    /**
+     * Requests that the task pause.
+     *
+     * @return true if the task is paused or will pause once its current
+     *         execution ends, false if it has already terminated
+     */
+    public boolean pause() {
+        if (control.stateMachine().isTerminal()) {
+            return false;
+        }
+        requested.set(true);
+        afterArm();
+        return !control.stateMachine().isTerminal();
+    }
+
+    /**
+     * Resumes a paused task, or withdraws a pause that has not been applied
+     * yet.
+     *
+     * @return true if the task was paused or had a pending pause request,
+     *         false if it was not paused or has terminated
+     */
+    public boolean resume() {
+        final boolean wasRequested = requested.getAndSet(false);
+        if (tryRearm()) {
+            return true;
+        }
+        return wasRequested && !control.stateMachine().isTerminal();
+    }
+
+    /**
+     * Returns whether a pause has been requested and not withdrawn.
+     *
+     * @return true if the task is paused or pausing
+     */
+    public boolean isRequested() {
+        return requested.get();
+    }
+
+    /**
+     * Applies a pending pause when the task's timer fires.
+     *
+     * <p>
+     * Called by the runner before it starts an execution.
+     *
+     * @return true if the task paused and the execution must not start
+     */
+    public boolean onFire() {
+        if (!requested.get() || !control.stateMachine().pause()) {
+            return false;
+        }
+        settle();
+        return true;
+    }
+
+    /**
+     * Applies a pending pause after a timer was armed.
+     *
+     * <p>
+     * Called wherever the task's next execution is armed, after the future
+     * is stored in the task control.
+     */
+    public void afterArm() {
+        if (requested.get() && PendingTimer.remove(control, executor) && control.stateMachine().pause()) {
+            settle();
+        }
+    }
+
+    /**
+     * Re-checks the request after a pause was applied, so a resume that ran
+     * concurrently is not lost.
+     */
+    private void settle() {
+        if (!requested.get()) {
+            tryRearm();
+        }
+    }
+
+    private boolean tryRearm() {
+        if (!control.stateMachine().resume(control.retryAttempt() > 0)) {
+            return false;
+        }
+        try {
+            rearm.run();
+        } catch (final RejectedExecutionException e) {
+            control.stateMachine().forceCancel();
+            return false;
+        }
+        return true;
+    }
+}
@@ -1,9 +1,13 @@
 package com.github.frosxt.chronos.runtime.execution.plan;
 
+import com.github.frosxt.chronos.api.TaskState;
+import com.github.frosxt.chronos.api.policy.ResumePolicy;
+import com.github.frosxt.chronos.runtime.jfr.RunsSkippedEvent;
 import com.github.frosxt.chronos.runtime.metrics.MetricsCollector;
 import com.github.frosxt.chronos.runtime.scheduler.registry.TaskRegistry;
 import com.github.frosxt.chronos.runtime.task.TaskControl;
 import com.github.frosxt.chronos.runtime.time.mapper.InstantMapper;
+import com.github.frosxt.chronos.runtime.trigger.Trigger;
 
 import java.time.Instant;
 import java.util.concurrent.ScheduledExecutorService;
@@ -31,25 +35,187 @@ public final class NextRunPlanner {
     }
 
     public Instant scheduleNext(final Runnable runner) {
+        return scheduleNext(runner, control.runCount());
+    }
+
+    /**
+     * Schedules the next execution for an explicit run count.
+     *
+     * <p>
+     * Used by runners whose trigger slots do not advance with the task's run
+     * count, such as overlapping fixed-rate executions.
+     *
+     * @param runner   the task runner
+     * @param runCount the run count passed to the trigger
+     * @return the next scheduled instant, or null if the task completed
+     */
+    public Instant scheduleNext(final Runnable runner, final long runCount) {
         final long currentNanos = instantMapper.nanoTime();
-        final long delay = control.trigger().nextDelayNanos(
+        final Trigger trigger = control.trigger();
+        final long skippedBefore = trigger.skippedRuns();
+        final long delay = trigger.nextDelayNanos(
                 currentNanos,
                 control.lastStartNanos(),
                 control.lastEndNanos(),
-                control.runCount());
+                runCount);
+
+        final long skipped = trigger.skippedRuns() - skippedBefore;
+        if (skipped > 0) {
+            metricsCollector.recordSkipped(skipped);
+            RunsSkippedEvent.commit(control.id(), skipped);
+        }
 
         if (delay < 0) {
+            metricsCollector.recordCompleted();
             control.stateMachine().completeFromScheduled();
+            registry.unregister(control.id());
+            return null;
+        }
+
+        return arm(runner, currentNanos, delay, trigger);
+    }
+
+    /**
+     * Re-arms a task whose pending timer was removed after its trigger was
+     * replaced.
+     *
+     * <p>
+     * A task waiting to retry keeps the remainder of its retry delay;
+     * otherwise the next execution is planned from the current trigger.
+     *
+     * @param runner   the task runner
+     * @param runCount the run count passed to the trigger
+     * @return the next scheduled instant, or null if the task completed
+     */
+    public Instant replan(final Runnable runner, final long runCount) {
+        if (control.state() == TaskState.RETRY_WAIT) {
+            final long currentNanos = instantMapper.nanoTime();
+            return arm(runner, currentNanos, Math.max(0, control.nextScheduledNanos() - currentNanos), null);
+        }
+        return scheduleNext(runner, runCount);
+    }
+
+    /**
+     * Re-arms a task whose execution was deferred without running.
+     *
+     * <p>
+     * Recurring tasks are armed for the later of their next trigger time and
+     * the minimum delay; one-shot tasks are armed after the minimum delay.
+     *
+     * @param runner         the task runner
+     * @param minDelayNanos  the minimum delay before the next attempt
+     * @return the next scheduled instant, or null if the task completed
+     */
+    public Instant scheduleDeferred(final Runnable runner, final long minDelayNanos) {
+        final long currentNanos = instantMapper.nanoTime();
+        long delay = minDelayNanos;
+
+        if (control.trigger().isRecurring()) {
+            final long triggerDelay = control.trigger().nextDelayNanos(
+                    currentNanos,
+                    control.lastStartNanos(),
+                    control.lastEndNanos(),
+                    control.runCount());
+
+            if (triggerDelay < 0) {
+                metricsCollector.recordCompleted();
+                control.stateMachine().completeFromScheduled();
+                registry.unregister(control.id());
+                return null;
+            }
+            delay = Math.max(delay, triggerDelay);
+        }
+
+        return arm(runner, currentNanos, delay, null);
+    }
+
+    /**
+     * Re-arms a recurring task whose due execution was dropped without
+     * running.
+     *
+     * <p>
+     * The task waits for its next execution time after now, as if it had
+     * been resumed without running missed executions.
+     *
+     * @param runner   the task runner
+     * @param runCount the run count passed to the trigger
+     * @return the next scheduled instant, or null if the task completed
+     */
+    public Instant skip(final Runnable runner, final long runCount) {
+        final long currentNanos = instantMapper.nanoTime();
+        final Trigger trigger = control.trigger();
+        final long delay = trigger.resumeDelayNanos(currentNanos, control.lastStartNanos(), control.lastEndNanos(),
+                runCount, false);
+
+        if (delay < 0) {
             metricsCollector.recordCompleted();
+            control.stateMachine().completeFromScheduled();
             registry.unregister(control.id());
             return null;
         }
 
+        return arm(runner, currentNanos, delay, trigger);
+    }
+
+    /**
+     * Re-arms a task that was resumed after a pause.
+     *
+     * <p>
+     * A task paused while waiting to retry keeps the remainder of its retry
+     * delay. Otherwise the task's resume policy decides whether executions
+     * missed during the pause are dropped, run once, or replayed.
+     *
+     * @param runner   the task runner
+     * @param runCount the run count passed to the trigger
+     * @return the next scheduled instant, or null if the task completed
+     */
+    public Instant resume(final Runnable runner, final long runCount) {
+        final long currentNanos = instantMapper.nanoTime();
+        if (control.state() == TaskState.RETRY_WAIT) {
+            return arm(runner, currentNanos, Math.max(0, control.nextScheduledNanos() - currentNanos), null);
+        }
+
+        final ResumePolicy policy = control.resumePolicy();
+        final Trigger trigger = control.trigger();
+        final long skippedBefore = trigger.skippedRuns();
+        final long delay = policy == ResumePolicy.CATCH_UP
+                ? trigger.nextDelayNanos(currentNanos, control.lastStartNanos(), control.lastEndNanos(), runCount)
+                : trigger.resumeDelayNanos(currentNanos, control.lastStartNanos(), control.lastEndNanos(),
+                runCount, policy == ResumePolicy.RUN_ONCE);
+
+        final long skipped = trigger.skippedRuns() - skippedBefore;
+        if (skipped > 0) {
+            metricsCollector.recordSkipped(skipped);
+            RunsSkippedEvent.commit(control.id(), skipped);
+        }
+
+        if (delay < 0) {
+            metricsCollector.recordCompleted();
+            control.stateMachine().completeFromScheduled();
+            registry.unregister(control.id());
+            return null;
+        }
+
+        return arm(runner, currentNanos, delay, trigger);
+    }
+
+    /**
+     * Arms the next execution. A timer planned from a trigger that was
+     * replaced meanwhile is re-planned from the current one.
+     *
+     * @param planned the trigger the delay was planned with, or null if the
+     *                delay does not come from the trigger
+     */
+    private Instant arm(final Runnable runner, final long currentNanos, final long delay, final Trigger planned) {
         final long nextNanos = currentNanos + delay;
         control.setNextScheduledNanos(nextNanos);
 
         final ScheduledFuture<?> future = executor.schedule(runner, delay, TimeUnit.NANOSECONDS);
         control.setScheduledFuture(future);
+        control.pauseGate().afterArm();
+        if (planned != null) {
+            control.rescheduler().afterArm(planned);
+        }
 
         return instantMapper.toInstant(nextNanos);
     }
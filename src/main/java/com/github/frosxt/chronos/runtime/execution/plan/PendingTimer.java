@@ -0,0 +1,38 @@
+package com.github.frosxt.chronos.runtime.execution.plan;
+
+import com.github.frosxt.chronos.runtime.task.TaskControl;
+
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * Removes a task's pending timer from the executor's queue.
+ */
+public final class PendingTimer {
+
+    private PendingTimer() {
+        throw new UnsupportedOperationException("This class cannot be instantiated!");
+    }
+
+    /**
+     * Removes the task's pending timer. Succeeds only if the timer has not
+     * been taken by a worker, so no execution can start from it afterwards
+     * and the caller is the only party allowed to arm the next one.
+     *
+     * @param control  the task control
+     * @param executor the executor the timer was armed on
+     * @return true if the timer was removed
+     */
+    public static boolean remove(final TaskControl control, final ScheduledExecutorService executor) {
+        final ScheduledFuture<?> future = control.scheduledFuture();
+        if (!(future instanceof Runnable task) || !(executor instanceof ThreadPoolExecutor pool)) {
+            return false;
+        }
+        if (!pool.remove(task)) {
+            return false;
+        }
+        future.cancel(false);
+        return true;
+    }
+}
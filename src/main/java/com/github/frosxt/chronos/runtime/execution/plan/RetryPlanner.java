@@ -13,13 +13,14 @@ public final class RetryPlanner {
     }
 
     /**
-     * Computes the delay for the next retry attempt.
+     * Computes the delay for the next retry attempt using the retry policy
+     * recorded when the retry was granted.
      *
      * @param control the task control
      * @return the delay in nanoseconds, or -1 if no more retries are allowed
      */
     public static long computeRetryDelay(final TaskControl control) {
-        final RetryPolicy policy = control.executionPolicy().retryPolicy();
+        final RetryPolicy policy = control.retryPolicy();
         if (policy == null) {
             return -1;
         }
@@ -29,18 +30,19 @@ public final class RetryPlanner {
             return -1;
         }
 
-        final long baseDelay = policy.delayNanosForAttempt(attempt + 1);
-        return control.jitter().apply(baseDelay);
+        final long delay = control.jitter().apply(policy, attempt + 1, control.previousRetryDelayNanos(), control.random());
+        control.setPreviousRetryDelayNanos(delay);
+        return delay;
     }
 
     /**
-     * Returns whether more retries are available.
+     * Returns whether more retries are available under the given policy.
      *
      * @param control the task control
+     * @param policy  the retry policy that applies to the failure
      * @return true if more retries are available
      */
-    public static boolean hasMoreRetries(final TaskControl control) {
-        final RetryPolicy policy = control.executionPolicy().retryPolicy();
+    public static boolean hasMoreRetries(final TaskControl control, final RetryPolicy policy) {
         if (policy == null) {
             return false;
         }
@@ -0,0 +1,166 @@
+package com.github.frosxt.chronos.runtime.execution.reschedule;
+
+import com.github.frosxt.chronos.api.TaskState;
+import com.github.frosxt.chronos.api.cron.CronExpression;
+import com.github.frosxt.chronos.runtime.execution.plan.PendingTimer;
+import com.github.frosxt.chronos.runtime.task.TaskControl;
+import com.github.frosxt.chronos.runtime.time.mapper.InstantMapper;
+import com.github.frosxt.chronos.runtime.trigger.Trigger;
+import com.github.frosxt.chronos.runtime.trigger.impl.CronTrigger;
+import com.github.frosxt.chronos.runtime.trigger.impl.FixedDelayTrigger;
+import com.github.frosxt.chronos.runtime.trigger.impl.FixedRateTrigger;
+import com.github.frosxt.chronos.runtime.trigger.impl.OnceTrigger;
+
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.function.LongSupplier;
+
+/**
+ * Replaces the trigger of a live task and moves its pending execution.
+ *
+ * <p>
+ * The new trigger is published first, so every execution planned afterwards
+ * uses it. If the task's timer is still queued it is removed and re-armed
+ * from the new trigger. If it has already fired, or the task is running,
+ * paused or waiting to retry, the new trigger applies when the runner next
+ * plans. A runner that planned with the old trigger while it was being
+ * replaced re-plans right after arming, so no timer planned from a replaced
+ * trigger survives.
+ *
+ * <p>
+ * This class is thread-safe.
+ */
+public final class Rescheduler {
+    private final TaskControl control;
+    private final ScheduledExecutorService executor;
+    private final InstantMapper instantMapper;
+    private final LongSupplier runCount;
+    private final Runnable replan;
+
+    /**
+     * Creates a new rescheduler.
+     *
+     * @param control       the task control
+     * @param executor      the executor the task's timers are armed on
+     * @param instantMapper the instant mapper for time conversions
+     * @param runCount      supplies the run count the runner passes to the
+     *                      trigger for its next execution
+     * @param replan        arms the next execution from the current trigger
+     */
+    public Rescheduler(final TaskControl control, final ScheduledExecutorService executor,
+                       final InstantMapper instantMapper, final LongSupplier runCount, final Runnable replan) {
+        this.control = control;
+        this.executor = executor;
+        this.instantMapper = instantMapper;
+        this.runCount = runCount;
+        this.replan = replan;
+    }
+
+    /**
+     * Returns a rescheduler for the same task that no longer references its
+     * runner. Installed once the task has terminated, so a retained handle
+     * does not keep the runner reachable.
+     *
+     * @return the detached rescheduler
+     */
+    public Rescheduler detached() {
+        return new Rescheduler(control, executor, instantMapper, () -> 0, () -> { });
+    }
+
+    /**
+     * Changes the period of a fixed-rate or fixed-delay task, or the delay of
+     * a one-shot task.
+     *
+     * <p>
+     * A fixed-rate task that has run fires next one new period after its
+     * most recent start, a fixed-delay task one new delay after its most
+     * recent end, and a task that has not run yet keeps its first execution
+     * time. A one-shot task is moved to the given delay from now.
+     *
+     * @param periodNanos the new period or delay
+     * @return true if the trigger was replaced, false if the task has
+     *         terminated
+     * @throws IllegalArgumentException if the task is not a fixed-rate,
+     *                                  fixed-delay or one-shot task
+     */
+    public boolean reschedule(final long periodNanos) {
+        final long currentNanos = instantMapper.nanoTime();
+        final long firstNanos = control.firstScheduledNanos();
+        final Trigger trigger = switch (control.type()) {
+            case ONCE -> new OnceTrigger(currentNanos, periodNanos);
+            case FIXED_RATE -> {
+                final long lastStartNanos = control.lastStartNanos();
+                final long nextNanos = lastStartNanos >= 0 ? saturatedAdd(lastStartNanos, periodNanos) : firstNanos;
+                yield FixedRateTrigger.continuing(nextNanos, periodNanos,
+                        ((FixedRateTrigger) control.trigger()).overrunPolicy(), runCount.getAsLong());
+            }
+            case FIXED_DELAY -> new FixedDelayTrigger(currentNanos, Math.max(0, firstNanos - currentNanos), periodNanos);
+            default -> throw new IllegalArgumentException(
+                    "Only fixed-rate, fixed-delay and one-shot tasks can be rescheduled with a period");
+        };
+        return swap(trigger);
+    }
+
+    /**
+     * Changes the cron expression of a cron task, keeping its zone and
+     * misfire grace.
+     *
+     * @param cron the new cron expression
+     * @return true if the trigger was replaced, false if the task has
+     *         terminated
+     * @throws IllegalArgumentException if the task is not a cron task
+     */
+    public boolean reschedule(final CronExpression cron) {
+        if (!(control.trigger() instanceof CronTrigger current)) {
+            throw new IllegalArgumentException("Only cron tasks can be rescheduled with a cron expression");
+        }
+        return swap(new CronTrigger(cron, current.zone(), current.misfireGraceNanos(), instantMapper));
+    }
+
+    /**
+     * Re-plans a timer that was armed from a trigger which has since been
+     * replaced.
+     *
+     * <p>
+     * Called by the planner after it armed a timer planned with
+     * {@code planned}.
+     *
+     * @param planned the trigger the armed timer was planned with
+     */
+    public void afterArm(final Trigger planned) {
+        if (control.trigger() != planned) {
+            moveTimer();
+        }
+    }
+
+    private boolean swap(final Trigger trigger) {
+        if (control.stateMachine().isTerminal()) {
+            return false;
+        }
+        control.setTrigger(trigger);
+        moveTimer();
+        return !control.stateMachine().isTerminal();
+    }
+
+    /**
+     * Re-arms the pending timer from the current trigger if it can be taken
+     * off the executor's queue before it fires.
+     */
+    private void moveTimer() {
+        if (control.state() != TaskState.SCHEDULED
+                || !PendingTimer.remove(control, executor)
+                || control.stateMachine().isTerminal()) {
+            return;
+        }
+        try {
+            replan.run();
+        } catch (final RejectedExecutionException e) {
+            control.stateMachine().forceCancel();
+        }
+    }
+
+    private static long saturatedAdd(final long a, final long b) {
+        final long sum = a + b;
+        return ((a ^ sum) & (b ^ sum)) < 0 ? Long.MAX_VALUE : sum;
+    }
+}
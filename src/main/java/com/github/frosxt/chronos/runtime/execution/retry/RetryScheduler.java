@@ -1,6 +1,7 @@
 package com.github.frosxt.chronos.runtime.execution.retry;
 
 import com.github.frosxt.chronos.runtime.execution.plan.RetryPlanner;
+import com.github.frosxt.chronos.runtime.jfr.RetryScheduledEvent;
 import com.github.frosxt.chronos.runtime.task.TaskControl;
 import com.github.frosxt.chronos.runtime.time.mapper.InstantMapper;
 
@@ -26,8 +27,10 @@ public final class RetryScheduler {
         final long delayNanos = RetryPlanner.computeRetryDelay(control);
         final long nextNanos = instantMapper.nanoTime() + delayNanos;
         control.setNextScheduledNanos(nextNanos);
+        RetryScheduledEvent.commit(control.id(), control.retryAttempt(), delayNanos);
 
         final ScheduledFuture<?> future = executor.schedule(runner, delayNanos, TimeUnit.NANOSECONDS);
         control.setScheduledFuture(future);
+        control.pauseGate().afterArm();
     }
 }
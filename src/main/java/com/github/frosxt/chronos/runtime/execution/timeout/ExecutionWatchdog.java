@@ -0,0 +1,57 @@
+package com.github.frosxt.chronos.runtime.execution.timeout;
+
+import com.github.frosxt.chronos.api.policy.TimeoutPolicy;
+import com.github.frosxt.chronos.runtime.timer.HashedWheelTimer;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Enforces execution timeouts for every task of a scheduler.
+ *
+ * <p>
+ * All deadlines share one hashed timing wheel and one timer thread, so
+ * watching an execution costs a queue insertion rather than a timer task on
+ * the scheduler's executor.
+ */
+public final class ExecutionWatchdog {
+    private static final long TICK_NANOS = TimeUnit.MILLISECONDS.toNanos(5);
+    private static final int WHEEL_SIZE = 512;
+
+    private final HashedWheelTimer wheel;
+
+    /**
+     * Creates a new watchdog.
+     *
+     * @param threadName the name of the watchdog thread
+     */
+    public ExecutionWatchdog(final String threadName) {
+        this.wheel = new HashedWheelTimer(TICK_NANOS, WHEEL_SIZE, threadName);
+    }
+
+    /**
+     * Starts watching an execution.
+     *
+     * @param policy    the timeout policy
+     * @param thread    the thread running the execution, or null for an
+     *                  asynchronous execution
+     * @param onTimeout the callback run on the watchdog thread when the
+     *                  execution times out; must not block
+     * @return the deadline, or null if the watchdog has been stopped
+     */
+    public RunDeadline watch(final TimeoutPolicy policy, final Thread thread, final Runnable onTimeout) {
+        final RunDeadline deadline = new RunDeadline(policy.action(), thread, onTimeout);
+        try {
+            deadline.arm(wheel.schedule(deadline, policy.timeoutNanos()));
+        } catch (final IllegalStateException e) {
+            return null;
+        }
+        return deadline;
+    }
+
+    /**
+     * Stops the watchdog thread.
+     */
+    public void stop() {
+        wheel.stop();
+    }
+}
@@ -0,0 +1,96 @@
+package com.github.frosxt.chronos.runtime.execution.timeout;
+
+import com.github.frosxt.chronos.api.policy.TimeoutPolicy;
+import com.github.frosxt.chronos.runtime.timer.WheelTimeout;
+
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The deadline of a single execution.
+ *
+ * <p>
+ * Exactly one of the execution and the watchdog wins: the execution by
+ * calling {@link #finish()} before the deadline, or the watchdog by firing
+ * first. When the watchdog wins it interrupts the thread or cancels the stage
+ * if configured to, then runs the timeout callback; the execution's late
+ * {@link #finish()} returns false and clears any interrupt it received.
+ */
+public final class RunDeadline implements Runnable {
+    private static final int RUNNING = 0;
+    private static final int DONE = 1;
+    private static final int INTERRUPTING = 2;
+    private static final int TIMED_OUT = 3;
+
+    private final TimeoutPolicy.Action action;
+    private final Thread thread;
+    private final Runnable onTimeout;
+    private final AtomicInteger state = new AtomicInteger(RUNNING);
+
+    private volatile CompletionStage<?> stage;
+    private volatile WheelTimeout timeout;
+
+    RunDeadline(final TimeoutPolicy.Action action, final Thread thread, final Runnable onTimeout) {
+        this.action = action;
+        this.thread = thread;
+        this.onTimeout = onTimeout;
+    }
+
+    void arm(final WheelTimeout timeout) {
+        this.timeout = timeout;
+    }
+
+    /**
+     * Attaches the stage of an asynchronous execution so that it can be
+     * cancelled on timeout.
+     *
+     * @param stage the stage, may be null
+     */
+    public void attach(final CompletionStage<?> stage) {
+        this.stage = stage;
+    }
+
+    /**
+     * Marks the execution as finished.
+     *
+     * @return true if the execution finished before its deadline, false if it
+     *         timed out and its outcome must be ignored
+     */
+    public boolean finish() {
+        if (state.compareAndSet(RUNNING, DONE)) {
+            final WheelTimeout armed = timeout;
+            if (armed != null) {
+                armed.cancel();
+            }
+            return true;
+        }
+
+        while (state.get() == INTERRUPTING) {
+            Thread.onSpinWait();
+        }
+        if (action == TimeoutPolicy.Action.INTERRUPT && thread == Thread.currentThread()) {
+            Thread.interrupted();
+        }
+        return false;
+    }
+
+    @Override
+    public void run() {
+        if (!state.compareAndSet(RUNNING, INTERRUPTING)) {
+            return;
+        }
+        if (action == TimeoutPolicy.Action.INTERRUPT && thread != null) {
+            thread.interrupt();
+        }
+        state.set(TIMED_OUT);
+
+        final CompletionStage<?> current = stage;
+        if (action == TimeoutPolicy.Action.INTERRUPT && current != null) {
+            try {
+                current.toCompletableFuture().cancel(true);
+            } catch (final UnsupportedOperationException ignored) {
+            }
+        }
+        onTimeout.run();
+    }
+}
@@ -0,0 +1,83 @@
+package com.github.frosxt.chronos.runtime.group;
+
+import com.github.frosxt.chronos.api.spec.GroupSpec;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Registry of task groups.
+ *
+ * <p>
+ * Groups configured on the scheduler are created eagerly; groups named only
+ * by tasks are created on first use with default settings.
+ *
+ * <p>
+ * This class is thread-safe.
+ */
+public final class GroupRegistry {
+    private final ConcurrentHashMap<String, TaskGroup> groups = new ConcurrentHashMap<>();
+    private final TaskGroup ungrouped = TaskGroup.ungrouped();
+    private volatile Consumer<TaskGroup> creationListener;
+
+    public GroupRegistry(final Map<String, GroupSpec> specs) {
+        specs.forEach((name, spec) -> groups.put(name, new TaskGroup(spec)));
+    }
+
+    /**
+     * Resolves the group for a task.
+     *
+     * @param name the group name, or null for ungrouped tasks
+     * @return the task group, never null
+     */
+    public TaskGroup resolve(final String name) {
+        if (name == null) {
+            return ungrouped;
+        }
+        final TaskGroup group = groups.get(name);
+        if (group != null) {
+            return group;
+        }
+
+        final TaskGroup created = new TaskGroup(GroupSpec.builder(name).build());
+        final TaskGroup existing = groups.putIfAbsent(name, created);
+        if (existing != null) {
+            return existing;
+        }
+        final Consumer<TaskGroup> listener = creationListener;
+        if (listener != null) {
+            listener.accept(created);
+        }
+        return created;
+    }
+
+    /**
+     * Sets a listener called with each group created on first use from now
+     * on. Groups that already exist are not reported.
+     *
+     * @param listener the listener, or null to remove it
+     */
+    public void onGroupCreated(final Consumer<TaskGroup> listener) {
+        this.creationListener = listener;
+    }
+
+    /**
+     * Gets a named group.
+     *
+     * @param name the group name
+     * @return the task group, or null if not found
+     */
+    public TaskGroup get(final String name) {
+        return groups.get(name);
+    }
+
+    /**
+     * Iterates over all named groups.
+     *
+     * @param action the action to perform on each group
+     */
+    public void forEach(final Consumer<TaskGroup> action) {
+        groups.values().forEach(action);
+    }
+}
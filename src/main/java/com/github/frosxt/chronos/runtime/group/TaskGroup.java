@@ -0,0 +1,145 @@
+package com.github.frosxt.chronos.runtime.group;
+
+import com.github.frosxt.chronos.api.group.CircuitState;
+import com.github.frosxt.chronos.api.spec.GroupSpec;
+import com.github.frosxt.chronos.runtime.group.breaker.CircuitBreaker;
+import com.github.frosxt.chronos.runtime.group.bulkhead.Bulkhead;
+import com.github.frosxt.chronos.runtime.group.budget.RetryTokenBucket;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Runtime state shared by the tasks of a named group.
+ *
+ * <p>
+ * Tasks that are not grouped share an unnamed instance with no breaker and
+ * no budget, so the execution path never needs a null check.
+ */
+public final class TaskGroup {
+    private final String name;
+    private final CircuitBreaker breaker;
+    private final RetryTokenBucket retryBudget;
+    private final Bulkhead bulkhead;
+    private final LongAdder rejectedRetries = new LongAdder();
+    private volatile boolean paused;
+
+    public TaskGroup(final GroupSpec spec) {
+        this.name = spec.name();
+        this.breaker = spec.circuitBreaker() != null ? new CircuitBreaker(spec.name(), spec.circuitBreaker()) : null;
+        this.retryBudget = spec.retryBudget() != null ? new RetryTokenBucket(spec.retryBudget()) : null;
+        this.bulkhead = spec.bulkhead() != null ? new Bulkhead(spec.bulkhead()) : null;
+    }
+
+    private TaskGroup() {
+        this.name = null;
+        this.breaker = null;
+        this.retryBudget = null;
+        this.bulkhead = null;
+    }
+
+    static TaskGroup ungrouped() {
+        return new TaskGroup();
+    }
+
+    public String name() {
+        return name;
+    }
+
+    /**
+     * Returns whether the group has been paused as a whole.
+     *
+     * @return true if tasks in the group are paused
+     */
+    public boolean isPaused() {
+        return paused;
+    }
+
+    public void setPaused(final boolean paused) {
+        this.paused = paused;
+    }
+
+    public CircuitBreaker breaker() {
+        return breaker;
+    }
+
+    /**
+     * Returns the bulkhead limiting the group's concurrent executions.
+     *
+     * @return the bulkhead, or null if the group is unbounded
+     */
+    public Bulkhead bulkhead() {
+        return bulkhead;
+    }
+
+    /**
+     * Attempts to admit an execution through the group's circuit breaker.
+     *
+     * @param nowNanos the current monotonic time
+     * @return true if the execution may run
+     */
+    public boolean tryAcquire(final long nowNanos) {
+        return breaker == null || breaker.tryAcquire(nowNanos);
+    }
+
+    /**
+     * Records a first attempt, earning retry tokens for the group.
+     */
+    public void recordFirstAttempt() {
+        if (retryBudget != null) {
+            retryBudget.deposit();
+        }
+    }
+
+    /**
+     * Attempts to obtain permission for a retry.
+     *
+     * @return true if the breaker is closed and the budget has a token
+     */
+    public boolean tryAcquireRetry() {
+        if ((breaker == null || breaker.allowsRetry()) && (retryBudget == null || retryBudget.tryWithdraw())) {
+            return true;
+        }
+        rejectedRetries.increment();
+        return false;
+    }
+
+    public void recordSuccess() {
+        if (breaker != null) {
+            breaker.recordSuccess();
+        }
+    }
+
+    public void recordFailure(final long nowNanos) {
+        if (breaker != null) {
+            breaker.recordFailure(nowNanos);
+        }
+    }
+
+    public CircuitState circuitState() {
+        return breaker != null ? breaker.state() : CircuitState.CLOSED;
+    }
+
+    public long rejectedExecutions() {
+        return breaker != null ? breaker.rejectedCount() : 0;
+    }
+
+    public long rejectedRetries() {
+        return rejectedRetries.sum();
+    }
+
+    public double retryTokens() {
+        return retryBudget != null ? retryBudget.tokens() : -1;
+    }
+
+    public int activeExecutions() {
+        return bulkhead != null ? bulkhead.activeCount() : 0;
+    }
+
+    public int queuedExecutions() {
+        return bulkhead != null ? bulkhead.queuedCount() : 0;
+    }
+
+    public long overflowedExecutions() {
+        return bulkhead != null ? bulkhead.overflowCount() : 0;
+    }
+}
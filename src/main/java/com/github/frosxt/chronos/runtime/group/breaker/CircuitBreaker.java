@@ -0,0 +1,106 @@
+package com.github.frosxt.chronos.runtime.group.breaker;
+
+import com.github.frosxt.chronos.api.group.CircuitOpenException;
+import com.github.frosxt.chronos.api.group.CircuitState;
+import com.github.frosxt.chronos.api.policy.CircuitBreakerPolicy;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free circuit breaker shared by the tasks of a group.
+ *
+ * <p>
+ * The breaker counts consecutive failures and opens once the configured
+ * threshold is reached. After the open window a single probe is admitted.
+ */
+public final class CircuitBreaker {
+    private final CircuitBreakerPolicy policy;
+    private final CircuitOpenException openException;
+    private final AtomicReference<CircuitState> state = new AtomicReference<>(CircuitState.CLOSED);
+    private final AtomicInteger consecutiveFailures = new AtomicInteger(0);
+    private final LongAdder rejected = new LongAdder();
+    private volatile long openUntilNanos;
+
+    public CircuitBreaker(final String group, final CircuitBreakerPolicy policy) {
+        this.policy = policy;
+        this.openException = new CircuitOpenException(group);
+    }
+
+    /**
+     * Attempts to admit an execution.
+     *
+     * @param nowNanos the current monotonic time
+     * @return true if the execution may run
+     */
+    public boolean tryAcquire(final long nowNanos) {
+        final CircuitState current = state.get();
+        if (current == CircuitState.CLOSED) {
+            return true;
+        }
+        if (current == CircuitState.OPEN && nowNanos - openUntilNanos >= 0
+                && state.compareAndSet(CircuitState.OPEN, CircuitState.HALF_OPEN)) {
+            return true;
+        }
+        rejected.increment();
+        return false;
+    }
+
+    /**
+     * Returns whether retries may be scheduled.
+     *
+     * @return true if the breaker is closed
+     */
+    public boolean allowsRetry() {
+        return state.get() == CircuitState.CLOSED;
+    }
+
+    /**
+     * Returns the delay until the breaker may admit another probe.
+     *
+     * @param nowNanos the current monotonic time
+     * @return the delay in nanoseconds, never negative
+     */
+    public long retryAfterNanos(final long nowNanos) {
+        if (state.get() == CircuitState.HALF_OPEN) {
+            return policy.openDurationNanos();
+        }
+        return Math.max(0, openUntilNanos - nowNanos);
+    }
+
+    public void recordSuccess() {
+        consecutiveFailures.set(0);
+        state.compareAndSet(CircuitState.HALF_OPEN, CircuitState.CLOSED);
+    }
+
+    public void recordFailure(final long nowNanos) {
+        if (state.get() == CircuitState.HALF_OPEN) {
+            openUntilNanos = nowNanos + policy.openDurationNanos();
+            state.compareAndSet(CircuitState.HALF_OPEN, CircuitState.OPEN);
+            return;
+        }
+        if (consecutiveFailures.incrementAndGet() >= policy.failureThreshold() && state.get() == CircuitState.CLOSED) {
+            openUntilNanos = nowNanos + policy.openDurationNanos();
+            if (state.compareAndSet(CircuitState.CLOSED, CircuitState.OPEN)) {
+                consecutiveFailures.set(0);
+            }
+        }
+    }
+
+    public CircuitState state() {
+        return state.get();
+    }
+
+    public CircuitBreakerPolicy policy() {
+        return policy;
+    }
+
+    public CircuitOpenException openException() {
+        return openException;
+    }
+
+    public long rejectedCount() {
+        return rejected.sum();
+    }
+}
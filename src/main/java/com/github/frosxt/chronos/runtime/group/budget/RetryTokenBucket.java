@@ -0,0 +1,64 @@
+package com.github.frosxt.chronos.runtime.group.budget;
+
+import com.github.frosxt.chronos.api.policy.RetryBudget;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free token bucket backing a {@link RetryBudget}.
+ *
+ * <p>
+ * Tokens are stored in fixed point with three decimal places so that
+ * fractional ratios can be deposited without floating-point state.
+ */
+public final class RetryTokenBucket {
+    private static final long SCALE = 1000;
+
+    private final long depositMillis;
+    private final long capacityMillis;
+    private final AtomicLong tokensMillis;
+
+    public RetryTokenBucket(final RetryBudget budget) {
+        this.depositMillis = Math.max(1, Math.round(budget.ratio() * SCALE));
+        this.capacityMillis = budget.maxTokens() * SCALE;
+        this.tokensMillis = new AtomicLong(capacityMillis);
+    }
+
+    /**
+     * Deposits the tokens earned by a first attempt.
+     */
+    public void deposit() {
+        long current;
+        do {
+            current = tokensMillis.get();
+            if (current >= capacityMillis) {
+                return;
+            }
+        } while (!tokensMillis.compareAndSet(current, Math.min(capacityMillis, current + depositMillis)));
+    }
+
+    /**
+     * Attempts to withdraw the token for one retry.
+     *
+     * @return true if a token was available
+     */
+    public boolean tryWithdraw() {
+        long current;
+        do {
+            current = tokensMillis.get();
+            if (current < SCALE) {
+                return false;
+            }
+        } while (!tokensMillis.compareAndSet(current, current - SCALE));
+        return true;
+    }
+
+    /**
+     * Returns the number of tokens currently available.
+     *
+     * @return the available tokens
+     */
+    public double tokens() {
+        return tokensMillis.get() / (double) SCALE;
+    }
+}
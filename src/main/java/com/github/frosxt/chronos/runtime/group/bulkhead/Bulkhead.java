@@ -0,0 +1,147 @@
+package com.github.frosxt.chronos.runtime.group.bulkhead;
+
+import com.github.frosxt.chronos.api.policy.BulkheadPolicy;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free bulkhead backing a {@link BulkheadPolicy}.
+ *
+ * <p>
+ * A submitted execution runs on the submitting thread if the group has a
+ * free slot, and otherwise waits in the ready queue. A thread that holds a
+ * slot keeps running queued executions of the group until the queue is
+ * empty, so a waiting execution starts as soon as a slot is released,
+ * without a hand-off.
+ */
+public final class Bulkhead {
+    private final BulkheadPolicy policy;
+    private final ConcurrentLinkedQueue<Runnable> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger active = new AtomicInteger();
+    private final AtomicInteger queued = new AtomicInteger();
+    private final LongAdder overflows = new LongAdder();
+
+    public Bulkhead(final BulkheadPolicy policy) {
+        this.policy = policy;
+    }
+
+    public BulkheadPolicy policy() {
+        return policy;
+    }
+
+    /**
+     * Runs an execution within the group's limit, queues it, or applies the
+     * caller-runs overflow action.
+     *
+     * @param execution the execution to run
+     * @return false if the execution overflowed and must be delayed or
+     *         dropped by the caller
+     */
+    public boolean submit(final Runnable execution) {
+        if (tryAcquire()) {
+            runAndDrain(execution);
+            return true;
+        }
+        if (tryReserveQueue()) {
+            queue.offer(execution);
+            if (tryAcquire()) {
+                runAndDrain(null);
+            }
+            return true;
+        }
+
+        overflows.increment();
+        if (policy.overflow() != BulkheadPolicy.Overflow.CALLER_RUNS) {
+            return false;
+        }
+        active.incrementAndGet();
+        try {
+            run(execution);
+        } finally {
+            active.decrementAndGet();
+        }
+        return true;
+    }
+
+    private void runAndDrain(final Runnable first) {
+        Runnable next = first != null ? first : poll();
+        while (true) {
+            try {
+                while (next != null) {
+                    run(next);
+                    next = poll();
+                }
+            } finally {
+                active.decrementAndGet();
+            }
+            if (queue.isEmpty() || !tryAcquire()) {
+                return;
+            }
+            next = poll();
+        }
+    }
+
+    private boolean tryAcquire() {
+        final int max = policy.maxConcurrent();
+        int current;
+        do {
+            current = active.get();
+            if (current >= max) {
+                return false;
+            }
+        } while (!active.compareAndSet(current, current + 1));
+        return true;
+    }
+
+    private boolean tryReserveQueue() {
+        final int capacity = policy.queueCapacity();
+        int current;
+        do {
+            current = queued.get();
+            if (current >= capacity) {
+                return false;
+            }
+        } while (!queued.compareAndSet(current, current + 1));
+        return true;
+    }
+
+    private Runnable poll() {
+        final Runnable execution = queue.poll();
+        if (execution != null) {
+            queued.decrementAndGet();
+        }
+        return execution;
+    }
+
+    private static void run(final Runnable execution) {
+        try {
+            execution.run();
+        } catch (final Throwable ignored) {
+            // The runner records its own failures; one execution must not stall the group.
+        }
+    }
+
+    /**
+     * Returns the number of executions of the group currently running.
+     */
+    public int activeCount() {
+        return Math.max(0, active.get());
+    }
+
+    /**
+     * Returns the number of executions waiting for a free slot.
+     */
+    public int queuedCount() {
+        return Math.max(0, queued.get());
+    }
+
+    /**
+     * Returns the number of executions that found the slots and the queue
+     * full.
+     */
+    public long overflowCount() {
+        return overflows.sum();
+    }
+}
@@ -0,0 +1,46 @@
+package com.github.frosxt.chronos.runtime.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * Flight recorder event for a retry armed after a failed execution.
+ */
+@Name("chronos.RetryScheduled")
+@Label("Retry Scheduled")
+@Category({"Chronos", "Tasks"})
+@Description("A failed execution was scheduled to be retried")
+@StackTrace(false)
+public final class RetryScheduledEvent extends jdk.jfr.Event {
+    @Label("Task Id")
+    String taskId;
+
+    @Label("Attempt")
+    @Description("The retry attempt, starting at 1")
+    int attempt;
+
+    @Label("Delay")
+    @Timespan
+    long delay;
+
+    /**
+     * Commits an event for a scheduled retry if the event is enabled.
+     *
+     * @param taskId     the task identifier
+     * @param attempt    the retry attempt
+     * @param delayNanos the retry delay in nanoseconds
+     */
+    public static void commit(final String taskId, final int attempt, final long delayNanos) {
+        final RetryScheduledEvent event = new RetryScheduledEvent();
+        if (event.shouldCommit()) {
+            event.taskId = taskId;
+            event.attempt = attempt;
+            event.delay = delayNanos;
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.github.frosxt.chronos.runtime.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight recorder event for planned executions that were skipped, by an
+ * overrun policy or because a cron fire time was missed beyond its grace.
+ */
+@Name("chronos.RunsSkipped")
+@Label("Runs Skipped")
+@Category({"Chronos", "Tasks"})
+@Description("Planned executions of a task were skipped by an overrun policy or a cron misfire")
+@StackTrace(false)
+public final class RunsSkippedEvent extends jdk.jfr.Event {
+    @Label("Task Id")
+    String taskId;
+
+    @Label("Skipped")
+    long skipped;
+
+    /**
+     * Commits an event for skipped executions if the event is enabled.
+     *
+     * @param taskId  the task identifier
+     * @param skipped the number of executions skipped
+     */
+    public static void commit(final String taskId, final long skipped) {
+        final RunsSkippedEvent event = new RunsSkippedEvent();
+        if (event.shouldCommit()) {
+            event.taskId = taskId;
+            event.skipped = skipped;
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.github.frosxt.chronos.runtime.jfr;
+
+import com.github.frosxt.chronos.api.TaskState;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight recorder event for a task changing state.
+ *
+ * <p>
+ * Every execution moves a task through several states, so this event is
+ * disabled unless a recording enables it.
+ */
+@Name("chronos.StateTransition")
+@Label("Task State Transition")
+@Category({"Chronos", "Tasks"})
+@Description("A task moved from one state to another")
+@StackTrace(false)
+@Enabled(false)
+public final class StateTransitionEvent extends jdk.jfr.Event {
+    @Label("Task Id")
+    String taskId;
+
+    @Label("From")
+    String from;
+
+    @Label("To")
+    String to;
+
+    /**
+     * Commits an event for a state transition if the event is enabled.
+     *
+     * @param taskId the task identifier
+     * @param from   the previous state
+     * @param to     the new state
+     */
+    public static void commit(final String taskId, final TaskState from, final TaskState to) {
+        final StateTransitionEvent event = new StateTransitionEvent();
+        if (event.shouldCommit()) {
+            event.taskId = taskId;
+            event.from = from.name();
+            event.to = to.name();
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.github.frosxt.chronos.runtime.jfr;
+
+import com.github.frosxt.chronos.api.TaskType;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * Flight recorder event for one finished execution of a task.
+ */
+@Name("chronos.TaskExecution")
+@Label("Task Execution")
+@Category({"Chronos", "Tasks"})
+@Description("An execution of a scheduled task, with its start lag and run time")
+@StackTrace(false)
+public final class TaskExecutionEvent extends jdk.jfr.Event {
+    @Label("Task Id")
+    String taskId;
+
+    @Label("Task Type")
+    String taskType;
+
+    @Label("Start Lag")
+    @Description("Time between when the execution was due and when it started")
+    @Timespan
+    long lag;
+
+    @Label("Run Time")
+    @Timespan
+    long runTime;
+
+    @Label("Failed")
+    boolean failed;
+
+    /**
+     * Commits an event for a finished execution if the event is enabled.
+     *
+     * @param taskId       the task identifier
+     * @param type         the task type
+     * @param lagNanos     the start lag in nanoseconds
+     * @param runTimeNanos the run time in nanoseconds
+     * @param failed       whether the execution failed
+     */
+    public static void commit(final String taskId, final TaskType type, final long lagNanos, final long runTimeNanos,
+                              final boolean failed) {
+        final TaskExecutionEvent event = new TaskExecutionEvent();
+        if (event.shouldCommit()) {
+            event.taskId = taskId;
+            event.taskType = type.name();
+            event.lag = lagNanos;
+            event.runTime = runTimeNanos;
+            event.failed = failed;
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.github.frosxt.chronos.runtime.jfr;
+
+import com.github.frosxt.chronos.runtime.timer.TimerPurger;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Period;
+import jdk.jfr.StackTrace;
+
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Periodic flight recorder event sampling the timer queue of every live
+ * scheduler.
+ *
+ * <p>
+ * Schedulers register their timer purger when they are created. The
+ * registration is weak, so a scheduler that is no longer referenced stops
+ * being sampled once it is collected.
+ */
+@Name("chronos.TimerQueueDepth")
+@Label("Timer Queue Depth")
+@Category({"Chronos", "Scheduler"})
+@Description("Task timers queued on a scheduler's executor")
+@StackTrace(false)
+@Period("1 s")
+public final class TimerQueueDepthEvent extends jdk.jfr.Event {
+    private static final Map<TimerPurger, String> SOURCES = new WeakHashMap<>();
+
+    static {
+        FlightRecorder.addPeriodicEvent(TimerQueueDepthEvent.class, TimerQueueDepthEvent::emit);
+    }
+
+    @Label("Scheduler")
+    @Description("The thread name prefix of the scheduler")
+    String scheduler;
+
+    @Label("Live Timers")
+    long live;
+
+    @Label("Cancelled Timers")
+    @Description("Timers of cancelled tasks still waiting to be purged")
+    long cancelled;
+
+    /**
+     * Registers the timer queue of a scheduler for sampling.
+     *
+     * @param scheduler the name reported for the scheduler
+     * @param purger    the scheduler's timer purger
+     */
+    public static void register(final String scheduler, final TimerPurger purger) {
+        synchronized (SOURCES) {
+            SOURCES.put(purger, scheduler);
+        }
+    }
+
+    private static void emit() {
+        synchronized (SOURCES) {
+            SOURCES.forEach((purger, scheduler) -> {
+                final TimerQueueDepthEvent event = new TimerQueueDepthEvent();
+                if (!event.shouldCommit()) {
+                    return;
+                }
+                final long cancelled = purger.cancelledTimerCount();
+                event.scheduler = scheduler;
+                event.live = Math.max(0, purger.queuedCount() - cancelled);
+                event.cancelled = cancelled;
+                event.commit();
+            });
+        }
+    }
+}
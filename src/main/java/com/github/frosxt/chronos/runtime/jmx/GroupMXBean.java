@@ -0,0 +1,42 @@
+package com.github.frosxt.chronos.runtime.jmx;
+
+/**
+ * Management interface of a task group.
+ */
+public interface GroupMXBean {
+
+    String getName();
+
+    boolean isPaused();
+
+    /**
+     * Returns the state of the group's circuit breaker.
+     */
+    String getCircuitState();
+
+    int getActiveExecutions();
+
+    int getQueuedExecutions();
+
+    long getOverflowedExecutions();
+
+    long getRejectedExecutions();
+
+    long getRejectedRetries();
+
+    double getRetryTokens();
+
+    /**
+     * Pauses every task in the group, including tasks added to it later.
+     *
+     * @return the number of tasks paused or pausing
+     */
+    int pause();
+
+    /**
+     * Resumes the tasks of the group.
+     *
+     * @return the number of tasks resumed
+     */
+    int resume();
+}
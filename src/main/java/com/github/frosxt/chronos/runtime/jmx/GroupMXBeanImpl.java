@@ -0,0 +1,72 @@
+package com.github.frosxt.chronos.runtime.jmx;
+
+import com.github.frosxt.chronos.runtime.group.TaskGroup;
+import com.github.frosxt.chronos.runtime.scheduler.facade.SchedulingFacade;
+
+/**
+ * {@link GroupMXBean} backed by a live task group.
+ */
+public final class GroupMXBeanImpl implements GroupMXBean {
+    private final TaskGroup group;
+    private final SchedulingFacade scheduling;
+
+    public GroupMXBeanImpl(final TaskGroup group, final SchedulingFacade scheduling) {
+        this.group = group;
+        this.scheduling = scheduling;
+    }
+
+    @Override
+    public String getName() {
+        return group.name();
+    }
+
+    @Override
+    public boolean isPaused() {
+        return group.isPaused();
+    }
+
+    @Override
+    public String getCircuitState() {
+        return group.circuitState().name();
+    }
+
+    @Override
+    public int getActiveExecutions() {
+        return group.activeExecutions();
+    }
+
+    @Override
+    public int getQueuedExecutions() {
+        return group.queuedExecutions();
+    }
+
+    @Override
+    public long getOverflowedExecutions() {
+        return group.overflowedExecutions();
+    }
+
+    @Override
+    public long getRejectedExecutions() {
+        return group.rejectedExecutions();
+    }
+
+    @Override
+    public long getRejectedRetries() {
+        return group.rejectedRetries();
+    }
+
+    @Override
+    public double getRetryTokens() {
+        return group.retryTokens();
+    }
+
+    @Override
+    public int pause() {
+        return scheduling.pauseGroup(group.name());
+    }
+
+    @Override
+    public int resume() {
+        return scheduling.resumeGroup(group.name());
+    }
+}
@@ -0,0 +1,144 @@
+package com.github.frosxt.chronos.runtime.jmx;
+
+import com.github.frosxt.chronos.runtime.group.GroupRegistry;
+import com.github.frosxt.chronos.runtime.group.TaskGroup;
+import com.github.frosxt.chronos.runtime.metrics.SchedulerMetrics;
+import com.github.frosxt.chronos.runtime.scheduler.facade.SchedulingFacade;
+import com.github.frosxt.chronos.runtime.scheduler.facade.SnapshotFacade;
+
+import javax.management.InstanceNotFoundException;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Registers the MXBeans of one scheduler with the platform MBean server and
+ * removes them again on shutdown.
+ *
+ * <p>
+ * Groups created on first use after registration are registered as they
+ * appear.
+ */
+public final class JmxRegistration {
+    private static final String DOMAIN = "com.github.frosxt.chronos";
+
+    private final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+    private final String name;
+    private final GroupRegistry groups;
+    private final SchedulingFacade scheduling;
+    private final List<ObjectName> registered = new ArrayList<>();
+    private boolean closed;
+
+    private JmxRegistration(final String name, final GroupRegistry groups, final SchedulingFacade scheduling) {
+        this.name = name;
+        this.groups = groups;
+        this.scheduling = scheduling;
+    }
+
+    /**
+     * Registers a scheduler and its groups.
+     *
+     * @param name       the name the scheduler is registered under
+     * @param metrics    the scheduler's metrics
+     * @param scheduling the scheduler's scheduling facade
+     * @param snapshot   the scheduler's snapshot facade
+     * @return the registration
+     * @throws IllegalStateException if the MXBeans cannot be registered, for
+     *                               example because the name is taken
+     */
+    public static JmxRegistration register(final String name, final SchedulerMetrics metrics,
+                                           final SchedulingFacade scheduling, final SnapshotFacade snapshot) {
+        final JmxRegistration registration = new JmxRegistration(name, metrics.groups(), scheduling);
+        try {
+            registration.register(schedulerName(name), new SchedulerMXBeanImpl(metrics, scheduling, snapshot));
+            metrics.groups().forEach(registration::registerGroup);
+            metrics.groups().onGroupCreated(registration::registerCreatedGroup);
+        } catch (final RuntimeException e) {
+            registration.unregister();
+            throw e;
+        }
+        return registration;
+    }
+
+    /**
+     * Returns the object name of a scheduler's MXBean.
+     *
+     * @param name the scheduler's JMX name
+     * @return the object name
+     */
+    public static ObjectName schedulerName(final String name) {
+        return objectName("type=Scheduler,name=" + ObjectName.quote(name));
+    }
+
+    /**
+     * Returns the object name of a group's MXBean.
+     *
+     * @param scheduler the scheduler's JMX name
+     * @param group     the group name
+     * @return the object name
+     */
+    public static ObjectName groupName(final String scheduler, final String group) {
+        return objectName("type=Group,scheduler=" + ObjectName.quote(scheduler) + ",name=" + ObjectName.quote(group));
+    }
+
+    /**
+     * Unregisters every MXBean of the scheduler. Later calls do nothing.
+     */
+    public synchronized void unregister() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        groups.onGroupCreated(null);
+        for (final ObjectName objectName : registered) {
+            try {
+                server.unregisterMBean(objectName);
+            } catch (final InstanceNotFoundException ignored) {
+                // Already removed by someone else.
+            } catch (final JMException e) {
+                throw new IllegalStateException("Could not unregister MBean " + objectName, e);
+            }
+        }
+        registered.clear();
+    }
+
+    private void registerGroup(final TaskGroup group) {
+        register(groupName(name, group.name()), new GroupMXBeanImpl(group, scheduling));
+    }
+
+    /**
+     * Registers a group created while a task was being scheduled. The task
+     * must not fail because its group could not be registered, so a failed
+     * registration only leaves the group without an MXBean.
+     */
+    private void registerCreatedGroup(final TaskGroup group) {
+        try {
+            registerGroup(group);
+        } catch (final IllegalStateException ignored) {
+            // The group works without its MXBean.
+        }
+    }
+
+    private synchronized void register(final ObjectName objectName, final Object bean) {
+        if (closed) {
+            return;
+        }
+        try {
+            server.registerMBean(bean, objectName);
+        } catch (final JMException e) {
+            throw new IllegalStateException("Could not register MBean " + objectName, e);
+        }
+        registered.add(objectName);
+    }
+
+    private static ObjectName objectName(final String properties) {
+        try {
+            return new ObjectName(DOMAIN + ":" + properties);
+        } catch (final JMException e) {
+            throw new IllegalArgumentException("Invalid MBean name " + properties, e);
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package com.github.frosxt.chronos.runtime.jmx;
+
+/**
+ * Management interface of a scheduler.
+ *
+ * <p>
+ * Attributes are read from the scheduler's incrementally maintained
+ * counters, gauges and histograms; none of them walks the scheduler's tasks.
+ * Latency attributes cover the interval since the last latency reset and are
+ * reported in nanoseconds.
+ */
+public interface SchedulerMXBean {
+
+    long getTotalExecutionCount();
+
+    long getCompletedCount();
+
+    long getFailedCount();
+
+    long getCancelledCount();
+
+    long getSkippedRunCount();
+
+    long getOverlappedRunCount();
+
+    long getTimeoutCount();
+
+    long getRejectedTaskCount();
+
+    long getEvictedTaskCount();
+
+    long getShedExecutionCount();
+
+    boolean isShedding();
+
+    long getSchedulingLagNanos();
+
+    long getListenerBacklog();
+
+    long getListenerLagNanos();
+
+    long getDroppedListenerEventCount();
+
+    long getScheduledCount();
+
+    long getRunningCount();
+
+    long getRetryWaitCount();
+
+    long getPausedCount();
+
+    long getStartLagCount();
+
+    long getStartLagP50Nanos();
+
+    long getStartLagP99Nanos();
+
+    long getStartLagP999Nanos();
+
+    long getStartLagMaxNanos();
+
+    long getRunDurationCount();
+
+    long getRunDurationP50Nanos();
+
+    long getRunDurationP99Nanos();
+
+    long getRunDurationP999Nanos();
+
+    long getRunDurationMaxNanos();
+
+    /**
+     * Returns the number of threads in the scheduler's pool.
+     */
+    int getPoolSize();
+
+    /**
+     * Returns the approximate number of threads running tasks.
+     */
+    int getActiveThreadCount();
+
+    /**
+     * Returns the fraction of the pool's core threads running tasks, between
+     * 0 and 1.
+     */
+    double getPoolUtilization();
+
+    /**
+     * Returns the number of queued timers of tasks that are still live.
+     */
+    long getLiveTimerCount();
+
+    /**
+     * Returns the number of queued timers of cancelled tasks not yet purged.
+     */
+    long getCancelledTimerCount();
+
+    /**
+     * Pauses every task in a group, including tasks added to it later. An
+     * unknown group is not created.
+     *
+     * @param group the group name
+     * @return the number of tasks paused or pausing
+     */
+    int pauseGroup(String group);
+
+    /**
+     * Resumes the tasks of a paused group.
+     *
+     * @param group the group name
+     * @return the number of tasks resumed
+     */
+    int resumeGroup(String group);
+
+    /**
+     * Cancels a task by its identifier.
+     *
+     * @param id the task identifier
+     * @return true if the task is cancelled or will be once its running
+     *         execution finishes
+     */
+    boolean cancelTask(String id);
+
+    /**
+     * Lists the tasks with the longest single execution in the current
+     * latency interval, longest first.
+     *
+     * @param limit the maximum number of tasks to list
+     * @return one line per task with its id, type and longest run time
+     */
+    String[] slowestTasks(int limit);
+
+    /**
+     * Starts a new latency measurement interval.
+     */
+    void resetLatencies();
+}
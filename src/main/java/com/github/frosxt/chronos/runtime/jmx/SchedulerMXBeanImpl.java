@@ -0,0 +1,241 @@
+package com.github.frosxt.chronos.runtime.jmx;
+
+import com.github.frosxt.chronos.api.TaskState;
+import com.github.frosxt.chronos.runtime.execution.listener.AsyncListenerBus;
+import com.github.frosxt.chronos.runtime.metrics.MetricsCollector;
+import com.github.frosxt.chronos.runtime.metrics.SchedulerMetrics;
+import com.github.frosxt.chronos.runtime.metrics.SlowTaskTracker;
+import com.github.frosxt.chronos.runtime.scheduler.facade.SchedulingFacade;
+import com.github.frosxt.chronos.runtime.scheduler.facade.SnapshotFacade;
+import com.github.frosxt.chronos.runtime.shedding.LoadShedder;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * {@link SchedulerMXBean} backed by a scheduler's incremental metrics.
+ */
+public final class SchedulerMXBeanImpl implements SchedulerMXBean {
+    private final SchedulerMetrics metrics;
+    private final MetricsCollector collector;
+    private final SchedulingFacade scheduling;
+    private final SnapshotFacade snapshot;
+
+    public SchedulerMXBeanImpl(final SchedulerMetrics metrics, final SchedulingFacade scheduling, final SnapshotFacade snapshot) {
+        this.metrics = metrics;
+        this.collector = metrics.collector();
+        this.scheduling = scheduling;
+        this.snapshot = snapshot;
+    }
+
+    @Override
+    public long getTotalExecutionCount() {
+        return collector.totalExecutions();
+    }
+
+    @Override
+    public long getCompletedCount() {
+        return collector.completedTasks();
+    }
+
+    @Override
+    public long getFailedCount() {
+        return collector.failedTasks();
+    }
+
+    @Override
+    public long getCancelledCount() {
+        return collector.cancelledTasks();
+    }
+
+    @Override
+    public long getSkippedRunCount() {
+        return collector.skippedRuns();
+    }
+
+    @Override
+    public long getOverlappedRunCount() {
+        return collector.overlappedRuns();
+    }
+
+    @Override
+    public long getTimeoutCount() {
+        return collector.timeouts();
+    }
+
+    @Override
+    public long getRejectedTaskCount() {
+        return collector.rejectedTasks();
+    }
+
+    @Override
+    public long getEvictedTaskCount() {
+        return collector.evictedTasks();
+    }
+
+    @Override
+    public long getShedExecutionCount() {
+        final LoadShedder shedder = metrics.shedder();
+        return shedder != null ? shedder.shedCount() : 0;
+    }
+
+    @Override
+    public boolean isShedding() {
+        final LoadShedder shedder = metrics.shedder();
+        return shedder != null && shedder.isShedding();
+    }
+
+    @Override
+    public long getSchedulingLagNanos() {
+        final LoadShedder shedder = metrics.shedder();
+        return shedder != null ? shedder.lagEstimateNanos() : 0;
+    }
+
+    @Override
+    public long getListenerBacklog() {
+        final AsyncListenerBus bus = metrics.listenerBus();
+        return bus != null ? bus.backlog() : 0;
+    }
+
+    @Override
+    public long getListenerLagNanos() {
+        final AsyncListenerBus bus = metrics.listenerBus();
+        return bus != null ? bus.lagNanos() : 0;
+    }
+
+    @Override
+    public long getDroppedListenerEventCount() {
+        final AsyncListenerBus bus = metrics.listenerBus();
+        return bus != null ? bus.droppedCount() : 0;
+    }
+
+    @Override
+    public long getScheduledCount() {
+        return collector.stateCounts().count(TaskState.SCHEDULED);
+    }
+
+    @Override
+    public long getRunningCount() {
+        return collector.stateCounts().count(TaskState.RUNNING);
+    }
+
+    @Override
+    public long getRetryWaitCount() {
+        return collector.stateCounts().count(TaskState.RETRY_WAIT);
+    }
+
+    @Override
+    public long getPausedCount() {
+        return collector.stateCounts().count(TaskState.PAUSED);
+    }
+
+    @Override
+    public long getStartLagCount() {
+        return collector.startLag().count();
+    }
+
+    @Override
+    public long getStartLagP50Nanos() {
+        return collector.startLag().valueAtPercentile(50);
+    }
+
+    @Override
+    public long getStartLagP99Nanos() {
+        return collector.startLag().valueAtPercentile(99);
+    }
+
+    @Override
+    public long getStartLagP999Nanos() {
+        return collector.startLag().valueAtPercentile(99.9);
+    }
+
+    @Override
+    public long getStartLagMaxNanos() {
+        return collector.startLag().max();
+    }
+
+    @Override
+    public long getRunDurationCount() {
+        return collector.runDuration().count();
+    }
+
+    @Override
+    public long getRunDurationP50Nanos() {
+        return collector.runDuration().valueAtPercentile(50);
+    }
+
+    @Override
+    public long getRunDurationP99Nanos() {
+        return collector.runDuration().valueAtPercentile(99);
+    }
+
+    @Override
+    public long getRunDurationP999Nanos() {
+        return collector.runDuration().valueAtPercentile(99.9);
+    }
+
+    @Override
+    public long getRunDurationMaxNanos() {
+        return collector.runDuration().max();
+    }
+
+    @Override
+    public int getPoolSize() {
+        return metrics.executor() instanceof final ThreadPoolExecutor pool ? pool.getPoolSize() : 0;
+    }
+
+    @Override
+    public int getActiveThreadCount() {
+        return metrics.executor() instanceof final ThreadPoolExecutor pool ? pool.getActiveCount() : 0;
+    }
+
+    @Override
+    public double getPoolUtilization() {
+        if (!(metrics.executor() instanceof final ThreadPoolExecutor pool) || pool.getCorePoolSize() == 0) {
+            return 0;
+        }
+        return Math.min(1.0, (double) pool.getActiveCount() / pool.getCorePoolSize());
+    }
+
+    @Override
+    public long getLiveTimerCount() {
+        return Math.max(0, metrics.purger().queuedCount() - metrics.purger().cancelledTimerCount());
+    }
+
+    @Override
+    public long getCancelledTimerCount() {
+        return metrics.purger().cancelledTimerCount();
+    }
+
+    @Override
+    public int pauseGroup(final String group) {
+        return scheduling.pauseGroup(group);
+    }
+
+    @Override
+    public int resumeGroup(final String group) {
+        return scheduling.resumeGroup(group);
+    }
+
+    @Override
+    public boolean cancelTask(final String id) {
+        return scheduling.cancel(id);
+    }
+
+    @Override
+    public String[] slowestTasks(final int limit) {
+        final List<SlowTaskTracker.SlowTask> top = collector.slowTasks().top(limit);
+        final String[] lines = new String[top.size()];
+        for (int i = 0; i < lines.length; i++) {
+            final SlowTaskTracker.SlowTask task = top.get(i);
+            lines[i] = task.taskId() + " " + task.type() + " " + Duration.ofNanos(task.runTimeNanos());
+        }
+        return lines;
+    }
+
+    @Override
+    public void resetLatencies() {
+        snapshot.resetLatencies();
+    }
+}
@@ -0,0 +1,67 @@
+package com.github.frosxt.chronos.runtime.lane;
+
+import com.github.frosxt.chronos.runtime.time.mapper.InstantMapper;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+
+/**
+ * Registry of serial lanes, keyed by execution key.
+ *
+ * <p>
+ * A lane exists while at least one live task holds its key, so keys derived
+ * from short-lived entities do not accumulate.
+ *
+ * <p>
+ * This class is thread-safe.
+ */
+public final class LaneRegistry {
+    private final ConcurrentHashMap<String, SerialLane> lanes = new ConcurrentHashMap<>();
+    private final Executor executor;
+    private final InstantMapper instantMapper;
+
+    public LaneRegistry(final Executor executor, final InstantMapper instantMapper) {
+        this.executor = executor;
+        this.instantMapper = instantMapper;
+    }
+
+    /**
+     * Returns the lane for a key, creating it if needed, and registers one
+     * more task holding it.
+     *
+     * @param key the execution key
+     * @return the lane, never null
+     */
+    public SerialLane acquire(final String key) {
+        return lanes.compute(key, (k, lane) -> {
+            final SerialLane held = lane != null ? lane : new SerialLane(k, executor, instantMapper);
+            held.references++;
+            return held;
+        });
+    }
+
+    /**
+     * Releases a lane held by a task that has terminated, removing it once no
+     * task holds it.
+     *
+     * @param lane the lane to release
+     */
+    public void release(final SerialLane lane) {
+        lanes.computeIfPresent(lane.key(), (k, current) -> {
+            if (current != lane) {
+                return current;
+            }
+            return --current.references == 0 ? null : current;
+        });
+    }
+
+    /**
+     * Iterates over all live lanes.
+     *
+     * @param action the action to perform on each lane
+     */
+    public void forEach(final Consumer<SerialLane> action) {
+        lanes.values().forEach(action);
+    }
+}
@@ -0,0 +1,145 @@
+package com.github.frosxt.chronos.runtime.lane;
+
+import com.github.frosxt.chronos.runtime.time.mapper.InstantMapper;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Runs the executions of tasks sharing an execution key one at a time.
+ *
+ * <p>
+ * Executions are offered to a lock-free queue. The thread whose offer finds
+ * the lane idle becomes its drainer and runs queued executions in order
+ * until the queue is empty; every other thread returns immediately. After
+ * {@value #DRAIN_BATCH} executions the drainer hands the lane back to the
+ * executor so a busy lane cannot monopolise a worker.
+ *
+ * <p>
+ * This class is thread-safe.
+ */
+public final class SerialLane {
+    static final int DRAIN_BATCH = 64;
+
+    private final String key;
+    private final Executor executor;
+    private final InstantMapper instantMapper;
+
+    private final ConcurrentLinkedQueue<Entry> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private final AtomicInteger depth = new AtomicInteger();
+    private final AtomicInteger maxDepth = new AtomicInteger();
+    private final LongAdder dispatched = new LongAdder();
+    private final LongAdder totalWaitNanos = new LongAdder();
+    private final AtomicLong maxWaitNanos = new AtomicLong();
+    private final Runnable resume = this::drain;
+
+    /**
+     * Number of tasks holding the lane. Only read and written inside the
+     * owning registry's map operations for this key.
+     */
+    int references;
+
+    public SerialLane(final String key, final Executor executor, final InstantMapper instantMapper) {
+        this.key = key;
+        this.executor = executor;
+        this.instantMapper = instantMapper;
+    }
+
+    public String key() {
+        return key;
+    }
+
+    /**
+     * Queues an execution on the lane and drains the lane on the calling
+     * thread if no other thread is draining it.
+     *
+     * @param execution the execution to run
+     */
+    public void submit(final Runnable execution) {
+        queue.offer(new Entry(execution, instantMapper.nanoTime()));
+        maxDepth.accumulateAndGet(depth.incrementAndGet(), Math::max);
+        if (draining.compareAndSet(false, true)) {
+            drain();
+        }
+    }
+
+    private void drain() {
+        int budget = DRAIN_BATCH;
+        while (true) {
+            Entry entry;
+            while ((entry = queue.poll()) != null) {
+                depth.decrementAndGet();
+                final long waitNanos = Math.max(0, instantMapper.nanoTime() - entry.enqueuedNanos);
+                totalWaitNanos.add(waitNanos);
+                maxWaitNanos.accumulateAndGet(waitNanos, Math::max);
+                dispatched.increment();
+                try {
+                    entry.execution.run();
+                } catch (final Throwable ignored) {
+                    // The runner records its own failures; one execution must not stall the lane.
+                }
+                if (--budget == 0 && !queue.isEmpty() && handOff()) {
+                    return;
+                }
+            }
+
+            draining.set(false);
+            if (queue.isEmpty() || !draining.compareAndSet(false, true)) {
+                return;
+            }
+        }
+    }
+
+    private boolean handOff() {
+        try {
+            executor.execute(resume);
+            return true;
+        } catch (final RejectedExecutionException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Returns the number of executions waiting on the lane.
+     */
+    public int depth() {
+        return Math.max(0, depth.get());
+    }
+
+    /**
+     * Returns the highest number of executions that have waited on the lane.
+     */
+    public int maxDepth() {
+        return maxDepth.get();
+    }
+
+    /**
+     * Returns the number of executions the lane has dispatched.
+     */
+    public long dispatched() {
+        return dispatched.sum();
+    }
+
+    /**
+     * Returns the total time executions spent queued on the lane.
+     */
+    public long totalWaitNanos() {
+        return totalWaitNanos.sum();
+    }
+
+    /**
+     * Returns the longest time an execution spent queued on the lane.
+     */
+    public long maxWaitNanos() {
+        return maxWaitNanos.get();
+    }
+
+    private record Entry(Runnable execution, long enqueuedNanos) {
+    }
+}
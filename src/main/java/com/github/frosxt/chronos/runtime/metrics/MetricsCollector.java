@@ -1,5 +1,9 @@
 package com.github.frosxt.chronos.runtime.metrics;
 
+import com.github.frosxt.chronos.api.TaskType;
+import com.github.frosxt.chronos.runtime.metrics.histogram.LogLinearHistogram;
+import com.github.frosxt.chronos.runtime.task.state.TaskStateCounts;
+
 import java.util.concurrent.atomic.LongAdder;
 
 /**
@@ -9,10 +13,23 @@ import java.util.concurrent.atomic.LongAdder;
  * This class is thread-safe and uses low-contention counters.
  */
 public final class MetricsCollector {
+    private static final int SLOW_TASK_CAPACITY = 64;
+
     private final LongAdder totalExecutions = new LongAdder();
     private final LongAdder completedTasks = new LongAdder();
     private final LongAdder failedTasks = new LongAdder();
     private final LongAdder cancelledTasks = new LongAdder();
+    private final LongAdder skippedRuns = new LongAdder();
+    private final LongAdder overlappedRuns = new LongAdder();
+    private final LongAdder timeouts = new LongAdder();
+    private final LongAdder rejectedTasks = new LongAdder();
+    private final LongAdder evictedTasks = new LongAdder();
+    private final LogLinearHistogram startLag = new LogLinearHistogram();
+    private final LogLinearHistogram runDuration = new LogLinearHistogram();
+    private final LogLinearHistogram[] startLagByType = histogramPerType();
+    private final LogLinearHistogram[] runDurationByType = histogramPerType();
+    private final TaskStateCounts stateCounts = new TaskStateCounts();
+    private final SlowTaskTracker slowTasks = new SlowTaskTracker(SLOW_TASK_CAPACITY);
 
     /**
      * Records a task execution.
@@ -42,6 +59,159 @@ public final class MetricsCollector {
         cancelledTasks.increment();
     }
 
+    /**
+     * Records planned executions skipped by an overrun policy.
+     *
+     * @param count the number of skipped executions
+     */
+    public void recordSkipped(final long count) {
+        skippedRuns.add(count);
+    }
+
+    /**
+     * Records an execution that started while another execution of the same
+     * task was still running.
+     */
+    public void recordOverlapped() {
+        overlappedRuns.increment();
+    }
+
+    /**
+     * Records an execution that exceeded its timeout.
+     */
+    public void recordTimeout() {
+        timeouts.increment();
+    }
+
+    /**
+     * Records a task turned away by the admission policy.
+     */
+    public void recordRejected() {
+        rejectedTasks.increment();
+    }
+
+    /**
+     * Records a task cancelled to make room for a new one.
+     */
+    public void recordEvicted() {
+        evictedTasks.increment();
+    }
+
+    /**
+     * Records how late an execution started relative to its scheduled time.
+     *
+     * @param type     the type of the task
+     * @param lagNanos the start lag in nanoseconds
+     */
+    public void recordStartLag(final TaskType type, final long lagNanos) {
+        startLag.record(lagNanos);
+        startLagByType[type.ordinal()].record(lagNanos);
+    }
+
+    /**
+     * Records how long an execution ran.
+     *
+     * @param taskId        the task identifier
+     * @param type          the type of the task
+     * @param durationNanos the run duration in nanoseconds
+     */
+    public void recordRunDuration(final String taskId, final TaskType type, final long durationNanos) {
+        runDuration.record(durationNanos);
+        runDurationByType[type.ordinal()].record(durationNanos);
+        slowTasks.record(taskId, type, durationNanos);
+    }
+
+    /**
+     * Starts a new latency measurement interval.
+     */
+    public void resetLatencies() {
+        startLag.reset();
+        runDuration.reset();
+        slowTasks.reset();
+        for (final TaskType type : TaskType.values()) {
+            startLagByType[type.ordinal()].reset();
+            runDurationByType[type.ordinal()].reset();
+        }
+    }
+
+    /**
+     * Returns the start lags recorded in the current interval.
+     */
+    public LogLinearHistogram.Interval startLag() {
+        return startLag.interval();
+    }
+
+    /**
+     * Returns the start lags of tasks of one type recorded in the current
+     * interval.
+     */
+    public LogLinearHistogram.Interval startLag(final TaskType type) {
+        return startLagByType[type.ordinal()].interval();
+    }
+
+    /**
+     * Returns the run durations recorded in the current interval.
+     */
+    public LogLinearHistogram.Interval runDuration() {
+        return runDuration.interval();
+    }
+
+    /**
+     * Returns the run durations of tasks of one type recorded in the current
+     * interval.
+     */
+    public LogLinearHistogram.Interval runDuration(final TaskType type) {
+        return runDurationByType[type.ordinal()].interval();
+    }
+
+    /**
+     * Returns the start lags recorded in the current interval, copied into a
+     * reusable interval.
+     */
+    public LogLinearHistogram.Interval startLag(final LogLinearHistogram.Interval reuse) {
+        return startLag.interval(reuse);
+    }
+
+    /**
+     * Returns the start lags of tasks of one type recorded in the current
+     * interval, copied into a reusable interval.
+     */
+    public LogLinearHistogram.Interval startLag(final TaskType type, final LogLinearHistogram.Interval reuse) {
+        return startLagByType[type.ordinal()].interval(reuse);
+    }
+
+    /**
+     * Returns the run durations recorded in the current interval, copied into
+     * a reusable interval.
+     */
+    public LogLinearHistogram.Interval runDuration(final LogLinearHistogram.Interval reuse) {
+        return runDuration.interval(reuse);
+    }
+
+    /**
+     * Returns the run durations of tasks of one type recorded in the current
+     * interval, copied into a reusable interval.
+     */
+    public LogLinearHistogram.Interval runDuration(final TaskType type, final LogLinearHistogram.Interval reuse) {
+        return runDurationByType[type.ordinal()].interval(reuse);
+    }
+
+    /**
+     * Returns the tasks with the longest executions in the current latency
+     * interval.
+     */
+    public SlowTaskTracker slowTasks() {
+        return slowTasks;
+    }
+
+    /**
+     * Returns the counts of tasks in each state, kept up to date by the
+     * tasks' state machines.
+     */
+    public TaskStateCounts stateCounts() {
+        return stateCounts;
+    }
+
     /**
      * Returns the total number of executions.
      */
@@ -69,4 +239,47 @@ public final class MetricsCollector {
     public long cancelledTasks() {
         return cancelledTasks.sum();
     }
+
+    /**
+     * Returns the number of executions skipped by overrun policies.
+     */
+    public long skippedRuns() {
+        return skippedRuns.sum();
+    }
+
+    /**
+     * Returns the number of executions that overlapped a running execution.
+     */
+    public long overlappedRuns() {
+        return overlappedRuns.sum();
+    }
+
+    /**
+     * Returns the number of executions that exceeded their timeout.
+     */
+    public long timeouts() {
+        return timeouts.sum();
+    }
+
+    /**
+     * Returns the number of tasks turned away by the admission policy.
+     */
+    public long rejectedTasks() {
+        return rejectedTasks.sum();
+    }
+
+    /**
+     * Returns the number of tasks evicted by the admission policy.
+     */
+    public long evictedTasks() {
+        return evictedTasks.sum();
+    }
+
+    private static LogLinearHistogram[] histogramPerType() {
+        final LogLinearHistogram[] histograms = new LogLinearHistogram[TaskType.values().length];
+        for (int i = 0; i < histograms.length; i++) {
+            histograms[i] = new LogLinearHistogram();
+        }
+        return histograms;
+    }
 }
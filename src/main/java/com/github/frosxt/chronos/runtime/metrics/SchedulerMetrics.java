@@ -0,0 +1,67 @@
+package com.github.frosxt.chronos.runtime.metrics;
+
+import com.github.frosxt.chronos.runtime.execution.listener.AsyncListenerBus;
+import com.github.frosxt.chronos.runtime.group.GroupRegistry;
+import com.github.frosxt.chronos.runtime.shedding.LoadShedder;
+import com.github.frosxt.chronos.runtime.timer.TimerPurger;
+
+import java.util.concurrent.ScheduledExecutorService;
+
+/**
+ * Read access to the incrementally maintained metrics of one scheduler.
+ *
+ * <p>
+ * Exporters read through this view instead of taking snapshots, so a scrape
+ * only sums counters and copies histograms, and never walks the scheduler's
+ * tasks.
+ */
+public final class SchedulerMetrics {
+    private final MetricsCollector collector;
+    private final GroupRegistry groups;
+    private final TimerPurger purger;
+    private final LoadShedder shedder;
+    private final AsyncListenerBus listenerBus;
+    private final ScheduledExecutorService executor;
+
+    public SchedulerMetrics(final MetricsCollector collector, final GroupRegistry groups, final TimerPurger purger,
+                            final LoadShedder shedder, final AsyncListenerBus listenerBus,
+                            final ScheduledExecutorService executor) {
+        this.collector = collector;
+        this.groups = groups;
+        this.purger = purger;
+        this.shedder = shedder;
+        this.listenerBus = listenerBus;
+        this.executor = executor;
+    }
+
+    public MetricsCollector collector() {
+        return collector;
+    }
+
+    public GroupRegistry groups() {
+        return groups;
+    }
+
+    public TimerPurger purger() {
+        return purger;
+    }
+
+    /**
+     * Returns the load shedder, or null if load shedding is disabled.
+     */
+    public LoadShedder shedder() {
+        return shedder;
+    }
+
+    /**
+     * Returns the listener bus, or null if listeners are called on the
+     * worker threads.
+     */
+    public AsyncListenerBus listenerBus() {
+        return listenerBus;
+    }
+
+    public ScheduledExecutorService executor() {
+        return executor;
+    }
+}
@@ -0,0 +1,122 @@
+package com.github.frosxt.chronos.runtime.metrics;
+
+import com.github.frosxt.chronos.api.TaskType;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Keeps the tasks with the longest single execution seen since the last
+ * reset, up to a fixed capacity.
+ *
+ * <p>
+ * Each tracked task is kept with its longest run time. Once the tracker is
+ * full, an execution no longer than the shortest tracked run time is
+ * dismissed after one volatile read, so recording stays cheap for the vast
+ * majority of executions; only executions that enter the top list take the
+ * lock.
+ *
+ * <p>
+ * This class is thread-safe.
+ */
+public final class SlowTaskTracker {
+    private final String[] ids;
+    private final TaskType[] types;
+    private final long[] runTimes;
+    private int size;
+    private volatile long floor = -1;
+
+    public SlowTaskTracker(final int capacity) {
+        this.ids = new String[capacity];
+        this.types = new TaskType[capacity];
+        this.runTimes = new long[capacity];
+    }
+
+    /**
+     * Records the run time of an execution.
+     *
+     * @param taskId       the task identifier
+     * @param type         the task type
+     * @param runTimeNanos the run time in nanoseconds
+     */
+    public void record(final String taskId, final TaskType type, final long runTimeNanos) {
+        if (runTimeNanos <= floor) {
+            return;
+        }
+        synchronized (this) {
+            for (int i = 0; i < size; i++) {
+                if (ids[i].equals(taskId)) {
+                    runTimes[i] = Math.max(runTimes[i], runTimeNanos);
+                    updateFloor();
+                    return;
+                }
+            }
+
+            final int slot;
+            if (size < ids.length) {
+                slot = size++;
+            } else {
+                slot = shortest();
+                if (runTimeNanos <= runTimes[slot]) {
+                    return;
+                }
+            }
+            ids[slot] = taskId;
+            types[slot] = type;
+            runTimes[slot] = runTimeNanos;
+            updateFloor();
+        }
+    }
+
+    /**
+     * Returns the slowest tasks, longest run time first.
+     *
+     * @param limit the maximum number of tasks to return
+     * @return up to {@code limit} tasks
+     */
+    public synchronized List<SlowTask> top(final int limit) {
+        final List<SlowTask> result = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            result.add(new SlowTask(ids[i], types[i], runTimes[i]));
+        }
+        result.sort(Comparator.comparingLong(SlowTask::runTimeNanos).reversed());
+        return result.subList(0, Math.min(Math.max(0, limit), result.size()));
+    }
+
+    /**
+     * Forgets every tracked task.
+     */
+    public synchronized void reset() {
+        for (int i = 0; i < size; i++) {
+            ids[i] = null;
+            types[i] = null;
+        }
+        size = 0;
+        floor = -1;
+    }
+
+    private int shortest() {
+        int index = 0;
+        for (int i = 1; i < size; i++) {
+            if (runTimes[i] < runTimes[index]) {
+                index = i;
+            }
+        }
+        return index;
+    }
+
+    private void updateFloor() {
+        floor = size < ids.length ? -1 : runTimes[shortest()];
+    }
+
+    /**
+     * A task and its longest run time.
+     *
+     * @param taskId       the task identifier
+     * @param type         the task type
+     * @param runTimeNanos the longest run time in nanoseconds
+     */
+    public record SlowTask(String taskId, TaskType type, long runTimeNanos) {
+    }
+}
@@ -0,0 +1,173 @@
+package com.github.frosxt.chronos.runtime.metrics.histogram;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free, fixed-memory histogram of non-negative long values.
+ *
+ * <p>
+ * Buckets are log-linear: values below 32 each get an exact bucket, and
+ * every power of two above that is split into 16 equal sub-buckets, so a
+ * reported value is within 1/16 of the recorded one across the whole long
+ * range. The histogram holds 960 buckets whatever is recorded.
+ *
+ * <p>
+ * Recording is one atomic increment on the value's bucket, plus a
+ * compare-and-set when a new maximum is seen. Readers take a copy of the
+ * buckets, so they never block recording. {@link #reset()} starts a new
+ * interval by taking the current counts as the baseline that later
+ * intervals are measured from; values recorded concurrently with a reset
+ * may be counted in either interval.
+ *
+ * <p>
+ * This class is thread-safe.
+ */
+public final class LogLinearHistogram {
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int HALF_COUNT = SUB_BUCKET_COUNT / 2;
+    private static final int BUCKET_COUNT = SUB_BUCKET_COUNT + (Long.SIZE - 1 - SUB_BUCKET_BITS) * HALF_COUNT;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+    private final AtomicLong max = new AtomicLong();
+    private volatile long[] baseline = new long[BUCKET_COUNT];
+
+    /**
+     * Records a value. Negative values are recorded as zero.
+     *
+     * @param value the value to record
+     */
+    public void record(final long value) {
+        final long v = Math.max(0, value);
+        counts.incrementAndGet(bucketIndex(v));
+
+        long current = max.get();
+        while (v > current && !max.compareAndSet(current, v)) {
+            current = max.get();
+        }
+    }
+
+    /**
+     * Starts a new interval. Subsequent intervals only reflect values
+     * recorded after this call.
+     */
+    public void reset() {
+        final long[] next = new long[BUCKET_COUNT];
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            next[i] = counts.get(i);
+        }
+        max.set(0);
+        baseline = next;
+    }
+
+    /**
+     * Returns the values recorded since the last reset.
+     *
+     * @return a snapshot of the current interval
+     */
+    public Interval interval() {
+        return interval(new Interval());
+    }
+
+    /**
+     * Copies the values recorded since the last reset into an existing
+     * interval, so that periodic readers need not allocate.
+     *
+     * @param reuse the interval to overwrite
+     * @return the given interval
+     */
+    public Interval interval(final Interval reuse) {
+        final long[] base = baseline;
+        final long[] delta = reuse.counts;
+        long total = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            delta[i] = Math.max(0, counts.get(i) - base[i]);
+            total += delta[i];
+        }
+        reuse.count = total;
+        reuse.max = max.get();
+        return reuse;
+    }
+
+    static int bucketIndex(final long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        final int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+        final int shift = exponent - (SUB_BUCKET_BITS - 1);
+        final int subBucket = (int) (value >>> shift);
+        return SUB_BUCKET_COUNT + (exponent - SUB_BUCKET_BITS) * HALF_COUNT + (subBucket - HALF_COUNT);
+    }
+
+    /**
+     * Returns the largest value that falls into a bucket.
+     */
+    static long highestValueIn(final int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        final int offset = index - SUB_BUCKET_COUNT;
+        final int exponent = SUB_BUCKET_BITS + offset / HALF_COUNT;
+        final int shift = exponent - (SUB_BUCKET_BITS - 1);
+        final long lowest = (long) (HALF_COUNT + offset % HALF_COUNT) << shift;
+        return lowest + (1L << shift) - 1;
+    }
+
+    /**
+     * A copy of the values recorded in one interval.
+     *
+     * <p>
+     * An interval returned by {@link #interval()} is never modified. An
+     * interval created by its owner for {@link #interval(Interval)} is
+     * overwritten by every call it is passed to, and is not thread-safe.
+     */
+    public static final class Interval {
+        private final long[] counts = new long[BUCKET_COUNT];
+        private long count;
+        private long max;
+
+        /**
+         * Creates an empty interval to be filled by
+         * {@link LogLinearHistogram#interval(Interval)}.
+         */
+        public Interval() {
+        }
+
+        /**
+         * Returns the number of values recorded.
+         */
+        public long count() {
+            return count;
+        }
+
+        /**
+         * Returns the largest value recorded.
+         */
+        public long max() {
+            return count == 0 ? 0 : max;
+        }
+
+        /**
+         * Returns the value at or below which the given percentage of the
+         * recorded values fall.
+         *
+         * @param percentile the percentile, between 0 and 100
+         * @return the value at the percentile, or 0 if nothing was recorded
+         */
+        public long valueAtPercentile(final double percentile) {
+            if (count == 0) {
+                return 0;
+            }
+            final long rank = Math.max(1, (long) Math.ceil(percentile / 100.0 * count));
+            long seen = 0;
+            for (int i = 0; i < counts.length; i++) {
+                seen += counts[i];
+                if (seen >= rank) {
+                    return Math.min(highestValueIn(i), max());
+                }
+            }
+            return max();
+        }
+    }
+}
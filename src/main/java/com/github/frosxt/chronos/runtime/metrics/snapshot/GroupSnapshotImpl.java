@@ -0,0 +1,27 @@
+package com.github.frosxt.chronos.runtime.metrics.snapshot;
+
+import com.github.frosxt.chronos.api.group.CircuitState;
+import com.github.frosxt.chronos.api.group.GroupSnapshot;
+
+/**
+ * Implementation of {@link GroupSnapshot}.
+ */
+public record GroupSnapshotImpl(String name, CircuitState circuitState, long rejectedExecutionCount,
+                                long rejectedRetryCount, double retryTokens, boolean paused,
+                                int activeCount, int queuedCount, long overflowCount) implements GroupSnapshot {
+
+    @Override
+    public String toString() {
+        return "GroupSnapshot[" +
+                "name=" + name +
+                ", circuit=" + circuitState +
+                ", rejectedExecutions=" + rejectedExecutionCount +
+                ", rejectedRetries=" + rejectedRetryCount +
+                ", retryTokens=" + retryTokens +
+                ", paused=" + paused +
+                ", active=" + activeCount +
+                ", queued=" + queuedCount +
+                ", overflowed=" + overflowCount +
+                "]";
+    }
+}
@@ -0,0 +1,24 @@
+package com.github.frosxt.chronos.runtime.metrics.snapshot;
+
+import com.github.frosxt.chronos.api.lane.LaneSnapshot;
+
+import java.time.Duration;
+
+/**
+ * Implementation of {@link LaneSnapshot}.
+ */
+public record LaneSnapshotImpl(String key, int depth, int maxDepth, long dispatchedCount,
+                               Duration averageWait, Duration maxWait) implements LaneSnapshot {
+
+    @Override
+    public String toString() {
+        return "LaneSnapshot[" +
+                "key=" + key +
+                ", depth=" + depth +
+                ", maxDepth=" + maxDepth +
+                ", dispatched=" + dispatchedCount +
+                ", averageWait=" + averageWait +
+                ", maxWait=" + maxWait +
+                "]";
+    }
+}
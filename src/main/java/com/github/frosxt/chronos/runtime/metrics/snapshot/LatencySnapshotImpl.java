@@ -0,0 +1,39 @@
+package com.github.frosxt.chronos.runtime.metrics.snapshot;
+
+import com.github.frosxt.chronos.api.metrics.LatencySnapshot;
+import com.github.frosxt.chronos.runtime.metrics.histogram.LogLinearHistogram;
+
+import java.time.Duration;
+
+/**
+ * Implementation of {@link LatencySnapshot}.
+ */
+public record LatencySnapshotImpl(long count, Duration p50, Duration p99, Duration p999,
+                                  Duration max) implements LatencySnapshot {
+
+    /**
+     * Creates a latency snapshot from a histogram interval of nanosecond
+     * values.
+     *
+     * @param interval the histogram interval
+     * @return the latency snapshot
+     */
+    public static LatencySnapshotImpl of(final LogLinearHistogram.Interval interval) {
+        return new LatencySnapshotImpl(interval.count(),
+                Duration.ofNanos(interval.valueAtPercentile(50)),
+                Duration.ofNanos(interval.valueAtPercentile(99)),
+                Duration.ofNanos(interval.valueAtPercentile(99.9)),
+                Duration.ofNanos(interval.max()));
+    }
+
+    @Override
+    public String toString() {
+        return "LatencySnapshot[" +
+                "count=" + count +
+                ", p50=" + p50 +
+                ", p99=" + p99 +
+                ", p999=" + p999 +
+                ", max=" + max +
+                "]";
+    }
+}
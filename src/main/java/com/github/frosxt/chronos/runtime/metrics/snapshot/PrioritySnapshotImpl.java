@@ -0,0 +1,24 @@
+package com.github.frosxt.chronos.runtime.metrics.snapshot;
+
+import com.github.frosxt.chronos.api.dispatch.PrioritySnapshot;
+import com.github.frosxt.chronos.api.policy.TaskPriority;
+
+import java.time.Duration;
+
+/**
+ * Implementation of {@link PrioritySnapshot}.
+ */
+public record PrioritySnapshotImpl(TaskPriority priority, int depth, long dispatchedCount,
+                                   Duration averageDelay, Duration maxDelay) implements PrioritySnapshot {
+
+    @Override
+    public String toString() {
+        return "PrioritySnapshot[" +
+                "priority=" + priority +
+                ", depth=" + depth +
+                ", dispatched=" + dispatchedCount +
+                ", averageDelay=" + averageDelay +
+                ", maxDelay=" + maxDelay +
+                "]";
+    }
+}
@@ -1,15 +1,34 @@
 package com.github.frosxt.chronos.runtime.metrics.snapshot;
 
 import com.github.frosxt.chronos.api.SchedulerSnapshot;
+import com.github.frosxt.chronos.api.TaskType;
+import com.github.frosxt.chronos.api.dispatch.PrioritySnapshot;
+import com.github.frosxt.chronos.api.group.GroupSnapshot;
+import com.github.frosxt.chronos.api.lane.LaneSnapshot;
+import com.github.frosxt.chronos.api.metrics.LatencySnapshot;
+import com.github.frosxt.chronos.api.policy.TaskPriority;
 
+import java.time.Duration;
 import java.time.Instant;
+import java.util.Map;
 
 /**
  * Implementation of {@link SchedulerSnapshot}.
  */
 public record SchedulerSnapshotImpl(Instant snapshotTime, long totalTaskCount, long scheduledCount, long runningCount,
-                                    long retryWaitCount, long completedCount, long failedCount, long cancelledCount,
-                                    long totalExecutionCount) implements SchedulerSnapshot {
+                                    long retryWaitCount, long pausedCount, long completedCount, long failedCount, long cancelledCount,
+                                    long totalExecutionCount, long skippedRunCount, long overlappedRunCount, long timeoutCount,
+                                    long rejectedTaskCount, long evictedTaskCount,
+                                    long shedExecutionCount, Duration schedulingLag, boolean shedding,
+                                    long listenerBacklog, Duration listenerLag, long droppedListenerEventCount,
+                                    Instant latencyIntervalStart, LatencySnapshot startLag, LatencySnapshot runDuration,
+                                    Map<TaskType, LatencySnapshot> startLagByType,
+                                    Map<TaskType, LatencySnapshot> runDurationByType,
+                                    long liveTimerCount, long cancelledTimerCount,
+                                    Map<String, Duration> adaptivePeriods,
+                                    Map<String, GroupSnapshot> groups,
+                                    Map<String, LaneSnapshot> lanes,
+                                    Map<TaskPriority, PrioritySnapshot> priorities) implements SchedulerSnapshot {
 
     @Override
     public String toString() {
@@ -19,10 +38,31 @@ public record SchedulerSnapshotImpl(Instant snapshotTime, long totalTaskCount, l
                 ", scheduled=" + scheduledCount +
                 ", running=" + runningCount +
                 ", retryWait=" + retryWaitCount +
+                ", paused=" + pausedCount +
                 ", completed=" + completedCount +
                 ", failed=" + failedCount +
                 ", cancelled=" + cancelledCount +
                 ", executions=" + totalExecutionCount +
+                ", skipped=" + skippedRunCount +
+                ", overlapped=" + overlappedRunCount +
+                ", timeouts=" + timeoutCount +
+                ", rejected=" + rejectedTaskCount +
+                ", evicted=" + evictedTaskCount +
+                ", shed=" + shedExecutionCount +
+                ", lag=" + schedulingLag +
+                ", shedding=" + shedding +
+                ", listenerBacklog=" + listenerBacklog +
+                ", listenerLag=" + listenerLag +
+                ", droppedListenerEvents=" + droppedListenerEventCount +
+                ", latencyIntervalStart=" + latencyIntervalStart +
+                ", startLag=" + startLag +
+                ", runDuration=" + runDuration +
+                ", liveTimers=" + liveTimerCount +
+                ", cancelledTimers=" + cancelledTimerCount +
+                ", adaptivePeriods=" + adaptivePeriods +
+                ", groups=" + groups.values() +
+                ", lanes=" + lanes.values() +
+                ", priorities=" + priorities.values() +
                 "]";
     }
 }
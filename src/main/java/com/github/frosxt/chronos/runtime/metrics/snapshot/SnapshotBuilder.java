@@ -2,10 +2,29 @@ package com.github.frosxt.chronos.runtime.metrics.snapshot;
 
 import com.github.frosxt.chronos.api.SchedulerSnapshot;
 import com.github.frosxt.chronos.api.TaskState;
+import com.github.frosxt.chronos.api.TaskType;
+import com.github.frosxt.chronos.api.dispatch.PrioritySnapshot;
+import com.github.frosxt.chronos.api.group.GroupSnapshot;
+import com.github.frosxt.chronos.api.lane.LaneSnapshot;
+import com.github.frosxt.chronos.api.metrics.LatencySnapshot;
+import com.github.frosxt.chronos.api.policy.TaskPriority;
+import com.github.frosxt.chronos.runtime.dispatch.PriorityDispatcher;
+import com.github.frosxt.chronos.runtime.execution.listener.AsyncListenerBus;
+import com.github.frosxt.chronos.runtime.group.GroupRegistry;
+import com.github.frosxt.chronos.runtime.lane.LaneRegistry;
 import com.github.frosxt.chronos.runtime.metrics.MetricsCollector;
 import com.github.frosxt.chronos.runtime.scheduler.registry.TaskRegistry;
+import com.github.frosxt.chronos.runtime.shedding.LoadShedder;
+import com.github.frosxt.chronos.runtime.task.state.TaskStateCounts;
+import com.github.frosxt.chronos.runtime.timer.TimerPurger;
 
 import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
 
 /**
  * Builds scheduler snapshots from current state.
@@ -13,40 +32,140 @@ import java.time.Clock;
 public final class SnapshotBuilder {
     private final TaskRegistry registry;
     private final MetricsCollector metrics;
+    private final GroupRegistry groups;
+    private final TimerPurger purger;
+    private final LaneRegistry lanes;
+    private final PriorityDispatcher dispatcher;
+    private final LoadShedder shedder;
+    private final AsyncListenerBus listenerBus;
     private final Clock clock;
+    private volatile Instant latencyIntervalStart;
 
-    public SnapshotBuilder(final TaskRegistry registry, final MetricsCollector metrics, final Clock clock) {
+    public SnapshotBuilder(final TaskRegistry registry, final MetricsCollector metrics, final GroupRegistry groups,
+                           final TimerPurger purger, final LaneRegistry lanes, final PriorityDispatcher dispatcher,
+                           final LoadShedder shedder, final AsyncListenerBus listenerBus, final Clock clock) {
         this.registry = registry;
         this.metrics = metrics;
+        this.groups = groups;
+        this.purger = purger;
+        this.lanes = lanes;
+        this.dispatcher = dispatcher;
+        this.shedder = shedder;
+        this.listenerBus = listenerBus;
         this.clock = clock;
+        this.latencyIntervalStart = clock.instant();
+    }
+
+    /**
+     * Starts a new latency measurement interval.
+     */
+    public void resetLatencies() {
+        metrics.resetLatencies();
+        latencyIntervalStart = clock.instant();
     }
 
     public SchedulerSnapshot build() {
-        final long[] counts = new long[6];
-
-        registry.forEach(control -> {
-            final TaskState state = control.state();
-            switch (state) {
-                case SCHEDULED -> counts[0]++;
-                case RUNNING -> counts[1]++;
-                case RETRY_WAIT -> counts[2]++;
-                case COMPLETED -> counts[3]++;
-                case FAILED -> counts[4]++;
-                case CANCELLED -> counts[5]++;
-            }
-        });
+        final Map<String, Duration> adaptivePeriods = new HashMap<>();
+        registry.forEachAdaptive(control ->
+                adaptivePeriods.put(control.id(), Duration.ofNanos(control.trigger().currentPeriodNanos())));
+
+        final TaskStateCounts states = metrics.stateCounts();
+        final long scheduled = states.count(TaskState.SCHEDULED);
+        final long running = states.count(TaskState.RUNNING);
+        final long retryWait = states.count(TaskState.RETRY_WAIT);
+        final long paused = states.count(TaskState.PAUSED);
 
-        final long total = counts[0] + counts[1] + counts[2] + metrics.completedTasks() + metrics.failedTasks() + metrics.cancelledTasks();
+        final long cancelledTimers = purger.cancelledTimerCount();
+        final long liveTimers = Math.max(0, purger.queuedCount() - cancelledTimers);
+        final long total = scheduled + running + retryWait + paused + metrics.completedTasks() + metrics.failedTasks() + metrics.cancelledTasks();
 
         return new SchedulerSnapshotImpl(
                 clock.instant(),
                 total,
-                counts[0],
-                counts[1],
-                counts[2],
+                scheduled,
+                running,
+                retryWait,
+                paused,
                 metrics.completedTasks(),
                 metrics.failedTasks(),
                 metrics.cancelledTasks(),
-                metrics.totalExecutions());
+                metrics.totalExecutions(),
+                metrics.skippedRuns(),
+                metrics.overlappedRuns(),
+                metrics.timeouts(),
+                metrics.rejectedTasks(),
+                metrics.evictedTasks(),
+                shedder != null ? shedder.shedCount() : 0,
+                Duration.ofNanos(shedder != null ? shedder.lagEstimateNanos() : 0),
+                shedder != null && shedder.isShedding(),
+                listenerBus != null ? listenerBus.backlog() : 0,
+                Duration.ofNanos(listenerBus != null ? listenerBus.lagNanos() : 0),
+                listenerBus != null ? listenerBus.droppedCount() : 0,
+                latencyIntervalStart,
+                LatencySnapshotImpl.of(metrics.startLag()),
+                LatencySnapshotImpl.of(metrics.runDuration()),
+                buildLatenciesByType(true),
+                buildLatenciesByType(false),
+                liveTimers,
+                cancelledTimers,
+                Map.copyOf(adaptivePeriods),
+                buildGroups(),
+                buildLanes(),
+                buildPriorities());
+    }
+
+    private Map<TaskType, LatencySnapshot> buildLatenciesByType(final boolean startLag) {
+        final Map<TaskType, LatencySnapshot> result = new EnumMap<>(TaskType.class);
+        for (final TaskType type : TaskType.values()) {
+            result.put(type, LatencySnapshotImpl.of(startLag ? metrics.startLag(type) : metrics.runDuration(type)));
+        }
+        return Collections.unmodifiableMap(result);
+    }
+
+    private Map<String, GroupSnapshot> buildGroups() {
+        final Map<String, GroupSnapshot> result = new HashMap<>();
+        groups.forEach(group -> result.put(group.name(), new GroupSnapshotImpl(
+                group.name(),
+                group.circuitState(),
+                group.rejectedExecutions(),
+                group.rejectedRetries(),
+                group.retryTokens(),
+                group.isPaused(),
+                group.activeExecutions(),
+                group.queuedExecutions(),
+                group.overflowedExecutions())));
+        return Map.copyOf(result);
+    }
+
+    private Map<String, LaneSnapshot> buildLanes() {
+        final Map<String, LaneSnapshot> result = new HashMap<>();
+        lanes.forEach(lane -> {
+            final long dispatched = lane.dispatched();
+            result.put(lane.key(), new LaneSnapshotImpl(
+                    lane.key(),
+                    lane.depth(),
+                    lane.maxDepth(),
+                    dispatched,
+                    Duration.ofNanos(dispatched > 0 ? lane.totalWaitNanos() / dispatched : 0),
+                    Duration.ofNanos(lane.maxWaitNanos())));
+        });
+        return Map.copyOf(result);
+    }
+
+    private Map<TaskPriority, PrioritySnapshot> buildPriorities() {
+        if (dispatcher == null) {
+            return Map.of();
+        }
+        final Map<TaskPriority, PrioritySnapshot> result = new EnumMap<>(TaskPriority.class);
+        for (final TaskPriority priority : TaskPriority.values()) {
+            final long dispatched = dispatcher.dispatched(priority);
+            result.put(priority, new PrioritySnapshotImpl(
+                    priority,
+                    dispatcher.depth(priority),
+                    dispatched,
+                    Duration.ofNanos(dispatched > 0 ? dispatcher.totalDelayNanos(priority) / dispatched : 0),
+                    Duration.ofNanos(dispatcher.maxDelayNanos(priority))));
+        }
+        return Collections.unmodifiableMap(result);
     }
 }
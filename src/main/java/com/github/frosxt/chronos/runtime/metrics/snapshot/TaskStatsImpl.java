@@ -0,0 +1,42 @@
+package com.github.frosxt.chronos.runtime.metrics.snapshot;
+
+import com.github.frosxt.chronos.api.metrics.TaskStats;
+import com.github.frosxt.chronos.runtime.task.stats.TaskStatsRecorder;
+
+import java.time.Duration;
+
+/**
+ * Implementation of {@link TaskStats}.
+ */
+public record TaskStatsImpl(long executionCount, Duration ewmaDuration, Duration maxDuration, Duration busyTime,
+                            Duration averageLag, long failureCount, long retryCount) implements TaskStats {
+
+    /**
+     * Creates a snapshot of a task's statistics.
+     *
+     * @param recorder the task's statistics recorder
+     * @return the statistics snapshot
+     */
+    public static TaskStatsImpl of(final TaskStatsRecorder recorder) {
+        return new TaskStatsImpl(recorder.executions(),
+                Duration.ofNanos(recorder.ewmaDurationNanos()),
+                Duration.ofNanos(recorder.maxDurationNanos()),
+                Duration.ofNanos(recorder.busyNanos()),
+                Duration.ofNanos(recorder.averageLagNanos()),
+                recorder.failures(),
+                recorder.retries());
+    }
+
+    @Override
+    public String toString() {
+        return "TaskStats[" +
+                "executions=" + executionCount +
+                ", ewmaDuration=" + ewmaDuration +
+                ", maxDuration=" + maxDuration +
+                ", busyTime=" + busyTime +
+                ", averageLag=" + averageLag +
+                ", failures=" + failureCount +
+                ", retries=" + retryCount +
+                "]";
+    }
+}
@@ -1,21 +1,46 @@
 package com.github.frosxt.chronos.runtime.scheduler;
 
+import com.github.frosxt.chronos.api.ResultHandle;
+import com.github.frosxt.chronos.api.ScheduleAttempt;
 import com.github.frosxt.chronos.api.ScheduledHandle;
 import com.github.frosxt.chronos.api.Scheduler;
 import com.github.frosxt.chronos.api.SchedulerSnapshot;
+import com.github.frosxt.chronos.api.Timeout;
 import com.github.frosxt.chronos.api.cron.CronExpression;
+import com.github.frosxt.chronos.api.listener.ResultSink;
+import com.github.frosxt.chronos.api.policy.AdaptiveRate;
 import com.github.frosxt.chronos.api.spec.SchedulerSpec;
+import com.github.frosxt.chronos.api.spec.TaskSpec;
+import com.github.frosxt.chronos.runtime.execution.listener.AsyncListenerBus;
+import com.github.frosxt.chronos.runtime.execution.listener.ListenerDispatcher;
+import com.github.frosxt.chronos.runtime.execution.timeout.ExecutionWatchdog;
+import com.github.frosxt.chronos.runtime.dispatch.PriorityDispatcher;
+import com.github.frosxt.chronos.runtime.group.GroupRegistry;
+import com.github.frosxt.chronos.runtime.jfr.TimerQueueDepthEvent;
+import com.github.frosxt.chronos.runtime.jmx.JmxRegistration;
+import com.github.frosxt.chronos.runtime.lane.LaneRegistry;
 import com.github.frosxt.chronos.runtime.metrics.MetricsCollector;
+import com.github.frosxt.chronos.runtime.metrics.SchedulerMetrics;
+import com.github.frosxt.chronos.runtime.scheduler.admission.AdmissionController;
 import com.github.frosxt.chronos.runtime.scheduler.facade.SchedulingFacade;
 import com.github.frosxt.chronos.runtime.scheduler.facade.SnapshotFacade;
+import com.github.frosxt.chronos.runtime.scheduler.facade.TimeoutFacade;
 import com.github.frosxt.chronos.runtime.scheduler.lifecycle.LifecycleController;
 import com.github.frosxt.chronos.runtime.scheduler.registry.TaskRegistry;
+import com.github.frosxt.chronos.runtime.shedding.LoadShedder;
+import com.github.frosxt.chronos.runtime.task.random.TaskRandomSource;
 import com.github.frosxt.chronos.runtime.time.mapper.InstantMapper;
+import com.github.frosxt.chronos.runtime.timer.HashedWheelTimer;
+import com.github.frosxt.chronos.runtime.timer.TimerPurger;
 
 import java.time.Clock;
 import java.time.Duration;
 import java.time.ZoneId;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 /**
  * Implementation of {@link Scheduler}.
@@ -24,10 +49,15 @@ import java.util.concurrent.ScheduledExecutorService;
  */
 public final class SchedulerImpl implements Scheduler {
     private static final Duration DEFAULT_MISFIRE_GRACE = Duration.ofMinutes(1);
+    private static final long TIMEOUT_TICK_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final int TIMEOUT_WHEEL_SIZE = 512;
 
     private final LifecycleController lifecycle;
     private final SchedulingFacade scheduling;
     private final SnapshotFacade snapshot;
+    private final TimeoutFacade timeouts;
+    private final SchedulerMetrics metrics;
+    private final JmxRegistration jmx;
 
     /**
      * Creates a new scheduler.
@@ -40,43 +70,209 @@ public final class SchedulerImpl implements Scheduler {
     public SchedulerImpl(final ScheduledExecutorService executor, final InstantMapper instantMapper, final Clock clock, final SchedulerSpec spec) {
         final TaskRegistry registry = new TaskRegistry();
         final MetricsCollector metricsCollector = new MetricsCollector();
+        final GroupRegistry groups = new GroupRegistry(spec.groups());
 
-        this.lifecycle = new LifecycleController(executor, registry, spec.shutdownGrace());
-        this.snapshot = new SnapshotFacade(registry, metricsCollector, clock);
+        final ExecutionWatchdog watchdog = new ExecutionWatchdog(spec.threadNamePrefix() + "watchdog");
+        final TimerPurger purger = new TimerPurger(executor, spec.purgePolicy());
+        final LaneRegistry lanes = new LaneRegistry(executor, instantMapper);
+        final PriorityDispatcher dispatcher = spec.priorityAging() != null
+                ? new PriorityDispatcher(Math.max(1, spec.threadCount() - 1), spec.priorityAging().toNanos(), instantMapper)
+                : null;
+        final AdmissionController admission = spec.admission() != null
+                ? new AdmissionController(spec.admission(), registry, metricsCollector)
+                : null;
+        final LoadShedder shedder = spec.sheddingThreshold() != null
+                ? new LoadShedder(spec.sheddingThreshold().toNanos())
+                : null;
+        final AsyncListenerBus listenerBus = spec.asyncListeners() != null && !spec.listeners().isEmpty()
+                ? new AsyncListenerBus(spec.listeners(), spec.asyncListeners(), spec.threadNamePrefix() + "listener")
+                : null;
+
+        final HashedWheelTimer timeoutWheel = new HashedWheelTimer(TIMEOUT_TICK_NANOS, TIMEOUT_WHEEL_SIZE,
+                spec.threadNamePrefix() + "timeout", executor);
+
+        this.lifecycle = new LifecycleController(executor, registry, watchdog, timeoutWheel, listenerBus,
+                spec.shutdownGrace());
+        this.timeouts = new TimeoutFacade(timeoutWheel, lifecycle);
+        TimerQueueDepthEvent.register(spec.threadNamePrefix(), purger);
+        this.metrics = new SchedulerMetrics(metricsCollector, groups, purger, shedder, listenerBus, executor);
+        this.snapshot = new SnapshotFacade(registry, metricsCollector, groups, purger, lanes, dispatcher, shedder,
+                listenerBus, clock);
         this.scheduling = new SchedulingFacade(
                 executor,
                 instantMapper,
                 registry,
+                groups,
                 metricsCollector,
-                spec.listeners(),
+                new ListenerDispatcher(spec.listeners(), listenerBus),
                 lifecycle,
                 spec.defaultExecutionPolicy(),
-                spec.defaultJitter());
+                spec.defaultJitter(),
+                new TaskRandomSource(spec.randomSeed()),
+                spec.defaultTimeout(),
+                watchdog,
+                purger,
+                lanes,
+                dispatcher,
+                admission,
+                shedder);
+
+        try {
+            this.jmx = spec.jmxName() != null
+                    ? JmxRegistration.register(spec.jmxName(), metrics, scheduling, snapshot)
+                    : null;
+        } catch (final RuntimeException e) {
+            lifecycle.shutdownNow();
+            throw e;
+        }
     }
 
     @Override
     public ScheduledHandle scheduleOnce(final Duration delay, final Runnable task) {
-        return scheduling.scheduleOnce(delay, task);
+        return scheduling.scheduleOnce(delay, task, TaskSpec.defaults());
+    }
+
+    @Override
+    public ScheduledHandle scheduleOnce(final Duration delay, final Runnable task, final TaskSpec spec) {
+        return scheduling.scheduleOnce(delay, task, spec);
     }
 
     @Override
     public ScheduledHandle scheduleAtFixedRate(final Duration initialDelay, final Duration period, final Runnable task) {
-        return scheduling.scheduleAtFixedRate(initialDelay, period, task);
+        return scheduling.scheduleAtFixedRate(initialDelay, period, task, TaskSpec.defaults());
+    }
+
+    @Override
+    public ScheduledHandle scheduleAtFixedRate(final Duration initialDelay, final Duration period, final Runnable task, final TaskSpec spec) {
+        return scheduling.scheduleAtFixedRate(initialDelay, period, task, spec);
     }
 
     @Override
     public ScheduledHandle scheduleWithFixedDelay(final Duration initialDelay, final Duration delay, final Runnable task) {
-        return scheduling.scheduleWithFixedDelay(initialDelay, delay, task);
+        return scheduling.scheduleWithFixedDelay(initialDelay, delay, task, TaskSpec.defaults());
+    }
+
+    @Override
+    public ScheduledHandle scheduleWithFixedDelay(final Duration initialDelay, final Duration delay, final Runnable task, final TaskSpec spec) {
+        return scheduling.scheduleWithFixedDelay(initialDelay, delay, task, spec);
+    }
+
+    @Override
+    public ScheduleAttempt trySchedule(final Duration delay, final Runnable task) {
+        return scheduling.trySchedule(delay, task, TaskSpec.defaults());
+    }
+
+    @Override
+    public ScheduleAttempt trySchedule(final Duration delay, final Runnable task, final TaskSpec spec) {
+        return scheduling.trySchedule(delay, task, spec);
+    }
+
+    @Override
+    public <V> ResultHandle<V> scheduleOnce(final Duration delay, final Callable<V> task) {
+        return scheduling.scheduleOnce(delay, task, TaskSpec.defaults());
+    }
+
+    @Override
+    public <V> ResultHandle<V> scheduleOnce(final Duration delay, final Callable<V> task, final TaskSpec spec) {
+        return scheduling.scheduleOnce(delay, task, spec);
+    }
+
+    @Override
+    public <V> ScheduledHandle scheduleAtFixedRate(final Duration initialDelay, final Duration period, final Callable<V> task,
+                                                   final ResultSink<? super V> sink) {
+        return scheduling.scheduleAtFixedRate(initialDelay, period, task, sink, TaskSpec.defaults());
+    }
+
+    @Override
+    public <V> ScheduledHandle scheduleAtFixedRate(final Duration initialDelay, final Duration period, final Callable<V> task,
+                                                   final ResultSink<? super V> sink, final TaskSpec spec) {
+        return scheduling.scheduleAtFixedRate(initialDelay, period, task, sink, spec);
+    }
+
+    @Override
+    public <V> ScheduledHandle scheduleWithFixedDelay(final Duration initialDelay, final Duration delay, final Callable<V> task,
+                                                      final ResultSink<? super V> sink) {
+        return scheduling.scheduleWithFixedDelay(initialDelay, delay, task, sink, TaskSpec.defaults());
+    }
+
+    @Override
+    public <V> ScheduledHandle scheduleWithFixedDelay(final Duration initialDelay, final Duration delay, final Callable<V> task,
+                                                      final ResultSink<? super V> sink, final TaskSpec spec) {
+        return scheduling.scheduleWithFixedDelay(initialDelay, delay, task, sink, spec);
+    }
+
+    @Override
+    public ScheduledHandle scheduleAsync(final Duration delay, final Supplier<? extends CompletionStage<?>> task) {
+        return scheduling.scheduleAsync(delay, task, TaskSpec.defaults());
+    }
+
+    @Override
+    public ScheduledHandle scheduleAsync(final Duration delay, final Supplier<? extends CompletionStage<?>> task, final TaskSpec spec) {
+        return scheduling.scheduleAsync(delay, task, spec);
+    }
+
+    @Override
+    public ScheduledHandle scheduleAsyncAtFixedRate(final Duration initialDelay, final Duration period,
+                                                    final Supplier<? extends CompletionStage<?>> task) {
+        return scheduling.scheduleAsyncAtFixedRate(initialDelay, period, task, TaskSpec.defaults());
+    }
+
+    @Override
+    public ScheduledHandle scheduleAsyncAtFixedRate(final Duration initialDelay, final Duration period,
+                                                    final Supplier<? extends CompletionStage<?>> task, final TaskSpec spec) {
+        return scheduling.scheduleAsyncAtFixedRate(initialDelay, period, task, spec);
+    }
+
+    @Override
+    public ScheduledHandle scheduleAsyncWithFixedDelay(final Duration initialDelay, final Duration delay,
+                                                       final Supplier<? extends CompletionStage<?>> task) {
+        return scheduling.scheduleAsyncWithFixedDelay(initialDelay, delay, task, TaskSpec.defaults());
+    }
+
+    @Override
+    public ScheduledHandle scheduleAsyncWithFixedDelay(final Duration initialDelay, final Duration delay,
+                                                       final Supplier<? extends CompletionStage<?>> task, final TaskSpec spec) {
+        return scheduling.scheduleAsyncWithFixedDelay(initialDelay, delay, task, spec);
+    }
+
+    @Override
+    public ScheduledHandle scheduleAdaptive(final Duration initialDelay, final AdaptiveRate rate, final Runnable task) {
+        return scheduling.scheduleAdaptive(initialDelay, rate, task, TaskSpec.defaults());
+    }
+
+    @Override
+    public ScheduledHandle scheduleAdaptive(final Duration initialDelay, final AdaptiveRate rate, final Runnable task, final TaskSpec spec) {
+        return scheduling.scheduleAdaptive(initialDelay, rate, task, spec);
     }
 
     @Override
     public ScheduledHandle scheduleCron(final CronExpression cron, final ZoneId zone, final Runnable task) {
-        return scheduling.scheduleCron(cron, zone, DEFAULT_MISFIRE_GRACE, task);
+        return scheduling.scheduleCron(cron, zone, DEFAULT_MISFIRE_GRACE, task, TaskSpec.defaults());
     }
 
     @Override
     public ScheduledHandle scheduleCron(final CronExpression cron, final ZoneId zone, final Duration misfireGrace, final Runnable task) {
-        return scheduling.scheduleCron(cron, zone, misfireGrace, task);
+        return scheduling.scheduleCron(cron, zone, misfireGrace, task, TaskSpec.defaults());
+    }
+
+    @Override
+    public ScheduledHandle scheduleCron(final CronExpression cron, final ZoneId zone, final Duration misfireGrace, final Runnable task, final TaskSpec spec) {
+        return scheduling.scheduleCron(cron, zone, misfireGrace, task, spec);
+    }
+
+    @Override
+    public Timeout newTimeout(final Duration delay, final Runnable task) {
+        return timeouts.newTimeout(delay, task);
+    }
+
+    @Override
+    public int pauseGroup(final String group) {
+        return scheduling.pauseGroup(group);
+    }
+
+    @Override
+    public int resumeGroup(final String group) {
+        return scheduling.resumeGroup(group);
     }
 
     @Override
@@ -84,14 +280,31 @@ public final class SchedulerImpl implements Scheduler {
         return snapshot.snapshot();
     }
 
+    @Override
+    public void resetLatencies() {
+        snapshot.resetLatencies();
+    }
+
+    /**
+     * Returns the incrementally maintained metrics of this scheduler, for
+     * exporters that must not allocate a snapshot per read.
+     *
+     * @return the metrics view
+     */
+    public SchedulerMetrics metrics() {
+        return metrics;
+    }
+
     @Override
     public void shutdown() {
         lifecycle.shutdown();
+        unregisterJmx();
     }
 
     @Override
     public void shutdownNow() {
         lifecycle.shutdownNow();
+        unregisterJmx();
     }
 
     @Override
@@ -112,5 +325,12 @@ public final class SchedulerImpl implements Scheduler {
     @Override
     public void close() {
         lifecycle.close();
+        unregisterJmx();
+    }
+
+    private void unregisterJmx() {
+        if (jmx != null) {
+            jmx.unregister();
+        }
     }
 }
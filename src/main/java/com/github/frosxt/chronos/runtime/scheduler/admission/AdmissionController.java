@@ -0,0 +1,202 @@
+package com.github.frosxt.chronos.runtime.scheduler.admission;
+
+import com.github.frosxt.chronos.api.policy.AdmissionPolicy;
+import com.github.frosxt.chronos.api.policy.TaskPriority;
+import com.github.frosxt.chronos.runtime.metrics.MetricsCollector;
+import com.github.frosxt.chronos.runtime.scheduler.registry.TaskRegistry;
+import com.github.frosxt.chronos.runtime.task.TaskControl;
+
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Enforces an {@link AdmissionPolicy} on newly scheduled tasks.
+ *
+ * <p>
+ * Each admitted task holds one permit until it reaches a terminal state.
+ * Acquiring and releasing a permit is a single compare-and-set; the lock is
+ * only taken by producers blocked on a full scheduler and by releases that
+ * find one waiting.
+ *
+ * <p>
+ * Admitted tasks are also kept per priority in order of creation, so the
+ * oldest task of the lowest priority is found without walking the registry
+ * and an eviction costs a logarithmic removal.
+ *
+ * <p>
+ * This class is thread-safe.
+ */
+public final class AdmissionController {
+    private final AdmissionPolicy policy;
+    private final int limit;
+    private final TaskRegistry registry;
+    private final MetricsCollector metricsCollector;
+    private final Map<TaskPriority, ConcurrentSkipListSet<TaskControl>> admitted = new EnumMap<>(TaskPriority.class);
+
+    private final AtomicInteger pending = new AtomicInteger();
+    private final AtomicInteger waiters = new AtomicInteger();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition released = lock.newCondition();
+
+    public AdmissionController(final AdmissionPolicy policy, final TaskRegistry registry,
+                               final MetricsCollector metricsCollector) {
+        this.policy = policy;
+        this.limit = policy.effectiveLimit();
+        this.registry = registry;
+        this.metricsCollector = metricsCollector;
+        final Comparator<TaskControl> byAge = Comparator.comparingLong(TaskControl::createdNanos)
+                .thenComparing(TaskControl::id);
+        for (final TaskPriority priority : TaskPriority.values()) {
+            admitted.put(priority, new ConcurrentSkipListSet<>(byAge));
+        }
+    }
+
+    /**
+     * Takes a permit for a new task without waiting or evicting.
+     *
+     * @param control the task to admit
+     * @return true if the task may be scheduled
+     */
+    public boolean tryAcquire(final TaskControl control) {
+        if (!tryTakePermit()) {
+            return false;
+        }
+        admitted.get(control.priority()).add(control);
+        return true;
+    }
+
+    private boolean tryTakePermit() {
+        int current;
+        do {
+            current = pending.get();
+            if (current >= limit) {
+                return false;
+            }
+        } while (!pending.compareAndSet(current, current + 1));
+        return true;
+    }
+
+    /**
+     * Takes a permit for a new task, applying the policy's rejection mode if
+     * the scheduler is at capacity.
+     *
+     * @param control the task to admit
+     * @return true if the task may be scheduled, false if it must be handed
+     *         back as a rejected task
+     * @throws RejectedExecutionException if the task is rejected by throwing
+     */
+    public boolean acquire(final TaskControl control) {
+        if (tryAcquire(control)) {
+            return true;
+        }
+        final boolean admit = switch (policy.rejection()) {
+            case THROW -> throw reject();
+            case BLOCK -> {
+                if (!awaitPermit(policy.blockTimeoutNanos())) {
+                    throw reject();
+                }
+                yield true;
+            }
+            case REJECTED_HANDLE -> {
+                metricsCollector.recordRejected();
+                yield false;
+            }
+            case EVICT_OLDEST -> {
+                while (!tryTakePermit()) {
+                    if (!evictFor(control)) {
+                        throw reject();
+                    }
+                }
+                yield true;
+            }
+        };
+        if (admit) {
+            admitted.get(control.priority()).add(control);
+        }
+        return admit;
+    }
+
+    /**
+     * Returns the permit held by a task that reached a terminal state. Does
+     * nothing if the task's permit was already returned.
+     *
+     * @param control the task
+     */
+    public void release(final TaskControl control) {
+        if (!admitted.get(control.priority()).remove(control)) {
+            return;
+        }
+        pending.decrementAndGet();
+        if (waiters.get() > 0) {
+            lock.lock();
+            try {
+                released.signal();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Returns the number of tasks that can be admitted before the scheduler
+     * is at capacity.
+     */
+    public int remainingCapacity() {
+        return Math.max(0, limit - pending.get());
+    }
+
+    private boolean awaitPermit(final long timeoutNanos) {
+        long remaining = timeoutNanos;
+        waiters.incrementAndGet();
+        lock.lock();
+        try {
+            while (!tryTakePermit()) {
+                if (remaining <= 0) {
+                    return false;
+                }
+                remaining = released.awaitNanos(remaining);
+            }
+            return true;
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } finally {
+            lock.unlock();
+            waiters.decrementAndGet();
+        }
+    }
+
+    /**
+     * Cancels the oldest pending task of the lowest priority, if that
+     * priority is not higher than the incoming task's, then unregisters it
+     * and returns its permit.
+     *
+     * @return false if no task could be evicted
+     */
+    private boolean evictFor(final TaskControl incoming) {
+        final TaskPriority[] priorities = TaskPriority.values();
+        for (int i = priorities.length - 1; i >= incoming.priority().ordinal(); i--) {
+            for (final TaskControl candidate : admitted.get(priorities[i])) {
+                if (candidate.stateMachine().cancel()) {
+                    candidate.cancelScheduledFuture();
+                    registry.unregister(candidate.id());
+                    release(candidate);
+                    metricsCollector.recordEvicted();
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private RejectedExecutionException reject() {
+        metricsCollector.recordRejected();
+        return new RejectedExecutionException("Scheduler is at capacity (" + limit + " pending tasks)");
+    }
+}
@@ -0,0 +1,20 @@
+package com.github.frosxt.chronos.runtime.scheduler.admission;
+
+import com.github.frosxt.chronos.api.ScheduleAttempt;
+import com.github.frosxt.chronos.api.ScheduledHandle;
+
+/**
+ * Implementation of {@link ScheduleAttempt}.
+ */
+public record ScheduleAttemptImpl(ScheduledHandle handle, int remainingCapacity) implements ScheduleAttempt {
+
+    @Override
+    public boolean accepted() {
+        return handle != null;
+    }
+
+    @Override
+    public String toString() {
+        return "ScheduleAttempt[" + "accepted=" + accepted() + ", remainingCapacity=" + remainingCapacity + "]";
+    }
+}
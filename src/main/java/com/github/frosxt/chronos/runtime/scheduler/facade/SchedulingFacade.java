@@ -1,32 +1,61 @@
 package com.github.frosxt.chronos.runtime.scheduler.facade;
 
+import com.github.frosxt.chronos.api.ResultHandle;
+import com.github.frosxt.chronos.api.ScheduleAttempt;
 import com.github.frosxt.chronos.api.ScheduledHandle;
 import com.github.frosxt.chronos.api.TaskType;
 import com.github.frosxt.chronos.api.cron.CronExpression;
-import com.github.frosxt.chronos.api.listener.TaskListener;
+import com.github.frosxt.chronos.api.listener.ResultSink;
+import com.github.frosxt.chronos.api.policy.AdaptiveRate;
 import com.github.frosxt.chronos.api.policy.ExecutionPolicy;
 import com.github.frosxt.chronos.api.policy.Jitter;
+import com.github.frosxt.chronos.api.policy.OverrunPolicy;
+import com.github.frosxt.chronos.api.policy.ResumePolicy;
+import com.github.frosxt.chronos.api.policy.TaskPriority;
+import com.github.frosxt.chronos.api.policy.TimeoutPolicy;
+import com.github.frosxt.chronos.api.spec.TaskSpec;
+import com.github.frosxt.chronos.runtime.dispatch.PriorityDispatcher;
 import com.github.frosxt.chronos.runtime.execution.TaskRunner;
+import com.github.frosxt.chronos.runtime.execution.listener.ListenerDispatcher;
+import com.github.frosxt.chronos.runtime.execution.overlap.OverlapRunner;
+import com.github.frosxt.chronos.runtime.execution.timeout.ExecutionWatchdog;
+import com.github.frosxt.chronos.runtime.group.GroupRegistry;
+import com.github.frosxt.chronos.runtime.group.TaskGroup;
+import com.github.frosxt.chronos.runtime.lane.LaneRegistry;
+import com.github.frosxt.chronos.runtime.lane.SerialLane;
 import com.github.frosxt.chronos.runtime.metrics.MetricsCollector;
+import com.github.frosxt.chronos.runtime.scheduler.admission.AdmissionController;
+import com.github.frosxt.chronos.runtime.scheduler.admission.ScheduleAttemptImpl;
 import com.github.frosxt.chronos.runtime.scheduler.lifecycle.LifecycleController;
 import com.github.frosxt.chronos.runtime.scheduler.registry.TaskRegistry;
+import com.github.frosxt.chronos.runtime.shedding.LoadShedder;
 import com.github.frosxt.chronos.runtime.task.TaskControl;
+import com.github.frosxt.chronos.runtime.task.ResultHandleImpl;
 import com.github.frosxt.chronos.runtime.task.TaskHandleImpl;
+import com.github.frosxt.chronos.runtime.task.random.TaskRandomSource;
+import com.github.frosxt.chronos.runtime.task.result.CallableTask;
 import com.github.frosxt.chronos.runtime.time.mapper.InstantMapper;
+import com.github.frosxt.chronos.runtime.timer.TimerPurger;
 import com.github.frosxt.chronos.runtime.trigger.Trigger;
+import com.github.frosxt.chronos.runtime.trigger.impl.AdaptiveRateTrigger;
 import com.github.frosxt.chronos.runtime.trigger.impl.CronTrigger;
 import com.github.frosxt.chronos.runtime.trigger.impl.FixedDelayTrigger;
 import com.github.frosxt.chronos.runtime.trigger.impl.FixedRateTrigger;
 import com.github.frosxt.chronos.runtime.trigger.impl.OnceTrigger;
+import com.github.frosxt.chronos.runtime.trigger.spread.PhaseSpreader;
 
 import java.time.Duration;
+import java.time.Instant;
 import java.time.ZoneId;
-import java.util.List;
 import java.util.Objects;
 import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 
 /**
  * Facade for scheduling operations.
@@ -35,33 +64,121 @@ public final class SchedulingFacade {
     private final ScheduledExecutorService executor;
     private final InstantMapper instantMapper;
     private final TaskRegistry registry;
+    private final GroupRegistry groups;
     private final MetricsCollector metricsCollector;
-    private final List<TaskListener> listeners;
+    private final ListenerDispatcher listeners;
     private final LifecycleController lifecycle;
     private final ExecutionPolicy defaultExecutionPolicy;
     private final Jitter defaultJitter;
+    private final TaskRandomSource randomSource;
+    private final TimeoutPolicy defaultTimeout;
+    private final ExecutionWatchdog watchdog;
+    private final TimerPurger purger;
+    private final LaneRegistry lanes;
+    private final PriorityDispatcher dispatcher;
+    private final AdmissionController admission;
+    private final LoadShedder shedder;
 
     public SchedulingFacade(final ScheduledExecutorService executor,
                             final InstantMapper instantMapper,
                             final TaskRegistry registry,
+                            final GroupRegistry groups,
                             final MetricsCollector metricsCollector,
-                            final List<TaskListener> listeners,
+                            final ListenerDispatcher listeners,
                             final LifecycleController lifecycle,
                             final ExecutionPolicy defaultExecutionPolicy,
-                            final Jitter defaultJitter) {
+                            final Jitter defaultJitter,
+                            final TaskRandomSource randomSource,
+                            final TimeoutPolicy defaultTimeout,
+                            final ExecutionWatchdog watchdog,
+                            final TimerPurger purger,
+                            final LaneRegistry lanes,
+                            final PriorityDispatcher dispatcher,
+                            final AdmissionController admission,
+                            final LoadShedder shedder) {
         this.executor = executor;
         this.instantMapper = instantMapper;
         this.registry = registry;
+        this.groups = groups;
         this.metricsCollector = metricsCollector;
         this.listeners = listeners;
         this.lifecycle = lifecycle;
         this.defaultExecutionPolicy = defaultExecutionPolicy;
         this.defaultJitter = defaultJitter;
+        this.randomSource = randomSource;
+        this.defaultTimeout = defaultTimeout;
+        this.watchdog = watchdog;
+        this.purger = purger;
+        this.lanes = lanes;
+        this.dispatcher = dispatcher;
+        this.admission = admission;
+        this.shedder = shedder;
     }
 
-    public ScheduledHandle scheduleOnce(final Duration delay, final Runnable task) {
-        Objects.requireNonNull(delay, "delay must not be null");
+    public ScheduledHandle scheduleOnce(final Duration delay, final Runnable task, final TaskSpec spec) {
+        Objects.requireNonNull(task, "task must not be null");
+        return once(delay, task, null, spec, false);
+    }
+
+    public <V> ResultHandle<V> scheduleOnce(final Duration delay, final Callable<V> task, final TaskSpec spec) {
+        Objects.requireNonNull(task, "task must not be null");
+        final CallableTask<V> body = new CallableTask<>(task, null);
+        final TaskHandleImpl handle = once(delay, body, null, spec, false);
+        return new ResultHandleImpl<>(handle.control(), instantMapper, registry, body);
+    }
+
+    public ScheduledHandle scheduleAsync(final Duration delay, final Supplier<? extends CompletionStage<?>> task, final TaskSpec spec) {
+        Objects.requireNonNull(task, "task must not be null");
+        return once(delay, null, task, spec, false);
+    }
+
+    public ScheduleAttempt trySchedule(final Duration delay, final Runnable task, final TaskSpec spec) {
+        Objects.requireNonNull(task, "task must not be null");
+        final TaskHandleImpl handle = once(delay, task, null, spec, true);
+        return new ScheduleAttemptImpl(handle, admission != null ? admission.remainingCapacity() : Integer.MAX_VALUE);
+    }
+
+    public ScheduledHandle scheduleAtFixedRate(final Duration initialDelay, final Duration period, final Runnable task, final TaskSpec spec) {
+        Objects.requireNonNull(task, "task must not be null");
+        return fixedRate(initialDelay, period, task, null, spec);
+    }
+
+    public <V> ScheduledHandle scheduleAtFixedRate(final Duration initialDelay, final Duration period, final Callable<V> task,
+                                                   final ResultSink<? super V> sink, final TaskSpec spec) {
+        Objects.requireNonNull(task, "task must not be null");
+        Objects.requireNonNull(sink, "sink must not be null");
+        return fixedRate(initialDelay, period, new CallableTask<>(task, sink), null, spec);
+    }
+
+    public ScheduledHandle scheduleAsyncAtFixedRate(final Duration initialDelay, final Duration period,
+                                                    final Supplier<? extends CompletionStage<?>> task, final TaskSpec spec) {
         Objects.requireNonNull(task, "task must not be null");
+        return fixedRate(initialDelay, period, null, task, spec);
+    }
+
+    public ScheduledHandle scheduleWithFixedDelay(final Duration initialDelay, final Duration delay, final Runnable task, final TaskSpec spec) {
+        Objects.requireNonNull(task, "task must not be null");
+        return fixedDelay(initialDelay, delay, task, null, spec);
+    }
+
+    public <V> ScheduledHandle scheduleWithFixedDelay(final Duration initialDelay, final Duration delay, final Callable<V> task,
+                                                      final ResultSink<? super V> sink, final TaskSpec spec) {
+        Objects.requireNonNull(task, "task must not be null");
+        Objects.requireNonNull(sink, "sink must not be null");
+        return fixedDelay(initialDelay, delay, new CallableTask<>(task, sink), null, spec);
+    }
+
+    public ScheduledHandle scheduleAsyncWithFixedDelay(final Duration initialDelay, final Duration delay,
+                                                       final Supplier<? extends CompletionStage<?>> task, final TaskSpec spec) {
+        Objects.requireNonNull(task, "task must not be null");
+        return fixedDelay(initialDelay, delay, null, task, spec);
+    }
+
+    private TaskHandleImpl once(final Duration delay, final Runnable task,
+                                final Supplier<? extends CompletionStage<?>> asyncTask, final TaskSpec spec,
+                                final boolean tryOnly) {
+        Objects.requireNonNull(delay, "delay must not be null");
+        Objects.requireNonNull(spec, "spec must not be null");
         if (delay.isNegative() || delay.isZero()) {
             throw new IllegalArgumentException("delay must be positive");
         }
@@ -71,13 +188,14 @@ public final class SchedulingFacade {
         final long currentNanos = instantMapper.nanoTime();
 
         final OnceTrigger trigger = new OnceTrigger(currentNanos, delayNanos);
-        return scheduleTask(TaskType.ONCE, task, trigger);
+        return scheduleTask(newId(), TaskType.ONCE, task, asyncTask, trigger, spec, tryOnly);
     }
 
-    public ScheduledHandle scheduleAtFixedRate(final Duration initialDelay, final Duration period, final Runnable task) {
+    private TaskHandleImpl fixedRate(final Duration initialDelay, final Duration period, final Runnable task,
+                                     final Supplier<? extends CompletionStage<?>> asyncTask, final TaskSpec spec) {
         Objects.requireNonNull(initialDelay, "initialDelay must not be null");
         Objects.requireNonNull(period, "period must not be null");
-        Objects.requireNonNull(task, "task must not be null");
+        Objects.requireNonNull(spec, "spec must not be null");
         if (initialDelay.isNegative()) {
             throw new IllegalArgumentException("initialDelay must not be negative");
         }
@@ -86,18 +204,28 @@ public final class SchedulingFacade {
         }
         lifecycle.checkNotShutdown();
 
-        final long initialDelayNanos = toNanosSafe(initialDelay);
+        final String id = newId();
         final long periodNanos = toNanosSafe(period);
         final long currentNanos = instantMapper.nanoTime();
+        long initialDelayNanos = toNanosSafe(initialDelay);
 
-        final FixedRateTrigger trigger = new FixedRateTrigger(currentNanos, initialDelayNanos, periodNanos);
-        return scheduleTask(TaskType.FIXED_RATE, task, trigger);
+        if (spec.spreadPhase()) {
+            final String key = spec.spreadKey() != null ? spec.spreadKey() : id;
+            final long offsetNanos = PhaseSpreader.phaseOffsetNanos(key, periodNanos);
+            final long epochNanos = toEpochNanos(instantMapper.toInstant(currentNanos + initialDelayNanos));
+            initialDelayNanos += PhaseSpreader.alignmentDelayNanos(epochNanos, offsetNanos, periodNanos);
+        }
+
+        final OverrunPolicy overrunPolicy = spec.overrunPolicy() != null ? spec.overrunPolicy() : OverrunPolicy.catchUp();
+        final FixedRateTrigger trigger = new FixedRateTrigger(currentNanos, initialDelayNanos, periodNanos, overrunPolicy);
+        return scheduleTask(id, TaskType.FIXED_RATE, task, asyncTask, trigger, spec, false);
     }
 
-    public ScheduledHandle scheduleWithFixedDelay(final Duration initialDelay, final Duration delay, final Runnable task) {
+    private TaskHandleImpl fixedDelay(final Duration initialDelay, final Duration delay, final Runnable task,
+                                      final Supplier<? extends CompletionStage<?>> asyncTask, final TaskSpec spec) {
         Objects.requireNonNull(initialDelay, "initialDelay must not be null");
         Objects.requireNonNull(delay, "delay must not be null");
-        Objects.requireNonNull(task, "task must not be null");
+        Objects.requireNonNull(spec, "spec must not be null");
         if (initialDelay.isNegative()) {
             throw new IllegalArgumentException("initialDelay must not be negative");
         }
@@ -111,10 +239,29 @@ public final class SchedulingFacade {
         final long currentNanos = instantMapper.nanoTime();
 
         final FixedDelayTrigger trigger = new FixedDelayTrigger(currentNanos, initialDelayNanos, delayNanos);
-        return scheduleTask(TaskType.FIXED_DELAY, task, trigger);
+        return scheduleTask(newId(), TaskType.FIXED_DELAY, task, asyncTask, trigger, spec, false);
+    }
+
+    public ScheduledHandle scheduleAdaptive(final Duration initialDelay, final AdaptiveRate rate, final Runnable task, final TaskSpec spec) {
+        Objects.requireNonNull(initialDelay, "initialDelay must not be null");
+        Objects.requireNonNull(rate, "rate must not be null");
+        Objects.requireNonNull(task, "task must not be null");
+        Objects.requireNonNull(spec, "spec must not be null");
+        if (initialDelay.isNegative()) {
+            throw new IllegalArgumentException("initialDelay must not be negative");
+        }
+        lifecycle.checkNotShutdown();
+
+        final long initialDelayNanos = toNanosSafe(initialDelay);
+        final long currentNanos = instantMapper.nanoTime();
+
+        final AdaptiveRateTrigger trigger = new AdaptiveRateTrigger(currentNanos, initialDelayNanos,
+                toNanosSafe(rate.min()), toNanosSafe(rate.max()), rate.targetUtilization(),
+                rate.backoffMultiplier(), toNanosSafe(rate.recoveryStep()), rate.smoothing());
+        return scheduleTask(newId(), TaskType.ADAPTIVE_RATE, task, null, trigger, spec, false);
     }
 
-    public ScheduledHandle scheduleCron(final CronExpression cron, final ZoneId zone, final Duration misfireGrace, final Runnable task) {
+    public ScheduledHandle scheduleCron(final CronExpression cron, final ZoneId zone, final Duration misfireGrace, final Runnable task, final TaskSpec spec) {
         Objects.requireNonNull(cron, "cron must not be null");
         Objects.requireNonNull(zone, "zone must not be null");
         Objects.requireNonNull(misfireGrace, "misfireGrace must not be null");
@@ -122,39 +269,177 @@ public final class SchedulingFacade {
             throw new IllegalArgumentException("misfireGrace must not be negative");
         }
         Objects.requireNonNull(task, "task must not be null");
+        Objects.requireNonNull(spec, "spec must not be null");
         lifecycle.checkNotShutdown();
 
         final long misfireGraceNanos = toNanosSafe(misfireGrace);
 
         final CronTrigger trigger = new CronTrigger(cron, zone, misfireGraceNanos, instantMapper);
-        return scheduleTask(TaskType.CRON, task, trigger);
+        return scheduleTask(newId(), TaskType.CRON, task, null, trigger, spec, false);
     }
 
-    private ScheduledHandle scheduleTask(final TaskType type, final Runnable task, final Trigger trigger) {
-        final String id = UUID.randomUUID().toString();
+    private TaskHandleImpl scheduleTask(final String id, final TaskType type, final Runnable task,
+                                        final Supplier<? extends CompletionStage<?>> asyncTask, final Trigger trigger,
+                                        final TaskSpec spec, final boolean tryOnly) {
+        final ExecutionPolicy executionPolicy = spec.executionPolicy() != null ? spec.executionPolicy() : defaultExecutionPolicy;
+        final TaskGroup group = groups.resolve(spec.group());
+        if (spec.overrunPolicy() != null && spec.overrunPolicy().mode() == OverrunPolicy.Mode.OVERLAP) {
+            if (executionPolicy.retries()) {
+                throw new IllegalArgumentException("A retrying execution policy cannot be combined with an overlapping overrun policy");
+            }
+            if (group.bulkhead() != null) {
+                throw new IllegalArgumentException("A group bulkhead cannot be combined with an overlapping overrun policy");
+            }
+        }
+        final Jitter jitter = spec.jitter() != null ? spec.jitter() : defaultJitter;
+        final TaskControl control = new TaskControl(id, type, task, asyncTask, trigger, executionPolicy, jitter,
+                group,
+                jitter.type() != Jitter.Type.NONE ? randomSource.split() : null,
+                spec.timeoutPolicy() != null ? spec.timeoutPolicy() : defaultTimeout,
+                spec.resumePolicy() != null ? spec.resumePolicy() : ResumePolicy.RUN_ONCE,
+                spec.priority() != null ? spec.priority() : TaskPriority.NORMAL,
+                spec.sheddable(),
+                spec.recordStats(),
+                purger,
+                metricsCollector.stateCounts());
+        control.setCreatedNanos(instantMapper.nanoTime());
 
-        final TaskControl control = new TaskControl(id, type, task, trigger, defaultExecutionPolicy, defaultJitter);
+        if (admission != null) {
+            if (tryOnly && !admission.tryAcquire(control)) {
+                control.stateMachine().forceCancel();
+                metricsCollector.recordRejected();
+                return null;
+            }
+            if (!tryOnly && !admission.acquire(control)) {
+                return rejected(control);
+            }
+            control.stateMachine().onTerminal(() -> admission.release(control));
+        }
 
+        final Runnable runner = createRunner(control, type, spec);
         registry.register(control);
 
         final long currentNanos = instantMapper.nanoTime();
         final long delay = trigger.nextDelayNanos(currentNanos, -1, -1, 0);
 
         if (delay < 0) {
-            control.stateMachine().completeFromScheduled();
             metricsCollector.recordCompleted();
+            control.stateMachine().completeFromScheduled();
             registry.unregister(control.id());
         } else {
             final long scheduledNanos = currentNanos + delay;
             control.setFirstScheduledNanos(scheduledNanos);
             control.setNextScheduledNanos(scheduledNanos);
 
-            final TaskRunner runner = new TaskRunner(control, executor, instantMapper, listeners, metricsCollector, registry);
             final ScheduledFuture<?> future = executor.schedule(runner, delay, TimeUnit.NANOSECONDS);
-            control.setScheduledFuture(future);
+            control.setInitialScheduledFuture(future);
+            if (control.group().isPaused()) {
+                control.pauseGate().pause();
+            }
         }
 
-        return new TaskHandleImpl(control, instantMapper);
+        return new TaskHandleImpl(control, instantMapper, registry);
+    }
+
+    /**
+     * Returns the handle of a task turned away by the admission policy. The
+     * task is cancelled without ever being registered or scheduled.
+     */
+    private TaskHandleImpl rejected(final TaskControl control) {
+        control.stateMachine().forceCancel();
+        return new TaskHandleImpl(control, instantMapper, registry);
+    }
+
+    /**
+     * Pauses every task in a group, including tasks added to it later. A
+     * group no task has used yet is not created.
+     *
+     * @param group the group name
+     * @return the number of tasks paused or pausing
+     */
+    public int pauseGroup(final String group) {
+        Objects.requireNonNull(group, "group must not be null");
+        final TaskGroup taskGroup = groups.get(group);
+        if (taskGroup == null) {
+            return 0;
+        }
+        taskGroup.setPaused(true);
+
+        final AtomicInteger count = new AtomicInteger();
+        registry.forEach(control -> {
+            if (control.group() == taskGroup && control.pauseGate().pause()) {
+                count.incrementAndGet();
+            }
+        });
+        return count.get();
+    }
+
+    /**
+     * Resumes every task in a group.
+     *
+     * @param group the group name
+     * @return the number of tasks resumed
+     */
+    public int resumeGroup(final String group) {
+        Objects.requireNonNull(group, "group must not be null");
+        final TaskGroup taskGroup = groups.get(group);
+        if (taskGroup == null) {
+            return 0;
+        }
+        taskGroup.setPaused(false);
+
+        final AtomicInteger count = new AtomicInteger();
+        registry.forEach(control -> {
+            if (control.group() == taskGroup && control.pauseGate().resume()) {
+                count.incrementAndGet();
+            }
+        });
+        return count.get();
+    }
+
+    /**
+     * Cancels a task by its identifier, as {@link ScheduledHandle#cancel()}
+     * would.
+     *
+     * @param id the task identifier
+     * @return true if the task was found and is cancelled or will be once its
+     *         running execution finishes
+     */
+    public boolean cancel(final String id) {
+        Objects.requireNonNull(id, "id must not be null");
+        final TaskControl control = registry.get(id);
+        return control != null && new TaskHandleImpl(control, instantMapper, registry).cancel();
+    }
+
+    private Runnable createRunner(final TaskControl control, final TaskType type, final TaskSpec spec) {
+        final OverrunPolicy overrunPolicy = spec.overrunPolicy();
+        if (type == TaskType.FIXED_RATE && overrunPolicy != null && overrunPolicy.mode() == OverrunPolicy.Mode.OVERLAP) {
+            return new OverlapRunner(control, executor, instantMapper, listeners, metricsCollector, registry,
+                    overrunPolicy.maxConcurrent());
+        }
+        return new TaskRunner(control, executor, instantMapper, listeners, metricsCollector, registry, watchdog,
+                acquireLane(control, spec.executionKey()), dispatcher, shedder);
+    }
+
+    /**
+     * Acquires the serial lane for a task's execution key and releases it
+     * once the task terminates.
+     */
+    private SerialLane acquireLane(final TaskControl control, final String key) {
+        if (key == null) {
+            return null;
+        }
+        final SerialLane lane = lanes.acquire(key);
+        control.stateMachine().onTerminal(() -> lanes.release(lane));
+        return lane;
+    }
+
+    private static String newId() {
+        return UUID.randomUUID().toString();
+    }
+
+    private static long toEpochNanos(final Instant instant) {
+        return instant.getEpochSecond() * 1_000_000_000L + instant.getNano();
     }
 
     private static long toNanosSafe(final Duration duration) {
@@ -1,9 +1,15 @@
 package com.github.frosxt.chronos.runtime.scheduler.facade;
 
 import com.github.frosxt.chronos.api.SchedulerSnapshot;
+import com.github.frosxt.chronos.runtime.dispatch.PriorityDispatcher;
+import com.github.frosxt.chronos.runtime.execution.listener.AsyncListenerBus;
+import com.github.frosxt.chronos.runtime.group.GroupRegistry;
+import com.github.frosxt.chronos.runtime.lane.LaneRegistry;
 import com.github.frosxt.chronos.runtime.metrics.MetricsCollector;
 import com.github.frosxt.chronos.runtime.metrics.snapshot.SnapshotBuilder;
 import com.github.frosxt.chronos.runtime.scheduler.registry.TaskRegistry;
+import com.github.frosxt.chronos.runtime.shedding.LoadShedder;
+import com.github.frosxt.chronos.runtime.timer.TimerPurger;
 
 import java.time.Clock;
 
@@ -13,11 +19,18 @@ import java.time.Clock;
 public final class SnapshotFacade {
     private final SnapshotBuilder builder;
 
-    public SnapshotFacade(final TaskRegistry registry, final MetricsCollector metricsCollector, final Clock clock) {
-        this.builder = new SnapshotBuilder(registry, metricsCollector, clock);
+    public SnapshotFacade(final TaskRegistry registry, final MetricsCollector metricsCollector, final GroupRegistry groups,
+                          final TimerPurger purger, final LaneRegistry lanes, final PriorityDispatcher dispatcher,
+                          final LoadShedder shedder, final AsyncListenerBus listenerBus, final Clock clock) {
+        this.builder = new SnapshotBuilder(registry, metricsCollector, groups, purger, lanes, dispatcher, shedder,
+                listenerBus, clock);
     }
 
     public SchedulerSnapshot snapshot() {
         return builder.build();
     }
+
+    public void resetLatencies() {
+        builder.resetLatencies();
+    }
 }
@@ -0,0 +1,50 @@
+package com.github.frosxt.chronos.runtime.scheduler.facade;
+
+import com.github.frosxt.chronos.api.Timeout;
+import com.github.frosxt.chronos.runtime.scheduler.lifecycle.LifecycleController;
+import com.github.frosxt.chronos.runtime.timer.HashedWheelTimer;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * Facade for lightweight timeouts.
+ *
+ * <p>
+ * Timeouts live on a hashed timing wheel shared by the scheduler and are
+ * handed to the scheduler's executor when they fire, so creating and
+ * cancelling one never touches the executor's queue, the task registry or
+ * the listeners.
+ */
+public final class TimeoutFacade {
+    private final HashedWheelTimer wheel;
+    private final LifecycleController lifecycle;
+
+    public TimeoutFacade(final HashedWheelTimer wheel, final LifecycleController lifecycle) {
+        this.wheel = wheel;
+        this.lifecycle = lifecycle;
+    }
+
+    public Timeout newTimeout(final Duration delay, final Runnable task) {
+        Objects.requireNonNull(delay, "delay must not be null");
+        Objects.requireNonNull(task, "task must not be null");
+        if (delay.isNegative()) {
+            throw new IllegalArgumentException("delay must not be negative");
+        }
+        lifecycle.checkNotShutdown();
+
+        try {
+            return wheel.schedule(task, toNanosSafe(delay));
+        } catch (final IllegalStateException e) {
+            throw new IllegalStateException("Scheduler has been shut down", e);
+        }
+    }
+
+    private static long toNanosSafe(final Duration duration) {
+        try {
+            return duration.toNanos();
+        } catch (final ArithmeticException e) {
+            throw new IllegalArgumentException("Duration too large to convert to nanoseconds", e);
+        }
+    }
+}
@@ -1,6 +1,10 @@
 package com.github.frosxt.chronos.runtime.scheduler.lifecycle;
 
+import com.github.frosxt.chronos.runtime.execution.listener.AsyncListenerBus;
+import com.github.frosxt.chronos.runtime.execution.timeout.ExecutionWatchdog;
 import com.github.frosxt.chronos.runtime.scheduler.registry.TaskRegistry;
+import com.github.frosxt.chronos.runtime.timer.HashedWheelTimer;
+import com.github.frosxt.chronos.runtime.timer.TimerExecutor;
 
 import java.time.Duration;
 import java.util.Objects;
@@ -11,31 +15,50 @@ import java.util.concurrent.atomic.AtomicBoolean;
 /**
  * Manages the lifecycle state of the scheduler (running, shutting down,
  * terminated).
+ *
+ * <p>
+ * The watchdog and the listener thread are stopped once the executor has
+ * terminated, whether that is observed by the executor itself or by a
+ * caller waiting for termination.
  */
 public final class LifecycleController {
     private final ScheduledExecutorService executor;
     private final TaskRegistry registry;
+    private final ExecutionWatchdog watchdog;
+    private final HashedWheelTimer timeouts;
+    private final AsyncListenerBus listenerBus;
     private final Duration shutdownGrace;
     private final AtomicBoolean shutdown;
 
-    public LifecycleController(final ScheduledExecutorService executor, final TaskRegistry registry, final Duration shutdownGrace) {
+    public LifecycleController(final ScheduledExecutorService executor, final TaskRegistry registry,
+                               final ExecutionWatchdog watchdog, final HashedWheelTimer timeouts,
+                               final AsyncListenerBus listenerBus, final Duration shutdownGrace) {
         this.executor = executor;
         this.registry = registry;
+        this.watchdog = watchdog;
+        this.timeouts = timeouts;
+        this.listenerBus = listenerBus;
         this.shutdownGrace = shutdownGrace;
         this.shutdown = new AtomicBoolean(false);
+        if (executor instanceof TimerExecutor timers) {
+            timers.onTerminated(this::stopThreads);
+        }
     }
 
     public void shutdown() {
         if (shutdown.compareAndSet(false, true)) {
+            timeouts.stop();
             executor.shutdown();
         }
     }
 
     public void shutdownNow() {
         if (shutdown.compareAndSet(false, true)) {
+            timeouts.stop();
             registry.cancelAll();
             registry.clear();
             executor.shutdownNow();
+            stopThreads();
         }
     }
 
@@ -44,7 +67,7 @@ public final class LifecycleController {
     }
 
     public boolean isTerminated() {
-        return executor.isTerminated();
+        return stopThreadsIfTerminated(executor.isTerminated());
     }
 
     public boolean awaitTermination(final Duration timeout) throws InterruptedException {
@@ -52,7 +75,26 @@ public final class LifecycleController {
         if (timeout.isNegative() || timeout.isZero()) {
             throw new IllegalArgumentException("timeout must be positive");
         }
-        return executor.awaitTermination(toNanosSafe(timeout), TimeUnit.NANOSECONDS);
+        return stopThreadsIfTerminated(executor.awaitTermination(toNanosSafe(timeout), TimeUnit.NANOSECONDS));
+    }
+
+    /**
+     * Stops the watchdog and the listener thread once no execution can need
+     * them any more. Running executions keep their timeouts and listeners
+     * during a graceful shutdown.
+     */
+    private boolean stopThreadsIfTerminated(final boolean terminated) {
+        if (terminated) {
+            stopThreads();
+        }
+        return terminated;
+    }
+
+    private void stopThreads() {
+        watchdog.stop();
+        if (listenerBus != null) {
+            listenerBus.stop();
+        }
     }
 
     public void close() {
@@ -1,5 +1,6 @@
 package com.github.frosxt.chronos.runtime.scheduler.registry;
 
+import com.github.frosxt.chronos.api.TaskType;
 import com.github.frosxt.chronos.runtime.task.TaskControl;
 
 import java.util.concurrent.ConcurrentHashMap;
@@ -9,10 +10,15 @@ import java.util.function.Consumer;
  * Registry for tracking all scheduled tasks.
  *
  * <p>
+ * Adaptive-rate tasks are also indexed separately, so their current periods
+ * can be read without walking every task.
+ *
+ * <p>
  * This class is thread-safe.
  */
 public final class TaskRegistry {
     private final ConcurrentHashMap<String, TaskControl> tasks = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, TaskControl> adaptive = new ConcurrentHashMap<>();
 
     /**
      * Registers a task.
@@ -21,16 +27,24 @@ public final class TaskRegistry {
      */
     public void register(final TaskControl control) {
         tasks.put(control.id(), control);
+        if (control.type() == TaskType.ADAPTIVE_RATE) {
+            adaptive.put(control.id(), control);
+        }
     }
 
     /**
-     * Unregisters a task.
+     * Unregisters a task and detaches its runner from the task control.
      *
      * @param id the task ID
      * @return the removed task control, or null if not found
      */
     public TaskControl unregister(final String id) {
-        return tasks.remove(id);
+        adaptive.remove(id);
+        final TaskControl removed = tasks.remove(id);
+        if (removed != null) {
+            removed.detachRunner();
+        }
+        return removed;
     }
 
     /**
@@ -61,6 +75,15 @@ public final class TaskRegistry {
         tasks.values().forEach(action);
     }
 
+    /**
+     * Iterates over the registered adaptive-rate tasks.
+     *
+     * @param action the action to perform on each task
+     */
+    public void forEachAdaptive(final Consumer<TaskControl> action) {
+        adaptive.values().forEach(action);
+    }
+
     /**
      * Cancels all registered tasks.
      */
@@ -76,5 +99,6 @@ public final class TaskRegistry {
      */
     public void clear() {
         tasks.clear();
+        adaptive.clear();
     }
 }
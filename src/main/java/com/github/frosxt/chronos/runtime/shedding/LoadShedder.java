@@ -0,0 +1,99 @@
+package com.github.frosxt.chronos.runtime.shedding;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Decides when the scheduler sheds sheddable executions, from a rolling
+ * estimate of scheduling lag.
+ *
+ * <p>
+ * Every execution reports its lag, the time between when it was due and
+ * when it got a worker, and the estimate is an exponentially weighted moving
+ * average of those samples. Shedding starts once the estimate exceeds the
+ * threshold and stops once it falls below half of it, so the scheduler does
+ * not flap around the threshold. Shed executions keep reporting lag, which
+ * lets the estimate recover even if every due execution is sheddable.
+ *
+ * <p>
+ * This class is lock-free and thread-safe.
+ */
+public final class LoadShedder {
+    /**
+     * The weight of a new sample is 1 / 2^SMOOTHING_SHIFT.
+     */
+    private static final int SMOOTHING_SHIFT = 3;
+
+    private final long thresholdNanos;
+    private final long recoveryNanos;
+    private final AtomicLong lagEstimate = new AtomicLong();
+    private final LongAdder shed = new LongAdder();
+    private volatile boolean shedding;
+
+    public LoadShedder(final long thresholdNanos) {
+        this.thresholdNanos = thresholdNanos;
+        this.recoveryNanos = thresholdNanos / 2;
+    }
+
+    /**
+     * Folds one lag sample into the estimate.
+     *
+     * @param lagNanos how late the execution started; negative values count
+     *                 as zero
+     * @return true if the scheduler is shedding load after this sample
+     */
+    public boolean observe(final long lagNanos) {
+        final long sample = Math.max(0, lagNanos);
+        long current;
+        long next;
+        do {
+            current = lagEstimate.get();
+            next = current + ((sample - current) >> SMOOTHING_SHIFT);
+        } while (!lagEstimate.compareAndSet(current, next));
+
+        if (shedding) {
+            if (next < recoveryNanos) {
+                shedding = false;
+            }
+        } else if (next > thresholdNanos) {
+            shedding = true;
+        }
+        return shedding;
+    }
+
+    /**
+     * Records an execution that was shed.
+     */
+    public void recordShed() {
+        shed.increment();
+    }
+
+    /**
+     * Returns the lag above which shedding starts. A shed one-shot execution
+     * is offered again after this long.
+     */
+    public long thresholdNanos() {
+        return thresholdNanos;
+    }
+
+    /**
+     * Returns whether the scheduler is currently shedding load.
+     */
+    public boolean isShedding() {
+        return shedding;
+    }
+
+    /**
+     * Returns the current scheduling lag estimate in nanoseconds.
+     */
+    public long lagEstimateNanos() {
+        return lagEstimate.get();
+    }
+
+    /**
+     * Returns the number of executions shed so far.
+     */
+    public long shedCount() {
+        return shed.sum();
+    }
+}
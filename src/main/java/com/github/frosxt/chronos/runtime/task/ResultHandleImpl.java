@@ -0,0 +1,54 @@
+package com.github.frosxt.chronos.runtime.task;
+
+import com.github.frosxt.chronos.api.ResultHandle;
+import com.github.frosxt.chronos.runtime.scheduler.registry.TaskRegistry;
+import com.github.frosxt.chronos.runtime.task.result.CallableTask;
+import com.github.frosxt.chronos.runtime.time.mapper.InstantMapper;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Implementation of {@link ResultHandle} that completes its future from the
+ * task's terminal transition.
+ *
+ * @param <V> the type of the computed value
+ */
+public final class ResultHandleImpl<V> extends TaskHandleImpl implements ResultHandle<V> {
+    private final CompletableFuture<V> result;
+
+    /**
+     * Creates a new result handle.
+     *
+     * @param control       the underlying task control
+     * @param instantMapper the instant mapper for time conversions
+     * @param registry      the registry the task is unregistered from when
+     *                      it is cancelled before it runs
+     * @param task          the callable adapter executed by the task
+     */
+    public ResultHandleImpl(final TaskControl control, final InstantMapper instantMapper,
+                            final TaskRegistry registry, final CallableTask<V> task) {
+        super(control, instantMapper, registry);
+        this.result = new CompletableFuture<>();
+
+        control.stateMachine().completion().thenAccept(state -> {
+            switch (state) {
+                case COMPLETED -> result.complete(task.lastValue());
+                case FAILED -> {
+                    final Throwable error = control.lastError();
+                    result.completeExceptionally(error != null ? error : new IllegalStateException("Task " + control.id() + " failed"));
+                }
+                default -> result.cancel(false);
+            }
+        });
+        result.whenComplete((value, error) -> {
+            if (result.isCancelled()) {
+                cancel();
+            }
+        });
+    }
+
+    @Override
+    public CompletableFuture<V> result() {
+        return result;
+    }
+}
@@ -4,14 +4,28 @@ import com.github.frosxt.chronos.api.TaskState;
 import com.github.frosxt.chronos.api.TaskType;
 import com.github.frosxt.chronos.api.policy.ExecutionPolicy;
 import com.github.frosxt.chronos.api.policy.Jitter;
+import com.github.frosxt.chronos.api.policy.ResumePolicy;
+import com.github.frosxt.chronos.api.policy.TaskPriority;
+import com.github.frosxt.chronos.api.policy.RetryPolicy;
+import com.github.frosxt.chronos.api.policy.TimeoutPolicy;
+import com.github.frosxt.chronos.runtime.execution.pause.PauseGate;
+import com.github.frosxt.chronos.runtime.execution.reschedule.Rescheduler;
+import com.github.frosxt.chronos.runtime.group.TaskGroup;
 import com.github.frosxt.chronos.runtime.task.cancel.TaskCancellation;
 import com.github.frosxt.chronos.runtime.task.counter.TaskCounters;
 import com.github.frosxt.chronos.runtime.task.future.TaskFutureSlot;
+import com.github.frosxt.chronos.runtime.task.state.TaskStateCounts;
 import com.github.frosxt.chronos.runtime.task.state.TaskStateMachine;
+import com.github.frosxt.chronos.runtime.task.stats.TaskStatsRecorder;
 import com.github.frosxt.chronos.runtime.task.time.TaskTiming;
+import com.github.frosxt.chronos.runtime.timer.TimerExecutor;
+import com.github.frosxt.chronos.runtime.timer.TimerPurger;
 import com.github.frosxt.chronos.runtime.trigger.Trigger;
 
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ScheduledFuture;
+import java.util.function.Supplier;
 
 /**
  * Internal control structure for a scheduled task.
@@ -23,9 +37,17 @@ public final class TaskControl {
     private final String id;
     private final TaskType type;
     private final Runnable task;
-    private final Trigger trigger;
+    private final Supplier<? extends CompletionStage<?>> asyncTask;
     private final ExecutionPolicy executionPolicy;
     private final Jitter jitter;
+    private final TaskGroup group;
+    private final SplittableRandom random;
+    private final TimeoutPolicy timeoutPolicy;
+    private final ResumePolicy resumePolicy;
+    private final TaskPriority priority;
+    private final boolean sheddable;
+    private final TaskStatsRecorder stats;
+    private final TimerPurger purger;
     private final TaskStateMachine stateMachine;
 
     private final TaskTiming timing;
@@ -33,25 +55,58 @@ public final class TaskControl {
     private final TaskFutureSlot futureSlot;
     private final TaskCancellation cancellation;
 
+    private volatile Trigger trigger;
+    private volatile Throwable lastError;
+    private volatile PauseGate pauseGate;
+    private volatile Rescheduler rescheduler;
+
     /**
      * Creates a new task control.
      *
      * @param id              the unique task identifier
      * @param type            the task type
-     * @param task            the task to execute
+     * @param task            the task to execute, or null for an asynchronous
+     *                        task
+     * @param asyncTask       the asynchronous task to execute, or null for a
+     *                        synchronous task
      * @param trigger         the trigger controlling execution times
      * @param executionPolicy the failure handling policy
      * @param jitter          the jitter configuration
+     * @param group           the group the task belongs to
+     * @param random          the per-task random generator, or null if the
+     *                        jitter does not randomize
+     * @param timeoutPolicy   the execution timeout, or null for none
+     * @param resumePolicy    how missed executions are handled on resume
+     * @param priority        the dispatch priority
+     * @param sheddable       whether executions are skipped while the
+     *                        scheduler sheds load
+     * @param recordStats     whether per-task statistics are kept
+     * @param purger          the purger notified when a queued timer is
+     *                        cancelled
+     * @param stateCounts     the scheduler-wide state counts
      */
-    public TaskControl(final String id, final TaskType type, final Runnable task, final Trigger trigger,
-                       final ExecutionPolicy executionPolicy, final Jitter jitter) {
+    public TaskControl(final String id, final TaskType type, final Runnable task,
+                       final Supplier<? extends CompletionStage<?>> asyncTask, final Trigger trigger,
+                       final ExecutionPolicy executionPolicy, final Jitter jitter, final TaskGroup group,
+                       final SplittableRandom random, final TimeoutPolicy timeoutPolicy,
+                       final ResumePolicy resumePolicy, final TaskPriority priority, final boolean sheddable,
+                       final boolean recordStats, final TimerPurger purger, final TaskStateCounts stateCounts) {
         this.id = id;
         this.type = type;
         this.task = task;
+        this.asyncTask = asyncTask;
         this.trigger = trigger;
         this.executionPolicy = executionPolicy;
         this.jitter = jitter;
-        this.stateMachine = new TaskStateMachine();
+        this.group = group;
+        this.random = random;
+        this.timeoutPolicy = timeoutPolicy;
+        this.resumePolicy = resumePolicy;
+        this.priority = priority;
+        this.sheddable = sheddable;
+        this.stats = recordStats ? new TaskStatsRecorder() : null;
+        this.purger = purger;
+        this.stateMachine = new TaskStateMachine(id, stateCounts);
 
         this.timing = new TaskTiming();
         this.counters = new TaskCounters();
@@ -71,10 +126,28 @@ public final class TaskControl {
         return task;
     }
 
+    public Supplier<? extends CompletionStage<?>> asyncTask() {
+        return asyncTask;
+    }
+
+    public boolean isAsync() {
+        return asyncTask != null;
+    }
+
     public Trigger trigger() {
         return trigger;
     }
 
+    /**
+     * Replaces the trigger. The runner picks the new trigger up the next time
+     * it plans an execution.
+     *
+     * @param trigger the new trigger
+     */
+    public void setTrigger(final Trigger trigger) {
+        this.trigger = trigger;
+    }
+
     public ExecutionPolicy executionPolicy() {
         return executionPolicy;
     }
@@ -83,6 +156,94 @@ public final class TaskControl {
         return jitter;
     }
 
+    public TaskGroup group() {
+        return group;
+    }
+
+    public SplittableRandom random() {
+        return random;
+    }
+
+    public TimeoutPolicy timeoutPolicy() {
+        return timeoutPolicy;
+    }
+
+    public ResumePolicy resumePolicy() {
+        return resumePolicy;
+    }
+
+    public TaskPriority priority() {
+        return priority;
+    }
+
+    public boolean sheddable() {
+        return sheddable;
+    }
+
+    /**
+     * Returns the task's statistics recorder.
+     *
+     * @return the recorder, or null if the task does not keep statistics
+     */
+    public TaskStatsRecorder stats() {
+        return stats;
+    }
+
+    /**
+     * Returns the pause gate of the task's runner.
+     *
+     * @return the pause gate
+     */
+    public PauseGate pauseGate() {
+        return pauseGate;
+    }
+
+    /**
+     * Sets the pause gate. Called once by the runner before the task is
+     * registered or armed.
+     *
+     * @param pauseGate the pause gate
+     */
+    public void setPauseGate(final PauseGate pauseGate) {
+        this.pauseGate = pauseGate;
+    }
+
+    /**
+     * Returns the rescheduler of the task's runner.
+     *
+     * @return the rescheduler
+     */
+    public Rescheduler rescheduler() {
+        return rescheduler;
+    }
+
+    /**
+     * Sets the rescheduler. Called once by the runner before the task is
+     * registered or armed.
+     *
+     * @param rescheduler the rescheduler
+     */
+    public void setRescheduler(final Rescheduler rescheduler) {
+        this.rescheduler = rescheduler;
+    }
+
+    /**
+     * Replaces the pause gate and rescheduler with copies that do not
+     * reference the task's runner. Called when the task is unregistered, so
+     * a handle retained after the task ended does not keep the runner, its
+     * body and its listeners reachable.
+     */
+    public void detachRunner() {
+        final PauseGate gate = pauseGate;
+        if (gate != null) {
+            pauseGate = gate.detached();
+        }
+        final Rescheduler current = rescheduler;
+        if (current != null) {
+            rescheduler = current.detached();
+        }
+    }
+
     public TaskStateMachine stateMachine() {
         return stateMachine;
     }
@@ -99,6 +260,14 @@ public final class TaskControl {
         return counters.incrementRunCount();
     }
 
+    public long shedCount() {
+        return counters.shedCount();
+    }
+
+    public void incrementShedCount() {
+        counters.incrementShedCount();
+    }
+
     public int retryAttempt() {
         return counters.retryAttempt();
     }
@@ -111,6 +280,34 @@ public final class TaskControl {
         counters.resetRetryAttempt();
     }
 
+    public int inFlight() {
+        return counters.inFlight();
+    }
+
+    public int tryEnterFlight(final int max) {
+        return counters.tryEnterFlight(max);
+    }
+
+    public void exitFlight() {
+        counters.exitFlight();
+    }
+
+    public RetryPolicy retryPolicy() {
+        return counters.retryPolicy();
+    }
+
+    public void setRetryPolicy(final RetryPolicy retryPolicy) {
+        counters.setRetryPolicy(retryPolicy);
+    }
+
+    public long previousRetryDelayNanos() {
+        return counters.previousRetryDelayNanos();
+    }
+
+    public void setPreviousRetryDelayNanos(final long nanos) {
+        counters.setPreviousRetryDelayNanos(nanos);
+    }
+
     public ScheduledFuture<?> scheduledFuture() {
         return futureSlot.get();
     }
@@ -119,8 +316,35 @@ public final class TaskControl {
         futureSlot.set(future);
     }
 
+    public void setInitialScheduledFuture(final ScheduledFuture<?> future) {
+        futureSlot.setInitial(future);
+    }
+
+    /**
+     * Records that the current timer fired. Called by the runner as soon as
+     * the executor runs it.
+     */
+    public void markTimerFired() {
+        futureSlot.markFired(TimerExecutor.currentTimer());
+    }
+
     public boolean cancelScheduledFuture() {
-        return futureSlot.cancel(false);
+        final boolean fired = futureSlot.hasFired();
+        if (futureSlot.cancel(false)) {
+            if (!fired) {
+                purger.onCancel();
+            }
+            return true;
+        }
+        return false;
+    }
+
+    public long createdNanos() {
+        return timing.createdNanos();
+    }
+
+    public void setCreatedNanos(final long nanos) {
+        timing.setCreatedNanos(nanos);
     }
 
     public long firstScheduledNanos() {
@@ -155,6 +379,19 @@ public final class TaskControl {
         timing.setNextScheduledNanos(nanos);
     }
 
+    /**
+     * Returns the cause of the most recent failed execution.
+     *
+     * @return the last failure cause, or null if no execution has failed
+     */
+    public Throwable lastError() {
+        return lastError;
+    }
+
+    public void setLastError(final Throwable error) {
+        this.lastError = error;
+    }
+
     public boolean isCancellationRequested() {
         return cancellation.isRequested();
     }
@@ -2,27 +2,39 @@ package com.github.frosxt.chronos.runtime.task;
 
 import com.github.frosxt.chronos.api.ScheduledHandle;
 import com.github.frosxt.chronos.api.TaskState;
+import com.github.frosxt.chronos.api.cron.CronExpression;
+import com.github.frosxt.chronos.api.metrics.TaskStats;
+import com.github.frosxt.chronos.runtime.metrics.snapshot.TaskStatsImpl;
+import com.github.frosxt.chronos.runtime.scheduler.registry.TaskRegistry;
+import com.github.frosxt.chronos.runtime.task.stats.TaskStatsRecorder;
 import com.github.frosxt.chronos.runtime.time.mapper.InstantMapper;
 
+import java.time.Duration;
 import java.time.Instant;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Implementation of {@link ScheduledHandle} that delegates to a
  * {@link TaskControl}.
  */
-public final class TaskHandleImpl implements ScheduledHandle {
+public class TaskHandleImpl implements ScheduledHandle {
     private final TaskControl control;
     private final InstantMapper instantMapper;
+    private final TaskRegistry registry;
 
     /**
      * Creates a new task handle.
      *
      * @param control       the underlying task control
      * @param instantMapper the instant mapper for time conversions
+     * @param registry      the registry the task is unregistered from when
+     *                      it is cancelled before it runs
      */
-    public TaskHandleImpl(final TaskControl control, final InstantMapper instantMapper) {
+    public TaskHandleImpl(final TaskControl control, final InstantMapper instantMapper, final TaskRegistry registry) {
         this.control = control;
         this.instantMapper = instantMapper;
+        this.registry = registry;
     }
 
     @Override
@@ -34,6 +46,7 @@ public final class TaskHandleImpl implements ScheduledHandle {
     public boolean cancel() {
         if (control.stateMachine().cancel()) {
             control.cancelScheduledFuture();
+            registry.unregister(control.id());
             return true;
         }
         if (control.stateMachine().isRunning()) {
@@ -43,6 +56,37 @@ public final class TaskHandleImpl implements ScheduledHandle {
         return control.state() == TaskState.CANCELLED;
     }
 
+    @Override
+    public boolean pause() {
+        return control.pauseGate().pause();
+    }
+
+    @Override
+    public boolean resume() {
+        return control.pauseGate().resume();
+    }
+
+    @Override
+    public boolean reschedule(final Duration period) {
+        Objects.requireNonNull(period, "period must not be null");
+        if (period.isNegative() || period.isZero()) {
+            throw new IllegalArgumentException("period must be positive");
+        }
+        final long periodNanos;
+        try {
+            periodNanos = period.toNanos();
+        } catch (final ArithmeticException e) {
+            throw new IllegalArgumentException("Duration too large to convert to nanoseconds", e);
+        }
+        return control.rescheduler().reschedule(periodNanos);
+    }
+
+    @Override
+    public boolean reschedule(final CronExpression cron) {
+        Objects.requireNonNull(cron, "cron must not be null");
+        return control.rescheduler().reschedule(cron);
+    }
+
     @Override
     public boolean isCancelled() {
         return control.state() == TaskState.CANCELLED;
@@ -55,7 +99,7 @@ public final class TaskHandleImpl implements ScheduledHandle {
 
     @Override
     public boolean isRunning() {
-        return control.stateMachine().isRunning();
+        return control.stateMachine().isRunning() || control.inFlight() > 0;
     }
 
     @Override
@@ -78,23 +122,45 @@ public final class TaskHandleImpl implements ScheduledHandle {
 
     @Override
     public Instant nextScheduledTime() {
-        if (control.stateMachine().isTerminal()) {
+        if (control.stateMachine().isTerminal() || control.state() == TaskState.PAUSED) {
             return null;
         }
         final long nanos = control.nextScheduledNanos();
         return nanos >= 0 ? instantMapper.toInstant(nanos) : null;
     }
 
+    @Override
+    public Duration currentPeriod() {
+        final long nanos = control.trigger().currentPeriodNanos();
+        return nanos >= 0 ? Duration.ofNanos(nanos) : null;
+    }
+
     @Override
     public long runCount() {
         return control.runCount();
     }
 
+    @Override
+    public long shedCount() {
+        return control.shedCount();
+    }
+
+    @Override
+    public TaskStats stats() {
+        final TaskStatsRecorder stats = control.stats();
+        return stats != null ? TaskStatsImpl.of(stats) : null;
+    }
+
     @Override
     public TaskState state() {
         return control.state();
     }
 
+    @Override
+    public CompletableFuture<TaskState> completion() {
+        return control.stateMachine().completion();
+    }
+
     /**
      * Returns the underlying task control (internal use only).
      *
@@ -1,5 +1,7 @@
 package com.github.frosxt.chronos.runtime.task.counter;
 
+import com.github.frosxt.chronos.api.policy.RetryPolicy;
+
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 
@@ -8,7 +10,11 @@ import java.util.concurrent.atomic.AtomicLong;
  */
 public final class TaskCounters {
     private final AtomicLong runCount = new AtomicLong(0);
+    private final AtomicLong shedCount = new AtomicLong(0);
     private final AtomicInteger retryAttempt = new AtomicInteger(0);
+    private final AtomicInteger inFlight = new AtomicInteger(0);
+    private volatile long previousRetryDelayNanos = -1;
+    private volatile RetryPolicy retryPolicy;
 
     public long runCount() {
         return runCount.get();
@@ -18,6 +24,14 @@ public final class TaskCounters {
         return runCount.incrementAndGet();
     }
 
+    public long shedCount() {
+        return shedCount.get();
+    }
+
+    public void incrementShedCount() {
+        shedCount.incrementAndGet();
+    }
+
     public int retryAttempt() {
         return retryAttempt.get();
     }
@@ -28,5 +42,48 @@ public final class TaskCounters {
 
     public void resetRetryAttempt() {
         retryAttempt.set(0);
+        previousRetryDelayNanos = -1;
+    }
+
+    public int inFlight() {
+        return inFlight.get();
+    }
+
+    /**
+     * Registers an execution in flight if fewer than {@code max} are running.
+     *
+     * @param max the maximum number of executions in flight
+     * @return the number in flight before this one, or -1 if the limit was
+     *         reached
+     */
+    public int tryEnterFlight(final int max) {
+        int current;
+        do {
+            current = inFlight.get();
+            if (current >= max) {
+                return -1;
+            }
+        } while (!inFlight.compareAndSet(current, current + 1));
+        return current;
+    }
+
+    public void exitFlight() {
+        inFlight.decrementAndGet();
+    }
+
+    public RetryPolicy retryPolicy() {
+        return retryPolicy;
+    }
+
+    public void setRetryPolicy(final RetryPolicy retryPolicy) {
+        this.retryPolicy = retryPolicy;
+    }
+
+    public long previousRetryDelayNanos() {
+        return previousRetryDelayNanos;
+    }
+
+    public void setPreviousRetryDelayNanos(final long nanos) {
+        this.previousRetryDelayNanos = nanos;
     }
 }
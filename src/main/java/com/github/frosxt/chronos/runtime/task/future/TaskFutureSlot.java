@@ -1,13 +1,21 @@
 package com.github.frosxt.chronos.runtime.task.future;
 
+import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * Manages the current scheduled future for a task.
+ *
+ * <p>
+ * The slot also tracks which future fired last, so a cancel can tell a
+ * timer still waiting in the executor's queue from one whose execution is
+ * already under way. The fire is keyed to the future itself, so a timer
+ * that fires before the arming thread stores it is still seen as fired.
  */
 public final class TaskFutureSlot {
     private final AtomicReference<ScheduledFuture<?>> futureRef = new AtomicReference<>();
+    private volatile Future<?> fired;
 
     public ScheduledFuture<?> get() {
         return futureRef.get();
@@ -17,6 +25,37 @@ public final class TaskFutureSlot {
         futureRef.set(future);
     }
 
+    /**
+     * Records that a future has been taken from the queue and its task has
+     * started running.
+     *
+     * @param future the future that fired, or null if it is not known
+     */
+    public void markFired(final Future<?> future) {
+        fired = future;
+    }
+
+    /**
+     * Returns whether the current future has fired.
+     *
+     * @return true if the future's task has started running
+     */
+    public boolean hasFired() {
+        final Future<?> current = futureRef.get();
+        return current != null && current == fired;
+    }
+
+    /**
+     * Stores the first future of a task unless the task has already armed a
+     * later one, which happens when the first execution fires and re-arms
+     * before the scheduling thread gets here.
+     *
+     * @param future the initial future
+     */
+    public void setInitial(final ScheduledFuture<?> future) {
+        futureRef.compareAndSet(null, future);
+    }
+
     public boolean cancel(final boolean mayInterruptIfRunning) {
         final ScheduledFuture<?> future = futureRef.getAndSet(null);
         if (future != null) {
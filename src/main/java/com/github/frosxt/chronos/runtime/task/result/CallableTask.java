@@ -0,0 +1,63 @@
+package com.github.frosxt.chronos.runtime.task.result;
+
+import com.github.frosxt.chronos.api.listener.ResultSink;
+
+import java.util.concurrent.Callable;
+
+/**
+ * Adapts a {@link Callable} to the {@link Runnable} executed by the runners.
+ *
+ * <p>
+ * Each value is either handed to the sink or, when there is no sink, kept
+ * as the last value for a one-shot result. Checked exceptions are rethrown
+ * unchanged so listeners and the execution policy see the original cause.
+ *
+ * @param <V> the type of the computed value
+ */
+public final class CallableTask<V> implements Runnable {
+    private final Callable<V> callable;
+    private final ResultSink<? super V> sink;
+    private volatile V lastValue;
+
+    /**
+     * Creates a new callable task.
+     *
+     * @param callable the computation to run
+     * @param sink     the sink receiving each value, or null to keep the last
+     *                 value instead
+     */
+    public CallableTask(final Callable<V> callable, final ResultSink<? super V> sink) {
+        this.callable = callable;
+        this.sink = sink;
+    }
+
+    @Override
+    public void run() {
+        final V value;
+        try {
+            value = callable.call();
+        } catch (final Exception e) {
+            throw CallableTask.<RuntimeException>rethrow(e);
+        }
+
+        if (sink != null) {
+            sink.accept(value);
+        } else {
+            lastValue = value;
+        }
+    }
+
+    /**
+     * Returns the value produced by the most recent successful run.
+     *
+     * @return the last value, or null if none was produced or a sink is set
+     */
+    public V lastValue() {
+        return lastValue;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T extends Throwable> RuntimeException rethrow(final Throwable error) throws T {
+        throw (T) error;
+    }
+}
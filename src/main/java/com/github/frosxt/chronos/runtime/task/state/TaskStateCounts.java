@@ -0,0 +1,56 @@
+package com.github.frosxt.chronos.runtime.task.state;
+
+import com.github.frosxt.chronos.api.TaskState;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts the tasks of a scheduler in each state.
+ *
+ * <p>
+ * The counts are kept incrementally by the state machines of the
+ * scheduler's tasks: a new task counts as scheduled, and every successful
+ * transition moves it from one count to another. Reading a count is a sum of
+ * a few cells and never looks at the tasks themselves. Terminal states are
+ * final, so their counts only grow.
+ *
+ * <p>
+ * This class is thread-safe.
+ */
+public final class TaskStateCounts {
+    private final LongAdder[] counts = new LongAdder[TaskState.values().length];
+
+    public TaskStateCounts() {
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Records a new task in the SCHEDULED state.
+     */
+    void created() {
+        counts[TaskState.SCHEDULED.ordinal()].increment();
+    }
+
+    /**
+     * Records a task moving from one state to another.
+     *
+     * @param from the previous state
+     * @param to   the new state
+     */
+    void moved(final TaskState from, final TaskState to) {
+        counts[from.ordinal()].decrement();
+        counts[to.ordinal()].increment();
+    }
+
+    /**
+     * Returns the number of tasks in a state.
+     *
+     * @param state the state
+     * @return the number of tasks currently in the state
+     */
+    public long count(final TaskState state) {
+        return Math.max(0, counts[state.ordinal()].sum());
+    }
+}
@@ -1,7 +1,9 @@
 package com.github.frosxt.chronos.runtime.task.state;
 
 import com.github.frosxt.chronos.api.TaskState;
+import com.github.frosxt.chronos.runtime.jfr.StateTransitionEvent;
 
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicReference;
 
 /**
@@ -9,16 +11,34 @@ import java.util.concurrent.atomic.AtomicReference;
  *
  * <p>
  * This class enforces valid state transitions and provides atomic
- * state updates.
+ * state updates. Transitions into a terminal state run the terminal hooks
+ * registered by the scheduler, then complete the completion future, which is
+ * only allocated once someone asks for it. Every successful
+ * transition is also reflected in the scheduler's {@link TaskStateCounts} and
+ * reported as a {@link StateTransitionEvent}.
  */
 public final class TaskStateMachine {
+    private static final Runnable HOOKS_RUN = () -> { };
+
     private final AtomicReference<TaskState> state;
+    private final AtomicReference<CompletableFuture<TaskState>> completion = new AtomicReference<>();
+    private final AtomicReference<Runnable> terminalHooks = new AtomicReference<>();
+    private final String taskId;
+    private final TaskStateCounts counts;
 
     /**
      * Creates a new state machine in the SCHEDULED state.
+     *
+     * @param taskId the identifier of the task, reported in state transition
+     *               events
+     * @param counts the scheduler-wide state counts kept up to date by this
+     *               state machine
      */
-    public TaskStateMachine() {
+    public TaskStateMachine(final String taskId, final TaskStateCounts counts) {
         this.state = new AtomicReference<>(TaskState.SCHEDULED);
+        this.taskId = taskId;
+        this.counts = counts;
+        counts.created();
     }
 
     /**
@@ -36,7 +56,7 @@ public final class TaskStateMachine {
      * @return true if the transition succeeded
      */
     public boolean startExecution() {
-        return state.compareAndSet(TaskState.SCHEDULED, TaskState.RUNNING);
+        return transition(TaskState.SCHEDULED, TaskState.RUNNING);
     }
 
     /**
@@ -45,7 +65,7 @@ public final class TaskStateMachine {
      * @return true if the transition succeeded
      */
     public boolean startRetry() {
-        return state.compareAndSet(TaskState.RETRY_WAIT, TaskState.RUNNING);
+        return transition(TaskState.RETRY_WAIT, TaskState.RUNNING);
     }
 
     /**
@@ -54,7 +74,17 @@ public final class TaskStateMachine {
      * @return true if the transition succeeded
      */
     public boolean completeRecurring() {
-        return state.compareAndSet(TaskState.RUNNING, TaskState.SCHEDULED);
+        return transition(TaskState.RUNNING, TaskState.SCHEDULED);
+    }
+
+    /**
+     * Transitions from RUNNING back to SCHEDULED when an execution is deferred
+     * without running the task.
+     *
+     * @return true if the transition succeeded
+     */
+    public boolean deferExecution() {
+        return transition(TaskState.RUNNING, TaskState.SCHEDULED);
     }
 
     /**
@@ -63,7 +93,7 @@ public final class TaskStateMachine {
      * @return true if the transition succeeded
      */
     public boolean completeOnce() {
-        return state.compareAndSet(TaskState.RUNNING, TaskState.COMPLETED);
+        return signalIf(transition(TaskState.RUNNING, TaskState.COMPLETED), TaskState.COMPLETED);
     }
 
     /**
@@ -74,7 +104,7 @@ public final class TaskStateMachine {
      * @return true if the transition succeeded
      */
     public boolean completeFromScheduled() {
-        return state.compareAndSet(TaskState.SCHEDULED, TaskState.COMPLETED);
+        return signalIf(transition(TaskState.SCHEDULED, TaskState.COMPLETED), TaskState.COMPLETED);
     }
 
     /**
@@ -84,7 +114,7 @@ public final class TaskStateMachine {
      * @return true if the transition succeeded
      */
     public boolean failFromScheduled() {
-        return state.compareAndSet(TaskState.SCHEDULED, TaskState.FAILED);
+        return signalIf(transition(TaskState.SCHEDULED, TaskState.FAILED), TaskState.FAILED);
     }
 
     /**
@@ -93,7 +123,38 @@ public final class TaskStateMachine {
      * @return true if the transition succeeded
      */
     public boolean scheduleRetry() {
-        return state.compareAndSet(TaskState.RUNNING, TaskState.RETRY_WAIT);
+        return transition(TaskState.RUNNING, TaskState.RETRY_WAIT);
+    }
+
+    /**
+     * Transitions from SCHEDULED or RETRY_WAIT to PAUSED.
+     *
+     * <p>
+     * Callers must ensure the task has no pending execution armed.
+     *
+     * @return true if the transition succeeded
+     */
+    public boolean pause() {
+        TaskState current;
+        do {
+            current = state.get();
+            if (current != TaskState.SCHEDULED && current != TaskState.RETRY_WAIT) {
+                return false;
+            }
+        } while (!state.compareAndSet(current, TaskState.PAUSED));
+        moved(current, TaskState.PAUSED);
+        return true;
+    }
+
+    /**
+     * Transitions from PAUSED back to SCHEDULED, or to RETRY_WAIT if the task
+     * was waiting to retry when it was paused.
+     *
+     * @param retry whether the task resumes waiting for a retry
+     * @return true if the transition succeeded
+     */
+    public boolean resume(final boolean retry) {
+        return transition(TaskState.PAUSED, retry ? TaskState.RETRY_WAIT : TaskState.SCHEDULED);
     }
 
     /**
@@ -102,11 +163,11 @@ public final class TaskStateMachine {
      * @return true if the transition succeeded
      */
     public boolean fail() {
-        return state.compareAndSet(TaskState.RUNNING, TaskState.FAILED);
+        return signalIf(transition(TaskState.RUNNING, TaskState.FAILED), TaskState.FAILED);
     }
 
     /**
-     * Attempts to cancel the task from SCHEDULED or RETRY_WAIT state.
+     * Attempts to cancel the task from SCHEDULED, RETRY_WAIT or PAUSED state.
      *
      * @return true if the transition succeeded
      */
@@ -117,10 +178,12 @@ public final class TaskStateMachine {
             if (current == TaskState.CANCELLED) {
                 return true;
             }
-            if (current != TaskState.SCHEDULED && current != TaskState.RETRY_WAIT) {
+            if (current != TaskState.SCHEDULED && current != TaskState.RETRY_WAIT && current != TaskState.PAUSED) {
                 return false;
             }
         } while (!state.compareAndSet(current, TaskState.CANCELLED));
+        moved(current, TaskState.CANCELLED);
+        signal(TaskState.CANCELLED);
         return true;
     }
 
@@ -138,7 +201,11 @@ public final class TaskStateMachine {
      * Forces a transition to CANCELLED state regardless of current state.
      */
     public void forceCancel() {
-        state.set(TaskState.CANCELLED);
+        final TaskState previous = state.getAndSet(TaskState.CANCELLED);
+        if (previous != TaskState.CANCELLED) {
+            moved(previous, TaskState.CANCELLED);
+            signal(TaskState.CANCELLED);
+        }
     }
 
     /**
@@ -147,8 +214,7 @@ public final class TaskStateMachine {
      * @return true if completed, failed, or cancelled
      */
     public boolean isTerminal() {
-        final TaskState s = state.get();
-        return s == TaskState.COMPLETED || s == TaskState.FAILED || s == TaskState.CANCELLED;
+        return isTerminal(state.get());
     }
 
     /**
@@ -159,4 +225,107 @@ public final class TaskStateMachine {
     public boolean isRunning() {
         return state.get() == TaskState.RUNNING;
     }
+
+    /**
+     * Returns a future completed with the terminal state of the task.
+     *
+     * <p>
+     * The terminal future is allocated on the first call and shared by later
+     * calls; each call returns a dependent copy of it. Completing, timing out
+     * or cancelling a copy therefore affects only that copy, never the task
+     * or other callers. If the task is already terminal, the returned future
+     * is already complete.
+     *
+     * @return a copy of the completion future
+     */
+    public CompletableFuture<TaskState> completion() {
+        return terminal().copy();
+    }
+
+    private CompletableFuture<TaskState> terminal() {
+        final CompletableFuture<TaskState> existing = completion.get();
+        if (existing != null) {
+            return existing;
+        }
+
+        final CompletableFuture<TaskState> future = new CompletableFuture<>();
+        if (!completion.compareAndSet(null, future)) {
+            return completion.get();
+        }
+
+        final TaskState current = state.get();
+        if (isTerminal(current)) {
+            future.complete(current);
+        }
+        return future;
+    }
+
+    /**
+     * Registers an action run once when the task reaches a terminal state,
+     * on the thread that moves it there, before the completion future
+     * completes. If the task is already terminal the action runs now. Used
+     * to return resources held for the task's lifetime without allocating
+     * the completion future. The action must not block.
+     *
+     * @param hook the action to run
+     */
+    public void onTerminal(final Runnable hook) {
+        Runnable current;
+        Runnable next;
+        do {
+            current = terminalHooks.get();
+            if (current == HOOKS_RUN) {
+                hook.run();
+                return;
+            }
+            final Runnable previous = current;
+            next = previous == null ? hook : () -> {
+                previous.run();
+                hook.run();
+            };
+        } while (!terminalHooks.compareAndSet(current, next));
+
+        if (isTerminal(state.get())) {
+            runTerminalHooks();
+        }
+    }
+
+    private void runTerminalHooks() {
+        final Runnable hooks = terminalHooks.getAndSet(HOOKS_RUN);
+        if (hooks != null && hooks != HOOKS_RUN) {
+            hooks.run();
+        }
+    }
+
+    private boolean transition(final TaskState from, final TaskState to) {
+        if (state.compareAndSet(from, to)) {
+            moved(from, to);
+            return true;
+        }
+        return false;
+    }
+
+    private void moved(final TaskState from, final TaskState to) {
+        counts.moved(from, to);
+        StateTransitionEvent.commit(taskId, from, to);
+    }
+
+    private boolean signalIf(final boolean transitioned, final TaskState terminal) {
+        if (transitioned) {
+            signal(terminal);
+        }
+        return transitioned;
+    }
+
+    private void signal(final TaskState terminal) {
+        runTerminalHooks();
+        final CompletableFuture<TaskState> future = completion.get();
+        if (future != null) {
+            future.complete(terminal);
+        }
+    }
+
+    private static boolean isTerminal(final TaskState s) {
+        return s == TaskState.COMPLETED || s == TaskState.FAILED || s == TaskState.CANCELLED;
+    }
 }
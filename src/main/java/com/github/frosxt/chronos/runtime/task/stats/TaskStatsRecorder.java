@@ -0,0 +1,122 @@
+package com.github.frosxt.chronos.runtime.task.stats;
+
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+
+/**
+ * Per-task streaming statistics, updated by the task's runner.
+ *
+ * <p>
+ * Each counter is a volatile field updated through a field updater, so
+ * recording allocates nothing and a recorder costs one small object per
+ * task that asks for statistics. Counters are updated independently, so a
+ * reader may see one execution reflected in some of them but not yet in
+ * others.
+ *
+ * <p>
+ * This class is thread-safe.
+ */
+public final class TaskStatsRecorder {
+    /**
+     * The weight of a new duration sample in the average is 1 / 2^SMOOTHING_SHIFT.
+     */
+    private static final int SMOOTHING_SHIFT = 3;
+
+    private static final AtomicLongFieldUpdater<TaskStatsRecorder> EXECUTIONS =
+            AtomicLongFieldUpdater.newUpdater(TaskStatsRecorder.class, "executions");
+    private static final AtomicLongFieldUpdater<TaskStatsRecorder> EWMA_DURATION =
+            AtomicLongFieldUpdater.newUpdater(TaskStatsRecorder.class, "ewmaDurationNanos");
+    private static final AtomicLongFieldUpdater<TaskStatsRecorder> MAX_DURATION =
+            AtomicLongFieldUpdater.newUpdater(TaskStatsRecorder.class, "maxDurationNanos");
+    private static final AtomicLongFieldUpdater<TaskStatsRecorder> BUSY =
+            AtomicLongFieldUpdater.newUpdater(TaskStatsRecorder.class, "busyNanos");
+    private static final AtomicLongFieldUpdater<TaskStatsRecorder> STARTS =
+            AtomicLongFieldUpdater.newUpdater(TaskStatsRecorder.class, "starts");
+    private static final AtomicLongFieldUpdater<TaskStatsRecorder> TOTAL_LAG =
+            AtomicLongFieldUpdater.newUpdater(TaskStatsRecorder.class, "totalLagNanos");
+    private static final AtomicLongFieldUpdater<TaskStatsRecorder> FAILURES =
+            AtomicLongFieldUpdater.newUpdater(TaskStatsRecorder.class, "failures");
+    private static final AtomicLongFieldUpdater<TaskStatsRecorder> RETRIES =
+            AtomicLongFieldUpdater.newUpdater(TaskStatsRecorder.class, "retries");
+
+    private volatile long executions;
+    private volatile long ewmaDurationNanos;
+    private volatile long maxDurationNanos;
+    private volatile long busyNanos;
+    private volatile long starts;
+    private volatile long totalLagNanos;
+    private volatile long failures;
+    private volatile long retries;
+
+    /**
+     * Records the start of an execution.
+     *
+     * @param lagNanos how late the execution started; negative values count
+     *                 as zero
+     */
+    public void recordStart(final long lagNanos) {
+        STARTS.incrementAndGet(this);
+        TOTAL_LAG.addAndGet(this, Math.max(0, lagNanos));
+    }
+
+    /**
+     * Records the end of an execution.
+     *
+     * @param durationNanos how long the execution ran
+     * @param failed        whether the execution failed
+     */
+    public void recordEnd(final long durationNanos, final boolean failed) {
+        final long duration = Math.max(0, durationNanos);
+        final boolean first = EXECUTIONS.getAndIncrement(this) == 0;
+        BUSY.addAndGet(this, duration);
+        if (failed) {
+            FAILURES.incrementAndGet(this);
+        }
+
+        long current;
+        do {
+            current = ewmaDurationNanos;
+        } while (!EWMA_DURATION.compareAndSet(this, current,
+                first ? duration : current + ((duration - current) >> SMOOTHING_SHIFT)));
+
+        long max = maxDurationNanos;
+        while (duration > max && !MAX_DURATION.compareAndSet(this, max, duration)) {
+            max = maxDurationNanos;
+        }
+    }
+
+    /**
+     * Records a retry scheduled after a failure.
+     */
+    public void recordRetry() {
+        RETRIES.incrementAndGet(this);
+    }
+
+    public long executions() {
+        return executions;
+    }
+
+    public long ewmaDurationNanos() {
+        return ewmaDurationNanos;
+    }
+
+    public long maxDurationNanos() {
+        return maxDurationNanos;
+    }
+
+    public long busyNanos() {
+        return busyNanos;
+    }
+
+    public long averageLagNanos() {
+        final long count = starts;
+        return count == 0 ? 0 : totalLagNanos / count;
+    }
+
+    public long failures() {
+        return failures;
+    }
+
+    public long retries() {
+        return retries;
+    }
+}
@@ -4,11 +4,22 @@ package com.github.frosxt.chronos.runtime.task.time;
  * Manages timing information for a task.
  */
 public final class TaskTiming {
+    private volatile long createdNanos = -1;
     private volatile long firstScheduledNanos = -1;
     private volatile long lastStartNanos = -1;
     private volatile long lastEndNanos = -1;
     private volatile long nextScheduledNanos = -1;
 
+    public long createdNanos() {
+        return createdNanos;
+    }
+
+    public void setCreatedNanos(final long nanos) {
+        if (this.createdNanos < 0) {
+            this.createdNanos = nanos;
+        }
+    }
+
     public long firstScheduledNanos() {
         return firstScheduledNanos;
     }
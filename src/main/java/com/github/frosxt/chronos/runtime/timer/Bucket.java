@@ -0,0 +1,69 @@
+package com.github.frosxt.chronos.runtime.timer;
+
+/**
+ * A doubly-linked list of timeouts that share a wheel slot.
+ *
+ * <p>
+ * Only accessed by the timer thread.
+ */
+final class Bucket {
+    private WheelTimeout head;
+    private WheelTimeout tail;
+
+    void add(final WheelTimeout timeout) {
+        timeout.bucket = this;
+        if (head == null) {
+            head = tail = timeout;
+        } else {
+            tail.next = timeout;
+            timeout.prev = tail;
+            tail = timeout;
+        }
+    }
+
+    /**
+     * Expires every timeout whose deadline has passed, unlinks cancelled
+     * timeouts and counts down the rounds of the rest.
+     *
+     * @param deadlineNanos the elapsed time of the current tick
+     * @return the number of timeouts removed from the bucket
+     */
+    int expire(final long deadlineNanos) {
+        int removed = 0;
+        WheelTimeout timeout = head;
+        while (timeout != null) {
+            final WheelTimeout next = timeout.next;
+            if (timeout.isCancelled()) {
+                remove(timeout);
+                removed++;
+            } else if (timeout.remainingRounds <= 0 && timeout.deadlineNanos <= deadlineNanos) {
+                remove(timeout);
+                removed++;
+                timeout.expire();
+            } else {
+                timeout.remainingRounds--;
+            }
+            timeout = next;
+        }
+        return removed;
+    }
+
+    void remove(final WheelTimeout timeout) {
+        final WheelTimeout next = timeout.next;
+        if (timeout.prev != null) {
+            timeout.prev.next = next;
+        }
+        if (next != null) {
+            next.prev = timeout.prev;
+        }
+        if (timeout == head) {
+            head = next;
+        }
+        if (timeout == tail) {
+            tail = timeout.prev;
+        }
+        timeout.prev = null;
+        timeout.next = null;
+        timeout.bucket = null;
+    }
+}
@@ -0,0 +1,221 @@
+package com.github.frosxt.chronos.runtime.timer;
+
+import java.util.Queue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * A hashed timing wheel for large numbers of coarse-grained timeouts.
+ *
+ * <p>
+ * Scheduling and cancelling are O(1) and lock-free: new timeouts are queued
+ * and moved into their wheel slot by a single timer thread on its next
+ * tick, and cancelled timeouts are unlinked on the tick after they are
+ * cancelled. Timeouts fire with a precision of one tick, either on the timer
+ * thread, in which case their tasks must be short and must not block, or on
+ * a dispatch executor.
+ *
+ * <p>
+ * The timer thread is a daemon started on the first call to
+ * {@link #schedule(Runnable, long)}.
+ */
+public final class HashedWheelTimer {
+    private static final int INIT = 0;
+    private static final int STARTED = 1;
+    private static final int STOPPED = 2;
+    private static final int MAX_TRANSFERS_PER_TICK = 100_000;
+
+    private final long tickNanos;
+    private final int mask;
+    private final Bucket[] wheel;
+    private final String threadName;
+    private final Executor dispatcher;
+    private final Queue<WheelTimeout> pending = new ConcurrentLinkedQueue<>();
+    private final Queue<WheelTimeout> cancelled = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger workerState = new AtomicInteger(INIT);
+    private final long startNanos;
+
+    private volatile Thread worker;
+    private long tick;
+
+    /**
+     * Creates a new timer.
+     *
+     * @param tickNanos  the duration of one tick in nanoseconds
+     * @param wheelSize  the number of slots, rounded up to a power of two
+     * @param threadName the name of the timer thread
+     */
+    public HashedWheelTimer(final long tickNanos, final int wheelSize, final String threadName) {
+        this(tickNanos, wheelSize, threadName, null);
+    }
+
+    /**
+     * Creates a new timer that runs expired tasks on an executor.
+     *
+     * @param tickNanos  the duration of one tick in nanoseconds
+     * @param wheelSize  the number of slots, rounded up to a power of two
+     * @param threadName the name of the timer thread
+     * @param dispatcher the executor expired tasks are handed to, or null to
+     *                   run them on the timer thread
+     */
+    public HashedWheelTimer(final long tickNanos, final int wheelSize, final String threadName, final Executor dispatcher) {
+        if (tickNanos <= 0) {
+            throw new IllegalArgumentException("tickNanos must be positive");
+        }
+        if (wheelSize < 1 || wheelSize > 1 << 30) {
+            throw new IllegalArgumentException("wheelSize must be between 1 and 2^30");
+        }
+
+        int size = 1;
+        while (size < wheelSize) {
+            size <<= 1;
+        }
+        this.tickNanos = tickNanos;
+        this.mask = size - 1;
+        this.wheel = new Bucket[size];
+        for (int i = 0; i < size; i++) {
+            wheel[i] = new Bucket();
+        }
+        this.threadName = threadName;
+        this.dispatcher = dispatcher;
+        this.startNanos = System.nanoTime();
+    }
+
+    /**
+     * Schedules a task to run after a delay.
+     *
+     * @param task       the task to run on the timer thread
+     * @param delayNanos the delay in nanoseconds
+     * @return the timeout handle
+     * @throws IllegalStateException if the timer has been stopped
+     */
+    public WheelTimeout schedule(final Runnable task, final long delayNanos) {
+        start();
+
+        final long elapsed = System.nanoTime() - startNanos;
+        long deadline = elapsed + Math.max(0, delayNanos);
+        if (deadline < elapsed) {
+            deadline = Long.MAX_VALUE;
+        }
+
+        final WheelTimeout timeout = new WheelTimeout(this, task, deadline);
+        pending.add(timeout);
+        return timeout;
+    }
+
+    /**
+     * Stops the timer thread. Timeouts that have not fired are discarded.
+     */
+    public void stop() {
+        if (workerState.getAndSet(STOPPED) == STARTED) {
+            LockSupport.unpark(worker);
+        }
+        pending.clear();
+        cancelled.clear();
+    }
+
+    /**
+     * Returns whether the timer has been stopped.
+     *
+     * @return true if stopped
+     */
+    public boolean isStopped() {
+        return workerState.get() == STOPPED;
+    }
+
+    private void start() {
+        final int state = workerState.get();
+        if (state == STARTED) {
+            return;
+        }
+        if (state == STOPPED) {
+            throw new IllegalStateException("Timer has been stopped");
+        }
+        if (workerState.compareAndSet(INIT, STARTED)) {
+            final Thread thread = new Thread(this::runWorker, threadName);
+            thread.setDaemon(true);
+            worker = thread;
+            thread.start();
+        } else if (workerState.get() == STOPPED) {
+            throw new IllegalStateException("Timer has been stopped");
+        }
+    }
+
+    private void runWorker() {
+        while (workerState.get() == STARTED) {
+            final long deadline = waitForNextTick();
+            if (deadline < 0) {
+                break;
+            }
+            unlinkCancelled();
+            transferPending();
+            wheel[(int) (tick & mask)].expire(deadline);
+            tick++;
+        }
+    }
+
+    private long waitForNextTick() {
+        final long target = tickNanos * (tick + 1);
+        while (true) {
+            final long elapsed = System.nanoTime() - startNanos;
+            final long sleepNanos = target - elapsed;
+            if (sleepNanos <= 0) {
+                return elapsed;
+            }
+            if (workerState.get() != STARTED) {
+                return -1;
+            }
+            LockSupport.parkNanos(this, sleepNanos);
+        }
+    }
+
+    /**
+     * Queues a cancelled timeout for unlinking if it has already been moved
+     * into a wheel slot. Timeouts still pending are dropped when transferred.
+     */
+    void onCancel(final WheelTimeout timeout) {
+        if (timeout.bucket != null) {
+            cancelled.add(timeout);
+        }
+    }
+
+    /**
+     * Runs the task of an expired timeout.
+     */
+    void dispatch(final Runnable task) {
+        if (dispatcher != null) {
+            dispatcher.execute(task);
+        } else {
+            task.run();
+        }
+    }
+
+    private void unlinkCancelled() {
+        WheelTimeout timeout;
+        while ((timeout = cancelled.poll()) != null) {
+            final Bucket bucket = timeout.bucket;
+            if (bucket != null) {
+                bucket.remove(timeout);
+            }
+        }
+    }
+
+    private void transferPending() {
+        for (int i = 0; i < MAX_TRANSFERS_PER_TICK; i++) {
+            final WheelTimeout timeout = pending.poll();
+            if (timeout == null) {
+                return;
+            }
+            if (timeout.isCancelled()) {
+                continue;
+            }
+
+            final long calculated = timeout.deadlineNanos / tickNanos;
+            timeout.remainingRounds = (calculated - tick) / wheel.length;
+            final long ticks = Math.max(calculated, tick);
+            wheel[(int) (ticks & mask)].add(timeout);
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.github.frosxt.chronos.runtime.timer;
+
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * The executor of a scheduler.
+ *
+ * <p>
+ * A cancelled timer that is not removed from the queue stays there until
+ * its delay elapses; a worker then takes it and discards it without running
+ * it. This executor reports each such discard, so the number of cancelled
+ * timers in the queue can be maintained incrementally instead of walking
+ * the queue, which takes the queue's lock and copies it.
+ *
+ * <p>
+ * While a timer runs, it is available to the running task as
+ * {@link #currentTimer()}, so a task can tell which of its timers fired.
+ *
+ * <p>
+ * It also reports its termination, so helper threads that serve its
+ * executions can be stopped however the executor was shut down.
+ */
+public final class TimerExecutor extends ScheduledThreadPoolExecutor {
+    private static final ThreadLocal<Future<?>> CURRENT = new ThreadLocal<>();
+
+    private volatile Runnable discardHook;
+    private volatile Runnable terminatedHook;
+
+    /**
+     * Creates a new executor.
+     *
+     * @param threadCount   the number of threads
+     * @param threadFactory the thread factory
+     */
+    public TimerExecutor(final int threadCount, final ThreadFactory threadFactory) {
+        super(threadCount, threadFactory);
+    }
+
+    /**
+     * Sets the callback run on a worker thread each time a cancelled timer
+     * is taken from the queue and discarded. It must not block.
+     *
+     * @param hook the discard callback
+     */
+    public void onDiscard(final Runnable hook) {
+        this.discardHook = hook;
+    }
+
+    /**
+     * Sets the callback run once the executor has terminated. It must not
+     * block.
+     *
+     * @param hook the termination callback
+     */
+    public void onTerminated(final Runnable hook) {
+        this.terminatedHook = hook;
+    }
+
+    /**
+     * Returns the timer running on the calling thread.
+     *
+     * @return the running timer, or null if the calling thread is not running
+     *         a timer of a timer executor
+     */
+    public static Future<?> currentTimer() {
+        return CURRENT.get();
+    }
+
+    @Override
+    protected void beforeExecute(final Thread thread, final Runnable task) {
+        if (!(task instanceof Future<?> future)) {
+            return;
+        }
+        final Runnable hook = discardHook;
+        if (hook != null && future.isCancelled()) {
+            hook.run();
+        }
+        CURRENT.set(future);
+    }
+
+    @Override
+    protected void afterExecute(final Runnable task, final Throwable error) {
+        CURRENT.remove();
+    }
+
+    @Override
+    protected void terminated() {
+        final Runnable hook = terminatedHook;
+        if (hook != null) {
+            hook.run();
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.github.frosxt.chronos.runtime.timer;
+
+import com.github.frosxt.chronos.api.policy.PurgePolicy;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Removes the timers of cancelled tasks from the executor's queue according
+ * to a {@link PurgePolicy}.
+ *
+ * <p>
+ * In {@link PurgePolicy#IMMEDIATE} mode the executor removes timers itself
+ * on cancel. In {@link PurgePolicy#BATCHED} mode cancels are counted and the
+ * cancel that reaches the batch size hands a purge of the queue to the
+ * executor, so the cancelling thread does not pay for the linear walk; the
+ * batch size is half of the live entries left by the previous purge, with a
+ * fixed minimum.
+ *
+ * <p>
+ * The number of cancelled timers still queued is kept incrementally: it
+ * grows when a queued timer is cancelled and shrinks when a purge removes
+ * cancelled timers or a worker discards one whose delay has elapsed. Under
+ * concurrent cancels and purges it is an estimate that is corrected by the
+ * next purge.
+ *
+ * <p>
+ * This class is thread-safe.
+ */
+public final class TimerPurger {
+    private static final long MIN_BATCH = 256;
+
+    private final ScheduledThreadPoolExecutor executor;
+    private final PurgePolicy policy;
+    private final AtomicLong cancelled = new AtomicLong();
+    private final AtomicBoolean purging = new AtomicBoolean();
+    private final LongAdder cancelledTimers = new LongAdder();
+
+    private volatile long batch = MIN_BATCH;
+
+    /**
+     * Creates a new purger.
+     *
+     * @param executor the executor whose queue is purged
+     * @param policy   the purge policy
+     */
+    public TimerPurger(final ScheduledExecutorService executor, final PurgePolicy policy) {
+        this.executor = executor instanceof ScheduledThreadPoolExecutor pool ? pool : null;
+        this.policy = this.executor != null ? policy : PurgePolicy.LAZY;
+        if (this.policy == PurgePolicy.IMMEDIATE) {
+            this.executor.setRemoveOnCancelPolicy(true);
+        }
+        if (executor instanceof TimerExecutor timers) {
+            timers.onDiscard(this::onDiscard);
+        }
+    }
+
+    /**
+     * Records that a queued timer was cancelled, purging the queue if a batch
+     * is complete.
+     */
+    public void onCancel() {
+        if (executor == null || policy == PurgePolicy.IMMEDIATE) {
+            return;
+        }
+        cancelledTimers.increment();
+        if (policy != PurgePolicy.BATCHED || cancelled.incrementAndGet() < batch || !purging.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            executor.execute(this::purge);
+        } catch (final RejectedExecutionException e) {
+            purging.set(false);
+        }
+    }
+
+    private void purge() {
+        try {
+            cancelled.set(0);
+            // Count each removal rather than subtracting the count seen at the
+            // start, so timers cancelled while the purge runs stay accounted for
+            final BlockingQueue<Runnable> queue = executor.getQueue();
+            for (final Runnable timer : queue) {
+                if (timer instanceof Future<?> future && future.isCancelled() && queue.remove(timer)) {
+                    cancelledTimers.decrement();
+                }
+            }
+            batch = Math.max(MIN_BATCH, queue.size() / 2);
+        } finally {
+            purging.set(false);
+        }
+    }
+
+    /**
+     * Records that a worker discarded a cancelled timer whose delay elapsed.
+     */
+    private void onDiscard() {
+        if (policy != PurgePolicy.IMMEDIATE) {
+            cancelledTimers.decrement();
+        }
+    }
+
+    /**
+     * Returns the number of queued timers.
+     *
+     * @return the queue size, including cancelled timers
+     */
+    public long queuedCount() {
+        return executor != null ? executor.getQueue().size() : 0;
+    }
+
+    /**
+     * Returns the number of cancelled timers still in the queue, as
+     * maintained on cancel, purge and discard.
+     *
+     * @return the number of cancelled queued timers
+     */
+    public long cancelledTimerCount() {
+        return Math.max(0, cancelledTimers.sum());
+    }
+}
@@ -0,0 +1,67 @@
+package com.github.frosxt.chronos.runtime.timer;
+
+import com.github.frosxt.chronos.api.Timeout;
+
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+
+/**
+ * A task scheduled on a {@link HashedWheelTimer}.
+ *
+ * <p>
+ * Cancellation flips the state and queues the entry, which the timer thread
+ * unlinks from its bucket on its next tick.
+ */
+public final class WheelTimeout implements Timeout {
+    private static final int INIT = 0;
+    private static final int CANCELLED = 1;
+    private static final int EXPIRED = 2;
+
+    private static final AtomicIntegerFieldUpdater<WheelTimeout> STATE =
+            AtomicIntegerFieldUpdater.newUpdater(WheelTimeout.class, "state");
+
+    private final HashedWheelTimer timer;
+    private final Runnable task;
+    final long deadlineNanos;
+
+    private volatile int state = INIT;
+
+    long remainingRounds;
+    WheelTimeout next;
+    WheelTimeout prev;
+    Bucket bucket;
+
+    WheelTimeout(final HashedWheelTimer timer, final Runnable task, final long deadlineNanos) {
+        this.timer = timer;
+        this.task = task;
+        this.deadlineNanos = deadlineNanos;
+    }
+
+    @Override
+    public boolean cancel() {
+        if (!STATE.compareAndSet(this, INIT, CANCELLED)) {
+            return false;
+        }
+        timer.onCancel(this);
+        return true;
+    }
+
+    @Override
+    public boolean isCancelled() {
+        return state == CANCELLED;
+    }
+
+    @Override
+    public boolean isExpired() {
+        return state == EXPIRED;
+    }
+
+    void expire() {
+        if (!STATE.compareAndSet(this, INIT, EXPIRED)) {
+            return;
+        }
+        try {
+            timer.dispatch(task);
+        } catch (final Throwable t) {
+        }
+    }
+}
@@ -21,10 +21,56 @@ public interface Trigger {
      */
     long nextDelayNanos(long currentNanos, long lastStartNanos, long lastEndNanos, long runCount);
 
+    /**
+     * Calculates the delay until the next execution of a task resumed after a
+     * pause.
+     *
+     * <p>
+     * By default an execution that fell due while paused runs immediately if
+     * {@code runMissed} is set; otherwise the task waits one period from now.
+     * Triggers without a period run a due execution either way.
+     *
+     * @param currentNanos   the current monotonic time in nanoseconds
+     * @param lastStartNanos the monotonic time when the last execution started (-1
+     *                       if never)
+     * @param lastEndNanos   the monotonic time when the last execution ended (-1 if
+     *                       never)
+     * @param runCount       the number of times the task has been executed
+     * @param runMissed      whether one missed execution should run immediately
+     * @return the delay in nanoseconds, or -1 if no more executions are scheduled
+     */
+    default long resumeDelayNanos(final long currentNanos, final long lastStartNanos, final long lastEndNanos,
+                                  final long runCount, final boolean runMissed) {
+        final long delay = nextDelayNanos(currentNanos, lastStartNanos, lastEndNanos, runCount);
+        if (delay != 0 || runMissed) {
+            return delay;
+        }
+        final long period = currentPeriodNanos();
+        return period > 0 ? period : delay;
+    }
+
     /**
      * Returns whether this trigger produces recurring executions.
      *
      * @return true if recurring, false for one-shot
      */
     boolean isRecurring();
+
+    /**
+     * Returns the period currently used between executions.
+     *
+     * @return the period in nanoseconds, or -1 if the trigger has no period
+     */
+    default long currentPeriodNanos() {
+        return -1;
+    }
+
+    /**
+     * Returns the number of planned executions this trigger has skipped.
+     *
+     * @return the cumulative skipped run count
+     */
+    default long skippedRuns() {
+        return 0;
+    }
 }
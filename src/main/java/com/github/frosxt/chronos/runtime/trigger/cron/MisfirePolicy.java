@@ -12,6 +12,10 @@ public final class MisfirePolicy {
         this.misfireGraceNanos = misfireGraceNanos;
     }
 
+    public long misfireGraceNanos() {
+        return misfireGraceNanos;
+    }
+
     public boolean isMisfire(final Duration elapsed) {
         return elapsed.toNanos() > misfireGraceNanos;
     }
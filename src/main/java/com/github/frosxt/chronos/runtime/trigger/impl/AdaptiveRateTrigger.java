@@ -0,0 +1,101 @@
+package com.github.frosxt.chronos.runtime.trigger.impl;
+
+import com.github.frosxt.chronos.runtime.trigger.Trigger;
+
+/**
+ * A recurring trigger whose period adapts to execution time and lag.
+ *
+ * <p>
+ * Each execution is planned one period after the previous planned time, like
+ * a fixed-rate trigger. If that time has already passed, the schedule is
+ * re-anchored to the current time rather than catching up. After every
+ * execution the period is adjusted by an AIMD controller: it is multiplied
+ * when the smoothed execution time exceeds the target utilization or the
+ * execution started more than half a period late, and reduced by a fixed
+ * step otherwise.
+ *
+ * <p>
+ * Calls for the same run count do not adjust the period twice, so deferred
+ * executions observe a stable schedule.
+ */
+public final class AdaptiveRateTrigger implements Trigger {
+    private final long minPeriodNanos;
+    private final long maxPeriodNanos;
+    private final double targetUtilization;
+    private final double backoffMultiplier;
+    private final long recoveryStepNanos;
+    private final double smoothing;
+
+    private volatile long periodNanos;
+    private long targetNanos;
+    private long adjustedRunCount;
+    private double averageDurationNanos = -1;
+
+    /**
+     * Creates a new adaptive rate trigger.
+     *
+     * @param currentNanos      the current monotonic time
+     * @param initialDelayNanos the delay before the first execution
+     * @param minPeriodNanos    the shortest period
+     * @param maxPeriodNanos    the longest period
+     * @param targetUtilization the fraction of the period executions may take
+     * @param backoffMultiplier the factor the period grows by when overloaded
+     * @param recoveryStepNanos the amount the period shrinks by when idle
+     * @param smoothing         the weight of the newest execution time
+     */
+    public AdaptiveRateTrigger(final long currentNanos, final long initialDelayNanos, final long minPeriodNanos,
+                               final long maxPeriodNanos, final double targetUtilization, final double backoffMultiplier,
+                               final long recoveryStepNanos, final double smoothing) {
+        this.minPeriodNanos = minPeriodNanos;
+        this.maxPeriodNanos = maxPeriodNanos;
+        this.targetUtilization = targetUtilization;
+        this.backoffMultiplier = backoffMultiplier;
+        this.recoveryStepNanos = recoveryStepNanos;
+        this.smoothing = smoothing;
+        this.periodNanos = minPeriodNanos;
+        this.targetNanos = currentNanos + initialDelayNanos;
+    }
+
+    @Override
+    public synchronized long nextDelayNanos(final long currentNanos, final long lastStartNanos, final long lastEndNanos, final long runCount) {
+        if (runCount != 0 && runCount != adjustedRunCount) {
+            adjustedRunCount = runCount;
+            adjust(lastStartNanos, lastEndNanos);
+
+            final long next = targetNanos + periodNanos;
+            targetNanos = next < targetNanos || next < currentNanos ? currentNanos : next;
+        }
+
+        return Math.max(0, targetNanos - currentNanos);
+    }
+
+    private void adjust(final long lastStartNanos, final long lastEndNanos) {
+        if (lastStartNanos < 0 || lastEndNanos < lastStartNanos) {
+            return;
+        }
+
+        final long duration = lastEndNanos - lastStartNanos;
+        averageDurationNanos = averageDurationNanos < 0
+                ? duration
+                : averageDurationNanos + smoothing * (duration - averageDurationNanos);
+
+        final long period = periodNanos;
+        final long lag = lastStartNanos - targetNanos;
+        final boolean overloaded = averageDurationNanos > targetUtilization * period || lag > period / 2;
+
+        final long next = overloaded
+                ? (long) Math.min((double) maxPeriodNanos, period * backoffMultiplier)
+                : Math.max(minPeriodNanos, period - recoveryStepNanos);
+        periodNanos = Math.max(minPeriodNanos, Math.min(maxPeriodNanos, next));
+    }
+
+    @Override
+    public boolean isRecurring() {
+        return true;
+    }
+
+    @Override
+    public long currentPeriodNanos() {
+        return periodNanos;
+    }
+}
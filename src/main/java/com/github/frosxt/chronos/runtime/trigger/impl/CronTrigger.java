@@ -19,6 +19,7 @@ public final class CronTrigger implements Trigger {
     private final MisfirePolicy misfirePolicy;
     private final InstantMapper instantMapper;
     private final ZoneId zone;
+    private volatile long skippedRuns;
 
     public CronTrigger(final CronExpression cron, final ZoneId zone, final long misfireGraceNanos, final InstantMapper instantMapper) {
         this.calculator = new CronDelayCalculator(cron, zone);
@@ -48,6 +49,7 @@ public final class CronTrigger implements Trigger {
                 return 0;
             }
 
+            skippedRuns++;
             calculator.calculateNextFire(now);
             if (calculator.nextFireTime() == null) {
                 return -1;
@@ -58,8 +60,47 @@ public final class CronTrigger implements Trigger {
         return Math.max(0, Duration.between(now, nextInstant).toNanos());
     }
 
+    /**
+     * Skips fire times that passed while the task was paused unless
+     * {@code runMissed} is set, in which case the misfire grace decides
+     * whether the last missed fire time still runs.
+     */
+    @Override
+    public long resumeDelayNanos(final long currentNanos, final long lastStartNanos, final long lastEndNanos,
+                                 final long runCount, final boolean runMissed) {
+        final long delay = nextDelayNanos(currentNanos, lastStartNanos, lastEndNanos, runCount);
+        if (delay != 0 || runMissed) {
+            return delay;
+        }
+
+        final Instant now = instantMapper.now();
+        calculator.calculateNextFire(now);
+        if (calculator.nextFireTime() == null) {
+            return -1;
+        }
+        return Math.max(0, Duration.between(now, calculator.nextFireInstant()).toNanos());
+    }
+
+    /**
+     * Counts misfires: each time the due fire time is dropped because it
+     * passed beyond the misfire grace counts once, however many fire times
+     * were missed in between.
+     */
+    @Override
+    public long skippedRuns() {
+        return skippedRuns;
+    }
+
     @Override
     public boolean isRecurring() {
         return true;
     }
+
+    public ZoneId zone() {
+        return zone;
+    }
+
+    public long misfireGraceNanos() {
+        return misfirePolicy.misfireGraceNanos();
+    }
 }
@@ -45,6 +45,11 @@ public final class FixedDelayTrigger implements Trigger {
         return true;
     }
 
+    @Override
+    public long currentPeriodNanos() {
+        return delayNanos;
+    }
+
     /**
      * Returns the initial schedule time in nanoseconds.
      */
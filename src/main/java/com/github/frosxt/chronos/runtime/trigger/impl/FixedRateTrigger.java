@@ -1,5 +1,6 @@
 package com.github.frosxt.chronos.runtime.trigger.impl;
 
+import com.github.frosxt.chronos.api.policy.OverrunPolicy;
 import com.github.frosxt.chronos.runtime.trigger.Trigger;
 
 /**
@@ -7,34 +8,89 @@ import com.github.frosxt.chronos.runtime.trigger.Trigger;
  *
  * <p>
  * The next execution time is computed from the initial schedule time,
- * not from when the previous execution completed. If executions fall behind,
- * the scheduler will run immediately but will not run multiple catch-up
- * executions.
+ * not from when the previous execution completed. Executions are planned on
+ * aligned slots; slots skipped by the overrun policy shift every later
+ * execution by one period. If executions fall behind, the overrun policy
+ * decides whether missed slots run back to back or are skipped. Overlapping
+ * executions are driven by the runner, which passes its slot count as the
+ * run count.
  */
 public final class FixedRateTrigger implements Trigger {
     private final long initialScheduleNanos;
     private final long periodNanos;
+    private final OverrunPolicy overrunPolicy;
+    private final long baseRunCount;
+
+    private volatile long skippedRuns;
+    private long lastRunCount;
 
     /**
-     * Creates a new fixed-rate trigger.
+     * Creates a new fixed-rate trigger that catches up on missed slots.
      *
      * @param currentNanos      the current monotonic time
      * @param initialDelayNanos the delay before the first execution
      * @param periodNanos       the period between executions
      */
     public FixedRateTrigger(final long currentNanos, final long initialDelayNanos, final long periodNanos) {
-        this.initialScheduleNanos = currentNanos + initialDelayNanos;
+        this(currentNanos, initialDelayNanos, periodNanos, OverrunPolicy.catchUp());
+    }
+
+    /**
+     * Creates a new fixed-rate trigger.
+     *
+     * @param currentNanos      the current monotonic time
+     * @param initialDelayNanos the delay before the first execution
+     * @param periodNanos       the period between executions
+     * @param overrunPolicy     the policy for missed slots
+     */
+    public FixedRateTrigger(final long currentNanos, final long initialDelayNanos, final long periodNanos,
+                            final OverrunPolicy overrunPolicy) {
+        this(currentNanos + initialDelayNanos, periodNanos, overrunPolicy, 0);
+    }
+
+    private FixedRateTrigger(final long initialScheduleNanos, final long periodNanos, final OverrunPolicy overrunPolicy,
+                             final long baseRunCount) {
+        this.initialScheduleNanos = initialScheduleNanos;
         this.periodNanos = periodNanos;
+        this.overrunPolicy = overrunPolicy;
+        this.baseRunCount = baseRunCount;
+        this.lastRunCount = baseRunCount;
+    }
+
+    /**
+     * Creates a fixed-rate trigger that continues a task which has already
+     * run, such as one whose period was changed.
+     *
+     * <p>
+     * The execution planned for {@code runCount} fires at
+     * {@code firstScheduleNanos}, and later slots follow at the new period.
+     *
+     * @param firstScheduleNanos the monotonic time of the next execution
+     * @param periodNanos        the period between executions
+     * @param overrunPolicy      the policy for missed slots
+     * @param runCount           the run count the runner will pass for the
+     *                           next execution
+     * @return the trigger
+     */
+    public static FixedRateTrigger continuing(final long firstScheduleNanos, final long periodNanos,
+                                              final OverrunPolicy overrunPolicy, final long runCount) {
+        return new FixedRateTrigger(firstScheduleNanos, periodNanos, overrunPolicy, runCount);
     }
 
     @Override
     public long nextDelayNanos(final long currentNanos, final long lastStartNanos, final long lastEndNanos, final long runCount) {
-        if (runCount == 0) {
+        if (runCount == baseRunCount && skippedRuns == 0) {
             return Math.max(0, initialScheduleNanos - currentNanos);
         }
 
         try {
-            final long runs = Math.multiplyExact(runCount, periodNanos);
+            if (runCount != lastRunCount) {
+                lastRunCount = runCount;
+                skipMissedSlots(currentNanos, runCount);
+            }
+
+            final long slot = Math.addExact(runCount - baseRunCount, skippedRuns);
+            final long runs = Math.multiplyExact(slot, periodNanos);
             final long targetNanos = Math.addExact(initialScheduleNanos, runs);
 
             if (targetNanos <= currentNanos) {
@@ -47,11 +103,60 @@ public final class FixedRateTrigger implements Trigger {
         }
     }
 
+    /**
+     * Skips the slots that passed while the task was paused, keeping the last
+     * one if {@code runMissed} is set so it runs immediately.
+     */
+    @Override
+    public long resumeDelayNanos(final long currentNanos, final long lastStartNanos, final long lastEndNanos,
+                                 final long runCount, final boolean runMissed) {
+        try {
+            final long slot = Math.addExact(runCount - baseRunCount, skippedRuns);
+            final long targetNanos = Math.addExact(initialScheduleNanos, Math.multiplyExact(slot, periodNanos));
+            if (targetNanos < currentNanos) {
+                final long dueSlot = (currentNanos - initialScheduleNanos) / periodNanos;
+                final long missed = dueSlot - slot + 1;
+                skippedRuns = Math.addExact(skippedRuns, runMissed ? missed - 1 : missed);
+            }
+        } catch (final ArithmeticException e) {
+            return -1;
+        }
+        return nextDelayNanos(currentNanos, lastStartNanos, lastEndNanos, runCount);
+    }
+
+    private void skipMissedSlots(final long currentNanos, final long runCount) {
+        final int maxBurst = overrunPolicy.maxBurst();
+        if (overrunPolicy.mode() == OverrunPolicy.Mode.OVERLAP || maxBurst == Integer.MAX_VALUE) {
+            return;
+        }
+
+        final long slot = Math.addExact(runCount - baseRunCount, skippedRuns);
+        final long targetNanos = Math.addExact(initialScheduleNanos, Math.multiplyExact(slot, periodNanos));
+        if (targetNanos >= currentNanos) {
+            return;
+        }
+
+        final long dueSlot = (currentNanos - initialScheduleNanos) / periodNanos;
+        final long missed = dueSlot - slot + 1;
+        final long skip = overrunPolicy.mode() == OverrunPolicy.Mode.SKIP ? missed : Math.max(0, missed - maxBurst);
+        skippedRuns = Math.addExact(skippedRuns, skip);
+    }
+
     @Override
     public boolean isRecurring() {
         return true;
     }
 
+    @Override
+    public long currentPeriodNanos() {
+        return periodNanos;
+    }
+
+    @Override
+    public long skippedRuns() {
+        return skippedRuns;
+    }
+
     /**
      * Returns the initial schedule time in nanoseconds.
      */
@@ -65,4 +170,11 @@ public final class FixedRateTrigger implements Trigger {
     public long periodNanos() {
         return periodNanos;
     }
+
+    /**
+     * Returns the overrun policy.
+     */
+    public OverrunPolicy overrunPolicy() {
+        return overrunPolicy;
+    }
 }
@@ -0,0 +1,61 @@
+package com.github.frosxt.chronos.runtime.trigger.spread;
+
+/**
+ * Derives stable phase offsets for co-scheduled fixed-rate tasks.
+ *
+ * <p>
+ * A task's phase is a hash of its key reduced into the period. The first
+ * execution is aligned to the next wall-clock instant whose offset within the
+ * period equals that phase, so tasks sharing a period are spread evenly and a
+ * task with the same key lands on the same slot after a restart.
+ */
+public final class PhaseSpreader {
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private PhaseSpreader() {
+        throw new UnsupportedOperationException("This class cannot be instantiated!");
+    }
+
+    /**
+     * Computes the phase offset of a key within a period.
+     *
+     * @param key         the task key
+     * @param periodNanos the period in nanoseconds
+     * @return the offset in nanoseconds, in {@code [0, periodNanos)}
+     */
+    public static long phaseOffsetNanos(final String key, final long periodNanos) {
+        return Long.remainderUnsigned(hash(key), periodNanos);
+    }
+
+    /**
+     * Computes the extra delay needed to align a first execution with a phase.
+     *
+     * @param epochNanos  the wall-clock time of the unaligned first execution,
+     *                    in nanoseconds since the epoch
+     * @param offsetNanos the phase offset within the period
+     * @param periodNanos the period in nanoseconds
+     * @return the additional delay in nanoseconds, in {@code [0, periodNanos)}
+     */
+    public static long alignmentDelayNanos(final long epochNanos, final long offsetNanos, final long periodNanos) {
+        return Math.floorMod(offsetNanos - Math.floorMod(epochNanos, periodNanos), periodNanos);
+    }
+
+    /**
+     * Hashes a key with FNV-1a followed by a 64-bit finalizer, so that keys
+     * differing only in a trailing counter still map to distant phases.
+     */
+    private static long hash(final String key) {
+        long h = FNV_OFFSET;
+        for (int i = 0; i < key.length(); i++) {
+            h ^= key.charAt(i);
+            h *= FNV_PRIME;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
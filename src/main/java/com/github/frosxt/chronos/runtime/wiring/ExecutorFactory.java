@@ -1,6 +1,7 @@
 package com.github.frosxt.chronos.runtime.wiring;
 
-import java.util.concurrent.Executors;
+import com.github.frosxt.chronos.runtime.timer.TimerExecutor;
+
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -23,7 +24,7 @@ public final class ExecutorFactory {
      */
     public static ScheduledExecutorService create(final int threadCount, final String threadNamePrefix) {
         final ThreadFactory threadFactory = new ChronosThreadFactory(threadNamePrefix);
-        return Executors.newScheduledThreadPool(threadCount, threadFactory);
+        return new TimerExecutor(threadCount, threadFactory);
     }
 
     private static final class ChronosThreadFactory implements ThreadFactory {
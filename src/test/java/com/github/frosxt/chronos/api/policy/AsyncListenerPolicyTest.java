@@ -0,0 +1,33 @@
+package com.github.frosxt.chronos.api.policy;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link AsyncListenerPolicy}.
+ */
+class AsyncListenerPolicyTest {
+
+    @Test
+    void capacityIsRoundedUpToPowerOfTwo() {
+        assertEquals(1, AsyncListenerPolicy.dropping(1).capacity());
+        assertEquals(8, AsyncListenerPolicy.blocking(5).capacity());
+        assertEquals(16, AsyncListenerPolicy.sampling(16, 4).capacity());
+        assertEquals(AsyncListenerPolicy.MAX_CAPACITY, AsyncListenerPolicy.dropping(AsyncListenerPolicy.MAX_CAPACITY).capacity());
+    }
+
+    @Test
+    void sampleRateOnlyAppliesToSampling() {
+        assertEquals(1, AsyncListenerPolicy.dropping(16).sampleRate());
+        assertEquals(4, AsyncListenerPolicy.sampling(16, 4).sampleRate());
+        assertEquals(AsyncListenerPolicy.Overflow.SAMPLE, AsyncListenerPolicy.sampling(16, 4).overflow());
+    }
+
+    @Test
+    void validation() {
+        assertThrows(IllegalArgumentException.class, () -> AsyncListenerPolicy.dropping(0));
+        assertThrows(IllegalArgumentException.class, () -> AsyncListenerPolicy.blocking(AsyncListenerPolicy.MAX_CAPACITY + 1));
+        assertThrows(IllegalArgumentException.class, () -> AsyncListenerPolicy.sampling(16, 1));
+    }
+}
@@ -0,0 +1,75 @@
+package com.github.frosxt.chronos.api.policy;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.SocketTimeoutException;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link ExecutionPolicy} exception rules.
+ */
+class ExecutionPolicyTest {
+
+    @Test
+    void policyWithoutRulesClassifiesToItsOwnBehavior() {
+        RetryPolicy retry = RetryPolicy.fixedDelay(Duration.ofSeconds(1), 3);
+        FailureRule rule = ExecutionPolicy.retry(retry).classify(new IllegalStateException());
+
+        assertEquals(ExecutionPolicy.Type.RETRY, rule.action());
+        assertSame(retry, rule.retryPolicy());
+        assertTrue(ExecutionPolicy.retry(retry).rules().isEmpty());
+    }
+
+    @Test
+    void firstMatchingRuleWins() {
+        RetryPolicy fast = RetryPolicy.fixedDelay(Duration.ofMillis(100), 5);
+        ExecutionPolicy policy = ExecutionPolicy.stopOnFailure()
+                .retryOn(SocketTimeoutException.class, fast)
+                .continueOn(IOException.class)
+                .failOn(NullPointerException.class);
+
+        FailureRule timeout = policy.classify(new SocketTimeoutException());
+        assertEquals(ExecutionPolicy.Type.RETRY, timeout.action());
+        assertSame(fast, timeout.retryPolicy());
+
+        assertEquals(ExecutionPolicy.Type.CONTINUE_ON_FAILURE, policy.classify(new IOException()).action());
+        assertEquals(ExecutionPolicy.Type.STOP_ON_FAILURE, policy.classify(new NullPointerException()).action());
+        assertEquals(ExecutionPolicy.Type.STOP_ON_FAILURE, policy.classify(new IllegalStateException()).action());
+    }
+
+    @Test
+    void rulesMatchSubclasses() {
+        ExecutionPolicy policy = ExecutionPolicy.continueOnFailure()
+                .failOn(RuntimeException.class);
+
+        assertEquals(ExecutionPolicy.Type.STOP_ON_FAILURE, policy.classify(new IllegalArgumentException()).action());
+        assertEquals(ExecutionPolicy.Type.CONTINUE_ON_FAILURE, policy.classify(new Exception()).action());
+    }
+
+    @Test
+    void classificationIsCachedPerExceptionType() {
+        ExecutionPolicy policy = ExecutionPolicy.continueOnFailure()
+                .failOn(IllegalStateException.class);
+
+        assertSame(policy.classify(new IllegalStateException("a")), policy.classify(new IllegalStateException("b")));
+    }
+
+    @Test
+    void addingRulesDoesNotModifyOriginal() {
+        ExecutionPolicy base = ExecutionPolicy.continueOnFailure();
+        ExecutionPolicy derived = base.failOn(Error.class);
+
+        assertTrue(base.rules().isEmpty());
+        assertEquals(1, derived.rules().size());
+        assertEquals(ExecutionPolicy.Type.CONTINUE_ON_FAILURE, derived.type());
+    }
+
+    @Test
+    void ruleValidation() {
+        assertThrows(NullPointerException.class, () -> ExecutionPolicy.stopOnFailure().failOn(null));
+        assertThrows(NullPointerException.class, () -> ExecutionPolicy.stopOnFailure().retryOn(IOException.class, null));
+    }
+}
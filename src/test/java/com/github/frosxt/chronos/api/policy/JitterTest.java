@@ -2,6 +2,9 @@ package com.github.frosxt.chronos.api.policy;
 
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
+import java.util.SplittableRandom;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -77,4 +80,84 @@ class JitterTest {
         assertEquals("Jitter[NONE]", Jitter.none().toString());
         assertTrue(Jitter.uniform(0.5).toString().contains("0.5"));
     }
+
+    @Test
+    void fullStaysWithinZeroAndDelay() {
+        RetryPolicy policy = RetryPolicy.fixedDelay(Duration.ofSeconds(1), 3);
+        SplittableRandom random = new SplittableRandom(1);
+        long delay = Duration.ofSeconds(1).toNanos();
+
+        for (int i = 0; i < 1000; i++) {
+            long jittered = Jitter.full().apply(policy, 1, -1, random);
+            assertTrue(jittered >= 1 && jittered <= delay, "Full jitter out of bounds: " + jittered);
+        }
+    }
+
+    @Test
+    void equalKeepsAtLeastHalfTheDelay() {
+        RetryPolicy policy = RetryPolicy.fixedDelay(Duration.ofSeconds(1), 3);
+        SplittableRandom random = new SplittableRandom(1);
+        long delay = Duration.ofSeconds(1).toNanos();
+
+        for (int i = 0; i < 1000; i++) {
+            long jittered = Jitter.equal().apply(policy, 1, -1, random);
+            assertTrue(jittered >= delay / 2 && jittered <= delay, "Equal jitter out of bounds: " + jittered);
+        }
+    }
+
+    @Test
+    void decorrelatedGrowsFromPreviousDelayWithinPolicyBounds() {
+        RetryPolicy policy = RetryPolicy.exponentialBackoff(Duration.ofMillis(100), Duration.ofSeconds(2), 2.0, 10);
+        SplittableRandom random = new SplittableRandom(7);
+        long min = policy.initialDelayNanos();
+        long max = policy.maxDelayNanos();
+
+        long previous = -1;
+        for (int attempt = 1; attempt <= 10; attempt++) {
+            long jittered = Jitter.decorrelated().apply(policy, attempt, previous, random);
+            long upper = Math.min(max, (previous > 0 ? previous : min) * 3);
+            assertTrue(jittered >= min && jittered <= upper, "Decorrelated jitter out of bounds: " + jittered);
+            previous = jittered;
+        }
+    }
+
+    @Test
+    void gaussianIsCenteredOnDelay() {
+        RetryPolicy policy = RetryPolicy.fixedDelay(Duration.ofSeconds(1), 3);
+        SplittableRandom random = new SplittableRandom(3);
+        long delay = Duration.ofSeconds(1).toNanos();
+
+        double sum = 0;
+        int samples = 10_000;
+        for (int i = 0; i < samples; i++) {
+            long jittered = Jitter.gaussian(0.1).apply(policy, 1, -1, random);
+            assertTrue(jittered >= 1);
+            sum += jittered;
+        }
+        assertEquals(delay, sum / samples, delay * 0.01);
+    }
+
+    @Test
+    void seededGeneratorsAreReproducible() {
+        RetryPolicy policy = RetryPolicy.exponentialBackoff(Duration.ofMillis(100), Duration.ofSeconds(10), 2.0, 5);
+
+        for (Jitter jitter : new Jitter[]{Jitter.uniform(0.5), Jitter.full(), Jitter.equal(), Jitter.decorrelated(), Jitter.gaussian(0.5)}) {
+            SplittableRandom first = new SplittableRandom(99);
+            SplittableRandom second = new SplittableRandom(99);
+            long previousFirst = -1;
+            long previousSecond = -1;
+            for (int attempt = 1; attempt <= 5; attempt++) {
+                previousFirst = jitter.apply(policy, attempt, previousFirst, first);
+                previousSecond = jitter.apply(policy, attempt, previousSecond, second);
+                assertEquals(previousFirst, previousSecond, jitter + " attempt " + attempt);
+            }
+        }
+    }
+
+    @Test
+    void gaussianValidation() {
+        assertThrows(IllegalArgumentException.class, () -> Jitter.gaussian(-0.1));
+        assertThrows(IllegalArgumentException.class, () -> Jitter.gaussian(1.1));
+        assertEquals(Jitter.Type.NONE, Jitter.gaussian(0.0).type());
+    }
 }
@@ -0,0 +1,69 @@
+package com.github.frosxt.chronos.bench;
+
+import com.github.frosxt.chronos.runtime.metrics.histogram.LogLinearHistogram;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Measures the cost of recording a value into a {@link LogLinearHistogram},
+ * the work added to every execution for start lag and run duration.
+ *
+ * <p>
+ * Values are spread over six orders of magnitude so recording touches many
+ * buckets. The run is repeated for one thread and for several threads
+ * sharing the histogram.
+ *
+ * <p>
+ * Run with {@code gradle bench -Pbench=HistogramRecordCost}.
+ */
+public final class HistogramRecordCost {
+    private static final int VALUES = 1 << 12;
+    private static final Duration WARMUP = Duration.ofSeconds(2);
+    private static final Duration MEASURE = Duration.ofSeconds(5);
+
+    private HistogramRecordCost() {
+        throw new UnsupportedOperationException("This class cannot be instantiated!");
+    }
+
+    public static void main(final String[] args) throws InterruptedException {
+        final long[] values = new long[VALUES];
+        for (int i = 0; i < VALUES; i++) {
+            values[i] = (long) Math.pow(10, 3 + 6.0 * i / VALUES);
+        }
+
+        for (final int threads : new int[]{1, 4}) {
+            final LogLinearHistogram histogram = new LogLinearHistogram();
+            run(histogram, values, threads, WARMUP);
+            final long records = run(histogram, values, threads, MEASURE);
+            System.out.printf("%d thread(s): %.1f ns/record per thread, p99 %,d ns%n",
+                    threads, MEASURE.toNanos() * (double) threads / records,
+                    histogram.interval().valueAtPercentile(99));
+        }
+    }
+
+    private static long run(final LogLinearHistogram histogram, final long[] values, final int threadCount,
+                            final Duration duration) throws InterruptedException {
+        final LongAdder records = new LongAdder();
+        final long deadline = System.nanoTime() + duration.toNanos();
+        final List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < threadCount; t++) {
+            final Thread thread = new Thread(() -> {
+                long count = 0;
+                while ((count & 1023) != 0 || System.nanoTime() < deadline) {
+                    histogram.record(values[(int) (count & (VALUES - 1))]);
+                    count++;
+                }
+                records.add(count);
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        for (final Thread thread : threads) {
+            thread.join();
+        }
+        return records.sum();
+    }
+}
@@ -0,0 +1,79 @@
+package com.github.frosxt.chronos.bench;
+
+import com.github.frosxt.chronos.runtime.trigger.spread.PhaseSpreader;
+
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * Simulates a fleet of fixed-rate tasks sharing one period and reports how
+ * many of them fire in each slot of the period.
+ *
+ * <p>
+ * The unspread case is every task scheduled at boot with the same initial
+ * delay, which puts the whole fleet into one slot. The spread cases hash
+ * sequential keys and random task IDs through {@link PhaseSpreader}.
+ *
+ * <p>
+ * Run with {@code gradle bench -Pbench=PhaseSpreadSimulation}.
+ */
+public final class PhaseSpreadSimulation {
+    private static final int TASKS = 10_000;
+    private static final int SLOTS = 60;
+    private static final long PERIOD_NANOS = Duration.ofMinutes(1).toNanos();
+
+    private PhaseSpreadSimulation() {
+        throw new UnsupportedOperationException("This class cannot be instantiated!");
+    }
+
+    public static void main(final String[] args) {
+        System.out.printf("%d tasks, period %d s, %d slots, even = %d per slot%n",
+                TASKS, PERIOD_NANOS / 1_000_000_000L, SLOTS, TASKS / SLOTS);
+        System.out.printf("%-18s %6s %6s %8s %10s%n", "mode", "min", "max", "stddev", "max/even");
+
+        final int[] unspread = new int[SLOTS];
+        unspread[0] = TASKS;
+        report("unspread", unspread);
+
+        final int[] keyed = new int[SLOTS];
+        for (int i = 0; i < TASKS; i++) {
+            keyed[slot(PhaseSpreader.phaseOffsetNanos("task-" + i, PERIOD_NANOS))]++;
+        }
+        report("key task-<n>", keyed);
+        printHistogram(keyed);
+
+        final int[] byId = new int[SLOTS];
+        for (int i = 0; i < TASKS; i++) {
+            byId[slot(PhaseSpreader.phaseOffsetNanos(UUID.randomUUID().toString(), PERIOD_NANOS))]++;
+        }
+        report("random task ID", byId);
+    }
+
+    private static int slot(final long offsetNanos) {
+        return (int) (offsetNanos / (PERIOD_NANOS / SLOTS));
+    }
+
+    private static void report(final String name, final int[] slots) {
+        int min = Integer.MAX_VALUE;
+        int max = 0;
+        double sumSq = 0;
+        final double mean = (double) TASKS / SLOTS;
+        for (final int count : slots) {
+            min = Math.min(min, count);
+            max = Math.max(max, count);
+            sumSq += (count - mean) * (count - mean);
+        }
+        System.out.printf("%-18s %6d %6d %8.1f %10.2f%n", name, min, max, Math.sqrt(sumSq / SLOTS), max / mean);
+    }
+
+    private static void printHistogram(final int[] slots) {
+        final StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < slots.length; i++) {
+            builder.append(String.format("%4d", slots[i]));
+            if (i % 15 == 14) {
+                builder.append(System.lineSeparator());
+            }
+        }
+        System.out.print(builder);
+    }
+}
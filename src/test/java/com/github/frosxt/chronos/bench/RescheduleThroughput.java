@@ -0,0 +1,73 @@
+package com.github.frosxt.chronos.bench;
+
+import com.github.frosxt.chronos.api.ScheduledHandle;
+import com.github.frosxt.chronos.api.Scheduler;
+import com.github.frosxt.chronos.api.factory.Chronos;
+import com.github.frosxt.chronos.api.spec.SchedulerSpec;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Measures how many period changes per second a scheduler sustains when a
+ * config push reschedules a fleet of fixed-rate tasks.
+ *
+ * <p>
+ * Every update picks a random task and gives it a new period, so each one
+ * replaces the task's trigger and moves its pending timer in the queue.
+ *
+ * <p>
+ * Run with {@code gradle bench -Pbench=RescheduleThroughput}.
+ */
+public final class RescheduleThroughput {
+    private static final int TASKS = 10_000;
+    private static final int UPDATERS = 4;
+    private static final Duration WARMUP = Duration.ofSeconds(2);
+    private static final Duration MEASURE = Duration.ofSeconds(5);
+
+    private RescheduleThroughput() {
+        throw new UnsupportedOperationException("This class cannot be instantiated!");
+    }
+
+    public static void main(final String[] args) throws InterruptedException {
+        final Scheduler scheduler = Chronos.create(SchedulerSpec.builder().threadCount(2).build());
+        try {
+            final List<ScheduledHandle> handles = new ArrayList<>(TASKS);
+            for (int i = 0; i < TASKS; i++) {
+                handles.add(scheduler.scheduleAtFixedRate(Duration.ofMinutes(1), Duration.ofMinutes(1), () -> { }));
+            }
+
+            run(handles, WARMUP);
+            final long updates = run(handles, MEASURE);
+            System.out.printf("%d tasks, %d updater threads: %,.0f reschedules/s%n",
+                    TASKS, UPDATERS, updates / (MEASURE.toNanos() / 1e9));
+        } finally {
+            scheduler.shutdownNow();
+        }
+    }
+
+    private static long run(final List<ScheduledHandle> handles, final Duration duration) throws InterruptedException {
+        final LongAdder updates = new LongAdder();
+        final long deadline = System.nanoTime() + duration.toNanos();
+        final List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < UPDATERS; t++) {
+            final Thread thread = new Thread(() -> {
+                final ThreadLocalRandom random = ThreadLocalRandom.current();
+                while (System.nanoTime() < deadline) {
+                    final ScheduledHandle handle = handles.get(random.nextInt(handles.size()));
+                    handle.reschedule(Duration.ofSeconds(30 + random.nextInt(60)));
+                    updates.increment();
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        for (final Thread thread : threads) {
+            thread.join();
+        }
+        return updates.sum();
+    }
+}
@@ -0,0 +1,72 @@
+package com.github.frosxt.chronos.bench;
+
+import com.github.frosxt.chronos.api.policy.Jitter;
+import com.github.frosxt.chronos.api.policy.RetryPolicy;
+
+import java.time.Duration;
+import java.util.SplittableRandom;
+
+/**
+ * Simulates a fleet of tasks that fail at the same instant and retry with
+ * each jitter strategy, reporting how evenly the retries are spread.
+ *
+ * <p>
+ * For every strategy the simulation reports the peak number of retries that
+ * land in a single bucket, the peak relative to a perfectly even spread over
+ * the same window, and the time at which the last task gives up.
+ *
+ * <p>
+ * Run with {@code gradle bench -Pbench=RetrySpreadSimulation}.
+ */
+public final class RetrySpreadSimulation {
+    private static final int CLIENTS = 10_000;
+    private static final long BUCKET_NANOS = Duration.ofMillis(10).toNanos();
+    private static final long SEED = 42L;
+
+    private RetrySpreadSimulation() {
+        throw new UnsupportedOperationException("This class cannot be instantiated!");
+    }
+
+    public static void main(final String[] args) {
+        final RetryPolicy policy = RetryPolicy.exponentialBackoff(Duration.ofMillis(100), Duration.ofSeconds(10), 2.0, 6);
+
+        System.out.printf("%d clients, %s, %d ms buckets%n", CLIENTS, policy, BUCKET_NANOS / 1_000_000);
+        System.out.printf("%-22s %10s %12s %14s%n", "strategy", "peak", "peak/even", "last retry ms");
+
+        run("none", Jitter.none(), policy);
+        run("uniform(0.5)", Jitter.uniform(0.5), policy);
+        run("gaussian(0.25)", Jitter.gaussian(0.25), policy);
+        run("equal", Jitter.equal(), policy);
+        run("full", Jitter.full(), policy);
+        run("decorrelated", Jitter.decorrelated(), policy);
+    }
+
+    private static void run(final String name, final Jitter jitter, final RetryPolicy policy) {
+        final SplittableRandom root = new SplittableRandom(SEED);
+        final long[] fireTimes = new long[CLIENTS * policy.maxAttempts()];
+        long last = 0;
+        int n = 0;
+
+        for (int client = 0; client < CLIENTS; client++) {
+            final SplittableRandom random = root.split();
+            long now = 0;
+            long previous = -1;
+            for (int attempt = 1; attempt <= policy.maxAttempts(); attempt++) {
+                final long delay = jitter.apply(policy, attempt, previous, random);
+                previous = delay;
+                now += delay;
+                fireTimes[n++] = now;
+            }
+            last = Math.max(last, now);
+        }
+
+        final int[] buckets = new int[(int) (last / BUCKET_NANOS) + 1];
+        int peak = 0;
+        for (final long t : fireTimes) {
+            peak = Math.max(peak, ++buckets[(int) (t / BUCKET_NANOS)]);
+        }
+
+        final double even = (double) fireTimes.length / buckets.length;
+        System.out.printf("%-22s %10d %12.1f %14d%n", name, peak, peak / even, last / 1_000_000);
+    }
+}
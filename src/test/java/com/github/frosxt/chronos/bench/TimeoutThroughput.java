@@ -0,0 +1,71 @@
+package com.github.frosxt.chronos.bench;
+
+import com.github.frosxt.chronos.api.Scheduler;
+import com.github.frosxt.chronos.api.Timeout;
+import com.github.frosxt.chronos.api.factory.Chronos;
+import com.github.frosxt.chronos.api.spec.SchedulerSpec;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Measures how many timeouts per second can be created and cancelled before
+ * they fire, the pattern of request timeouts.
+ *
+ * <p>
+ * Each iteration creates a timeout with {@link Scheduler#newTimeout} and
+ * cancels it straight away. The run is repeated for one thread and for
+ * several threads sharing the scheduler.
+ *
+ * <p>
+ * Run with {@code gradle bench -Pbench=TimeoutThroughput}.
+ */
+public final class TimeoutThroughput {
+    private static final Duration DELAY = Duration.ofSeconds(30);
+    private static final Duration WARMUP = Duration.ofSeconds(2);
+    private static final Duration MEASURE = Duration.ofSeconds(5);
+
+    private TimeoutThroughput() {
+        throw new UnsupportedOperationException("This class cannot be instantiated!");
+    }
+
+    public static void main(final String[] args) throws InterruptedException {
+        final Scheduler scheduler = Chronos.create(SchedulerSpec.builder().build());
+        try {
+            final Runnable task = () -> { };
+            for (final int threads : new int[]{1, 4}) {
+                run(scheduler, task, threads, WARMUP);
+                final long pairs = run(scheduler, task, threads, MEASURE);
+                System.out.printf("%d thread(s): %,.0f schedule+cancel pairs/s%n", threads, pairs / (MEASURE.toNanos() / 1e9));
+            }
+        } finally {
+            scheduler.shutdownNow();
+        }
+    }
+
+    private static long run(final Scheduler scheduler, final Runnable task, final int threadCount,
+                            final Duration duration) throws InterruptedException {
+        final LongAdder pairs = new LongAdder();
+        final long deadline = System.nanoTime() + duration.toNanos();
+        final List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < threadCount; t++) {
+            final Thread thread = new Thread(() -> {
+                long count = 0;
+                while ((count & 1023) != 0 || System.nanoTime() < deadline) {
+                    final Timeout timeout = scheduler.newTimeout(DELAY, task);
+                    timeout.cancel();
+                    count++;
+                }
+                pairs.add(count);
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        for (final Thread thread : threads) {
+            thread.join();
+        }
+        return pairs.sum();
+    }
+}
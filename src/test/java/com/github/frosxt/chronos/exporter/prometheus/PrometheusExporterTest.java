@@ -0,0 +1,106 @@
+package com.github.frosxt.chronos.exporter.prometheus;
+
+import com.github.frosxt.chronos.api.ScheduledHandle;
+import com.github.frosxt.chronos.api.Scheduler;
+import com.github.frosxt.chronos.api.factory.Chronos;
+import com.github.frosxt.chronos.api.spec.SchedulerSpec;
+import com.github.frosxt.chronos.api.spec.TaskSpec;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the OpenMetrics exporter.
+ */
+class PrometheusExporterTest {
+    private Scheduler scheduler;
+    private PrometheusExporter exporter;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        scheduler = Chronos.create(SchedulerSpec.builder().threadCount(2).build());
+        exporter = PrometheusExporter.start(scheduler, new InetSocketAddress("127.0.0.1", 0));
+    }
+
+    @AfterEach
+    void tearDown() {
+        exporter.close();
+        scheduler.shutdownNow();
+    }
+
+    @Test
+    void exposesCountersGaugesAndLatencies() throws Exception {
+        final CountDownLatch ran = new CountDownLatch(1);
+        final ScheduledHandle done = scheduler.scheduleOnce(Duration.ofMillis(1), ran::countDown);
+        assertTrue(ran.await(5, TimeUnit.SECONDS));
+        done.completion().orTimeout(5, TimeUnit.SECONDS).join();
+        scheduler.scheduleOnce(Duration.ofHours(1), () -> { }, TaskSpec.builder().group("reports").build());
+        scheduler.scheduleOnce(Duration.ofHours(1), () -> { }).cancel();
+
+        final HttpResponse<String> response = scrape();
+        assertEquals(200, response.statusCode());
+        assertEquals(PrometheusExporter.CONTENT_TYPE, response.headers().firstValue("Content-Type").orElse(null));
+
+        final String body = response.body();
+        assertTrue(body.contains("# TYPE chronos_executions counter\n"));
+        assertTrue(body.contains("\nchronos_executions_total 1\n"));
+        assertTrue(body.contains("\nchronos_tasks_completed_total 1\n"));
+        assertTrue(body.contains("\nchronos_tasks{state=\"scheduled\"} 1\n"));
+        assertTrue(body.contains("\nchronos_tasks{state=\"running\"} 0\n"));
+        assertTrue(body.contains("\nchronos_start_lag_seconds_count{type=\"once\"} 1\n"));
+        assertTrue(body.contains("\nchronos_group_paused{group=\"reports\"} 0\n"));
+        assertTrue(body.contains("\nchronos_group_circuit{group=\"reports\",chronos_group_circuit=\"closed\"} 1\n"));
+        assertTrue(body.endsWith("# EOF\n"));
+    }
+
+    @Test
+    void repeatedScrapesReflectNewState() throws Exception {
+        assertTrue(scrape().body().contains("\nchronos_tasks{state=\"paused\"} 0\n"));
+
+        scheduler.scheduleOnce(Duration.ofHours(1), () -> { }).pause();
+        assertTrue(scrape().body().contains("\nchronos_tasks{state=\"paused\"} 1\n"));
+    }
+
+    @Test
+    void rejectsOtherMethods() throws Exception {
+        final HttpResponse<String> response = HttpClient.newHttpClient().send(
+                HttpRequest.newBuilder(uri()).POST(HttpRequest.BodyPublishers.noBody()).build(),
+                HttpResponse.BodyHandlers.ofString());
+        assertEquals(405, response.statusCode());
+    }
+
+    @Test
+    void bufferEncodesNumbersAndEscapesLabels() throws IOException {
+        final OpenMetricsBuffer buffer = new OpenMetricsBuffer(1);
+        buffer.number(-42).ascii(' ').number(0).ascii(' ')
+                .seconds(1_500_000_007L).ascii(' ').seconds(0).ascii(' ')
+                .decimal(2.5).ascii(' ').decimal(0.0625).ascii(' ')
+                .labelValue("a\"b\\c\ndé");
+
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        buffer.writeTo(out);
+        assertEquals("-42 0 1.500000007 0.000000000 2.500 0.063 a\\\"b\\\\c\\ndé", out.toString(StandardCharsets.UTF_8));
+    }
+
+    private HttpResponse<String> scrape() throws Exception {
+        return HttpClient.newHttpClient().send(HttpRequest.newBuilder(uri()).GET().build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private URI uri() {
+        return URI.create("http://127.0.0.1:" + exporter.address().getPort() + PrometheusExporter.PATH);
+    }
+}
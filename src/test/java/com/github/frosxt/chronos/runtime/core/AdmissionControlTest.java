@@ -0,0 +1,187 @@
+package com.github.frosxt.chronos.runtime.core;
+
+import com.github.frosxt.chronos.api.ScheduleAttempt;
+import com.github.frosxt.chronos.api.ScheduledHandle;
+import com.github.frosxt.chronos.api.Scheduler;
+import com.github.frosxt.chronos.api.TaskState;
+import com.github.frosxt.chronos.api.factory.Chronos;
+import com.github.frosxt.chronos.api.policy.AdmissionPolicy;
+import com.github.frosxt.chronos.api.policy.TaskPriority;
+import com.github.frosxt.chronos.api.spec.SchedulerSpec;
+import com.github.frosxt.chronos.api.spec.TaskSpec;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for admission control on scheduling calls.
+ */
+class AdmissionControlTest {
+    private static final Duration LATER = Duration.ofHours(1);
+
+    private Scheduler scheduler;
+
+    @AfterEach
+    void tearDown() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    @Test
+    void throwingPolicyRejectsBeyondLimit() {
+        start(AdmissionPolicy.throwing(2));
+        scheduler.scheduleOnce(LATER, () -> { });
+        final ScheduledHandle second = scheduler.scheduleOnce(LATER, () -> { });
+
+        assertThrows(RejectedExecutionException.class, () -> scheduler.scheduleOnce(LATER, () -> { }));
+        assertEquals(1, scheduler.snapshot().rejectedTaskCount());
+
+        second.cancel();
+        assertDoesNotThrow(() -> scheduler.scheduleOnce(LATER, () -> { }));
+    }
+
+    @Test
+    void completedTasksReleaseCapacity() throws InterruptedException {
+        start(AdmissionPolicy.throwing(1));
+        final CountDownLatch ran = new CountDownLatch(1);
+        final ScheduledHandle handle = scheduler.scheduleOnce(Duration.ofMillis(1), ran::countDown);
+        assertTrue(ran.await(5, TimeUnit.SECONDS));
+        handle.completion().orTimeout(5, TimeUnit.SECONDS).join();
+
+        assertDoesNotThrow(() -> scheduler.scheduleOnce(LATER, () -> { }));
+    }
+
+    @Test
+    void rejectedHandleIsAlreadyCancelled() {
+        start(AdmissionPolicy.rejectedHandle(1));
+        scheduler.scheduleOnce(LATER, () -> { });
+
+        final ScheduledHandle rejected = scheduler.scheduleOnce(LATER, () -> { });
+        assertEquals(TaskState.CANCELLED, rejected.state());
+        assertTrue(rejected.completion().isDone());
+        assertEquals(1, scheduler.snapshot().rejectedTaskCount());
+    }
+
+    @Test
+    void blockingPolicyWaitsForCapacity() {
+        start(AdmissionPolicy.blocking(1, Duration.ofSeconds(5)));
+        scheduler.scheduleOnce(Duration.ofMillis(50), () -> { });
+
+        final long start = System.nanoTime();
+        final ScheduledHandle handle = scheduler.scheduleOnce(LATER, () -> { });
+        assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(40));
+        assertEquals(TaskState.SCHEDULED, handle.state());
+    }
+
+    @Test
+    void blockingPolicyThrowsAfterTimeout() {
+        start(AdmissionPolicy.blocking(1, Duration.ofMillis(20)));
+        scheduler.scheduleOnce(LATER, () -> { });
+
+        assertThrows(RejectedExecutionException.class, () -> scheduler.scheduleOnce(LATER, () -> { }));
+    }
+
+    @Test
+    void evictionCancelsOldestLowestPriorityTask() {
+        start(AdmissionPolicy.evictOldest(3));
+        final TaskSpec low = TaskSpec.builder().priority(TaskPriority.LOW).build();
+        final TaskSpec high = TaskSpec.builder().priority(TaskPriority.HIGH).build();
+        final ScheduledHandle oldestLow = scheduler.scheduleOnce(LATER, () -> { }, low);
+        final ScheduledHandle newerLow = scheduler.scheduleOnce(LATER, () -> { }, low);
+        final ScheduledHandle normal = scheduler.scheduleOnce(LATER, () -> { });
+
+        scheduler.scheduleOnce(LATER, () -> { }, high);
+        assertEquals(TaskState.CANCELLED, oldestLow.state());
+        assertEquals(TaskState.SCHEDULED, newerLow.state());
+        assertEquals(TaskState.SCHEDULED, normal.state());
+        assertEquals(1, scheduler.snapshot().evictedTaskCount());
+    }
+
+    @Test
+    void repeatedEvictionsFreeOnePermitEachInAgeOrder() {
+        start(AdmissionPolicy.evictOldest(2));
+        final TaskSpec low = TaskSpec.builder().priority(TaskPriority.LOW).build();
+        final ScheduledHandle firstLow = scheduler.scheduleOnce(LATER, () -> { }, low);
+        final ScheduledHandle secondLow = scheduler.scheduleOnce(LATER, () -> { }, low);
+        assertTrue(secondLow.pause());
+
+        final ScheduledHandle firstNormal = scheduler.scheduleOnce(LATER, () -> { });
+        assertEquals(TaskState.CANCELLED, firstLow.state());
+        final ScheduledHandle secondNormal = scheduler.scheduleOnce(LATER, () -> { });
+        assertEquals(TaskState.CANCELLED, secondLow.state());
+        scheduler.scheduleOnce(LATER, () -> { });
+
+        assertEquals(TaskState.CANCELLED, firstNormal.state());
+        assertEquals(TaskState.SCHEDULED, secondNormal.state());
+        assertEquals(3, scheduler.snapshot().evictedTaskCount());
+        assertEquals(0, scheduler.trySchedule(LATER, () -> { }).remainingCapacity());
+    }
+
+    @Test
+    void evictionNeverCancelsHigherPriorityTask() {
+        start(AdmissionPolicy.evictOldest(1));
+        final ScheduledHandle critical = scheduler.scheduleOnce(LATER, () -> { },
+                TaskSpec.builder().priority(TaskPriority.CRITICAL).build());
+
+        assertThrows(RejectedExecutionException.class, () -> scheduler.scheduleOnce(LATER, () -> { }));
+        assertEquals(TaskState.SCHEDULED, critical.state());
+    }
+
+    @Test
+    void tryScheduleReportsCapacityWithoutEvicting() {
+        start(AdmissionPolicy.evictOldest(2));
+        final ScheduleAttempt first = scheduler.trySchedule(LATER, () -> { });
+        assertTrue(first.accepted());
+        assertEquals(1, first.remainingCapacity());
+        assertTrue(scheduler.trySchedule(LATER, () -> { }).accepted());
+
+        final ScheduleAttempt third = scheduler.trySchedule(LATER, () -> { });
+        assertFalse(third.accepted());
+        assertNull(third.handle());
+        assertEquals(0, third.remainingCapacity());
+        assertEquals(TaskState.SCHEDULED, first.handle().state());
+        assertEquals(0, scheduler.snapshot().evictedTaskCount());
+    }
+
+    @Test
+    void memoryLimitLowersEffectiveLimit() {
+        final AdmissionPolicy policy = AdmissionPolicy.throwing(100)
+                .withMaxTimerMemory(2 * AdmissionPolicy.ESTIMATED_TASK_BYTES);
+        assertEquals(2, policy.effectiveLimit());
+
+        start(policy);
+        scheduler.scheduleOnce(LATER, () -> { });
+        scheduler.scheduleOnce(LATER, () -> { });
+        assertThrows(RejectedExecutionException.class, () -> scheduler.scheduleOnce(LATER, () -> { }));
+    }
+
+    @Test
+    void unboundedSchedulerAcceptsEveryAttempt() {
+        scheduler = Chronos.create(SchedulerSpec.builder().build());
+        final ScheduleAttempt attempt = scheduler.trySchedule(LATER, () -> { });
+        assertTrue(attempt.accepted());
+        assertEquals(Integer.MAX_VALUE, attempt.remainingCapacity());
+    }
+
+    @Test
+    void invalidPoliciesAreRejected() {
+        assertThrows(IllegalArgumentException.class, () -> AdmissionPolicy.throwing(0));
+        assertThrows(IllegalArgumentException.class, () -> AdmissionPolicy.blocking(1, Duration.ofMillis(-1)));
+        assertThrows(NullPointerException.class, () -> AdmissionPolicy.blocking(1, null));
+        assertThrows(IllegalArgumentException.class, () -> AdmissionPolicy.throwing(1).withMaxTimerMemory(1));
+    }
+
+    private void start(final AdmissionPolicy policy) {
+        scheduler = Chronos.create(SchedulerSpec.builder()
+                .threadCount(2)
+                .admission(policy)
+                .build());
+    }
+}
@@ -0,0 +1,242 @@
+package com.github.frosxt.chronos.runtime.core;
+
+import com.github.frosxt.chronos.api.ScheduledHandle;
+import com.github.frosxt.chronos.api.Scheduler;
+import com.github.frosxt.chronos.api.SchedulerSnapshot;
+import com.github.frosxt.chronos.api.factory.Chronos;
+import com.github.frosxt.chronos.api.listener.TaskContext;
+import com.github.frosxt.chronos.api.listener.TaskListener;
+import com.github.frosxt.chronos.api.policy.AsyncListenerPolicy;
+import com.github.frosxt.chronos.api.spec.SchedulerSpec;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for asynchronous listener dispatch.
+ */
+class AsyncListenerTest {
+    private static final int TASKS = 20;
+
+    private Scheduler scheduler;
+
+    @AfterEach
+    void tearDown() {
+        scheduler.shutdownNow();
+    }
+
+    @Test
+    void deliversEventsInOrderOnTheListenerThread() throws InterruptedException {
+        final RecordingListener listener = new RecordingListener(null, 0);
+        scheduler = Chronos.create(SchedulerSpec.builder()
+                .threadNamePrefix("async-")
+                .asyncListeners(AsyncListenerPolicy.dropping(64))
+                .addListener(listener)
+                .build());
+
+        final ScheduledHandle handle = scheduler.scheduleOnce(Duration.ofMillis(1), () -> { });
+        handle.completion().orTimeout(5, TimeUnit.SECONDS).join();
+
+        assertTrue(listener.awaitDelivered(2));
+        assertEquals(List.of("start:" + handle.id(), "success:" + handle.id()), new ArrayList<>(listener.events));
+        assertEquals(List.of("async-listener"), listener.threads.stream().distinct().toList());
+        assertEquals(0, scheduler.snapshot().droppedListenerEventCount());
+    }
+
+    @Test
+    void slowListenerDoesNotHoldUpTasksAndDropsAreCounted() throws InterruptedException {
+        final CountDownLatch gate = new CountDownLatch(1);
+        final RecordingListener listener = new RecordingListener(gate, 0);
+        scheduler = Chronos.create(SchedulerSpec.builder()
+                .asyncListeners(AsyncListenerPolicy.dropping(2))
+                .addListener(listener)
+                .build());
+
+        awaitAll(scheduleTasks());
+        awaitPublished();
+
+        final SchedulerSnapshot blocked = scheduler.snapshot();
+        assertEquals(2, blocked.listenerBacklog());
+        assertEquals(2L * TASKS - 2, blocked.droppedListenerEventCount());
+        assertTrue(blocked.listenerLag().compareTo(Duration.ZERO) > 0);
+
+        gate.countDown();
+        assertTrue(listener.awaitDelivered(2));
+        waitForEmptyBacklog();
+        assertEquals(Duration.ZERO, scheduler.snapshot().listenerLag());
+    }
+
+    @Test
+    void blockingPolicyDeliversEveryEvent() throws InterruptedException {
+        final RecordingListener listener = new RecordingListener(null, 1);
+        scheduler = Chronos.create(SchedulerSpec.builder()
+                .threadCount(2)
+                .asyncListeners(AsyncListenerPolicy.blocking(1))
+                .addListener(listener)
+                .build());
+
+        awaitAll(scheduleTasks());
+
+        assertTrue(listener.awaitDelivered(2 * TASKS));
+        assertEquals(0, scheduler.snapshot().droppedListenerEventCount());
+    }
+
+    @Test
+    void samplingThinsEventsOnceHalfFullThenDrops() throws InterruptedException {
+        final CountDownLatch gate = new CountDownLatch(1);
+        final RecordingListener listener = new RecordingListener(gate, 0);
+        scheduler = Chronos.create(SchedulerSpec.builder()
+                .asyncListeners(AsyncListenerPolicy.sampling(8, 2))
+                .addListener(listener)
+                .build());
+
+        awaitAll(scheduleTasks());
+        awaitPublished();
+        gate.countDown();
+        waitForEmptyBacklog();
+
+        // Five events fill the buffer past half, three of the next five are
+        // sampled in, and everything after the buffer fills is dropped
+        assertEquals(8, listener.delivered.get());
+        assertEquals(2L * TASKS - 8, scheduler.snapshot().droppedListenerEventCount());
+    }
+
+    @Test
+    void gracefulShutdownDrainsBufferedEvents() throws InterruptedException {
+        final RecordingListener listener = new RecordingListener(null, 1);
+        scheduler = Chronos.create(SchedulerSpec.builder()
+                .asyncListeners(AsyncListenerPolicy.dropping(1024))
+                .addListener(listener)
+                .build());
+
+        awaitAll(scheduleTasks());
+        scheduler.shutdown();
+        assertTrue(scheduler.awaitTermination(Duration.ofSeconds(5)));
+
+        assertTrue(listener.awaitDelivered(2 * TASKS));
+        assertEquals(0, scheduler.snapshot().droppedListenerEventCount());
+    }
+
+    @Test
+    void listenerThreadStopsAfterShutdownAlone() throws InterruptedException {
+        final RecordingListener listener = new RecordingListener(null, 0);
+        scheduler = Chronos.create(SchedulerSpec.builder()
+                .threadNamePrefix("stopping-")
+                .asyncListeners(AsyncListenerPolicy.dropping(64))
+                .addListener(listener)
+                .build());
+
+        awaitAll(scheduleTasks());
+        scheduler.shutdown();
+
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (Thread.getAllStackTraces().keySet().stream().anyMatch(thread -> thread.getName().equals("stopping-listener"))) {
+            assertTrue(System.nanoTime() < deadline, "listener thread did not stop");
+            Thread.sleep(5);
+        }
+        assertEquals(2L * TASKS, listener.delivered.get() + scheduler.snapshot().droppedListenerEventCount());
+    }
+
+    private List<ScheduledHandle> scheduleTasks() {
+        final List<ScheduledHandle> handles = new ArrayList<>();
+        for (int i = 0; i < TASKS; i++) {
+            handles.add(scheduler.scheduleOnce(Duration.ofMillis(1), () -> { }));
+        }
+        return handles;
+    }
+
+    private static void awaitAll(final List<ScheduledHandle> handles) {
+        for (final ScheduledHandle handle : handles) {
+            handle.completion().orTimeout(5, TimeUnit.SECONDS).join();
+        }
+    }
+
+    /**
+     * Waits until every event of the scheduled tasks is either buffered or
+     * dropped; the success event is published just after the task completes.
+     */
+    private void awaitPublished() throws InterruptedException {
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (true) {
+            final SchedulerSnapshot snapshot = scheduler.snapshot();
+            if (snapshot.listenerBacklog() + snapshot.droppedListenerEventCount() >= 2L * TASKS) {
+                return;
+            }
+            assertTrue(System.nanoTime() < deadline, "events were not published");
+            Thread.sleep(5);
+        }
+    }
+
+    private void waitForEmptyBacklog() throws InterruptedException {
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (scheduler.snapshot().listenerBacklog() > 0) {
+            assertTrue(System.nanoTime() < deadline, "listener backlog did not drain");
+            Thread.sleep(5);
+        }
+    }
+
+    private static final class RecordingListener implements TaskListener {
+        private final CountDownLatch gate;
+        private final long sleepMillis;
+        private final Queue<String> events = new ConcurrentLinkedQueue<>();
+        private final Queue<String> threads = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger delivered = new AtomicInteger();
+
+        private RecordingListener(final CountDownLatch gate, final long sleepMillis) {
+            this.gate = gate;
+            this.sleepMillis = sleepMillis;
+        }
+
+        @Override
+        public void onStart(final TaskContext context) {
+            record("start:" + context.taskId());
+        }
+
+        @Override
+        public void onSuccess(final TaskContext context) {
+            record("success:" + context.taskId());
+        }
+
+        @Override
+        public void onFailure(final TaskContext context, final Throwable error) {
+            record("failure:" + context.taskId());
+        }
+
+        private void record(final String event) {
+            try {
+                if (gate != null) {
+                    gate.await();
+                }
+                if (sleepMillis > 0) {
+                    Thread.sleep(sleepMillis);
+                }
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            events.add(event);
+            threads.add(Thread.currentThread().getName());
+            delivered.incrementAndGet();
+        }
+
+        private boolean awaitDelivered(final int count) throws InterruptedException {
+            final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (delivered.get() < count) {
+                if (System.nanoTime() >= deadline) {
+                    return false;
+                }
+                Thread.sleep(5);
+            }
+            return true;
+        }
+    }
+}
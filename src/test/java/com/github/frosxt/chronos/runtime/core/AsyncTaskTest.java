@@ -0,0 +1,133 @@
+package com.github.frosxt.chronos.runtime.core;
+
+import com.github.frosxt.chronos.api.ScheduledHandle;
+import com.github.frosxt.chronos.api.Scheduler;
+import com.github.frosxt.chronos.api.TaskState;
+import com.github.frosxt.chronos.api.factory.Chronos;
+import com.github.frosxt.chronos.api.policy.ExecutionPolicy;
+import com.github.frosxt.chronos.api.policy.RetryPolicy;
+import com.github.frosxt.chronos.api.spec.SchedulerSpec;
+import com.github.frosxt.chronos.api.spec.TaskSpec;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for asynchronous tasks.
+ */
+class AsyncTaskTest {
+
+    private Scheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        scheduler = Chronos.create(SchedulerSpec.builder()
+                .threadCount(2)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        scheduler.shutdownNow();
+    }
+
+    @Test
+    void manyPendingStagesDoNotHoldThreads() throws InterruptedException {
+        final int jobs = 10_000;
+        final List<CompletableFuture<Void>> stages = new ArrayList<>();
+        final List<ScheduledHandle> handles = new ArrayList<>();
+        final CountDownLatch started = new CountDownLatch(jobs);
+
+        for (int i = 0; i < jobs; i++) {
+            final CompletableFuture<Void> stage = new CompletableFuture<>();
+            stages.add(stage);
+            handles.add(scheduler.scheduleAsync(Duration.ofMillis(1), () -> {
+                started.countDown();
+                return stage;
+            }));
+        }
+
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        assertEquals(jobs, scheduler.snapshot().runningCount());
+
+        stages.forEach(stage -> stage.complete(null));
+
+        for (final ScheduledHandle handle : handles) {
+            assertEquals(TaskState.COMPLETED, handle.state());
+        }
+        assertEquals(jobs, scheduler.snapshot().completedCount());
+    }
+
+    @Test
+    void failedStageIsRetriedFromCompletion() throws InterruptedException {
+        final AtomicInteger attempts = new AtomicInteger();
+        final CountDownLatch done = new CountDownLatch(1);
+        final TaskSpec spec = TaskSpec.builder()
+                .executionPolicy(ExecutionPolicy.retry(RetryPolicy.fixedDelay(Duration.ofMillis(5), 3)))
+                .build();
+
+        final ScheduledHandle handle = scheduler.scheduleAsync(Duration.ofMillis(1), () -> {
+            if (attempts.incrementAndGet() < 3) {
+                return CompletableFuture.failedFuture(new IllegalStateException("boom"));
+            }
+            done.countDown();
+            return CompletableFuture.completedFuture(null);
+        }, spec);
+
+        assertTrue(done.await(2, TimeUnit.SECONDS));
+        Thread.sleep(50);
+        assertEquals(3, attempts.get());
+        assertEquals(TaskState.COMPLETED, handle.state());
+    }
+
+    @Test
+    void fixedDelayIsMeasuredFromStageCompletion() throws InterruptedException {
+        final AtomicLong completedAt = new AtomicLong();
+        final AtomicLong gap = new AtomicLong(-1);
+        final CountDownLatch secondRun = new CountDownLatch(1);
+        final AtomicInteger runs = new AtomicInteger();
+
+        final ScheduledHandle handle = scheduler.scheduleAsyncWithFixedDelay(Duration.ZERO, Duration.ofMillis(20), () -> {
+            if (runs.incrementAndGet() == 2) {
+                gap.set(System.nanoTime() - completedAt.get());
+                secondRun.countDown();
+                return CompletableFuture.completedFuture(null);
+            }
+            return CompletableFuture.runAsync(() -> {
+                sleep(100);
+                completedAt.set(System.nanoTime());
+            });
+        });
+
+        assertTrue(secondRun.await(2, TimeUnit.SECONDS));
+        handle.cancel();
+        assertTrue(gap.get() >= Duration.ofMillis(15).toNanos(), "gap " + gap.get());
+    }
+
+    @Test
+    void nullStageFailsTask() throws InterruptedException {
+        final ScheduledHandle handle = scheduler.scheduleAsync(Duration.ofMillis(1), () -> null);
+
+        Thread.sleep(100);
+        assertEquals(TaskState.FAILED, handle.state());
+    }
+
+    private static void sleep(final long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package com.github.frosxt.chronos.runtime.core;
+
+import com.github.frosxt.chronos.api.ScheduledHandle;
+import com.github.frosxt.chronos.api.Scheduler;
+import com.github.frosxt.chronos.api.SchedulerSnapshot;
+import com.github.frosxt.chronos.api.factory.Chronos;
+import com.github.frosxt.chronos.api.policy.BulkheadPolicy;
+import com.github.frosxt.chronos.api.policy.ExecutionPolicy;
+import com.github.frosxt.chronos.api.policy.OverrunPolicy;
+import com.github.frosxt.chronos.api.policy.RetryPolicy;
+import com.github.frosxt.chronos.api.policy.TaskPriority;
+import com.github.frosxt.chronos.api.policy.TimeoutPolicy;
+import com.github.frosxt.chronos.api.spec.GroupSpec;
+import com.github.frosxt.chronos.api.spec.SchedulerSpec;
+import com.github.frosxt.chronos.api.spec.TaskSpec;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for fixed-rate overrun policies.
+ */
+class FixedRateOverrunTest {
+
+    private Scheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        scheduler = Chronos.create(SchedulerSpec.builder()
+                .threadCount(4)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        scheduler.shutdownNow();
+    }
+
+    @Test
+    void overlapRunsUpToLimitConcurrently() throws InterruptedException {
+        final AtomicInteger running = new AtomicInteger();
+        final AtomicInteger maxRunning = new AtomicInteger();
+        final CountDownLatch release = new CountDownLatch(1);
+
+        final ScheduledHandle handle = scheduler.scheduleAtFixedRate(Duration.ZERO, Duration.ofMillis(20), () -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            try {
+                release.await(2, TimeUnit.SECONDS);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                running.decrementAndGet();
+            }
+        }, TaskSpec.builder().overrun(OverrunPolicy.overlap(2)).build());
+
+        Thread.sleep(200);
+        assertTrue(handle.isRunning());
+        release.countDown();
+        handle.cancel();
+
+        final SchedulerSnapshot snapshot = scheduler.snapshot();
+        assertEquals(2, maxRunning.get());
+        assertTrue(snapshot.overlappedRunCount() >= 1);
+        assertTrue(snapshot.skippedRunCount() >= 1);
+    }
+
+    @Test
+    void skipCountsMissedSlots() throws InterruptedException {
+        final CountDownLatch done = new CountDownLatch(2);
+
+        final ScheduledHandle handle = scheduler.scheduleAtFixedRate(Duration.ZERO, Duration.ofMillis(20), () -> {
+            if (done.getCount() == 2) {
+                sleep(110);
+            }
+            done.countDown();
+        }, TaskSpec.builder().overrun(OverrunPolicy.skip()).build());
+
+        assertTrue(done.await(2, TimeUnit.SECONDS));
+        handle.cancel();
+
+        assertTrue(scheduler.snapshot().skippedRunCount() >= 4);
+        assertEquals(0, scheduler.snapshot().overlappedRunCount());
+    }
+
+    @Test
+    void overlapRejectsSettingsItDoesNotHonor() {
+        final OverrunPolicy overlap = OverrunPolicy.overlap(2);
+        assertThrows(IllegalArgumentException.class, () -> TaskSpec.builder().overrun(overlap)
+                .executionPolicy(ExecutionPolicy.retry(RetryPolicy.fixedDelay(Duration.ofMillis(10), 3))).build());
+        assertThrows(IllegalArgumentException.class, () -> TaskSpec.builder().overrun(overlap)
+                .executionPolicy(ExecutionPolicy.continueOnFailure()
+                        .retryOn(IllegalStateException.class, RetryPolicy.fixedDelay(Duration.ofMillis(10), 3))).build());
+        assertThrows(IllegalArgumentException.class, () -> TaskSpec.builder().overrun(overlap)
+                .timeout(TimeoutPolicy.interrupt(Duration.ofSeconds(1))).build());
+        assertThrows(IllegalArgumentException.class, () -> TaskSpec.builder().overrun(overlap)
+                .priority(TaskPriority.HIGH).build());
+        assertThrows(IllegalArgumentException.class, () -> TaskSpec.builder().overrun(overlap)
+                .sheddable().build());
+        assertDoesNotThrow(() -> TaskSpec.builder().overrun(overlap)
+                .executionPolicy(ExecutionPolicy.continueOnFailure()).build());
+    }
+
+    @Test
+    void overlapRejectsRetryingDefaultsAndBulkheads() {
+        final TaskSpec overlapping = TaskSpec.builder().overrun(OverrunPolicy.overlap(2)).build();
+        try (Scheduler retrying = Chronos.create(SchedulerSpec.builder()
+                .threadCount(1)
+                .defaultExecutionPolicy(ExecutionPolicy.retry(RetryPolicy.fixedDelay(Duration.ofMillis(10), 3)))
+                .group(GroupSpec.builder("tenant").bulkhead(BulkheadPolicy.dropping(1, 1)).build())
+                .build())) {
+            assertThrows(IllegalArgumentException.class,
+                    () -> retrying.scheduleAtFixedRate(Duration.ZERO, Duration.ofSeconds(1), () -> { }, overlapping));
+
+            final TaskSpec bounded = TaskSpec.builder()
+                    .group("tenant")
+                    .executionPolicy(ExecutionPolicy.continueOnFailure())
+                    .overrun(OverrunPolicy.overlap(2))
+                    .build();
+            assertThrows(IllegalArgumentException.class,
+                    () -> retrying.scheduleAtFixedRate(Duration.ZERO, Duration.ofSeconds(1), () -> { }, bounded));
+        }
+    }
+
+    private static void sleep(final long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.github.frosxt.chronos.runtime.core;
+
+import com.github.frosxt.chronos.api.Scheduler;
+import com.github.frosxt.chronos.api.SchedulerSnapshot;
+import com.github.frosxt.chronos.api.TaskType;
+import com.github.frosxt.chronos.api.factory.Chronos;
+import com.github.frosxt.chronos.api.metrics.LatencySnapshot;
+import com.github.frosxt.chronos.api.spec.SchedulerSpec;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for start lag and run duration histograms.
+ */
+class LatencyMetricsTest {
+    private Scheduler scheduler;
+
+    @AfterEach
+    void tearDown() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    @Test
+    void executionsAreRecordedPerSchedulerAndType() throws InterruptedException {
+        scheduler = Chronos.create(SchedulerSpec.builder().build());
+        final CountDownLatch done = new CountDownLatch(3);
+        for (int i = 0; i < 3; i++) {
+            scheduler.scheduleOnce(Duration.ofMillis(1), () -> {
+                sleep(20);
+                done.countDown();
+            });
+        }
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        awaitRecorded(3);
+
+        final SchedulerSnapshot snapshot = scheduler.snapshot();
+        final LatencySnapshot duration = snapshot.runDuration();
+        assertEquals(3, duration.count());
+        assertTrue(duration.p50().compareTo(Duration.ofMillis(18)) >= 0);
+        assertTrue(duration.max().compareTo(duration.p99()) >= 0);
+        assertEquals(3, snapshot.startLag().count());
+        assertEquals(3, snapshot.runDurationByType().get(TaskType.ONCE).count());
+        assertEquals(0, snapshot.runDurationByType().get(TaskType.FIXED_RATE).count());
+        assertEquals(3, snapshot.startLagByType().get(TaskType.ONCE).count());
+    }
+
+    @Test
+    void resetStartsANewInterval() throws InterruptedException {
+        scheduler = Chronos.create(SchedulerSpec.builder().build());
+        final CountDownLatch done = new CountDownLatch(1);
+        scheduler.scheduleOnce(Duration.ofMillis(1), done::countDown);
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        awaitRecorded(1);
+
+        final SchedulerSnapshot before = scheduler.snapshot();
+        scheduler.resetLatencies();
+        final SchedulerSnapshot after = scheduler.snapshot();
+
+        assertEquals(0, after.runDuration().count());
+        assertEquals(Duration.ZERO, after.runDuration().max());
+        assertEquals(0, after.startLagByType().get(TaskType.ONCE).count());
+        assertFalse(after.latencyIntervalStart().isBefore(before.latencyIntervalStart()));
+    }
+
+    private void awaitRecorded(final long count) throws InterruptedException {
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (scheduler.snapshot().runDuration().count() < count && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+
+    private static void sleep(final long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.github.frosxt.chronos.runtime.core;
+
+import com.github.frosxt.chronos.api.ScheduledHandle;
+import com.github.frosxt.chronos.api.Scheduler;
+import com.github.frosxt.chronos.api.TaskState;
+import com.github.frosxt.chronos.api.factory.Chronos;
+import com.github.frosxt.chronos.api.spec.SchedulerSpec;
+import com.github.frosxt.chronos.api.spec.TaskSpec;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for lag-based load shedding.
+ */
+class LoadSheddingTest {
+    private static final TaskSpec SHEDDABLE = TaskSpec.builder().sheddable().build();
+
+    private Scheduler scheduler;
+
+    @AfterEach
+    void tearDown() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    @Test
+    void sheddableFiresAreSkippedUntilLagRecovers() throws InterruptedException {
+        scheduler = Chronos.create(SchedulerSpec.builder()
+                .loadShedding(Duration.ofMillis(20))
+                .build());
+
+        final CountDownLatch blocking = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        scheduler.scheduleOnce(Duration.ofMillis(1), () -> {
+            blocking.countDown();
+            await(release);
+        });
+        assertTrue(blocking.await(5, TimeUnit.SECONDS));
+
+        final AtomicInteger criticalRuns = new AtomicInteger();
+        final AtomicInteger sheddableRuns = new AtomicInteger();
+        final ScheduledHandle critical = scheduler.scheduleAtFixedRate(Duration.ZERO, Duration.ofMillis(5),
+                criticalRuns::incrementAndGet);
+        final ScheduledHandle sheddable = scheduler.scheduleAtFixedRate(Duration.ZERO, Duration.ofMillis(5),
+                sheddableRuns::incrementAndGet, SHEDDABLE);
+
+        Thread.sleep(300);
+        release.countDown();
+
+        awaitCondition(() -> sheddable.shedCount() > 0);
+        final long shed = sheddable.shedCount();
+        assertTrue(scheduler.snapshot().shedExecutionCount() >= shed);
+        assertEquals(0, critical.shedCount());
+
+        awaitCondition(() -> !scheduler.snapshot().shedding());
+        final int before = sheddableRuns.get();
+        awaitCondition(() -> sheddableRuns.get() > before);
+        assertTrue(criticalRuns.get() > 0);
+    }
+
+    @Test
+    void shedOneShotTasksAreDeferredNotCancelled() throws Exception {
+        scheduler = Chronos.create(SchedulerSpec.builder()
+                .threadCount(1)
+                .loadShedding(Duration.ofMillis(20))
+                .build());
+
+        final CountDownLatch blocking = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        scheduler.scheduleOnce(Duration.ofMillis(1), () -> {
+            blocking.countDown();
+            await(release);
+        });
+        assertTrue(blocking.await(5, TimeUnit.SECONDS));
+
+        final ScheduledHandle critical = scheduler.scheduleAtFixedRate(Duration.ZERO, Duration.ofMillis(5), () -> { });
+        final AtomicInteger runs = new AtomicInteger();
+        final ScheduledHandle oneShot = scheduler.scheduleOnce(Duration.ofMillis(1), runs::incrementAndGet, SHEDDABLE);
+
+        Thread.sleep(300);
+        release.countDown();
+
+        assertEquals(TaskState.COMPLETED, oneShot.completion().get(5, TimeUnit.SECONDS));
+        assertTrue(oneShot.shedCount() > 0);
+        assertEquals(1, runs.get());
+        assertEquals(0, scheduler.snapshot().cancelledCount());
+        critical.cancel();
+    }
+
+    @Test
+    void sheddingIsOffByDefault() {
+        scheduler = Chronos.create(SchedulerSpec.builder().build());
+        scheduler.scheduleOnce(Duration.ofHours(1), () -> { }, SHEDDABLE);
+
+        assertFalse(scheduler.snapshot().shedding());
+        assertEquals(Duration.ZERO, scheduler.snapshot().schedulingLag());
+    }
+
+    @Test
+    void invalidThresholdsAreRejected() {
+        assertThrows(NullPointerException.class, () -> SchedulerSpec.builder().loadShedding(null));
+        assertThrows(IllegalArgumentException.class, () -> SchedulerSpec.builder().loadShedding(Duration.ZERO));
+        assertThrows(IllegalArgumentException.class,
+                () -> SchedulerSpec.builder().loadShedding(Duration.ofSeconds(Long.MAX_VALUE)));
+    }
+
+    private static void awaitCondition(final BooleanSupplier condition) throws InterruptedException {
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertTrue(condition.getAsBoolean(), "condition not met within 5 seconds");
+    }
+
+    private static void await(final CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
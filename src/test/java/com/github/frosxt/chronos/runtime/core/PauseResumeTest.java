@@ -0,0 +1,254 @@
+package com.github.frosxt.chronos.runtime.core;
+
+import com.github.frosxt.chronos.api.ScheduledHandle;
+import com.github.frosxt.chronos.api.Scheduler;
+import com.github.frosxt.chronos.api.TaskState;
+import com.github.frosxt.chronos.api.factory.Chronos;
+import com.github.frosxt.chronos.api.policy.ExecutionPolicy;
+import com.github.frosxt.chronos.api.policy.ResumePolicy;
+import com.github.frosxt.chronos.api.policy.RetryPolicy;
+import com.github.frosxt.chronos.api.spec.SchedulerSpec;
+import com.github.frosxt.chronos.api.spec.TaskSpec;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for pausing and resuming tasks.
+ */
+class PauseResumeTest {
+
+    private Scheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        scheduler = Chronos.create(SchedulerSpec.builder()
+                .threadCount(2)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        scheduler.shutdownNow();
+    }
+
+    @Test
+    void pausedTaskDoesNotRunUntilResumed() throws InterruptedException {
+        final AtomicInteger runs = new AtomicInteger();
+        final ScheduledHandle handle = scheduler.scheduleAtFixedRate(Duration.ofMillis(50), Duration.ofMillis(50), runs::incrementAndGet);
+
+        assertTrue(handle.pause());
+        assertEquals(TaskState.PAUSED, handle.state());
+        assertNull(handle.nextScheduledTime());
+
+        Thread.sleep(200);
+        assertEquals(0, runs.get());
+
+        assertTrue(handle.resume());
+        assertNotEquals(TaskState.PAUSED, handle.state());
+        awaitRuns(runs, 2);
+        handle.cancel();
+    }
+
+    @Test
+    void pauseDuringExecutionTakesEffectAfterRun() throws InterruptedException {
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final AtomicInteger runs = new AtomicInteger();
+
+        final ScheduledHandle handle = scheduler.scheduleWithFixedDelay(Duration.ZERO, Duration.ofMillis(5), () -> {
+            runs.incrementAndGet();
+            started.countDown();
+            try {
+                release.await();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        assertTrue(handle.pause());
+        assertEquals(TaskState.RUNNING, handle.state());
+
+        release.countDown();
+        awaitState(handle, TaskState.PAUSED);
+        Thread.sleep(50);
+        assertEquals(1, runs.get());
+        assertEquals(1, handle.runCount());
+    }
+
+    @Test
+    void resumeKeepsIdAndRunCount() throws InterruptedException {
+        final AtomicInteger runs = new AtomicInteger();
+        final ScheduledHandle handle = scheduler.scheduleWithFixedDelay(Duration.ZERO, Duration.ofMillis(5), runs::incrementAndGet);
+
+        awaitRuns(runs, 3);
+        handle.pause();
+        awaitState(handle, TaskState.PAUSED);
+        final long before = handle.runCount();
+
+        handle.resume();
+        awaitRuns(runs, (int) before + 2);
+        assertTrue(handle.runCount() > before);
+        handle.cancel();
+    }
+
+    @Test
+    void runOnceRunsMissedExecutionImmediately() throws InterruptedException {
+        final AtomicInteger runs = new AtomicInteger();
+        final ScheduledHandle handle = scheduler.scheduleAtFixedRate(Duration.ofMillis(20), Duration.ofSeconds(10), runs::incrementAndGet,
+                TaskSpec.builder().resumePolicy(ResumePolicy.RUN_ONCE).build());
+
+        handle.pause();
+        Thread.sleep(60);
+        handle.resume();
+
+        awaitRuns(runs, 1);
+        Thread.sleep(50);
+        assertEquals(1, runs.get());
+        handle.cancel();
+    }
+
+    @Test
+    void skipMissedWaitsForNextSlot() throws InterruptedException {
+        final AtomicInteger runs = new AtomicInteger();
+        final ScheduledHandle handle = scheduler.scheduleAtFixedRate(Duration.ofMillis(20), Duration.ofSeconds(10), runs::incrementAndGet,
+                TaskSpec.builder().resumePolicy(ResumePolicy.SKIP_MISSED).build());
+
+        handle.pause();
+        Thread.sleep(60);
+        handle.resume();
+
+        Thread.sleep(100);
+        assertEquals(0, runs.get());
+        assertEquals(TaskState.SCHEDULED, handle.state());
+        assertEquals(1, scheduler.snapshot().skippedRunCount());
+        handle.cancel();
+    }
+
+    @Test
+    void pausedRetryKeepsWaitingToRetry() throws InterruptedException {
+        final AtomicInteger attempts = new AtomicInteger();
+        final TaskSpec spec = TaskSpec.builder()
+                .executionPolicy(ExecutionPolicy.retry(RetryPolicy.fixedDelay(Duration.ofMillis(200), 3)))
+                .build();
+
+        final ScheduledHandle handle = scheduler.scheduleOnce(Duration.ofMillis(5), () -> {
+            if (attempts.incrementAndGet() == 1) {
+                throw new IllegalStateException("first");
+            }
+        }, spec);
+
+        awaitState(handle, TaskState.RETRY_WAIT);
+        assertTrue(handle.pause());
+        awaitState(handle, TaskState.PAUSED);
+
+        assertTrue(handle.resume());
+        assertEquals(TaskState.RETRY_WAIT, handle.state());
+        awaitState(handle, TaskState.COMPLETED);
+        assertEquals(2, attempts.get());
+    }
+
+    @Test
+    void pausedTaskCanBeCancelled() {
+        final ScheduledHandle handle = scheduler.scheduleOnce(Duration.ofMillis(50), () -> {
+        });
+
+        handle.pause();
+        assertTrue(handle.cancel());
+        assertEquals(TaskState.CANCELLED, handle.state());
+        assertFalse(handle.resume());
+        assertFalse(handle.pause());
+    }
+
+    @Test
+    void groupPauseCoversExistingAndNewTasks() throws InterruptedException {
+        final AtomicInteger runs = new AtomicInteger();
+        final TaskSpec grouped = TaskSpec.builder().group("maintenance").build();
+        final List<ScheduledHandle> handles = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            handles.add(scheduler.scheduleAtFixedRate(Duration.ofMillis(50), Duration.ofMillis(50), runs::incrementAndGet, grouped));
+        }
+        final ScheduledHandle other = scheduler.scheduleAtFixedRate(Duration.ofMillis(50), Duration.ofSeconds(10), () -> {
+        });
+
+        assertEquals(100, scheduler.pauseGroup("maintenance"));
+        final ScheduledHandle late = scheduler.scheduleAtFixedRate(Duration.ofMillis(10), Duration.ofMillis(50), runs::incrementAndGet, grouped);
+        handles.add(late);
+
+        assertEquals(TaskState.PAUSED, late.state());
+        assertEquals(TaskState.SCHEDULED, other.state());
+        assertEquals(101, scheduler.snapshot().pausedCount());
+        assertTrue(scheduler.snapshot().groups().get("maintenance").paused());
+
+        Thread.sleep(150);
+        assertEquals(0, runs.get());
+
+        assertEquals(101, scheduler.resumeGroup("maintenance"));
+        assertFalse(scheduler.snapshot().groups().get("maintenance").paused());
+        awaitRuns(runs, 101);
+        for (final ScheduledHandle handle : handles) {
+            assertNotEquals(TaskState.PAUSED, handle.state());
+        }
+    }
+
+    @Test
+    void pausingAnUnknownGroupDoesNotCreateIt() {
+        assertEquals(0, scheduler.pauseGroup("missing"));
+        assertEquals(0, scheduler.resumeGroup("missing"));
+        assertFalse(scheduler.snapshot().groups().containsKey("missing"));
+    }
+
+    @Test
+    void concurrentPauseResumeNeverDuplicatesExecutions() throws InterruptedException {
+        final AtomicInteger concurrent = new AtomicInteger();
+        final AtomicInteger overlaps = new AtomicInteger();
+        final ScheduledHandle handle = scheduler.scheduleAtFixedRate(Duration.ZERO, Duration.ofMillis(1), () -> {
+            if (concurrent.incrementAndGet() > 1) {
+                overlaps.incrementAndGet();
+            }
+            concurrent.decrementAndGet();
+        });
+
+        for (int i = 0; i < 2_000; i++) {
+            handle.pause();
+            handle.resume();
+        }
+
+        final long runsBefore = handle.runCount();
+        Thread.sleep(100);
+        handle.pause();
+        awaitState(handle, TaskState.PAUSED);
+        final long runsPaused = handle.runCount();
+        Thread.sleep(50);
+
+        assertEquals(runsPaused, handle.runCount());
+        assertTrue(runsPaused > runsBefore);
+        assertEquals(0, overlaps.get());
+    }
+
+    private static void awaitRuns(final AtomicInteger runs, final int expected) throws InterruptedException {
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (runs.get() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertTrue(runs.get() >= expected, "expected at least " + expected + " runs but saw " + runs.get());
+    }
+
+    private static void awaitState(final ScheduledHandle handle, final TaskState expected) throws InterruptedException {
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (handle.state() != expected && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+        assertEquals(expected, handle.state());
+    }
+}
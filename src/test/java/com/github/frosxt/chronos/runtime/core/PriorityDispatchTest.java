@@ -0,0 +1,109 @@
+package com.github.frosxt.chronos.runtime.core;
+
+import com.github.frosxt.chronos.api.Scheduler;
+import com.github.frosxt.chronos.api.SchedulerSnapshot;
+import com.github.frosxt.chronos.api.dispatch.PrioritySnapshot;
+import com.github.frosxt.chronos.api.factory.Chronos;
+import com.github.frosxt.chronos.api.policy.TaskPriority;
+import com.github.frosxt.chronos.api.spec.SchedulerSpec;
+import com.github.frosxt.chronos.api.spec.TaskSpec;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for priority dispatch of due executions.
+ */
+class PriorityDispatchTest {
+    private static final int REPORTS = 20;
+
+    private Scheduler scheduler;
+
+    @AfterEach
+    void tearDown() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    @Test
+    void criticalTaskOvertakesBacklogUnderSaturation() throws InterruptedException {
+        scheduler = Chronos.create(SchedulerSpec.builder()
+                .threadCount(2)
+                .priorityDispatch(Duration.ofSeconds(10))
+                .build());
+
+        final CountDownLatch blocking = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        scheduler.scheduleOnce(Duration.ofMillis(1), () -> {
+            blocking.countDown();
+            await(release);
+        });
+        assertTrue(blocking.await(5, TimeUnit.SECONDS));
+
+        final List<String> order = new CopyOnWriteArrayList<>();
+        final CountDownLatch done = new CountDownLatch(REPORTS + 1);
+        final TaskSpec low = TaskSpec.builder().priority(TaskPriority.LOW).build();
+        for (int i = 0; i < REPORTS; i++) {
+            scheduler.scheduleOnce(Duration.ofMillis(5), () -> {
+                order.add("report");
+                done.countDown();
+            }, low);
+        }
+        scheduler.scheduleOnce(Duration.ofMillis(30), () -> {
+            order.add("heartbeat");
+            done.countDown();
+        }, TaskSpec.builder().priority(TaskPriority.CRITICAL).build());
+
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (queued(TaskPriority.CRITICAL) == 0 && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertEquals(REPORTS, queued(TaskPriority.LOW));
+
+        release.countDown();
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+
+        assertEquals("heartbeat", order.get(0));
+        final SchedulerSnapshot snapshot = scheduler.snapshot();
+        assertEquals(REPORTS, snapshot.priorities().get(TaskPriority.LOW).dispatchedCount());
+        assertTrue(snapshot.priorities().get(TaskPriority.LOW).maxDelay().compareTo(Duration.ofMillis(20)) >= 0);
+    }
+
+    @Test
+    void snapshotHasNoPrioritiesWhenDisabled() {
+        scheduler = Chronos.create(SchedulerSpec.builder().build());
+        scheduler.scheduleOnce(Duration.ofHours(1), () -> { }, TaskSpec.builder().priority(TaskPriority.HIGH).build());
+
+        assertTrue(scheduler.snapshot().priorities().isEmpty());
+    }
+
+    @Test
+    void invalidSettingsAreRejected() {
+        assertThrows(NullPointerException.class, () -> TaskSpec.builder().priority(null));
+        assertThrows(NullPointerException.class, () -> SchedulerSpec.builder().priorityDispatch(null));
+        assertThrows(IllegalArgumentException.class, () -> SchedulerSpec.builder().priorityDispatch(Duration.ZERO));
+        assertThrows(IllegalArgumentException.class,
+                () -> SchedulerSpec.builder().priorityDispatch(Duration.ofSeconds(Long.MAX_VALUE)));
+    }
+
+    private int queued(final TaskPriority priority) {
+        final PrioritySnapshot snapshot = scheduler.snapshot().priorities().get(priority);
+        return snapshot.depth();
+    }
+
+    private static void await(final CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,194 @@
+package com.github.frosxt.chronos.runtime.core;
+
+import com.github.frosxt.chronos.api.ScheduledHandle;
+import com.github.frosxt.chronos.api.Scheduler;
+import com.github.frosxt.chronos.api.TaskState;
+import com.github.frosxt.chronos.api.cron.CronExpression;
+import com.github.frosxt.chronos.api.factory.Chronos;
+import com.github.frosxt.chronos.api.spec.SchedulerSpec;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for changing the schedule of a live task.
+ */
+class RescheduleTest {
+
+    private Scheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        scheduler = Chronos.create(SchedulerSpec.builder()
+                .threadCount(2)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        scheduler.shutdownNow();
+    }
+
+    @Test
+    void shorterPeriodMovesPendingExecution() throws InterruptedException {
+        final AtomicInteger runs = new AtomicInteger();
+        final ScheduledHandle handle = scheduler.scheduleAtFixedRate(Duration.ZERO, Duration.ofHours(1), runs::incrementAndGet);
+        awaitRuns(runs, 1);
+        final String id = handle.id();
+
+        assertTrue(handle.reschedule(Duration.ofMillis(20)));
+        assertEquals(Duration.ofMillis(20), handle.currentPeriod());
+
+        awaitRuns(runs, 4);
+        assertTrue(handle.runCount() >= 4);
+        assertEquals(id, handle.id());
+        handle.cancel();
+    }
+
+    @Test
+    void longerDelayStopsFrequentExecutions() throws InterruptedException {
+        final AtomicInteger runs = new AtomicInteger();
+        final ScheduledHandle handle = scheduler.scheduleWithFixedDelay(Duration.ZERO, Duration.ofMillis(10), runs::incrementAndGet);
+        awaitRuns(runs, 2);
+
+        assertTrue(handle.reschedule(Duration.ofHours(1)));
+        Thread.sleep(50);
+        final int settled = runs.get();
+        Thread.sleep(150);
+
+        assertEquals(settled, runs.get());
+        assertTrue(handle.nextScheduledTime().isAfter(Instant.now().plus(Duration.ofMinutes(59))));
+        handle.cancel();
+    }
+
+    @Test
+    void oneShotDelayIsMoved() throws InterruptedException {
+        final CountDownLatch ran = new CountDownLatch(1);
+        final ScheduledHandle handle = scheduler.scheduleOnce(Duration.ofHours(1), ran::countDown);
+
+        assertTrue(handle.reschedule(Duration.ofMillis(10)));
+
+        assertTrue(ran.await(5, TimeUnit.SECONDS));
+        assertEquals(TaskState.COMPLETED, handle.completion().join());
+    }
+
+    @Test
+    void rescheduleDuringExecutionAppliesToNextRun() throws InterruptedException {
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final AtomicInteger runs = new AtomicInteger();
+
+        final ScheduledHandle handle = scheduler.scheduleWithFixedDelay(Duration.ZERO, Duration.ofHours(1), () -> {
+            runs.incrementAndGet();
+            started.countDown();
+            try {
+                release.await();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        assertTrue(handle.reschedule(Duration.ofMillis(10)));
+        assertEquals(TaskState.RUNNING, handle.state());
+
+        release.countDown();
+        awaitRuns(runs, 3);
+        handle.cancel();
+    }
+
+    @Test
+    void rescheduleKeepsTaskPaused() throws InterruptedException {
+        final AtomicInteger runs = new AtomicInteger();
+        final ScheduledHandle handle = scheduler.scheduleAtFixedRate(Duration.ofHours(1), Duration.ofHours(1), runs::incrementAndGet);
+
+        assertTrue(handle.pause());
+        assertTrue(handle.reschedule(Duration.ofMillis(10)));
+        assertEquals(TaskState.PAUSED, handle.state());
+
+        Thread.sleep(100);
+        assertEquals(0, runs.get());
+        assertTrue(handle.resume());
+        assertTrue(handle.nextScheduledTime().isAfter(Instant.now().plus(Duration.ofMinutes(59))));
+        handle.cancel();
+    }
+
+    @Test
+    void cronExpressionIsReplaced() {
+        final ScheduledHandle handle = scheduler.scheduleCron(CronExpression.parse("0 0 1 1 *"), ZoneOffset.UTC, () -> { });
+        assertTrue(handle.nextScheduledTime().isAfter(Instant.now().plus(Duration.ofMinutes(2))));
+
+        assertTrue(handle.reschedule(CronExpression.parse("* * * * *")));
+
+        assertFalse(handle.nextScheduledTime().isAfter(Instant.now().plus(Duration.ofSeconds(61))));
+        handle.cancel();
+    }
+
+    @Test
+    void mismatchedScheduleIsRejected() {
+        final ScheduledHandle rate = scheduler.scheduleAtFixedRate(Duration.ofHours(1), Duration.ofHours(1), () -> { });
+        final ScheduledHandle cron = scheduler.scheduleCron(CronExpression.parse("0 0 1 1 *"), ZoneOffset.UTC, () -> { });
+
+        assertThrows(IllegalArgumentException.class, () -> rate.reschedule(CronExpression.parse("* * * * *")));
+        assertThrows(IllegalArgumentException.class, () -> cron.reschedule(Duration.ofSeconds(1)));
+        assertThrows(IllegalArgumentException.class, () -> rate.reschedule(Duration.ZERO));
+        assertThrows(NullPointerException.class, () -> rate.reschedule((Duration) null));
+    }
+
+    @Test
+    void terminatedTaskIsNotRescheduled() {
+        final ScheduledHandle handle = scheduler.scheduleAtFixedRate(Duration.ofHours(1), Duration.ofHours(1), () -> { });
+        handle.cancel();
+
+        assertFalse(handle.reschedule(Duration.ofMillis(10)));
+        assertEquals(TaskState.CANCELLED, handle.state());
+    }
+
+    @Test
+    void concurrentReschedulesLeaveOneTimer() throws InterruptedException {
+        final AtomicInteger runs = new AtomicInteger();
+        final ScheduledHandle handle = scheduler.scheduleAtFixedRate(Duration.ZERO, Duration.ofMillis(1), runs::incrementAndGet);
+
+        final List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            final Thread thread = new Thread(() -> {
+                for (int i = 0; i < 5_000; i++) {
+                    handle.reschedule(Duration.ofMillis(i % 2 == 0 ? 1 : 2));
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        for (final Thread thread : threads) {
+            thread.join();
+        }
+
+        assertTrue(handle.reschedule(Duration.ofHours(1)));
+        Thread.sleep(50);
+        final int settled = runs.get();
+        Thread.sleep(150);
+
+        assertEquals(settled, runs.get());
+        assertEquals(TaskState.SCHEDULED, handle.state());
+        handle.cancel();
+    }
+
+    private static void awaitRuns(final AtomicInteger runs, final int expected) throws InterruptedException {
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (runs.get() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertTrue(runs.get() >= expected, "expected at least " + expected + " runs but saw " + runs.get());
+    }
+}
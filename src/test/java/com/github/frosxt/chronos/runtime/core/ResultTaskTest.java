@@ -0,0 +1,118 @@
+package com.github.frosxt.chronos.runtime.core;
+
+import com.github.frosxt.chronos.api.ResultHandle;
+import com.github.frosxt.chronos.api.ScheduledHandle;
+import com.github.frosxt.chronos.api.Scheduler;
+import com.github.frosxt.chronos.api.TaskState;
+import com.github.frosxt.chronos.api.factory.Chronos;
+import com.github.frosxt.chronos.api.policy.ExecutionPolicy;
+import com.github.frosxt.chronos.api.policy.RetryPolicy;
+import com.github.frosxt.chronos.api.spec.SchedulerSpec;
+import com.github.frosxt.chronos.api.spec.TaskSpec;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for computations scheduled with a {@link java.util.concurrent.Callable}.
+ */
+class ResultTaskTest {
+
+    private Scheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        scheduler = Chronos.create(SchedulerSpec.builder()
+                .threadCount(2)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        scheduler.shutdownNow();
+    }
+
+    @Test
+    void resultCompletesWithValue() throws Exception {
+        final ResultHandle<String> handle = scheduler.scheduleOnce(Duration.ofMillis(5), () -> "done");
+
+        assertEquals("done", handle.result().get(5, TimeUnit.SECONDS));
+        assertEquals(TaskState.COMPLETED, handle.state());
+    }
+
+    @Test
+    void resultCompletesExceptionallyWithCheckedCause() throws InterruptedException {
+        final ResultHandle<String> handle = scheduler.scheduleOnce(Duration.ofMillis(5), () -> {
+            throw new IOException("boom");
+        });
+
+        final ExecutionException error = assertThrows(ExecutionException.class, () -> handle.result().get(5, TimeUnit.SECONDS));
+        assertInstanceOf(IOException.class, error.getCause());
+        assertEquals(TaskState.FAILED, handle.state());
+    }
+
+    @Test
+    void resultUsesValueFromSuccessfulRetry() throws Exception {
+        final AtomicInteger attempts = new AtomicInteger();
+        final TaskSpec spec = TaskSpec.builder()
+                .executionPolicy(ExecutionPolicy.retry(RetryPolicy.fixedDelay(Duration.ofMillis(5), 3)))
+                .build();
+
+        final ResultHandle<Integer> handle = scheduler.scheduleOnce(Duration.ofMillis(5), () -> {
+            final int attempt = attempts.incrementAndGet();
+            if (attempt < 3) {
+                throw new IllegalStateException("attempt " + attempt);
+            }
+            return attempt;
+        }, spec);
+
+        assertEquals(3, handle.result().get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void cancellingTaskCancelsResult() {
+        final ResultHandle<String> handle = scheduler.scheduleOnce(Duration.ofSeconds(10), () -> "never");
+
+        assertTrue(handle.cancel());
+        assertTrue(handle.result().isCancelled());
+        assertThrows(CancellationException.class, () -> handle.result().join());
+    }
+
+    @Test
+    void cancellingResultCancelsTask() {
+        final ResultHandle<String> handle = scheduler.scheduleOnce(Duration.ofSeconds(10), () -> "never");
+
+        assertTrue(handle.result().cancel(false));
+        assertEquals(TaskState.CANCELLED, handle.state());
+    }
+
+    @Test
+    void sinkReceivesEachValueInOrder() throws InterruptedException {
+        final List<Integer> values = new CopyOnWriteArrayList<>();
+        final CountDownLatch received = new CountDownLatch(5);
+        final AtomicInteger counter = new AtomicInteger();
+
+        final ScheduledHandle handle = scheduler.scheduleWithFixedDelay(Duration.ZERO, Duration.ofMillis(2),
+                counter::incrementAndGet, value -> {
+                    values.add(value);
+                    received.countDown();
+                });
+
+        assertTrue(received.await(5, TimeUnit.SECONDS));
+        handle.cancel();
+
+        assertEquals(List.of(1, 2, 3, 4, 5), values.subList(0, 5));
+    }
+}
@@ -153,7 +153,7 @@ class SchedulerLifecycleTest {
         assertThrows(IllegalArgumentException.class, () -> scheduler.scheduleOnce(Duration.ofSeconds(-1), () -> {
         }));
 
-        assertThrows(NullPointerException.class, () -> scheduler.scheduleOnce(Duration.ofSeconds(1), null));
+        assertThrows(NullPointerException.class, () -> scheduler.scheduleOnce(Duration.ofSeconds(1), (Runnable) null));
     }
 
     @Test
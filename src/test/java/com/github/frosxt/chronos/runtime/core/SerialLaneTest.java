@@ -0,0 +1,171 @@
+package com.github.frosxt.chronos.runtime.core;
+
+import com.github.frosxt.chronos.api.ScheduledHandle;
+import com.github.frosxt.chronos.api.Scheduler;
+import com.github.frosxt.chronos.api.factory.Chronos;
+import com.github.frosxt.chronos.api.lane.LaneSnapshot;
+import com.github.frosxt.chronos.api.policy.OverrunPolicy;
+import com.github.frosxt.chronos.api.spec.SchedulerSpec;
+import com.github.frosxt.chronos.api.spec.TaskSpec;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for keyed serial execution lanes.
+ */
+class SerialLaneTest {
+
+    private Scheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        scheduler = Chronos.create(SchedulerSpec.builder()
+                .threadCount(4)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        scheduler.shutdownNow();
+    }
+
+    @Test
+    void tasksSharingKeyNeverOverlap() throws InterruptedException {
+        final AtomicInteger active = new AtomicInteger();
+        final AtomicInteger maxActive = new AtomicInteger();
+        final AtomicInteger runs = new AtomicInteger();
+        final TaskSpec spec = TaskSpec.builder().executionKey("account-1").build();
+
+        final List<ScheduledHandle> handles = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            handles.add(scheduler.scheduleAtFixedRate(Duration.ZERO, Duration.ofMillis(1), () -> {
+                maxActive.accumulateAndGet(active.incrementAndGet(), Math::max);
+                sleep(1);
+                active.decrementAndGet();
+                runs.incrementAndGet();
+            }, spec));
+        }
+
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (runs.get() < 60 && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        handles.forEach(ScheduledHandle::cancel);
+
+        assertTrue(runs.get() >= 60, "expected at least 60 runs but saw " + runs.get());
+        assertEquals(1, maxActive.get());
+    }
+
+    @Test
+    void differentKeysRunConcurrently() throws InterruptedException {
+        final CyclicBarrier barrier = new CyclicBarrier(2);
+        final CountDownLatch met = new CountDownLatch(2);
+        final Runnable task = () -> {
+            try {
+                barrier.await(5, TimeUnit.SECONDS);
+                met.countDown();
+            } catch (final Exception ignored) {
+                // The assertion below reports the missed rendezvous.
+            }
+        };
+
+        scheduler.scheduleOnce(Duration.ofMillis(10), task, TaskSpec.builder().executionKey("a").build());
+        scheduler.scheduleOnce(Duration.ofMillis(10), task, TaskSpec.builder().executionKey("b").build());
+
+        assertTrue(met.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void snapshotReportsLaneDepthAndWait() throws InterruptedException {
+        final CountDownLatch release = new CountDownLatch(1);
+        final CountDownLatch done = new CountDownLatch(3);
+        final TaskSpec spec = TaskSpec.builder().executionKey("orders").build();
+        final Runnable task = () -> {
+            try {
+                release.await();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            done.countDown();
+        };
+
+        for (int i = 0; i < 3; i++) {
+            scheduler.scheduleWithFixedDelay(Duration.ofMillis(10), Duration.ofHours(1), task, spec);
+        }
+
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (depth("orders") < 2 && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertEquals(2, depth("orders"));
+        Thread.sleep(20);
+
+        release.countDown();
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+
+        final LaneSnapshot lane = awaitDispatched("orders", 3);
+        assertEquals(3, lane.dispatchedCount());
+        assertEquals(0, lane.depth());
+        assertTrue(lane.maxDepth() >= 2);
+        assertTrue(lane.maxWait().compareTo(Duration.ofMillis(20)) >= 0, "maxWait " + lane.maxWait());
+    }
+
+    @Test
+    void laneIsRemovedWhenItsTasksTerminate() {
+        final TaskSpec spec = TaskSpec.builder().executionKey("session-7").build();
+        final ScheduledHandle first = scheduler.scheduleAtFixedRate(Duration.ofHours(1), Duration.ofHours(1), () -> { }, spec);
+        final ScheduledHandle second = scheduler.scheduleAtFixedRate(Duration.ofHours(1), Duration.ofHours(1), () -> { }, spec);
+        assertTrue(scheduler.snapshot().lanes().containsKey("session-7"));
+
+        first.cancel();
+        assertTrue(scheduler.snapshot().lanes().containsKey("session-7"));
+
+        second.cancel();
+        assertFalse(scheduler.snapshot().lanes().containsKey("session-7"));
+    }
+
+    @Test
+    void invalidKeysAreRejected() {
+        assertThrows(NullPointerException.class, () -> TaskSpec.builder().executionKey(null));
+        assertThrows(IllegalArgumentException.class, () -> TaskSpec.builder().executionKey(""));
+
+        assertThrows(IllegalArgumentException.class, () -> TaskSpec.builder()
+                .executionKey("k")
+                .overrun(OverrunPolicy.overlap(2))
+                .build());
+    }
+
+    private int depth(final String key) {
+        final LaneSnapshot lane = scheduler.snapshot().lanes().get(key);
+        return lane != null ? lane.depth() : 0;
+    }
+
+    private LaneSnapshot awaitDispatched(final String key, final long expected) throws InterruptedException {
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        LaneSnapshot lane = scheduler.snapshot().lanes().get(key);
+        while (lane.dispatchedCount() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+            lane = scheduler.snapshot().lanes().get(key);
+        }
+        return lane;
+    }
+
+    private static void sleep(final long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
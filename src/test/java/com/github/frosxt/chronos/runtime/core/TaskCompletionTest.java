@@ -0,0 +1,153 @@
+package com.github.frosxt.chronos.runtime.core;
+
+import com.github.frosxt.chronos.api.ScheduledHandle;
+import com.github.frosxt.chronos.api.Scheduler;
+import com.github.frosxt.chronos.api.TaskState;
+import com.github.frosxt.chronos.api.factory.Chronos;
+import com.github.frosxt.chronos.api.policy.ExecutionPolicy;
+import com.github.frosxt.chronos.api.spec.SchedulerSpec;
+import com.github.frosxt.chronos.api.spec.TaskSpec;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link ScheduledHandle#completion()} and bulk awaiting.
+ */
+class TaskCompletionTest {
+
+    private Scheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        scheduler = Chronos.create(SchedulerSpec.builder()
+                .threadCount(2)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        scheduler.shutdownNow();
+    }
+
+    @Test
+    void completesWithCompletedState() throws Exception {
+        final ScheduledHandle handle = scheduler.scheduleOnce(Duration.ofMillis(5), () -> {
+        });
+
+        assertEquals(TaskState.COMPLETED, handle.completion().get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void completesWithFailedState() throws Exception {
+        final AtomicInteger runs = new AtomicInteger();
+        final TaskSpec spec = TaskSpec.builder()
+                .executionPolicy(ExecutionPolicy.stopOnFailure())
+                .build();
+
+        final ScheduledHandle handle = scheduler.scheduleAtFixedRate(Duration.ZERO, Duration.ofMillis(2), () -> {
+            if (runs.incrementAndGet() == 3) {
+                throw new IllegalStateException("stop");
+            }
+        }, spec);
+
+        assertEquals(TaskState.FAILED, handle.completion().get(5, TimeUnit.SECONDS));
+        assertEquals(3, runs.get());
+    }
+
+    @Test
+    void completesWithCancelledState() {
+        final ScheduledHandle handle = scheduler.scheduleOnce(Duration.ofSeconds(10), () -> {
+        });
+        final CompletableFuture<TaskState> completion = handle.completion();
+        assertFalse(completion.isDone());
+
+        handle.cancel();
+
+        assertEquals(TaskState.CANCELLED, completion.getNow(null));
+    }
+
+    @Test
+    void requestedAfterTerminalIsAlreadyComplete() {
+        final ScheduledHandle handle = scheduler.scheduleOnce(Duration.ofSeconds(10), () -> {
+        });
+        handle.cancel();
+
+        assertTrue(handle.completion().isDone());
+        assertEquals(TaskState.CANCELLED, handle.completion().getNow(null));
+    }
+
+    @Test
+    void completingACallersFutureDoesNotAffectTheTask() {
+        final ScheduledHandle handle = scheduler.scheduleOnce(Duration.ofSeconds(10), () -> {
+        });
+        final CompletableFuture<TaskState> completion = handle.completion();
+
+        assertTrue(completion.complete(TaskState.COMPLETED));
+        assertTrue(handle.completion().cancel(true));
+        assertFalse(handle.completion().isDone());
+        assertEquals(TaskState.SCHEDULED, handle.state());
+
+        handle.cancel();
+        assertEquals(TaskState.CANCELLED, handle.completion().getNow(null));
+    }
+
+    @Test
+    void timeoutsApplyToTheCallersFuture() {
+        final ScheduledHandle handle = scheduler.scheduleOnce(Duration.ofSeconds(10), () -> {
+        });
+
+        final ExecutionException timedOut = assertThrows(ExecutionException.class,
+                () -> handle.completion().orTimeout(50, TimeUnit.MILLISECONDS).get(5, TimeUnit.SECONDS));
+        assertInstanceOf(TimeoutException.class, timedOut.getCause());
+        assertEquals(TaskState.SCHEDULED, handle.completion()
+                .completeOnTimeout(TaskState.SCHEDULED, 50, TimeUnit.MILLISECONDS)
+                .join());
+        assertEquals(TaskState.SCHEDULED, handle.state());
+    }
+
+    @Test
+    void shutdownNowCompletesPendingTasks() {
+        final ScheduledHandle handle = scheduler.scheduleAtFixedRate(Duration.ofSeconds(10), Duration.ofSeconds(10), () -> {
+        });
+        final CompletableFuture<TaskState> completion = handle.completion();
+
+        scheduler.shutdownNow();
+
+        assertEquals(TaskState.CANCELLED, completion.getNow(null));
+    }
+
+    @Test
+    void awaitAllWaitsForEveryHandle() throws InterruptedException {
+        final List<ScheduledHandle> handles = new ArrayList<>();
+        for (int i = 0; i < 2_000; i++) {
+            handles.add(scheduler.scheduleOnce(Duration.ofMillis(1 + i % 20), () -> {
+            }));
+        }
+
+        assertTrue(ScheduledHandle.awaitAll(handles, Duration.ofSeconds(10)));
+        for (final ScheduledHandle handle : handles) {
+            assertEquals(TaskState.COMPLETED, handle.state());
+        }
+    }
+
+    @Test
+    void awaitAllTimesOut() throws InterruptedException {
+        final ScheduledHandle pending = scheduler.scheduleOnce(Duration.ofSeconds(10), () -> {
+        });
+
+        assertFalse(ScheduledHandle.awaitAll(List.of(pending), Duration.ofMillis(20)));
+        assertFalse(ScheduledHandle.awaitAll(List.of(pending)).isDone());
+    }
+}
@@ -0,0 +1,95 @@
+package com.github.frosxt.chronos.runtime.core;
+
+import com.github.frosxt.chronos.api.ScheduledHandle;
+import com.github.frosxt.chronos.api.Scheduler;
+import com.github.frosxt.chronos.api.TaskState;
+import com.github.frosxt.chronos.api.factory.Chronos;
+import com.github.frosxt.chronos.api.metrics.TaskStats;
+import com.github.frosxt.chronos.api.policy.ExecutionPolicy;
+import com.github.frosxt.chronos.api.policy.RetryPolicy;
+import com.github.frosxt.chronos.api.spec.SchedulerSpec;
+import com.github.frosxt.chronos.api.spec.TaskSpec;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for per-task statistics.
+ */
+class TaskStatsTest {
+    private Scheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        scheduler = Chronos.create(SchedulerSpec.builder().build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        scheduler.shutdownNow();
+    }
+
+    @Test
+    void statsAreOffByDefault() {
+        final ScheduledHandle handle = scheduler.scheduleOnce(Duration.ofHours(1), () -> { });
+        assertNull(handle.stats());
+    }
+
+    @Test
+    void durationsAndBusyTimeAreRecorded() throws InterruptedException {
+        final ScheduledHandle handle = scheduler.scheduleWithFixedDelay(Duration.ZERO, Duration.ofMillis(1),
+                () -> sleep(10), TaskSpec.builder().recordStats().build());
+        awaitExecutions(handle, 3);
+        handle.cancel();
+
+        final TaskStats stats = handle.stats();
+        assertTrue(stats.executionCount() >= 3);
+        assertTrue(stats.maxDuration().compareTo(Duration.ofMillis(9)) >= 0);
+        assertTrue(stats.ewmaDuration().compareTo(Duration.ofMillis(9)) >= 0);
+        assertTrue(stats.ewmaDuration().compareTo(stats.maxDuration()) <= 0);
+        assertTrue(stats.busyTime().compareTo(Duration.ofMillis(9).multipliedBy(stats.executionCount())) >= 0);
+        assertEquals(0, stats.failureCount());
+        assertEquals(0, stats.retryCount());
+    }
+
+    @Test
+    void failuresAndRetriesAreCounted() {
+        final AtomicInteger attempts = new AtomicInteger();
+        final ScheduledHandle handle = scheduler.scheduleOnce(Duration.ofMillis(1), () -> {
+            if (attempts.incrementAndGet() < 3) {
+                throw new IllegalStateException("boom");
+            }
+        }, TaskSpec.builder()
+                .recordStats()
+                .executionPolicy(ExecutionPolicy.retry(RetryPolicy.fixedDelay(Duration.ofMillis(1), 5)))
+                .build());
+
+        assertEquals(TaskState.COMPLETED, handle.completion().orTimeout(5, TimeUnit.SECONDS).join());
+        final TaskStats stats = handle.stats();
+        assertEquals(3, stats.executionCount());
+        assertEquals(2, stats.failureCount());
+        assertEquals(2, stats.retryCount());
+    }
+
+    private static void awaitExecutions(final ScheduledHandle handle, final long count) throws InterruptedException {
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (handle.stats().executionCount() < count && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertTrue(handle.stats().executionCount() >= count, "executions not recorded within 5 seconds");
+    }
+
+    private static void sleep(final long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
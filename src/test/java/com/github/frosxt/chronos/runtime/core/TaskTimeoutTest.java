@@ -0,0 +1,155 @@
+package com.github.frosxt.chronos.runtime.core;
+
+import com.github.frosxt.chronos.api.ScheduledHandle;
+import com.github.frosxt.chronos.api.Scheduler;
+import com.github.frosxt.chronos.api.TaskState;
+import com.github.frosxt.chronos.api.factory.Chronos;
+import com.github.frosxt.chronos.api.listener.TaskContext;
+import com.github.frosxt.chronos.api.listener.TaskListener;
+import com.github.frosxt.chronos.api.policy.ExecutionPolicy;
+import com.github.frosxt.chronos.api.policy.RetryPolicy;
+import com.github.frosxt.chronos.api.policy.TaskTimeoutException;
+import com.github.frosxt.chronos.api.policy.TimeoutPolicy;
+import com.github.frosxt.chronos.api.spec.SchedulerSpec;
+import com.github.frosxt.chronos.api.spec.TaskSpec;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for execution timeouts.
+ */
+class TaskTimeoutTest {
+
+    private Scheduler scheduler;
+
+    @AfterEach
+    void tearDown() {
+        scheduler.shutdownNow();
+    }
+
+    @Test
+    void interruptTimeoutFailsTaskAndFreesThread() throws InterruptedException {
+        final AtomicReference<Throwable> failure = new AtomicReference<>();
+        final CountDownLatch failed = new CountDownLatch(1);
+        scheduler = Chronos.create(SchedulerSpec.builder()
+                .threadCount(1)
+                .addListener(new TaskListener() {
+                    @Override
+                    public void onStart(final TaskContext context) {
+                    }
+
+                    @Override
+                    public void onSuccess(final TaskContext context) {
+                    }
+
+                    @Override
+                    public void onFailure(final TaskContext context, final Throwable error) {
+                        failure.set(error);
+                        failed.countDown();
+                    }
+                })
+                .build());
+
+        final AtomicBoolean interrupted = new AtomicBoolean();
+        final ScheduledHandle hung = scheduler.scheduleOnce(Duration.ofMillis(1), () -> {
+            try {
+                Thread.sleep(10_000);
+            } catch (final InterruptedException e) {
+                interrupted.set(true);
+            }
+        }, TaskSpec.builder().timeout(TimeoutPolicy.interrupt(Duration.ofMillis(50))).build());
+
+        assertTrue(failed.await(2, TimeUnit.SECONDS));
+        assertInstanceOf(TaskTimeoutException.class, failure.get());
+
+        final AtomicBoolean nextSawInterrupt = new AtomicBoolean(true);
+        final CountDownLatch nextRan = new CountDownLatch(1);
+        scheduler.scheduleOnce(Duration.ofMillis(1), () -> {
+            nextSawInterrupt.set(Thread.currentThread().isInterrupted());
+            nextRan.countDown();
+        });
+
+        assertTrue(nextRan.await(2, TimeUnit.SECONDS));
+        assertTrue(interrupted.get());
+        assertFalse(nextSawInterrupt.get());
+        assertEquals(TaskState.FAILED, hung.state());
+        assertEquals(1, scheduler.snapshot().timeoutCount());
+    }
+
+    @Test
+    void defaultTimeoutAbandonsAndRetries() throws InterruptedException {
+        scheduler = Chronos.create(SchedulerSpec.builder()
+                .threadCount(4)
+                .defaultTimeout(TimeoutPolicy.abandon(Duration.ofMillis(30)))
+                .build());
+
+        final AtomicInteger attempts = new AtomicInteger();
+        final CountDownLatch release = new CountDownLatch(1);
+        final TaskSpec spec = TaskSpec.builder()
+                .executionPolicy(ExecutionPolicy.retry(RetryPolicy.fixedDelay(Duration.ofMillis(5), 1)))
+                .build();
+
+        final ScheduledHandle handle = scheduler.scheduleOnce(Duration.ofMillis(1), () -> {
+            if (attempts.incrementAndGet() == 1) {
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }, spec);
+
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+        while (handle.state() != TaskState.COMPLETED && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        release.countDown();
+
+        assertEquals(TaskState.COMPLETED, handle.state());
+        assertEquals(2, attempts.get());
+        assertEquals(1, scheduler.snapshot().timeoutCount());
+    }
+
+    @Test
+    void asyncTimeoutCancelsStage() throws InterruptedException {
+        scheduler = Chronos.create(SchedulerSpec.builder().threadCount(1).build());
+        final CompletableFuture<Void> stage = new CompletableFuture<>();
+
+        final ScheduledHandle handle = scheduler.scheduleAsync(Duration.ofMillis(1), () -> stage,
+                TaskSpec.builder().timeout(TimeoutPolicy.interrupt(Duration.ofMillis(30))).build());
+
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+        while (handle.state() != TaskState.FAILED && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+
+        assertEquals(TaskState.FAILED, handle.state());
+        assertTrue(stage.isCancelled());
+        assertEquals(1, scheduler.snapshot().timeoutCount());
+    }
+
+    @Test
+    void fastExecutionsDoNotTimeOut() throws InterruptedException {
+        scheduler = Chronos.create(SchedulerSpec.builder()
+                .threadCount(2)
+                .defaultTimeout(TimeoutPolicy.interrupt(Duration.ofMillis(200)))
+                .build());
+        final CountDownLatch runs = new CountDownLatch(20);
+
+        final ScheduledHandle handle = scheduler.scheduleAtFixedRate(Duration.ZERO, Duration.ofMillis(2), runs::countDown);
+
+        assertTrue(runs.await(2, TimeUnit.SECONDS));
+        handle.cancel();
+        assertEquals(0, scheduler.snapshot().timeoutCount());
+    }
+}
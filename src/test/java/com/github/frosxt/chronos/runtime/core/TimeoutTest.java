@@ -0,0 +1,91 @@
+package com.github.frosxt.chronos.runtime.core;
+
+import com.github.frosxt.chronos.api.Scheduler;
+import com.github.frosxt.chronos.api.Timeout;
+import com.github.frosxt.chronos.api.factory.Chronos;
+import com.github.frosxt.chronos.api.spec.SchedulerSpec;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for lightweight timeouts.
+ */
+class TimeoutTest {
+
+    private Scheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        scheduler = Chronos.create(SchedulerSpec.builder()
+                .threadNamePrefix("timeout-test-")
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        scheduler.shutdownNow();
+    }
+
+    @Test
+    void firesOnSchedulerThreadAfterDelay() throws InterruptedException {
+        final CountDownLatch fired = new CountDownLatch(1);
+        final AtomicReference<String> thread = new AtomicReference<>();
+        final long start = System.nanoTime();
+
+        final Timeout timeout = scheduler.newTimeout(Duration.ofMillis(30), () -> {
+            thread.set(Thread.currentThread().getName());
+            fired.countDown();
+        });
+
+        assertTrue(fired.await(5, TimeUnit.SECONDS));
+        assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(30));
+        assertTrue(thread.get().startsWith("timeout-test-"));
+        assertTrue(timeout.isExpired());
+        assertFalse(timeout.cancel());
+    }
+
+    @Test
+    void cancelledTimeoutDoesNotFire() throws InterruptedException {
+        final AtomicInteger runs = new AtomicInteger();
+        final Timeout timeout = scheduler.newTimeout(Duration.ofMillis(20), runs::incrementAndGet);
+
+        assertTrue(timeout.cancel());
+        assertFalse(timeout.cancel());
+        assertTrue(timeout.isCancelled());
+
+        Thread.sleep(100);
+        assertEquals(0, runs.get());
+        assertFalse(timeout.isExpired());
+    }
+
+    @Test
+    void timeoutsDoNotAppearInSnapshot() {
+        scheduler.newTimeout(Duration.ofHours(1), () -> { });
+
+        assertEquals(0, scheduler.snapshot().totalTaskCount());
+        assertEquals(0, scheduler.snapshot().liveTimerCount());
+    }
+
+    @Test
+    void rejectsInvalidArguments() {
+        assertThrows(NullPointerException.class, () -> scheduler.newTimeout(null, () -> { }));
+        assertThrows(NullPointerException.class, () -> scheduler.newTimeout(Duration.ofSeconds(1), null));
+        assertThrows(IllegalArgumentException.class, () -> scheduler.newTimeout(Duration.ofSeconds(-1), () -> { }));
+    }
+
+    @Test
+    void rejectsAfterShutdown() {
+        scheduler.shutdown();
+
+        assertThrows(IllegalStateException.class, () -> scheduler.newTimeout(Duration.ofSeconds(1), () -> { }));
+    }
+}
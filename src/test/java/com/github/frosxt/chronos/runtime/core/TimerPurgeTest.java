@@ -0,0 +1,110 @@
+package com.github.frosxt.chronos.runtime.core;
+
+import com.github.frosxt.chronos.api.ScheduledHandle;
+import com.github.frosxt.chronos.api.Scheduler;
+import com.github.frosxt.chronos.api.SchedulerSnapshot;
+import com.github.frosxt.chronos.api.factory.Chronos;
+import com.github.frosxt.chronos.api.policy.PurgePolicy;
+import com.github.frosxt.chronos.api.spec.SchedulerSpec;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.ref.WeakReference;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for purging the timers of cancelled tasks.
+ */
+class TimerPurgeTest {
+    private static final int TASKS = 2_000;
+    private static final int CANCELLED = 1_500;
+
+    private Scheduler scheduler;
+
+    @AfterEach
+    void tearDown() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    @Test
+    void lazyPolicyKeepsCancelledTimersQueued() {
+        final SchedulerSnapshot snapshot = scheduleAndCancel(PurgePolicy.LAZY);
+
+        assertEquals(TASKS - CANCELLED, snapshot.liveTimerCount());
+        assertEquals(CANCELLED, snapshot.cancelledTimerCount());
+    }
+
+    @Test
+    void immediatePolicyRemovesTimersOnCancel() {
+        final SchedulerSnapshot snapshot = scheduleAndCancel(PurgePolicy.IMMEDIATE);
+
+        assertEquals(TASKS - CANCELLED, snapshot.liveTimerCount());
+        assertEquals(0, snapshot.cancelledTimerCount());
+    }
+
+    @Test
+    void batchedPolicyBoundsCancelledTimers() throws InterruptedException {
+        SchedulerSnapshot snapshot = scheduleAndCancel(PurgePolicy.BATCHED);
+
+        // Purges run on a scheduler thread, so the last one may still be queued
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while ((snapshot.liveTimerCount() != TASKS - CANCELLED || snapshot.cancelledTimerCount() >= CANCELLED / 2)
+                && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+            snapshot = scheduler.snapshot();
+        }
+
+        assertEquals(TASKS - CANCELLED, snapshot.liveTimerCount());
+        assertTrue(snapshot.cancelledTimerCount() < CANCELLED / 2,
+                "expected most cancelled timers purged but " + snapshot.cancelledTimerCount() + " remain");
+    }
+
+    @Test
+    void cancelledTaskIsReleasedByTheScheduler() throws InterruptedException {
+        scheduler = Chronos.create(SchedulerSpec.builder().purgePolicy(PurgePolicy.IMMEDIATE).build());
+        final WeakReference<Runnable> body = scheduleAndCancelOne();
+
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (body.get() != null) {
+            assertTrue(System.nanoTime() < deadline, "cancelled task is still reachable from the scheduler");
+            System.gc();
+            Thread.sleep(10);
+        }
+    }
+
+    @Test
+    void defaultPolicyIsLazy() {
+        assertEquals(PurgePolicy.LAZY, SchedulerSpec.builder().build().purgePolicy());
+        assertThrows(NullPointerException.class, () -> SchedulerSpec.builder().purgePolicy(null));
+    }
+
+    private SchedulerSnapshot scheduleAndCancel(final PurgePolicy policy) {
+        scheduler = Chronos.create(SchedulerSpec.builder().purgePolicy(policy).build());
+
+        final List<ScheduledHandle> handles = new ArrayList<>();
+        for (int i = 0; i < TASKS; i++) {
+            handles.add(scheduler.scheduleOnce(Duration.ofHours(1), () -> { }));
+        }
+        for (int i = 0; i < CANCELLED; i++) {
+            assertTrue(handles.get(i).cancel());
+        }
+        return scheduler.snapshot();
+    }
+
+    private WeakReference<Runnable> scheduleAndCancelOne() {
+        final AtomicInteger runs = new AtomicInteger();
+        final Runnable body = runs::incrementAndGet;
+        final ScheduledHandle handle = scheduler.scheduleAtFixedRate(Duration.ofHours(1), Duration.ofHours(1), body);
+        assertTrue(handle.cancel());
+        assertFalse(handle.pause());
+        return new WeakReference<>(body);
+    }
+}
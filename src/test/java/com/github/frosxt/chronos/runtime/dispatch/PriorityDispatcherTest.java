@@ -0,0 +1,95 @@
+package com.github.frosxt.chronos.runtime.dispatch;
+
+import com.github.frosxt.chronos.api.policy.TaskPriority;
+import com.github.frosxt.chronos.runtime.time.mapper.InstantMapper;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PriorityDispatcherTest {
+    private static final long AGING_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final AtomicLong nanos = new AtomicLong(TimeUnit.SECONDS.toNanos(100));
+    private final PriorityDispatcher dispatcher =
+            new PriorityDispatcher(1, AGING_NANOS, new InstantMapper(nanos::get, Clock.systemUTC()));
+    private final List<String> order = new ArrayList<>();
+
+    @Test
+    void runsImmediatelyWhenPermitIsFree() {
+        dispatcher.submit(TaskPriority.LOW, nanos.get(), () -> order.add("low"));
+
+        assertEquals(List.of("low"), order);
+        assertEquals(1, dispatcher.dispatched(TaskPriority.LOW));
+        assertEquals(0, dispatcher.depth(TaskPriority.LOW));
+    }
+
+    @Test
+    void queuedExecutionsStartByPriorityThenDueTime() {
+        final long now = nanos.get();
+        whileBusy(() -> {
+            dispatcher.submit(TaskPriority.LOW, now - 3, () -> order.add("low"));
+            dispatcher.submit(TaskPriority.NORMAL, now - 1, () -> order.add("normal-late"));
+            dispatcher.submit(TaskPriority.NORMAL, now - 2, () -> order.add("normal-early"));
+            dispatcher.submit(TaskPriority.CRITICAL, now, () -> order.add("critical"));
+            assertEquals(2, dispatcher.depth(TaskPriority.NORMAL));
+        });
+
+        assertEquals(List.of("busy", "critical", "normal-early", "normal-late", "low"), order);
+    }
+
+    @Test
+    void agingPromotesLongWaitingExecutions() {
+        final long now = nanos.get();
+        whileBusy(() -> {
+            dispatcher.submit(TaskPriority.HIGH, now, () -> order.add("high"));
+            dispatcher.submit(TaskPriority.LOW, now - 2 * AGING_NANOS, () -> order.add("aged-low"));
+            dispatcher.submit(TaskPriority.LOW, now, () -> order.add("fresh-low"));
+        });
+
+        assertEquals(List.of("busy", "aged-low", "high", "fresh-low"), order);
+    }
+
+    @Test
+    void recordsQueueingDelayPerPriority() {
+        final long now = nanos.get();
+        whileBusy(() -> {
+            dispatcher.submit(TaskPriority.CRITICAL, now, () -> { });
+            dispatcher.submit(TaskPriority.LOW, now, () -> { });
+            nanos.addAndGet(TimeUnit.MILLISECONDS.toNanos(40));
+        });
+
+        assertEquals(1, dispatcher.dispatched(TaskPriority.CRITICAL));
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(40), dispatcher.maxDelayNanos(TaskPriority.CRITICAL));
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(40), dispatcher.totalDelayNanos(TaskPriority.LOW));
+        assertEquals(0, dispatcher.depth(TaskPriority.LOW));
+    }
+
+    @Test
+    void failingExecutionDoesNotStopTheDrain() {
+        whileBusy(() -> {
+            dispatcher.submit(TaskPriority.HIGH, nanos.get(), () -> {
+                throw new IllegalStateException("boom");
+            });
+            dispatcher.submit(TaskPriority.NORMAL, nanos.get(), () -> order.add("normal"));
+        });
+
+        assertEquals(List.of("busy", "normal"), order);
+    }
+
+    /**
+     * Holds the only permit while {@code submissions} runs, so everything it
+     * submits is queued and started afterwards in dispatch order.
+     */
+    private void whileBusy(final Runnable submissions) {
+        dispatcher.submit(TaskPriority.NORMAL, nanos.get(), () -> {
+            order.add("busy");
+            submissions.run();
+        });
+    }
+}
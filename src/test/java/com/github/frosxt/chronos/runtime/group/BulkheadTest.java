@@ -0,0 +1,193 @@
+package com.github.frosxt.chronos.runtime.group;
+
+import com.github.frosxt.chronos.api.ScheduledHandle;
+import com.github.frosxt.chronos.api.Scheduler;
+import com.github.frosxt.chronos.api.TaskState;
+import com.github.frosxt.chronos.api.factory.Chronos;
+import com.github.frosxt.chronos.api.group.GroupSnapshot;
+import com.github.frosxt.chronos.api.policy.BulkheadPolicy;
+import com.github.frosxt.chronos.api.spec.GroupSpec;
+import com.github.frosxt.chronos.api.spec.SchedulerSpec;
+import com.github.frosxt.chronos.api.spec.TaskSpec;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for per-group bulkheads.
+ */
+class BulkheadTest {
+    private static final TaskSpec TENANT = TaskSpec.builder().group("tenant").build();
+
+    private Scheduler scheduler;
+
+    @AfterEach
+    void tearDown() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    @Test
+    void concurrencyIsLimitedPerGroup() throws InterruptedException {
+        start(BulkheadPolicy.dropping(2, 100));
+        final AtomicInteger active = new AtomicInteger();
+        final AtomicInteger maxActive = new AtomicInteger();
+        final AtomicInteger runs = new AtomicInteger();
+
+        final List<ScheduledHandle> handles = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            handles.add(scheduler.scheduleAtFixedRate(Duration.ZERO, Duration.ofMillis(5), () -> {
+                maxActive.accumulateAndGet(active.incrementAndGet(), Math::max);
+                sleep(5);
+                active.decrementAndGet();
+                runs.incrementAndGet();
+            }, TENANT));
+        }
+
+        awaitCondition(() -> runs.get() >= 40);
+        handles.forEach(ScheduledHandle::cancel);
+        assertEquals(2, maxActive.get());
+    }
+
+    @Test
+    void fullQueueDropsOneShotExecutions() throws InterruptedException {
+        start(BulkheadPolicy.dropping(1, 1));
+        final CountDownLatch release = new CountDownLatch(1);
+        final CountDownLatch blocking = new CountDownLatch(1);
+        scheduler.scheduleOnce(Duration.ofMillis(1), () -> {
+            blocking.countDown();
+            await(release);
+        }, TENANT);
+        assertTrue(blocking.await(5, TimeUnit.SECONDS));
+
+        final CountDownLatch queuedRan = new CountDownLatch(1);
+        final ScheduledHandle queued = scheduler.scheduleOnce(Duration.ofMillis(1), queuedRan::countDown, TENANT);
+        awaitCondition(() -> group().queuedCount() == 1);
+        final ScheduledHandle dropped = scheduler.scheduleOnce(Duration.ofMillis(1), () -> { }, TENANT);
+
+        assertEquals(TaskState.CANCELLED, dropped.completion().orTimeout(5, TimeUnit.SECONDS).join());
+        final GroupSnapshot snapshot = group();
+        assertEquals(1, snapshot.activeCount());
+        assertEquals(1, snapshot.queuedCount());
+        assertEquals(1, snapshot.overflowCount());
+
+        release.countDown();
+        assertTrue(queuedRan.await(5, TimeUnit.SECONDS));
+        assertEquals(TaskState.COMPLETED, queued.completion().orTimeout(5, TimeUnit.SECONDS).join());
+        awaitCondition(() -> group().activeCount() == 0 && group().queuedCount() == 0);
+    }
+
+    @Test
+    void recurringDropWaitsForNextExecution() throws InterruptedException {
+        start(BulkheadPolicy.dropping(1, 0));
+        final CountDownLatch release = new CountDownLatch(1);
+        final CountDownLatch blocking = new CountDownLatch(1);
+        scheduler.scheduleOnce(Duration.ofMillis(1), () -> {
+            blocking.countDown();
+            await(release);
+        }, TENANT);
+        assertTrue(blocking.await(5, TimeUnit.SECONDS));
+
+        final AtomicInteger runs = new AtomicInteger();
+        final ScheduledHandle handle = scheduler.scheduleAtFixedRate(Duration.ZERO, Duration.ofMillis(20), runs::incrementAndGet, TENANT);
+        awaitCondition(() -> group().overflowCount() >= 2);
+        assertEquals(0, runs.get());
+        assertEquals(TaskState.SCHEDULED, handle.state());
+
+        release.countDown();
+        awaitCondition(() -> runs.get() >= 2);
+        handle.cancel();
+    }
+
+    @Test
+    void delayedOverflowFiresAgainLater() throws InterruptedException {
+        start(BulkheadPolicy.delaying(1, 0, Duration.ofMillis(20)));
+        final CountDownLatch release = new CountDownLatch(1);
+        final CountDownLatch blocking = new CountDownLatch(1);
+        scheduler.scheduleOnce(Duration.ofMillis(1), () -> {
+            blocking.countDown();
+            await(release);
+        }, TENANT);
+        assertTrue(blocking.await(5, TimeUnit.SECONDS));
+
+        final CountDownLatch ran = new CountDownLatch(1);
+        scheduler.scheduleOnce(Duration.ofMillis(1), ran::countDown, TENANT);
+        awaitCondition(() -> group().overflowCount() >= 2);
+        assertEquals(1, ran.getCount());
+
+        release.countDown();
+        assertTrue(ran.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void callerRunsBeyondTheLimit() throws InterruptedException {
+        start(BulkheadPolicy.callerRuns(1, 0));
+        final CountDownLatch release = new CountDownLatch(1);
+        final CountDownLatch blocking = new CountDownLatch(1);
+        scheduler.scheduleOnce(Duration.ofMillis(1), () -> {
+            blocking.countDown();
+            await(release);
+        }, TENANT);
+        assertTrue(blocking.await(5, TimeUnit.SECONDS));
+
+        final CountDownLatch ran = new CountDownLatch(1);
+        scheduler.scheduleOnce(Duration.ofMillis(1), ran::countDown, TENANT);
+
+        assertTrue(ran.await(5, TimeUnit.SECONDS));
+        assertEquals(1, group().overflowCount());
+        release.countDown();
+    }
+
+    @Test
+    void invalidPoliciesAreRejected() {
+        assertThrows(IllegalArgumentException.class, () -> BulkheadPolicy.dropping(0, 1));
+        assertThrows(IllegalArgumentException.class, () -> BulkheadPolicy.callerRuns(1, -1));
+        assertThrows(IllegalArgumentException.class, () -> BulkheadPolicy.delaying(1, 1, Duration.ZERO));
+        assertThrows(NullPointerException.class, () -> BulkheadPolicy.delaying(1, 1, null));
+    }
+
+    private void start(final BulkheadPolicy policy) {
+        scheduler = Chronos.create(SchedulerSpec.builder()
+                .threadCount(4)
+                .group(GroupSpec.builder("tenant").bulkhead(policy).build())
+                .build());
+    }
+
+    private GroupSnapshot group() {
+        return scheduler.snapshot().groups().get("tenant");
+    }
+
+    private static void awaitCondition(final BooleanSupplier condition) throws InterruptedException {
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertTrue(condition.getAsBoolean(), "condition not met within 5 seconds");
+    }
+
+    private static void await(final CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void sleep(final long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
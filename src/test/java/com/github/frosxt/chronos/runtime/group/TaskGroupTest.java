@@ -0,0 +1,215 @@
+package com.github.frosxt.chronos.runtime.group;
+
+import com.github.frosxt.chronos.api.ScheduledHandle;
+import com.github.frosxt.chronos.api.Scheduler;
+import com.github.frosxt.chronos.api.TaskState;
+import com.github.frosxt.chronos.api.factory.Chronos;
+import com.github.frosxt.chronos.api.group.CircuitOpenException;
+import com.github.frosxt.chronos.api.group.CircuitState;
+import com.github.frosxt.chronos.api.group.GroupSnapshot;
+import com.github.frosxt.chronos.api.listener.TaskContext;
+import com.github.frosxt.chronos.api.listener.TaskListener;
+import com.github.frosxt.chronos.api.policy.CircuitBreakerPolicy;
+import com.github.frosxt.chronos.api.policy.ExecutionPolicy;
+import com.github.frosxt.chronos.api.policy.OverrunPolicy;
+import com.github.frosxt.chronos.api.policy.RetryBudget;
+import com.github.frosxt.chronos.api.policy.RetryPolicy;
+import com.github.frosxt.chronos.api.spec.GroupSpec;
+import com.github.frosxt.chronos.api.spec.SchedulerSpec;
+import com.github.frosxt.chronos.api.spec.TaskSpec;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link TaskGroup} retry budgets and circuit breakers.
+ */
+class TaskGroupTest {
+
+    @Test
+    void retryBudgetLimitsRetriesToRatio() {
+        TaskGroup group = new TaskGroup(GroupSpec.builder("db")
+                .retryBudget(RetryBudget.of(0.5, 2))
+                .build());
+
+        assertTrue(group.tryAcquireRetry());
+        assertTrue(group.tryAcquireRetry());
+        assertFalse(group.tryAcquireRetry());
+        assertEquals(1, group.rejectedRetries());
+
+        group.recordFirstAttempt();
+        assertFalse(group.tryAcquireRetry());
+
+        group.recordFirstAttempt();
+        assertTrue(group.tryAcquireRetry());
+        assertEquals(0.0, group.retryTokens());
+    }
+
+    @Test
+    void retryBudgetNeverExceedsCapacity() {
+        TaskGroup group = new TaskGroup(GroupSpec.builder("db")
+                .retryBudget(RetryBudget.of(1.0, 3))
+                .build());
+
+        for (int i = 0; i < 10; i++) {
+            group.recordFirstAttempt();
+        }
+        assertEquals(3.0, group.retryTokens());
+    }
+
+    @Test
+    void breakerOpensAfterConsecutiveFailures() {
+        TaskGroup group = new TaskGroup(GroupSpec.builder("api")
+                .circuitBreaker(CircuitBreakerPolicy.of(3, Duration.ofSeconds(10), CircuitBreakerPolicy.OpenAction.SKIP))
+                .build());
+        long now = 1_000L;
+
+        group.recordFailure(now);
+        group.recordFailure(now);
+        group.recordSuccess();
+        group.recordFailure(now);
+        group.recordFailure(now);
+        assertEquals(CircuitState.CLOSED, group.circuitState());
+
+        group.recordFailure(now);
+        assertEquals(CircuitState.OPEN, group.circuitState());
+        assertFalse(group.tryAcquire(now));
+        assertFalse(group.tryAcquireRetry());
+        assertEquals(1, group.rejectedExecutions());
+        assertEquals(Duration.ofSeconds(10).toNanos(), group.breaker().retryAfterNanos(now));
+    }
+
+    @Test
+    void breakerAdmitsSingleProbeAfterOpenWindow() {
+        TaskGroup group = new TaskGroup(GroupSpec.builder("api")
+                .circuitBreaker(CircuitBreakerPolicy.of(1, Duration.ofSeconds(1), CircuitBreakerPolicy.OpenAction.SKIP))
+                .build());
+        long now = 0L;
+        long later = now + Duration.ofSeconds(1).toNanos();
+
+        group.recordFailure(now);
+        assertTrue(group.tryAcquire(later));
+        assertEquals(CircuitState.HALF_OPEN, group.circuitState());
+        assertFalse(group.tryAcquire(later));
+
+        group.recordFailure(later);
+        assertEquals(CircuitState.OPEN, group.circuitState());
+
+        long muchLater = later + Duration.ofSeconds(1).toNanos();
+        assertTrue(group.tryAcquire(muchLater));
+        group.recordSuccess();
+        assertEquals(CircuitState.CLOSED, group.circuitState());
+        assertTrue(group.tryAcquire(muchLater));
+    }
+
+    @Test
+    void ungroupedTasksAreAlwaysAdmitted() {
+        TaskGroup group = new GroupRegistry(Map.of()).resolve(null);
+
+        group.recordFailure(0);
+        assertTrue(group.tryAcquire(0));
+        assertTrue(group.tryAcquireRetry());
+        assertEquals(-1, group.retryTokens());
+    }
+
+    @Test
+    void openBreakerFailsTasksWithoutRunningThem() throws InterruptedException {
+        try (Scheduler scheduler = Chronos.create(SchedulerSpec.builder()
+                .threadCount(1)
+                .group(GroupSpec.builder("downstream")
+                        .circuitBreaker(CircuitBreakerPolicy.of(1, Duration.ofMinutes(1), CircuitBreakerPolicy.OpenAction.FAIL))
+                        .build())
+                .build())) {
+
+            AtomicInteger runs = new AtomicInteger();
+            TaskSpec spec = TaskSpec.builder()
+                    .group("downstream")
+                    .executionPolicy(ExecutionPolicy.retry(RetryPolicy.fixedDelay(Duration.ofMillis(10), 5)))
+                    .build();
+
+            ScheduledHandle first = scheduler.scheduleOnce(Duration.ofMillis(10), () -> {
+                runs.incrementAndGet();
+                throw new IllegalStateException("down");
+            }, spec);
+
+            awaitDone(first);
+            assertEquals(TaskState.FAILED, first.state());
+            assertEquals(1, runs.get());
+
+            ScheduledHandle second = scheduler.scheduleOnce(Duration.ofMillis(10), runs::incrementAndGet, spec);
+            awaitDone(second);
+            assertEquals(TaskState.FAILED, second.state());
+            assertEquals(1, runs.get());
+
+            GroupSnapshot group = scheduler.snapshot().groups().get("downstream");
+            assertEquals(CircuitState.OPEN, group.circuitState());
+            assertEquals(1, group.rejectedExecutionCount());
+            assertEquals(2, group.rejectedRetryCount());
+        }
+    }
+
+    @Test
+    void openBreakerAppliesToOverlappingTasks() throws InterruptedException {
+        Map<String, Throwable> failures = new ConcurrentHashMap<>();
+        try (Scheduler scheduler = Chronos.create(SchedulerSpec.builder()
+                .threadCount(1)
+                .addListener(new TaskListener() {
+                    @Override
+                    public void onStart(final TaskContext context) {
+                    }
+
+                    @Override
+                    public void onSuccess(final TaskContext context) {
+                    }
+
+                    @Override
+                    public void onFailure(final TaskContext context, final Throwable error) {
+                        failures.put(context.taskId(), error);
+                    }
+                })
+                .group(GroupSpec.builder("failing")
+                        .circuitBreaker(CircuitBreakerPolicy.of(1, Duration.ofMinutes(1), CircuitBreakerPolicy.OpenAction.FAIL))
+                        .build())
+                .group(GroupSpec.builder("skipping")
+                        .circuitBreaker(CircuitBreakerPolicy.of(1, Duration.ofMinutes(1), CircuitBreakerPolicy.OpenAction.SKIP))
+                        .build())
+                .build())) {
+
+            AtomicInteger runs = new AtomicInteger();
+            for (String group : new String[]{"failing", "skipping"}) {
+                awaitDone(scheduler.scheduleOnce(Duration.ofMillis(1), () -> {
+                    throw new IllegalStateException("down");
+                }, TaskSpec.builder().group(group).build()));
+            }
+
+            ScheduledHandle failing = scheduler.scheduleAtFixedRate(Duration.ofMillis(10), Duration.ofMillis(10),
+                    runs::incrementAndGet, TaskSpec.builder().group("failing").overrun(OverrunPolicy.overlap(2)).build());
+            awaitDone(failing);
+            assertEquals(TaskState.FAILED, failing.state());
+            for (int i = 0; i < 200 && !failures.containsKey(failing.id()); i++) {
+                Thread.sleep(10);
+            }
+            assertInstanceOf(CircuitOpenException.class, failures.get(failing.id()));
+
+            ScheduledHandle skipping = scheduler.scheduleAtFixedRate(Duration.ofMillis(10), Duration.ofMillis(10),
+                    runs::incrementAndGet, TaskSpec.builder().group("skipping").overrun(OverrunPolicy.overlap(2)).build());
+            for (int i = 0; i < 200 && scheduler.snapshot().skippedRunCount() < 2; i++) {
+                Thread.sleep(10);
+            }
+            assertTrue(scheduler.snapshot().skippedRunCount() >= 2);
+            assertEquals(TaskState.SCHEDULED, skipping.state());
+            assertEquals(0, runs.get());
+        }
+    }
+
+    private static void awaitDone(final ScheduledHandle handle) throws InterruptedException {
+        for (int i = 0; i < 200 && !handle.isDone(); i++) {
+            Thread.sleep(10);
+        }
+    }
+}
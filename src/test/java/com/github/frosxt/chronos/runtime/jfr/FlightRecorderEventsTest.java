@@ -0,0 +1,108 @@
+package com.github.frosxt.chronos.runtime.jfr;
+
+import com.github.frosxt.chronos.api.ScheduledHandle;
+import com.github.frosxt.chronos.api.Scheduler;
+import com.github.frosxt.chronos.api.factory.Chronos;
+import com.github.frosxt.chronos.api.policy.ExecutionPolicy;
+import com.github.frosxt.chronos.api.policy.RetryPolicy;
+import com.github.frosxt.chronos.api.spec.SchedulerSpec;
+import com.github.frosxt.chronos.api.spec.TaskSpec;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the flight recorder events emitted by the scheduler.
+ */
+class FlightRecorderEventsTest {
+
+    @Test
+    void recordsExecutionsRetriesTransitionsAndTimerDepth(@TempDir final Path dir) throws Exception {
+        final Path file = dir.resolve("chronos.jfr");
+        final Scheduler scheduler = Chronos.create(SchedulerSpec.builder().threadCount(2).build());
+        try (Recording recording = new Recording(loadProfile())) {
+            recording.enable("chronos.TimerQueueDepth").withPeriod(Duration.ofMillis(10));
+            recording.start();
+
+            final AtomicInteger attempts = new AtomicInteger();
+            final ScheduledHandle handle = scheduler.scheduleOnce(Duration.ofMillis(1), () -> {
+                if (attempts.incrementAndGet() == 1) {
+                    throw new IllegalStateException("first attempt fails");
+                }
+            }, TaskSpec.builder()
+                    .executionPolicy(ExecutionPolicy.retry(RetryPolicy.fixedDelay(Duration.ofMillis(5), 3)))
+                    .build());
+            handle.completion().orTimeout(5, TimeUnit.SECONDS).join();
+            Thread.sleep(50);
+
+            recording.stop();
+            recording.dump(file);
+
+            final List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+            final List<RecordedEvent> executions = ofType(events, "chronos.TaskExecution", handle.id());
+            assertEquals(2, executions.size());
+            assertTrue(executions.get(0).getBoolean("failed"));
+            assertFalse(executions.get(1).getBoolean("failed"));
+            assertEquals("ONCE", executions.get(1).getString("taskType"));
+
+            final List<RecordedEvent> retries = ofType(events, "chronos.RetryScheduled", handle.id());
+            assertEquals(1, retries.size());
+            assertEquals(1, retries.get(0).getInt("attempt"));
+
+            final List<RecordedEvent> transitions = ofType(events, "chronos.StateTransition", handle.id());
+            assertEquals("COMPLETED", transitions.get(transitions.size() - 1).getString("to"));
+            assertTrue(transitions.stream().anyMatch(e -> "RETRY_WAIT".equals(e.getString("to"))));
+
+            assertTrue(events.stream().anyMatch(e -> e.getEventType().getName().equals("chronos.TimerQueueDepth")));
+        } finally {
+            scheduler.shutdownNow();
+        }
+    }
+
+    @Test
+    void disabledEventsAreNotRecorded(@TempDir final Path dir) throws Exception {
+        final Path file = dir.resolve("empty.jfr");
+        final Scheduler scheduler = Chronos.create(SchedulerSpec.builder().build());
+        try (Recording recording = new Recording()) {
+            recording.disable("chronos.TaskExecution");
+            recording.start();
+            scheduler.scheduleOnce(Duration.ofMillis(1), () -> { }).completion().orTimeout(5, TimeUnit.SECONDS).join();
+            recording.stop();
+            recording.dump(file);
+
+            assertTrue(RecordingFile.readAllEvents(file).stream()
+                    .noneMatch(e -> e.getEventType().getName().startsWith("chronos.Task")));
+        } finally {
+            scheduler.shutdownNow();
+        }
+    }
+
+    private static Configuration loadProfile() throws Exception {
+        try (Reader reader = new InputStreamReader(
+                FlightRecorderEventsTest.class.getResourceAsStream("chronos.jfc"), StandardCharsets.UTF_8)) {
+            return Configuration.create(reader);
+        }
+    }
+
+    private static List<RecordedEvent> ofType(final List<RecordedEvent> events, final String type, final String taskId) {
+        return events.stream()
+                .filter(e -> e.getEventType().getName().equals(type))
+                .filter(e -> taskId.equals(e.getString("taskId")))
+                .sorted((a, b) -> a.getStartTime().compareTo(b.getStartTime()))
+                .toList();
+    }
+}
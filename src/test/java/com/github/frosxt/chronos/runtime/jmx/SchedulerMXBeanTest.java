@@ -0,0 +1,125 @@
+package com.github.frosxt.chronos.runtime.jmx;
+
+import com.github.frosxt.chronos.api.ScheduledHandle;
+import com.github.frosxt.chronos.api.Scheduler;
+import com.github.frosxt.chronos.api.TaskState;
+import com.github.frosxt.chronos.api.factory.Chronos;
+import com.github.frosxt.chronos.api.spec.GroupSpec;
+import com.github.frosxt.chronos.api.spec.SchedulerSpec;
+import com.github.frosxt.chronos.api.spec.TaskSpec;
+import com.github.frosxt.chronos.api.spec.builder.SchedulerSpecBuilder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import javax.management.JMX;
+import javax.management.MBeanServer;
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the scheduler and group MXBeans.
+ */
+class SchedulerMXBeanTest {
+    private static final Duration LATER = Duration.ofHours(1);
+
+    private final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+    private Scheduler scheduler;
+
+    @AfterEach
+    void tearDown() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    @Test
+    void exposesCountersStatesAndLatencies() throws Exception {
+        scheduler = start("attributes", SchedulerSpec.builder());
+        final SchedulerMXBean bean = JMX.newMXBeanProxy(server, JmxRegistration.schedulerName("attributes"), SchedulerMXBean.class);
+
+        scheduler.scheduleOnce(Duration.ofMillis(1), () -> sleep(20)).completion().orTimeout(5, TimeUnit.SECONDS).join();
+        scheduler.scheduleOnce(LATER, () -> { });
+        scheduler.scheduleOnce(LATER, () -> { }).pause();
+
+        assertEquals(1, bean.getTotalExecutionCount());
+        assertEquals(1, bean.getCompletedCount());
+        assertEquals(1, bean.getScheduledCount());
+        assertEquals(1, bean.getPausedCount());
+        assertEquals(0, bean.getRunningCount());
+        assertEquals(1, bean.getRunDurationCount());
+        assertTrue(bean.getRunDurationMaxNanos() >= TimeUnit.MILLISECONDS.toNanos(20));
+        assertTrue(bean.getPoolSize() >= 1);
+        assertEquals(1, bean.getLiveTimerCount());
+    }
+
+    @Test
+    void cancelsTasksByIdAndListsSlowestTasks() {
+        scheduler = start("operations", SchedulerSpec.builder());
+        final SchedulerMXBean bean = JMX.newMXBeanProxy(server, JmxRegistration.schedulerName("operations"), SchedulerMXBean.class);
+
+        final ScheduledHandle fast = scheduler.scheduleOnce(Duration.ofMillis(1), () -> { });
+        final ScheduledHandle slow = scheduler.scheduleOnce(Duration.ofMillis(1), () -> sleep(30));
+        fast.completion().orTimeout(5, TimeUnit.SECONDS).join();
+        slow.completion().orTimeout(5, TimeUnit.SECONDS).join();
+
+        final String[] slowest = bean.slowestTasks(1);
+        assertEquals(1, slowest.length);
+        assertTrue(slowest[0].startsWith(slow.id() + " ONCE "));
+        assertEquals(2, bean.slowestTasks(10).length);
+
+        final ScheduledHandle pending = scheduler.scheduleOnce(LATER, () -> { });
+        assertTrue(bean.cancelTask(pending.id()));
+        assertEquals(TaskState.CANCELLED, pending.state());
+        assertFalse(bean.cancelTask("missing"));
+    }
+
+    @Test
+    void registersGroupsAndControlsThem() {
+        scheduler = start("groups", SchedulerSpec.builder().group(GroupSpec.builder("configured").build()));
+        assertTrue(server.isRegistered(JmxRegistration.groupName("groups", "configured")));
+
+        final ScheduledHandle handle = scheduler.scheduleOnce(LATER, () -> { }, TaskSpec.builder().group("lazy").build());
+        final GroupMXBean group = JMX.newMXBeanProxy(server, JmxRegistration.groupName("groups", "lazy"), GroupMXBean.class);
+        assertEquals("lazy", group.getName());
+        assertEquals("CLOSED", group.getCircuitState());
+
+        assertEquals(1, group.pause());
+        assertTrue(group.isPaused());
+        assertEquals(TaskState.PAUSED, handle.state());
+        assertEquals(1, group.resume());
+        assertEquals(TaskState.SCHEDULED, handle.state());
+    }
+
+    @Test
+    void unregistersOnShutdown() {
+        scheduler = start("shutdown", SchedulerSpec.builder());
+        scheduler.scheduleOnce(LATER, () -> { }, TaskSpec.builder().group("g").build());
+        assertTrue(server.isRegistered(JmxRegistration.schedulerName("shutdown")));
+
+        scheduler.shutdownNow();
+        assertFalse(server.isRegistered(JmxRegistration.schedulerName("shutdown")));
+        assertFalse(server.isRegistered(JmxRegistration.groupName("shutdown", "g")));
+    }
+
+    @Test
+    void duplicateNamesAreRejected() {
+        scheduler = start("duplicate", SchedulerSpec.builder());
+        assertThrows(IllegalStateException.class, () -> start("duplicate", SchedulerSpec.builder()));
+        assertTrue(server.isRegistered(JmxRegistration.schedulerName("duplicate")));
+    }
+
+    private static Scheduler start(final String name, final SchedulerSpecBuilder builder) {
+        return Chronos.create(builder.threadCount(2).jmx(name).build());
+    }
+
+    private static void sleep(final long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.github.frosxt.chronos.runtime.metrics;
+
+import com.github.frosxt.chronos.api.TaskType;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the slowest task tracker.
+ */
+class SlowTaskTrackerTest {
+
+    @Test
+    void keepsLongestRunTimePerTask() {
+        final SlowTaskTracker tracker = new SlowTaskTracker(4);
+        tracker.record("a", TaskType.ONCE, 10);
+        tracker.record("a", TaskType.ONCE, 30);
+        tracker.record("a", TaskType.ONCE, 20);
+
+        final List<SlowTaskTracker.SlowTask> top = tracker.top(10);
+        assertEquals(1, top.size());
+        assertEquals(30, top.get(0).runTimeNanos());
+    }
+
+    @Test
+    void evictsShortestWhenFull() {
+        final SlowTaskTracker tracker = new SlowTaskTracker(2);
+        tracker.record("a", TaskType.ONCE, 10);
+        tracker.record("b", TaskType.FIXED_RATE, 50);
+        tracker.record("c", TaskType.CRON, 5);
+        tracker.record("d", TaskType.FIXED_DELAY, 40);
+
+        final List<SlowTaskTracker.SlowTask> top = tracker.top(2);
+        assertEquals(List.of("b", "d"), top.stream().map(SlowTaskTracker.SlowTask::taskId).toList());
+        assertEquals(TaskType.FIXED_RATE, top.get(0).type());
+        assertEquals(1, tracker.top(1).size());
+    }
+
+    @Test
+    void resetForgetsTasks() {
+        final SlowTaskTracker tracker = new SlowTaskTracker(1);
+        tracker.record("a", TaskType.ONCE, 100);
+        tracker.reset();
+        tracker.record("b", TaskType.ONCE, 1);
+
+        assertEquals("b", tracker.top(1).get(0).taskId());
+    }
+}
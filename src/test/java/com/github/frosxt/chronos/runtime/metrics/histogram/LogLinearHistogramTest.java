@@ -0,0 +1,111 @@
+package com.github.frosxt.chronos.runtime.metrics.histogram;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link LogLinearHistogram}.
+ */
+class LogLinearHistogramTest {
+
+    @Test
+    void everyValueFallsInsideItsBucket() {
+        for (long value = 0; value < 100_000; value++) {
+            assertInsideBucket(value);
+        }
+        for (int shift = 17; shift < 63; shift++) {
+            assertInsideBucket(1L << shift);
+            assertInsideBucket((1L << shift) - 1);
+            assertInsideBucket((1L << shift) + 12345);
+        }
+        assertInsideBucket(Long.MAX_VALUE);
+    }
+
+    @Test
+    void percentilesAreWithinRelativeError() {
+        final LogLinearHistogram histogram = new LogLinearHistogram();
+        for (long value = 1; value <= 100_000; value++) {
+            histogram.record(value * 1_000);
+        }
+
+        final LogLinearHistogram.Interval interval = histogram.interval();
+        assertEquals(100_000, interval.count());
+        assertWithin(50_000_000, interval.valueAtPercentile(50));
+        assertWithin(99_000_000, interval.valueAtPercentile(99));
+        assertWithin(99_900_000, interval.valueAtPercentile(99.9));
+        assertEquals(100_000_000, interval.max());
+        assertEquals(100_000_000, interval.valueAtPercentile(100));
+    }
+
+    @Test
+    void smallValuesAreExact() {
+        final LogLinearHistogram histogram = new LogLinearHistogram();
+        for (int i = 0; i < 10; i++) {
+            histogram.record(i);
+        }
+        assertEquals(4, histogram.interval().valueAtPercentile(50));
+        assertEquals(9, histogram.interval().max());
+    }
+
+    @Test
+    void negativeValuesAreRecordedAsZero() {
+        final LogLinearHistogram histogram = new LogLinearHistogram();
+        histogram.record(-5);
+        assertEquals(1, histogram.interval().count());
+        assertEquals(0, histogram.interval().max());
+    }
+
+    @Test
+    void resetStartsANewInterval() {
+        final LogLinearHistogram histogram = new LogLinearHistogram();
+        histogram.record(1_000_000);
+        histogram.reset();
+
+        final LogLinearHistogram.Interval empty = histogram.interval();
+        assertEquals(0, empty.count());
+        assertEquals(0, empty.max());
+        assertEquals(0, empty.valueAtPercentile(99));
+
+        histogram.record(500);
+        final LogLinearHistogram.Interval next = histogram.interval();
+        assertEquals(1, next.count());
+        assertEquals(500, next.max());
+    }
+
+    @Test
+    void concurrentRecordsAreNotLost() throws InterruptedException {
+        final LogLinearHistogram histogram = new LogLinearHistogram();
+        final List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            final Thread thread = new Thread(() -> {
+                for (int i = 0; i < 100_000; i++) {
+                    histogram.record(i);
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        for (final Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(400_000, histogram.interval().count());
+        assertEquals(99_999, histogram.interval().max());
+    }
+
+    private static void assertInsideBucket(final long value) {
+        final int index = LogLinearHistogram.bucketIndex(value);
+        assertTrue(value <= LogLinearHistogram.highestValueIn(index), "value above its bucket: " + value);
+        if (index > 0) {
+            assertTrue(value > LogLinearHistogram.highestValueIn(index - 1), "value below its bucket: " + value);
+        }
+    }
+
+    private static void assertWithin(final long expected, final long actual) {
+        assertTrue(Math.abs(actual - expected) <= expected / 16, "expected ~" + expected + " but was " + actual);
+    }
+}
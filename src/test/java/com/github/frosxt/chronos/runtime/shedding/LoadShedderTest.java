@@ -0,0 +1,65 @@
+package com.github.frosxt.chronos.runtime.shedding;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link LoadShedder}.
+ */
+class LoadShedderTest {
+    private static final long THRESHOLD = 1_000;
+
+    @Test
+    void singleLateSampleDoesNotTripShedding() {
+        final LoadShedder shedder = new LoadShedder(THRESHOLD);
+        assertFalse(shedder.observe(4 * THRESHOLD));
+        assertEquals(THRESHOLD / 2, shedder.lagEstimateNanos());
+    }
+
+    @Test
+    void sustainedLagStartsShedding() {
+        final LoadShedder shedder = new LoadShedder(THRESHOLD);
+        boolean shedding = false;
+        for (int i = 0; i < 20 && !shedding; i++) {
+            shedding = shedder.observe(2 * THRESHOLD);
+        }
+        assertTrue(shedding);
+        assertTrue(shedder.isShedding());
+        assertTrue(shedder.lagEstimateNanos() > THRESHOLD);
+    }
+
+    @Test
+    void sheddingStopsOnlyBelowHalfTheThreshold() {
+        final LoadShedder shedder = new LoadShedder(THRESHOLD);
+        while (!shedder.observe(2 * THRESHOLD)) {
+            // Build up lag.
+        }
+
+        while (shedder.lagEstimateNanos() >= THRESHOLD) {
+            assertTrue(shedder.observe(0));
+        }
+        while (shedder.lagEstimateNanos() >= THRESHOLD / 2 + THRESHOLD / 8) {
+            assertTrue(shedder.observe(0), "shedding stopped above half the threshold");
+        }
+        while (shedder.observe(0)) {
+            // Drain the remaining lag.
+        }
+        assertTrue(shedder.lagEstimateNanos() < THRESHOLD / 2);
+    }
+
+    @Test
+    void earlyStartsCountAsZeroLag() {
+        final LoadShedder shedder = new LoadShedder(THRESHOLD);
+        shedder.observe(-10 * THRESHOLD);
+        assertEquals(0, shedder.lagEstimateNanos());
+    }
+
+    @Test
+    void shedExecutionsAreCounted() {
+        final LoadShedder shedder = new LoadShedder(THRESHOLD);
+        shedder.recordShed();
+        shedder.recordShed();
+        assertEquals(2, shedder.shedCount());
+    }
+}
@@ -0,0 +1,42 @@
+package com.github.frosxt.chronos.runtime.task.future;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TaskFutureSlotTest {
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void fireBeforeTheFutureIsStoredIsKept() {
+        final TaskFutureSlot slot = new TaskFutureSlot();
+        final ScheduledFuture<?> future = executor.schedule(() -> { }, 1, TimeUnit.HOURS);
+
+        slot.markFired(future);
+        slot.set(future);
+        assertTrue(slot.hasFired());
+    }
+
+    @Test
+    void fireOfAnEarlierFutureDoesNotCarryOver() {
+        final TaskFutureSlot slot = new TaskFutureSlot();
+        final ScheduledFuture<?> first = executor.schedule(() -> { }, 1, TimeUnit.HOURS);
+        final ScheduledFuture<?> second = executor.schedule(() -> { }, 1, TimeUnit.HOURS);
+
+        slot.set(first);
+        slot.markFired(first);
+        slot.set(second);
+        assertFalse(slot.hasFired());
+    }
+}
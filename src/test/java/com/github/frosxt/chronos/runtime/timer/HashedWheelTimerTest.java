@@ -0,0 +1,106 @@
+package com.github.frosxt.chronos.runtime.timer;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HashedWheelTimerTest {
+    private final HashedWheelTimer timer = new HashedWheelTimer(TimeUnit.MILLISECONDS.toNanos(1), 8, "test-wheel");
+
+    @AfterEach
+    void tearDown() {
+        timer.stop();
+    }
+
+    @Test
+    void firesAfterDelay() throws InterruptedException {
+        final CountDownLatch fired = new CountDownLatch(1);
+        final long start = System.nanoTime();
+
+        final WheelTimeout timeout = timer.schedule(fired::countDown, TimeUnit.MILLISECONDS.toNanos(30));
+
+        assertTrue(fired.await(1, TimeUnit.SECONDS));
+        assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(30));
+        assertTrue(timeout.isExpired());
+        assertFalse(timeout.cancel());
+    }
+
+    @Test
+    void delaysLongerThanOneRotationWaitForTheirRound() throws InterruptedException {
+        final CountDownLatch fired = new CountDownLatch(1);
+        final long start = System.nanoTime();
+
+        timer.schedule(fired::countDown, TimeUnit.MILLISECONDS.toNanos(50));
+
+        assertTrue(fired.await(1, TimeUnit.SECONDS));
+        assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(50));
+    }
+
+    @Test
+    void cancelledTimeoutsDoNotFire() throws InterruptedException {
+        final AtomicInteger fired = new AtomicInteger();
+        final CountDownLatch marker = new CountDownLatch(1);
+
+        for (int i = 0; i < 1000; i++) {
+            final WheelTimeout timeout = timer.schedule(fired::incrementAndGet, TimeUnit.MILLISECONDS.toNanos(5 + i % 20));
+            assertTrue(timeout.cancel());
+            assertTrue(timeout.isCancelled());
+        }
+        timer.schedule(marker::countDown, TimeUnit.MILLISECONDS.toNanos(40));
+
+        assertTrue(marker.await(1, TimeUnit.SECONDS));
+        assertEquals(0, fired.get());
+    }
+
+    @Test
+    void timeoutsCancelledAfterTransferDoNotFire() throws InterruptedException {
+        final AtomicInteger fired = new AtomicInteger();
+        final CountDownLatch marker = new CountDownLatch(1);
+
+        final WheelTimeout timeout = timer.schedule(fired::incrementAndGet, TimeUnit.MILLISECONDS.toNanos(30));
+        Thread.sleep(10);
+        assertTrue(timeout.cancel());
+        timer.schedule(marker::countDown, TimeUnit.MILLISECONDS.toNanos(50));
+
+        assertTrue(marker.await(1, TimeUnit.SECONDS));
+        assertEquals(0, fired.get());
+        assertFalse(timeout.isExpired());
+    }
+
+    @Test
+    void expiredTasksRunOnDispatcher() throws InterruptedException {
+        final ExecutorService dispatcher = Executors.newSingleThreadExecutor(r -> new Thread(r, "dispatch"));
+        final HashedWheelTimer dispatching = new HashedWheelTimer(TimeUnit.MILLISECONDS.toNanos(1), 8, "test-wheel", dispatcher);
+        try {
+            final CountDownLatch fired = new CountDownLatch(1);
+            final AtomicReference<String> thread = new AtomicReference<>();
+
+            dispatching.schedule(() -> {
+                thread.set(Thread.currentThread().getName());
+                fired.countDown();
+            }, TimeUnit.MILLISECONDS.toNanos(5));
+
+            assertTrue(fired.await(1, TimeUnit.SECONDS));
+            assertEquals("dispatch", thread.get());
+        } finally {
+            dispatching.stop();
+            dispatcher.shutdownNow();
+        }
+    }
+
+    @Test
+    void scheduleAfterStopIsRejected() {
+        timer.schedule(() -> { }, 1);
+        timer.stop();
+
+        assertThrows(IllegalStateException.class, () -> timer.schedule(() -> { }, 1));
+    }
+}
@@ -0,0 +1,61 @@
+package com.github.frosxt.chronos.runtime.timer;
+
+import com.github.frosxt.chronos.api.policy.PurgePolicy;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TimerPurgerTest {
+    private final TimerExecutor executor = new TimerExecutor(1, Thread::new);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void countsCancelledTimersUntilTheyAreDiscarded() throws InterruptedException {
+        final TimerPurger purger = new TimerPurger(executor, PurgePolicy.LAZY);
+        final ScheduledFuture<?> later = executor.schedule(() -> { }, 1, TimeUnit.HOURS);
+        final ScheduledFuture<?> soon = executor.schedule(() -> { }, 20, TimeUnit.MILLISECONDS);
+
+        cancel(later, purger);
+        cancel(soon, purger);
+        assertEquals(2, purger.cancelledTimerCount());
+
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (purger.cancelledTimerCount() != 1 && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertEquals(1, purger.cancelledTimerCount());
+        assertEquals(1, purger.queuedCount());
+    }
+
+    @Test
+    void purgeAndImmediateRemovalKeepTheCountAtZero() throws InterruptedException {
+        final TimerPurger batched = new TimerPurger(executor, PurgePolicy.BATCHED);
+        for (int i = 0; i < 256; i++) {
+            cancel(executor.schedule(() -> { }, 1, TimeUnit.HOURS), batched);
+        }
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (batched.cancelledTimerCount() != 0 && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertEquals(0, batched.cancelledTimerCount());
+        assertEquals(0, batched.queuedCount());
+
+        final TimerPurger immediate = new TimerPurger(executor, PurgePolicy.IMMEDIATE);
+        cancel(executor.schedule(() -> { }, 1, TimeUnit.HOURS), immediate);
+        assertEquals(0, immediate.cancelledTimerCount());
+        assertEquals(0, immediate.queuedCount());
+    }
+
+    private static void cancel(final ScheduledFuture<?> future, final TimerPurger purger) {
+        assertTrue(future.cancel(false));
+        purger.onCancel();
+    }
+}
@@ -0,0 +1,93 @@
+package com.github.frosxt.chronos.runtime.trigger;
+
+import com.github.frosxt.chronos.runtime.trigger.impl.AdaptiveRateTrigger;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link AdaptiveRateTrigger}.
+ */
+class AdaptiveRateTriggerTest {
+    private static final long MIN = Duration.ofSeconds(1).toNanos();
+    private static final long MAX = Duration.ofSeconds(8).toNanos();
+    private static final long STEP = Duration.ofMillis(500).toNanos();
+
+    private static AdaptiveRateTrigger trigger(final long now) {
+        return new AdaptiveRateTrigger(now, 0, MIN, MAX, 0.5, 2.0, STEP, 1.0);
+    }
+
+    @Test
+    void startsAtMinimumPeriod() {
+        final AdaptiveRateTrigger trigger = trigger(0);
+
+        assertEquals(0, trigger.nextDelayNanos(0, -1, -1, 0));
+        assertEquals(MIN, trigger.currentPeriodNanos());
+    }
+
+    @Test
+    void slowExecutionsBackOffUpToMaximum() {
+        final AdaptiveRateTrigger trigger = trigger(0);
+        long start = 0;
+
+        for (int run = 1; run <= 6; run++) {
+            final long end = start + trigger.currentPeriodNanos();
+            final long delay = trigger.nextDelayNanos(end, start, end, run);
+            start = end + delay;
+        }
+
+        assertEquals(MAX, trigger.currentPeriodNanos());
+    }
+
+    @Test
+    void fastExecutionsRecoverByStepDownToMinimum() {
+        final AdaptiveRateTrigger trigger = trigger(0);
+        final long slow = Duration.ofMillis(900).toNanos();
+
+        trigger.nextDelayNanos(slow, 0, slow, 1);
+        assertEquals(2 * MIN, trigger.currentPeriodNanos());
+
+        final long start = 2 * MIN;
+        trigger.nextDelayNanos(start + 10, start, start + 10, 2);
+        assertEquals(2 * MIN - STEP, trigger.currentPeriodNanos());
+
+        for (int run = 3; run < 10; run++) {
+            trigger.nextDelayNanos(0, 0, 10, run);
+        }
+        assertEquals(MIN, trigger.currentPeriodNanos());
+    }
+
+    @Test
+    void lagBacksOffEvenWhenExecutionsAreFast() {
+        final AdaptiveRateTrigger trigger = trigger(0);
+        final long lateStart = Duration.ofMillis(600).toNanos();
+
+        trigger.nextDelayNanos(lateStart + 10, lateStart, lateStart + 10, 1);
+
+        assertEquals(2 * MIN, trigger.currentPeriodNanos());
+    }
+
+    @Test
+    void nextRunFollowsPreviousTargetAndReanchorsWhenBehind() {
+        final AdaptiveRateTrigger trigger = trigger(0);
+
+        assertEquals(MIN - 10, trigger.nextDelayNanos(10, 0, 10, 1));
+
+        final long farBehind = Duration.ofSeconds(30).toNanos();
+        assertEquals(0, trigger.nextDelayNanos(farBehind, MIN, MIN + 10, 2));
+        assertEquals(MIN - 10, trigger.nextDelayNanos(farBehind + 10, farBehind, farBehind + 10, 3));
+    }
+
+    @Test
+    void repeatedCallsForSameRunDoNotAdjustTwice() {
+        final AdaptiveRateTrigger trigger = trigger(0);
+        final long slow = Duration.ofMillis(900).toNanos();
+
+        trigger.nextDelayNanos(slow, 0, slow, 1);
+        trigger.nextDelayNanos(slow, 0, slow, 1);
+
+        assertEquals(2 * MIN, trigger.currentPeriodNanos());
+    }
+}
@@ -1,5 +1,6 @@
 package com.github.frosxt.chronos.runtime.trigger;
 
+import com.github.frosxt.chronos.api.policy.OverrunPolicy;
 import com.github.frosxt.chronos.runtime.trigger.impl.FixedRateTrigger;
 import org.junit.jupiter.api.Test;
 
@@ -74,6 +75,104 @@ class FixedRateTriggerTest {
         }
     }
 
+    @Test
+    void skipResumesAtNextAlignedSlot() {
+        long period = Duration.ofSeconds(5).toNanos();
+        FixedRateTrigger trigger = new FixedRateTrigger(0, 0, period, OverrunPolicy.skip());
+
+        long longRunEnd = Duration.ofSeconds(12).toNanos();
+        long delay = trigger.nextDelayNanos(longRunEnd, 0, longRunEnd, 1);
+
+        assertEquals(3 * period - longRunEnd, delay);
+        assertEquals(2, trigger.skippedRuns());
+
+        long onTime = 3 * period + 10;
+        assertEquals(period - 10, trigger.nextDelayNanos(onTime, 3 * period, onTime, 2));
+        assertEquals(2, trigger.skippedRuns());
+    }
+
+    @Test
+    void boundedCatchUpSkipsBeyondBurst() {
+        long period = Duration.ofSeconds(5).toNanos();
+        FixedRateTrigger trigger = new FixedRateTrigger(0, 0, period, OverrunPolicy.catchUp(1));
+
+        long longRunEnd = Duration.ofSeconds(12).toNanos();
+        assertEquals(0, trigger.nextDelayNanos(longRunEnd, 0, longRunEnd, 1));
+        assertEquals(1, trigger.skippedRuns());
+
+        long burstEnd = longRunEnd + 10;
+        assertEquals(3 * period - burstEnd, trigger.nextDelayNanos(burstEnd, longRunEnd, burstEnd, 2));
+        assertEquals(1, trigger.skippedRuns());
+    }
+
+    @Test
+    void unboundedCatchUpNeverSkips() {
+        long period = Duration.ofSeconds(5).toNanos();
+        FixedRateTrigger trigger = new FixedRateTrigger(0, 0, period, OverrunPolicy.catchUp());
+
+        long longRunEnd = Duration.ofSeconds(12).toNanos();
+        assertEquals(0, trigger.nextDelayNanos(longRunEnd, 0, longRunEnd, 1));
+        assertEquals(0, trigger.nextDelayNanos(longRunEnd + 10, longRunEnd, longRunEnd + 10, 2));
+        assertEquals(0, trigger.skippedRuns());
+    }
+
+    @Test
+    void resumeSkipsSlotsMissedWhilePaused() {
+        long period = Duration.ofSeconds(1).toNanos();
+        FixedRateTrigger trigger = new FixedRateTrigger(0, 0, period);
+
+        long resumedAt = 7 * period + period / 2;
+        assertEquals(period / 2, trigger.resumeDelayNanos(resumedAt, 2 * period, 2 * period + 10, 3, false));
+        assertEquals(5, trigger.skippedRuns());
+    }
+
+    @Test
+    void resumeKeepsOneMissedSlotToRunImmediately() {
+        long period = Duration.ofSeconds(1).toNanos();
+        FixedRateTrigger trigger = new FixedRateTrigger(0, 0, period);
+
+        long resumedAt = 7 * period + period / 2;
+        assertEquals(0, trigger.resumeDelayNanos(resumedAt, 2 * period, 2 * period + 10, 3, true));
+        assertEquals(4, trigger.skippedRuns());
+
+        long runEnd = resumedAt + 10;
+        assertEquals(8 * period - runEnd, trigger.nextDelayNanos(runEnd, resumedAt, runEnd, 4));
+    }
+
+    @Test
+    void resumeBeforeNextSlotSkipsNothing() {
+        long period = Duration.ofSeconds(1).toNanos();
+        FixedRateTrigger trigger = new FixedRateTrigger(0, 0, period);
+
+        long resumedAt = 2 * period + period / 2;
+        assertEquals(period / 2, trigger.resumeDelayNanos(resumedAt, 2 * period, 2 * period + 10, 3, false));
+        assertEquals(0, trigger.skippedRuns());
+    }
+
+    @Test
+    void continuingTriggerPlansFromRunCount() {
+        long period = Duration.ofSeconds(1).toNanos();
+        long next = 50 * period;
+        FixedRateTrigger trigger = FixedRateTrigger.continuing(next, period, OverrunPolicy.catchUp(), 7);
+
+        long now = next - period / 4;
+        assertEquals(period / 4, trigger.nextDelayNanos(now, now - period, now - period + 10, 7));
+
+        long runEnd = next + 10;
+        assertEquals(next + period - runEnd, trigger.nextDelayNanos(runEnd, next, runEnd, 8));
+        assertEquals(0, trigger.skippedRuns());
+    }
+
+    @Test
+    void continuingTriggerSkipsMissedSlotsRelativeToRunCount() {
+        long period = Duration.ofSeconds(1).toNanos();
+        FixedRateTrigger trigger = FixedRateTrigger.continuing(0, period, OverrunPolicy.skip(), 100);
+
+        long runEnd = 3 * period + period / 2;
+        assertEquals(period / 2, trigger.nextDelayNanos(runEnd, 0, runEnd, 101));
+        assertEquals(3, trigger.skippedRuns());
+    }
+
     @Test
     void isRecurring() {
         FixedRateTrigger trigger = new FixedRateTrigger(0, 0,
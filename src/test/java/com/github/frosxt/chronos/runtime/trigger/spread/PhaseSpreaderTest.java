@@ -0,0 +1,52 @@
+package com.github.frosxt.chronos.runtime.trigger.spread;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PhaseSpreaderTest {
+    private static final long PERIOD = Duration.ofMinutes(1).toNanos();
+
+    @Test
+    void phaseOffsetIsStableAndWithinPeriod() {
+        final long offset = PhaseSpreader.phaseOffsetNanos("billing-sync", PERIOD);
+
+        assertEquals(offset, PhaseSpreader.phaseOffsetNanos("billing-sync", PERIOD));
+        assertTrue(offset >= 0 && offset < PERIOD);
+    }
+
+    @Test
+    void sequentialKeysSpreadEvenly() {
+        final int tasks = 6000;
+        final int slots = 60;
+        final int[] histogram = new int[slots];
+        for (int i = 0; i < tasks; i++) {
+            histogram[(int) (PhaseSpreader.phaseOffsetNanos("task-" + i, PERIOD) / (PERIOD / slots))]++;
+        }
+
+        for (final int count : histogram) {
+            assertTrue(count > 50 && count < 150, "slot count " + count);
+        }
+    }
+
+    @Test
+    void alignmentDelayLandsOnPhase() {
+        final long offset = Duration.ofSeconds(17).toNanos();
+        final long epoch = Duration.ofDays(20000).toNanos() + Duration.ofSeconds(42).toNanos();
+
+        final long delay = PhaseSpreader.alignmentDelayNanos(epoch, offset, PERIOD);
+
+        assertEquals(Duration.ofSeconds(35).toNanos(), delay);
+        assertEquals(offset, Math.floorMod(epoch + delay, PERIOD));
+    }
+
+    @Test
+    void alignmentDelayIsZeroWhenAlreadyOnPhase() {
+        final long offset = Duration.ofSeconds(5).toNanos();
+        final long epoch = Duration.ofDays(1).toNanos() + offset;
+
+        assertEquals(0, PhaseSpreader.alignmentDelayNanos(epoch, offset, PERIOD));
+    }
+}